@@ -4,6 +4,7 @@ import java.awt.Color;
 import java.awt.Dimension;
 import javax.swing.JFrame;
 import fr.monkhanny.dorfromantik.gui.MainMenu;
+import fr.monkhanny.dorfromantik.enums.TileSequenceMode;
 
 /**
  * Classe contenant les constantes et les variables globales pour configurer les différentes options du jeu.
@@ -126,4 +127,37 @@ public class Options {
      * Indique si le jeu est en pause
      */
     public static boolean isPaused = false;
+
+    /**
+     * Indique si les tuiles du plateau sont dessinées à partir d'images pré-dessinées.
+     * Sinon, elles sont dessinées en vectoriel, regroupées par couleur.
+     */
+    public static boolean TILE_SPRITE_CACHE = true;
+
+    /**
+     * Indique si le plateau est dessiné par une boucle d'affichage active (thread dédié et double tampon)
+     * plutôt que par les rafraîchissements de Swing. Pris en compte au lancement d'une partie.
+     */
+    public static boolean ACTIVE_RENDERING = false;
+
+    /**
+     * Nombre maximal d'images par seconde de la boucle d'affichage active
+     */
+    public static int FRAME_CAP = 60;
+
+    /**
+     * Nombre de mises à jour des animations par seconde (pas de temps fixe)
+     */
+    public static final int UPDATE_RATE = 60;
+
+    /**
+     * Façon de générer la suite des tuiles d'une graine. Les séries existantes ont été jouées avec
+     * {@link TileSequenceMode#LEGACY} : le changer modifie les tuiles de toutes les séries.
+     */
+    public static TileSequenceMode TILE_SEQUENCE = TileSequenceMode.LEGACY;
+
+    /**
+     * Nombre de tuiles à venir affichées à côté de la prochaine tuile (0 pour masquer l'aperçu)
+     */
+    public static int PREVIEW_TILE_COUNT = 3;
 }
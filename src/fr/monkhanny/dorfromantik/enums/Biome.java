@@ -35,25 +35,48 @@ public enum Biome {
    */
   MOUNTAIN;
 
+  /**
+   * Nombre de nuances de couleur de chaque biome.
+   */
+  public static final int SHADE_COUNT = 3;
+
+  /**
+   * Palette des biomes, indexée par ordinal puis par nuance. Les couleurs sont créées une seule fois
+   * pour que le dessin des tuiles n'alloue rien.
+   */
+  private static final Color[][] PALETTE = {
+    { new Color(30, 144, 255), new Color(70, 160, 255), new Color(0, 119, 190) },
+    { new Color(243, 223, 72), new Color(255, 235, 90), new Color(215, 200, 50) },
+    { new Color(120, 200, 120), new Color(140, 220, 140), new Color(100, 180, 100) },
+    { new Color(34, 139, 76), new Color(50, 160, 95), new Color(20, 120, 60) },
+    { new Color(128, 128, 128), new Color(150, 150, 150), new Color(100, 100, 100) }
+  };
+
   /**
    * Retourne les couleurs associées au biome.
    * 
-   * @return Tableau de couleurs associées au biome
+   * @return Tableau de couleurs associées au biome (une copie de la palette)
    */
   public Color[] getBiomeColors() {
-    switch (this) {
-      case SEA:
-        return new Color[] { new Color(30, 144, 255), new Color(70, 160, 255), new Color(0, 119, 190) };
-      case FIELD:
-        return new Color[] { new Color(243, 223, 72), new Color(255, 235, 90), new Color(215, 200, 50) };
-      case PRE:
-        return new Color[] { new Color(120, 200, 120), new Color(140, 220, 140), new Color(100, 180, 100) };
-      case FOREST:
-        return new Color[] { new Color(34, 139, 76), new Color(50, 160, 95), new Color(20, 120, 60) };
-      case MOUNTAIN:
-        return new Color[] { new Color(128, 128, 128), new Color(150, 150, 150), new Color(100, 100, 100) };
-      default:
-        throw new IllegalArgumentException("Unknown biome : " + this); 
-    }
+    return PALETTE[ordinal()].clone();
+  }
+
+  /**
+   * Retourne une nuance de la couleur du biome, sans allocation.
+   *
+   * @param shade L'indice de la nuance, entre 0 et {@link #SHADE_COUNT} - 1
+   * @return La couleur
+   */
+  public Color getColor(int shade) {
+    return PALETTE[ordinal()][shade];
+  }
+
+  /**
+   * Retourne la couleur principale du biome.
+   *
+   * @return La couleur principale
+   */
+  public Color getPrimaryColor() {
+    return PALETTE[ordinal()][0];
   }
 }
@@ -0,0 +1,60 @@
+package fr.monkhanny.dorfromantik.enums;
+
+/**
+ * Enumération des courbes d'accélération utilisées par les animations.
+ * Une courbe transforme l'avancement linéaire d'une animation (de 0 à 1) en avancement perçu.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public enum Easing {
+    /**
+     * Vitesse constante.
+     */
+    LINEAR,
+
+    /**
+     * Départ lent, puis accélération.
+     */
+    EASE_IN_QUAD,
+
+    /**
+     * Départ rapide, puis ralentissement.
+     */
+    EASE_OUT_QUAD,
+
+    /**
+     * Accélération puis ralentissement.
+     */
+    EASE_IN_OUT_QUAD,
+
+    /**
+     * Départ rapide, puis ralentissement plus marqué.
+     */
+    EASE_OUT_CUBIC;
+
+    /**
+     * Applique la courbe à un avancement.
+     *
+     * @param t L'avancement linéaire, entre 0 et 1
+     * @return L'avancement perçu, entre 0 et 1
+     * @throws IllegalArgumentException Si la courbe est inconnue.
+     */
+    public double apply(double t) {
+        switch (this) {
+            case LINEAR:
+                return t;
+            case EASE_IN_QUAD:
+                return t * t;
+            case EASE_OUT_QUAD:
+                return t * (2 - t);
+            case EASE_IN_OUT_QUAD:
+                return (t < 0.5) ? 2 * t * t : -1 + (4 - 2 * t) * t;
+            case EASE_OUT_CUBIC:
+                double u = 1 - t;
+                return 1 - u * u * u;
+            default:
+                throw new IllegalArgumentException("Unknown Easing: " + this);
+        }
+    }
+}
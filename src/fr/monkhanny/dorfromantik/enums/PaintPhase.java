@@ -0,0 +1,58 @@
+package fr.monkhanny.dorfromantik.enums;
+
+/**
+ * Enumération des étapes du dessin d'une image du plateau, mesurées séparément
+ * par l'affichage de diagnostic.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public enum PaintPhase {
+    /**
+     * Affichage du calque statique, y compris son éventuel redessin (positions disponibles et tuiles).
+     */
+    LAYER("Calque"),
+
+    /**
+     * Points rouges des positions disponibles, lors du redessin du calque.
+     */
+    FRONTIER("Frontière"),
+
+    /**
+     * Tuiles posées, lors du redessin du calque.
+     */
+    TILES("Tuiles"),
+
+    /**
+     * Tuile transparente sous la souris et prochaine tuile.
+     */
+    GHOST("Fantôme"),
+
+    /**
+     * Score, pile des tuiles restantes et mini-carte.
+     */
+    HUD("Interface");
+
+    /**
+     * Nom affiché de l'étape.
+     */
+    private final String label;
+
+    /**
+     * Constructeur d'une étape.
+     *
+     * @param label Le nom affiché de l'étape
+     */
+    PaintPhase(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Récupère le nom affiché de l'étape.
+     *
+     * @return Le nom de l'étape
+     */
+    public String getLabel() {
+        return label;
+    }
+}
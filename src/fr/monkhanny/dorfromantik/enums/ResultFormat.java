@@ -0,0 +1,36 @@
+package fr.monkhanny.dorfromantik.enums;
+
+/**
+ * Enumération des formats d'écriture des résultats de simulation.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see fr.monkhanny.dorfromantik.simulation.ResultWriter
+ */
+public enum ResultFormat {
+    /**
+     * Une ligne d'en-tête puis une ligne par partie, les valeurs séparées par des virgules.
+     */
+    CSV,
+
+    /**
+     * Un tableau JSON contenant un objet par partie.
+     */
+    JSON;
+
+    /**
+     * Retrouve un format à partir de son nom, sans tenir compte de la casse.
+     *
+     * @param name Le nom du format ({@code csv} ou {@code json})
+     * @return Le format
+     * @throws IllegalArgumentException Si le nom ne correspond à aucun format
+     */
+    public static ResultFormat fromName(String name) {
+        for (ResultFormat format : values()) {
+            if (format.name().equalsIgnoreCase(name)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Format de résultats inconnu : " + name);
+    }
+}
@@ -0,0 +1,65 @@
+package fr.monkhanny.dorfromantik.enums;
+
+/**
+ * Enumération des niveaux de détail utilisés pour dessiner les tuiles du plateau.
+ * Le niveau est choisi selon le rayon de la tuile à l'écran : plus le plateau est dézoomé,
+ * plus le dessin est simplifié, puisque les détails deviennent plus petits qu'un pixel.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public enum TileDetail {
+    /**
+     * Dessin complet : la texture de petits hexagones colorés.
+     */
+    FULL,
+
+    /**
+     * Six triangles, chacun de la couleur du biome de son côté.
+     */
+    WEDGES,
+
+    /**
+     * Un seul hexagone, de la couleur du biome dominant.
+     */
+    DOMINANT,
+
+    /**
+     * Un pixel par tuile, dans une image de densité du plateau.
+     */
+    PIXEL;
+
+    /**
+     * Rayon minimal à l'écran, en pixels, pour dessiner la texture complète.
+     */
+    private static final double FULL_MIN_RADIUS = 16;
+
+    /**
+     * Rayon minimal à l'écran, en pixels, pour dessiner les six triangles.
+     */
+    private static final double WEDGES_MIN_RADIUS = 6;
+
+    /**
+     * Rayon minimal à l'écran, en pixels, pour dessiner un hexagone par tuile.
+     */
+    private static final double DOMINANT_MIN_RADIUS = 2;
+
+    /**
+     * Choisit le niveau de détail adapté à un rayon de tuile à l'écran.
+     *
+     * @param screenRadius Le rayon de la tuile à l'écran, en pixels
+     * @return Le niveau de détail
+     */
+    public static TileDetail forRadius(double screenRadius) {
+        if (screenRadius >= FULL_MIN_RADIUS) {
+            return FULL;
+        }
+        if (screenRadius >= WEDGES_MIN_RADIUS) {
+            return WEDGES;
+        }
+        if (screenRadius >= DOMINANT_MIN_RADIUS) {
+            return DOMINANT;
+        }
+        return PIXEL;
+    }
+}
@@ -63,4 +63,49 @@ public enum TileOrientation {
                 throw new IllegalArgumentException("Unknown TileOrientation: " + this);
         }
     }
+
+    /**
+     * Retourne le déplacement en colonne (coordonnée axiale q) vers la case voisine dans cette orientation.
+     * Les colonnes de la grille hexagonale sont verticales : le nord et le sud restent dans la même colonne.
+     *
+     * @return Le déplacement en q (-1, 0 ou 1).
+     * @throws IllegalArgumentException Si l'orientation est inconnue.
+     */
+    public int getDeltaQ() {
+        switch (this) {
+            case NORTH:
+            case SOUTH:
+                return 0;
+            case NORTH_EAST:
+            case SOUTH_EAST:
+                return 1;
+            case SOUTH_WEST:
+            case NORTH_WEST:
+                return -1;
+            default:
+                throw new IllegalArgumentException("Unknown TileOrientation: " + this);
+        }
+    }
+
+    /**
+     * Retourne le déplacement en ligne (coordonnée axiale r) vers la case voisine dans cette orientation.
+     *
+     * @return Le déplacement en r (-1, 0 ou 1).
+     * @throws IllegalArgumentException Si l'orientation est inconnue.
+     */
+    public int getDeltaR() {
+        switch (this) {
+            case NORTH:
+            case NORTH_EAST:
+                return -1;
+            case SOUTH_EAST:
+            case NORTH_WEST:
+                return 0;
+            case SOUTH:
+            case SOUTH_WEST:
+                return 1;
+            default:
+                throw new IllegalArgumentException("Unknown TileOrientation: " + this);
+        }
+    }
 }
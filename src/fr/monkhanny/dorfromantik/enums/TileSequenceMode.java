@@ -0,0 +1,58 @@
+package fr.monkhanny.dorfromantik.enums;
+
+import fr.monkhanny.dorfromantik.game.CounterTileSequence;
+import fr.monkhanny.dorfromantik.game.LegacyTileSequence;
+import fr.monkhanny.dorfromantik.game.TileSequence;
+
+/**
+ * Enumération des façons de générer la suite des tuiles d'une graine.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see TileSequence
+ */
+public enum TileSequenceMode {
+    /**
+     * Tirages successifs de {@link java.util.Random}, comme les séries existantes : leurs scores restent comparables.
+     */
+    LEGACY {
+        @Override
+        public TileSequence create(long seed) {
+            return new LegacyTileSequence(seed);
+        }
+    },
+
+    /**
+     * Tirages calculés à partir de l'indice de la tuile, pour un accès direct à n'importe quelle tuile.
+     */
+    COUNTER {
+        @Override
+        public TileSequence create(long seed) {
+            return new CounterTileSequence(seed);
+        }
+    };
+
+    /**
+     * Crée la suite des tuiles d'une graine.
+     *
+     * @param seed La graine de la partie
+     * @return La suite de tuiles
+     */
+    public abstract TileSequence create(long seed);
+
+    /**
+     * Retrouve un mode à partir de son nom, sans tenir compte de la casse.
+     *
+     * @param name Le nom du mode ({@code legacy} ou {@code counter})
+     * @return Le mode
+     * @throws IllegalArgumentException Si le nom ne correspond à aucun mode
+     */
+    public static TileSequenceMode fromName(String name) {
+        for (TileSequenceMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(name)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Suite de tuiles inconnue : " + name);
+    }
+}
@@ -0,0 +1,282 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.awt.Canvas;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.Toolkit;
+import java.awt.image.BufferStrategy;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+
+import fr.monkhanny.dorfromantik.Options;
+import fr.monkhanny.dorfromantik.utils.AnimationClock;
+
+/**
+ * Boucle d'affichage active du plateau, utilisée lorsque {@link Options#ACTIVE_RENDERING} est activé.
+ *
+ * Au lieu d'attendre les {@code repaint()} de Swing, un thread dédié cadence les images : les animations
+ * sont mises à jour à pas fixe ({@link Options#UPDATE_RATE} fois par seconde, quelle que soit la vitesse
+ * d'affichage), puis le plateau est dessiné dans un {@link Canvas} à double tampon ({@link BufferStrategy})
+ * au plus {@link Options#FRAME_CAP} fois par seconde. Les demandes de rafraîchissement reçues entre deux
+ * images sont regroupées en une seule, et aucune image n'est dessinée si rien n'a changé. Lorsqu'aucune tâche
+ * n'est à mettre à jour et qu'aucune image n'est demandée, la boucle ne sollicite pas du tout l'EDT.
+ *
+ * Les mises à jour et le dessin sont exécutés sur le thread de Swing (EDT), le seul à modifier le plateau :
+ * le thread de la boucle ne fait que les déclencher à intervalles réguliers. Tant que la boucle tourne,
+ * c'est elle qui avance l'{@link AnimationClock} des animations, qui ne s'y attache que lorsqu'une animation est en cours.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see Board
+ */
+public class ActiveRenderLoop implements Runnable {
+
+    /**
+     * Tâche mise à jour à chaque pas de temps de la boucle (une animation, par exemple).
+     * Une tâche qui modifie l'affichage demande elle-même une image, par {@code repaint()}.
+     */
+    public interface FixedUpdate {
+        /**
+         * Avance la tâche d'un pas de temps.
+         *
+         * @param stepSeconds La durée du pas, en secondes
+         * @return {@code true} si la tâche doit encore être mise à jour, {@code false} si elle est terminée
+         */
+        boolean update(double stepSeconds);
+    }
+
+    /**
+     * Durée maximale rattrapée d'un coup, pour ne pas enchaîner des centaines de pas après une pause.
+     */
+    private static final long MAX_CATCH_UP_NANOS = 250_000_000L;
+
+    /**
+     * Plateau dessiné.
+     */
+    private final Board board;
+
+    /**
+     * Surface de dessin à double tampon.
+     */
+    private final Canvas canvas;
+
+    /**
+     * Tâches mises à jour à chaque pas ; n'est manipulée que sur l'EDT.
+     */
+    private final List<FixedUpdate> updates;
+
+    /**
+     * Indique qu'une nouvelle image a été demandée depuis la dernière image dessinée.
+     */
+    private final AtomicBoolean frameRequested;
+
+    /**
+     * Indique si des tâches sont à mettre à jour ; écrit sur l'EDT et lu par le thread de la boucle.
+     */
+    private volatile boolean updating;
+
+    /**
+     * Tampons de la surface de dessin, créés lorsque le canvas devient affichable.
+     */
+    private BufferStrategy strategy;
+
+    /**
+     * Thread de la boucle.
+     */
+    private Thread thread;
+
+    /**
+     * Indique si la boucle doit continuer à tourner.
+     */
+    private volatile boolean running;
+
+    /**
+     * Constructeur de la boucle.
+     *
+     * @param board Le plateau à dessiner
+     */
+    public ActiveRenderLoop(Board board) {
+        this.board = board;
+        this.canvas = new Canvas();
+        this.canvas.setIgnoreRepaint(true);
+        this.updates = new ArrayList<>();
+        this.frameRequested = new AtomicBoolean(true);
+    }
+
+    /**
+     * Récupère la surface de dessin, à ajouter au plateau.
+     *
+     * @return Le canvas
+     */
+    public Canvas getCanvas() {
+        return canvas;
+    }
+
+    /**
+     * Démarre le thread de la boucle. Doit être appelée sur l'EDT.
+     */
+    public void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        attachAnimationClock(true);
+        thread = new Thread(this, "Dorfromantik-Render");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Arrête la boucle à la fin de l'image en cours. Doit être appelée sur l'EDT.
+     */
+    public void stop() {
+        running = false;
+        attachAnimationClock(false);
+    }
+
+    /**
+     * Confie l'avancement de l'horloge des animations à la boucle, ou le lui retire.
+     *
+     * @param attached {@code true} pour que la boucle avance l'horloge à chacun de ses pas
+     */
+    private void attachAnimationClock(boolean attached) {
+        AnimationClock clock = AnimationClock.getInstance();
+        if (!attached) {
+            removeUpdate(clock);
+        }
+        clock.setDriver(attached ? this : null);
+    }
+
+    /**
+     * Demande le dessin d'une nouvelle image. Plusieurs demandes avant la prochaine image n'en produisent qu'une.
+     */
+    public void requestFrame() {
+        frameRequested.set(true);
+    }
+
+    /**
+     * Ajoute une tâche à mettre à jour à chaque pas de temps, si elle n'y est pas déjà. Doit être appelée sur l'EDT.
+     *
+     * @param update La tâche
+     */
+    public void addUpdate(FixedUpdate update) {
+        if (!updates.contains(update)) {
+            updates.add(update);
+        }
+        updating = true;
+    }
+
+    /**
+     * Retire une tâche. Doit être appelée sur l'EDT.
+     *
+     * @param update La tâche
+     */
+    public void removeUpdate(FixedUpdate update) {
+        updates.remove(update);
+        updating = !updates.isEmpty();
+    }
+
+    /**
+     * Boucle principale : cumule le temps écoulé, déclenche les pas de mise à jour correspondants
+     * puis, si nécessaire, le dessin d'une image, et attend l'échéance de l'image suivante.
+     * Le passage par l'EDT est évité lorsqu'il n'y a ni pas de mise à jour à exécuter ni image à dessiner
+     * (sauf pour constater que le plateau a été retiré de la fenêtre).
+     */
+    @Override
+    public void run() {
+        long stepNanos = 1_000_000_000L / Options.UPDATE_RATE;
+        long previous = System.nanoTime();
+        long accumulator = 0;
+        long nextFrame = previous;
+
+        while (running) {
+            long now = System.nanoTime();
+            accumulator += Math.min(now - previous, MAX_CATCH_UP_NANOS);
+            previous = now;
+
+            int steps = (int) (accumulator / stepNanos);
+            accumulator -= steps * stepNanos;
+
+            boolean idle = (steps == 0 || !updating) && !frameRequested.get() && canvas.isDisplayable();
+            if (!idle) {
+                try {
+                    SwingUtilities.invokeAndWait(() -> tick(steps, stepNanos / 1e9));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (InvocationTargetException e) {
+                    System.err.println("Erreur lors du dessin du plateau :");
+                    e.getCause().printStackTrace();
+                }
+            }
+
+            // Attendre l'échéance de la prochaine image, sans dériver si une image a pris du retard
+            long frameNanos = 1_000_000_000L / Math.max(1, Options.FRAME_CAP);
+            nextFrame = Math.max(nextFrame + frameNanos, System.nanoTime());
+            long sleepNanos = nextFrame - System.nanoTime();
+            if (sleepNanos > 0) {
+                try {
+                    Thread.sleep(sleepNanos / 1_000_000L, (int) (sleepNanos % 1_000_000L));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Exécute, sur l'EDT, les pas de mise à jour en attente puis dessine une image si quelque chose a changé.
+     *
+     * @param steps       Le nombre de pas de mise à jour à exécuter
+     * @param stepSeconds La durée d'un pas, en secondes
+     */
+    private void tick(int steps, double stepSeconds) {
+        if (!canvas.isDisplayable()) {
+            // Le plateau a été retiré de la fenêtre (fin de partie) : la boucle n'a plus lieu d'être
+            if (strategy != null) {
+                stop();
+            }
+            return;
+        }
+
+        for (int step = 0; step < steps && !updates.isEmpty(); step++) {
+            for (int i = updates.size() - 1; i >= 0; i--) {
+                if (!updates.get(i).update(stepSeconds)) {
+                    updates.remove(i);
+                }
+            }
+        }
+        updating = !updates.isEmpty();
+
+        if (frameRequested.getAndSet(false)) {
+            render();
+        }
+    }
+
+    /**
+     * Dessine une image dans le tampon arrière puis l'affiche, en recommençant si le contenu
+     * des tampons a été perdu entre-temps.
+     */
+    private void render() {
+        if (strategy == null) {
+            canvas.createBufferStrategy(2);
+            strategy = canvas.getBufferStrategy();
+        }
+
+        do {
+            do {
+                Graphics graphics = strategy.getDrawGraphics();
+                board.renderFrame((Graphics2D) graphics, true);
+                graphics.dispose();
+            } while (strategy.contentsRestored());
+            strategy.show();
+        } while (strategy.contentsLost());
+
+        Toolkit.getDefaultToolkit().sync();
+    }
+}
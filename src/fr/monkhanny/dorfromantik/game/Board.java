@@ -6,19 +6,30 @@ import fr.monkhanny.dorfromantik.listeners.GameSpaceKeyListener;
 import fr.monkhanny.dorfromantik.listeners.GameMouseClickListener;
 import fr.monkhanny.dorfromantik.listeners.GameMouseWheelListener;
 import fr.monkhanny.dorfromantik.Options;
+import fr.monkhanny.dorfromantik.enums.Easing;
 import fr.monkhanny.dorfromantik.enums.Fonts;
+import fr.monkhanny.dorfromantik.enums.PaintPhase;
+import fr.monkhanny.dorfromantik.enums.TileDetail;
 import fr.monkhanny.dorfromantik.gui.GameControlsMenu;
 import fr.monkhanny.dorfromantik.gui.GameOver;
+import fr.monkhanny.dorfromantik.utils.AnimationClock;
 import fr.monkhanny.dorfromantik.utils.Database;
+import fr.monkhanny.dorfromantik.utils.HexagonBatch;
+import fr.monkhanny.dorfromantik.utils.HexagonDrawer;
+import fr.monkhanny.dorfromantik.utils.HexagonMesh;
+import fr.monkhanny.dorfromantik.utils.LongIntMap;
+import fr.monkhanny.dorfromantik.utils.Tween;
 
 import java.util.List;
 import java.util.*;
 import javax.swing.*;
 import java.awt.*;
+import java.awt.geom.AffineTransform;
 
 /**
  * Représente le plateau de jeu.
- * Gère les tuiles, les positions disponibles, le zoom, les déplacements, et l'interaction avec l'utilisateur.
+ * Affiche le plateau logique ({@link BoardModel}) et gère le zoom, les déplacements, et l'interaction avec l'utilisateur.
+ * Les tuiles posées, les positions disponibles et le score sont portés par le modèle.
  * 
  * @version 1.0
  * @author Moncef STITI, Lenny FOULOU, Khalid CHENOUNA
@@ -26,24 +37,125 @@ import java.awt.*;
 public class Board extends JPanel{
     
     /**
-     * Liste des tuiles présentes sur le plateau de jeu.
+     * Rayon, en pixels, des tuiles affichées sur le plateau.
      */
-    private List<Tile> tiles;
+    private static final int TILE_RADIUS = 50;
 
     /**
-     * Liste des positions disponibles où une tuile peut être placée sur le plateau.
+     * Nombre maximal d'images de tuiles conservées par le cache.
      */
-    private List<Point> availablePositions;
+    private static final int TILE_SPRITE_CACHE_CAPACITY = 512;
 
     /**
-     * Objet de génération aléatoire utilisé pour déterminer certaines actions dans le jeu.
+     * Rayon des tuiles du bandeau des tuiles à venir
      */
-    private Random random;
+    private static final int PREVIEW_TILE_RADIUS = 20;
+
+    /**
+     * Plateau logique : tuiles posées, positions disponibles et score.
+     */
+    private BoardModel model;
 
     /**
-     * Référence au jeu en cours, permettant d'interagir avec la logique du jeu.
+     * Pioche des tuiles à venir, dont les images sont préparées en arrière-plan
      */
-    private Game game;
+    private TileDeck deck;
+
+    /**
+     * Disposition à l'écran de la grille hexagonale (conversion entre cases et pixels).
+     */
+    private HexLayout hexLayout;
+
+    /**
+     * Images pré-dessinées des tuiles, pour ne pas redessiner chaque tuile à chaque rafraîchissement.
+     */
+    private final TileSpriteCache tileSprites = new TileSpriteCache(TILE_SPRITE_CACHE_CAPACITY);
+
+    /**
+     * Calque statique contenant les tuiles posées et les positions disponibles.
+     */
+    private final BoardLayer boardLayer = new BoardLayer();
+
+    /**
+     * Étendue du plateau, tenue à jour à chaque pose de tuile.
+     */
+    private final BoardBounds bounds = new BoardBounds();
+
+    /**
+     * Image du plateau à un pixel par tuile, affichée lorsque le plateau est très dézoomé.
+     */
+    private final TileDensityBitmap densityBitmap = new TileDensityBitmap();
+
+    /**
+     * Mini-carte du plateau, affichée en bas à droite de l'écran.
+     */
+    private final Minimap minimap = new Minimap();
+
+    /**
+     * Lot de dessin des tuiles visibles, utilisé lorsqu'elles ne sont pas dessinées à partir du cache d'images.
+     */
+    private final HexagonBatch tileBatch = new HexagonBatch();
+
+    /**
+     * Boucle d'affichage active, ou {@code null} si le plateau est dessiné par les rafraîchissements de Swing.
+     */
+    private ActiveRenderLoop renderLoop;
+
+    /**
+     * Facteur appliqué au zoom par cran de molette.
+     */
+    private static final double ZOOM_STEP = 1.1;
+
+    /**
+     * Durée de l'animation de zoom, en millisecondes.
+     */
+    private static final int ZOOM_DURATION = 150;
+
+    /**
+     * Facteur de zoom visé par le zoom en cours.
+     */
+    private double zoomTarget = 1.0;
+
+    /**
+     * Point de l'écran qui reste fixe pendant le zoom en cours.
+     */
+    private int zoomAnchorX, zoomAnchorY;
+
+    /**
+     * Indique qu'un zoom a été demandé depuis la dernière image, sans être encore appliqué.
+     */
+    private boolean zoomRequested;
+
+    /**
+     * Animation du zoom en cours, ou {@code null}.
+     */
+    private Tween zoomAnimation;
+
+    /**
+     * Animation du panoramique sans zoom en cours (voir {@link TilePanningTransition}), ou {@code null}.
+     * Un zoom l'annule, et elle annule le zoom en cours : les deux animations modifient les décalages.
+     */
+    private Tween panAnimation;
+
+    /**
+     * Démarrage de l'animation de zoom, exécuté une fois par image quel que soit le nombre de crans reçus.
+     */
+    private final Runnable zoomUpdate = this::updateZoom;
+
+    /**
+     * Mesure du temps de dessin des images, affichée à la demande.
+     */
+    private final FrameProfiler frameProfiler = new FrameProfiler();
+
+    /**
+     * Nombre de tuiles dessinées lors du dernier dessin du calque statique.
+     */
+    private int visibleTileCount;
+
+    /**
+     * Objet de génération aléatoire utilisé pour déterminer certaines actions dans le jeu.
+     */
+    private Random random;
 
     /**
      * Fenêtre principale du jeu dans laquelle le plateau de jeu est affiché.
@@ -53,7 +165,7 @@ public class Board extends JPanel{
     /**
      * La tuile centrale du jeu, placée au démarrage du jeu.
      */
-    private Tile centralTile;
+    private TileState centralTile;
 
     /**
      * Facteur de zoom initial, utilisé pour contrôler le niveau de zoom du plateau.
@@ -76,9 +188,25 @@ public class Board extends JPanel{
     private Tile nextTile;
 
     /**
-     * Position actuelle de la souris sur le plateau, utilisée pour placer la prochaine tuile.
+     * Valeur de {@link #hoveredCell} lorsque la souris ne survole aucune position disponible.
+     */
+    private static final long NO_CELL = Long.MIN_VALUE;
+
+    /**
+     * Clé de la position disponible survolée par la souris, où la tuile transparente est affichée,
+     * ou {@link #NO_CELL}.
+     */
+    private long hoveredCell = NO_CELL;
+
+    /**
+     * Dernière position de la souris reçue, pas encore traitée (voir {@link #updateHover()}).
+     */
+    private int pendingMouseX, pendingMouseY;
+
+    /**
+     * Traitement du survol, exécuté une fois par image quel que soit le nombre de déplacements reçus.
      */
-    private Point mousePosition;
+    private final Runnable hoverUpdate = this::updateHover;
 
     /**
      * Score actuel du joueur dans le jeu.
@@ -100,11 +228,6 @@ public class Board extends JPanel{
      */
     private GameControlsMenu controlsMenu;
 
-    /**
-     * Gestionnaire de score utilisé pour mettre à jour et calculer les scores du joueur.
-     */
-    private ScoreManager scoreManager;
-
     /**
      * Affichage du score actuel dans le jeu.
      */
@@ -119,11 +242,9 @@ public class Board extends JPanel{
      */
     public Board(JFrame gameFrame, long seed) {
         this.gameFrame = gameFrame;
-        this.tiles = new ArrayList<>();
-        this.availablePositions = new ArrayList<>();
         this.random = new Random(seed);
-        this.game = new Game(seed);
-        scoreManager = new ScoreManager();
+        this.model = new BoardModel(new Game(seed), Options.TILE_SEQUENCE.create(seed));
+        this.deck = new TileDeck(model, Options.MAX_TILE_NUMBER, Options.PREVIEW_TILE_COUNT, PREVIEW_TILE_RADIUS, this::repaint);
 
         Font scoreFont = Fonts.SCORE.getFont(30f);  // Remplacez par votre logique de chargement de police
         scoreDisplay = new ScoreDisplay(scoreFont, 0, 40); // Position fixe
@@ -142,7 +263,7 @@ public class Board extends JPanel{
         gameFrame.addKeyListener(new GameSpaceKeyListener(this));
 
         this.addMouseListener(new GameMouseClickListener(this));
-        gameFrame.addKeyListener(new PauseGame(gameFrame, game));
+        gameFrame.addKeyListener(new PauseGame(gameFrame, model.getGame()));
         gameFrame.setFocusable(true);
 
         this.remainingTilesIndicator = new RemainingTilesIndicator(Options.MAX_TILE_NUMBER - 1);
@@ -160,6 +281,69 @@ public class Board extends JPanel{
 
         // Remplacer l'adaptateur anonyme par notre classe CustomKeyAdapter
         gameFrame.addKeyListener(new CustomKeyAdapter(this));
+
+        if (Options.ACTIVE_RENDERING) {
+            initializeActiveRendering();
+        }
+    }
+
+    /**
+     * Met en place la boucle d'affichage active : son canvas recouvre le plateau (sous le menu
+     * des contrôles) et reçoit les mêmes écouteurs de souris que le plateau.
+     */
+    private void initializeActiveRendering() {
+        renderLoop = new ActiveRenderLoop(this);
+        Canvas canvas = renderLoop.getCanvas();
+        canvas.setFocusable(false);  // Le clavier reste géré par la fenêtre
+        canvas.setBounds(0, 0, getWidth(), getHeight());
+
+        for (java.awt.event.MouseListener listener : getMouseListeners()) {
+            canvas.addMouseListener(listener);
+        }
+        for (java.awt.event.MouseMotionListener listener : getMouseMotionListeners()) {
+            canvas.addMouseMotionListener(listener);
+        }
+        for (java.awt.event.MouseWheelListener listener : getMouseWheelListeners()) {
+            canvas.addMouseWheelListener(listener);
+        }
+
+        // Le canvas suit la taille du plateau
+        addComponentListener(new java.awt.event.ComponentAdapter() {
+            @Override
+            public void componentResized(java.awt.event.ComponentEvent e) {
+                canvas.setBounds(0, 0, getWidth(), getHeight());
+                renderLoop.requestFrame();
+            }
+        });
+
+        add(canvas);  // Ajouté après le menu : il est donc dessous
+        renderLoop.start();
+    }
+
+    /**
+     * Récupère la boucle d'affichage active.
+     *
+     * @return la boucle d'affichage, ou {@code null} si le plateau est dessiné par Swing
+     */
+    public ActiveRenderLoop getRenderLoop() { return renderLoop; }
+
+    /**
+     * Demande le rafraîchissement d'une zone du plateau. Avec la boucle d'affichage active,
+     * toutes les demandes reçues entre deux images sont regroupées en une seule image.
+     *
+     * @param tm     délai maximal avant le rafraîchissement, en millisecondes
+     * @param x      abscisse de la zone
+     * @param y      ordonnée de la zone
+     * @param width  largeur de la zone
+     * @param height hauteur de la zone
+     */
+    @Override
+    public void repaint(long tm, int x, int y, int width, int height) {
+        if (renderLoop != null) {
+            renderLoop.requestFrame();
+        } else {
+            super.repaint(tm, x, y, width, height);
+        }
     }
 
 
@@ -172,7 +356,17 @@ public class Board extends JPanel{
     }
 
     /**
-     * Gère les événements de déplacement de la souris.
+     * Affiche ou masque les mesures de performance du dessin du plateau.
+     */
+    public void toggleDiagnostics() {
+        frameProfiler.toggle();
+        repaint();
+    }
+
+    /**
+     * Gère les événements de déplacement de la souris. La position est seulement mémorisée :
+     * le survol est traité au début de l'image suivante, une seule fois pour toute une rafale de déplacements.
+     *
      * @param e l'événement MouseEvent déclenché par le déplacement de la souris
      */
     public void handleMouseMove(java.awt.event.MouseEvent e) {
@@ -180,27 +374,70 @@ public class Board extends JPanel{
             return;
         }
 
-        // Récupérer les coordonnées du curseur
-        Point cursorPoint = e.getPoint();
+        pendingMouseX = e.getX();
+        pendingMouseY = e.getY();
+        AnimationClock.getInstance().runOnNextTick(hoverUpdate);
+    }
 
-        // Ajuster la position de la souris en fonction du zoom et des offsets
-        int adjustedX = (int)((cursorPoint.x - offsetX) / zoomFactor);
-        int adjustedY = (int)((cursorPoint.y - offsetY) / zoomFactor);
+    /**
+     * Traite la dernière position de la souris : la tuile transparente est affichée sur la position
+     * disponible dont l'hexagone contient le curseur. Le coût ne dépend pas du nombre de positions
+     * disponibles : une conversion en coordonnées de case, puis une recherche dans la frontière.
+     */
+    private void updateHover() {
+        if (Options.isPaused) {
+            return;
+        }
 
-        // Vérifier si la souris est proche d'une des positions disponibles
-        for (Point position : availablePositions) {
-            if (new Point(adjustedX, adjustedY).distance(position) < 20) {
-                mousePosition = position;
-                controlsMenu.setControlsMenuVisible(false);
-                repaint();  // Redessiner le plateau avec la tuile transparente
-                return;
-            }
+        long cell = cellAt(pendingMouseX, pendingMouseY);
+        long hovered = model.getFrontier().contains(HexGrid.keyQ(cell), HexGrid.keyR(cell)) ? cell : NO_CELL;
+        if (minimap.contains(pendingMouseX, pendingMouseY)) {
+            hovered = NO_CELL;  // Pas de tuile transparente sous la mini-carte
         }
 
-        // Si la souris n'est pas proche d'une position valide, ne rien faire
-        mousePosition = null;
         controlsMenu.setControlsMenuVisible(false);
-        repaint();  // Redessiner sans la tuile transparente
+
+        // La tuile transparente n'a pas bougé : rien à redessiner
+        if (hovered == hoveredCell) {
+            return;
+        }
+
+        // Redessiner uniquement l'ancienne et la nouvelle position de la tuile transparente
+        repaintGhostTile(hoveredCell);
+        hoveredCell = hovered;
+        repaintGhostTile(hoveredCell);
+    }
+
+    /**
+     * Retrouve la case sous un point de l'écran, en annulant le zoom et le déplacement du plateau.
+     *
+     * @param x l'abscisse du point, en coordonnées de l'écran
+     * @param y l'ordonnée du point, en coordonnées de l'écran
+     * @return la clé de la case (voir {@link HexGrid#key(int, int)})
+     */
+    private long cellAt(int x, int y) {
+        return hexLayout.toCellKey((x - offsetX) / zoomFactor, (y - offsetY) / zoomFactor);
+    }
+
+    /**
+     * Demande le rafraîchissement de la zone de l'écran occupée par la tuile transparente
+     * lorsqu'elle est affichée sur une case donnée.
+     *
+     * @param cell la clé de la case, ou {@link #NO_CELL}
+     */
+    private void repaintGhostTile(long cell) {
+        if (cell == NO_CELL) {
+            return;
+        }
+        int positionX = hexLayout.toPixelX(HexGrid.keyQ(cell), HexGrid.keyR(cell));
+        int positionY = hexLayout.toPixelY(HexGrid.keyQ(cell), HexGrid.keyR(cell));
+
+        // Marge pour le contour de la tuile et l'arrondi des coordonnées
+        double halfSize = TILE_RADIUS + TILE_RADIUS / 10.0 + 2;
+        int x = (int) Math.floor((positionX - halfSize) * zoomFactor + offsetX);
+        int y = (int) Math.floor((positionY - halfSize) * zoomFactor + offsetY);
+        int size = (int) Math.ceil(2 * halfSize * zoomFactor) + 2;
+        repaint(x, y, size, size);
     }
 
     /**
@@ -209,8 +446,8 @@ public class Board extends JPanel{
     private void initializeNextTile() {
         int offsetX = 50;  // Décalage pour la position en haut à gauche
         int offsetY = 50;  // Décalage pour la position en haut à gauche
-        this.nextTile = new Tile(this, offsetX, offsetY, 50);  // Création de la nouvelle tuile
-
+        this.nextTile = new Tile(this, offsetX, offsetY, TILE_RADIUS);  // Création de la nouvelle tuile
+        deck.advance();  // Les images des tuiles suivantes sont préparées en arrière-plan
     }
 
     /**
@@ -220,25 +457,31 @@ public class Board extends JPanel{
     public Tile getNextTile() { return nextTile; }
 
     /**
-     * Gère les événements de touche de clavier
+     * Récupère la pioche des tuiles à venir.
+     * @return la pioche, qui permet de consulter les tuiles suivantes sans les tirer
+     */
+    public TileDeck getDeck() { return deck; }
+
+    /**
+     * Récupère l'étendue du plateau.
+     * @return l'étendue des tuiles posées
+     */
+    public BoardBounds getBoardBounds() { return bounds; }
+
+    /**
+     * Gère les événements de touche de clavier : cadre le plateau entier dans la fenêtre,
+     * avec une transition animée du zoom et du déplacement.
      */
     public void handleSpaceKeyPress() {
-        if (Options.isPaused) {
+        if (Options.isPaused || bounds.isEmpty()) {
             return;
         }
     
-        // Calculer les limites du plateau (minX, minY, maxX, maxY)
-        int minX = Integer.MAX_VALUE;
-        int minY = Integer.MAX_VALUE;
-        int maxX = Integer.MIN_VALUE;
-        int maxY = Integer.MIN_VALUE;
-    
-        for (Tile tile : tiles) {
-            minX = Math.min(minX, tile.getXCoord() - tile.getRadius());
-            minY = Math.min(minY, tile.getYCoord() - tile.getRadius());
-            maxX = Math.max(maxX, tile.getXCoord() + tile.getRadius());
-            maxY = Math.max(maxY, tile.getYCoord() + tile.getRadius());
-        }
+        // Limites du plateau (minX, minY, maxX, maxY), tenues à jour à chaque pose
+        int minX = bounds.getMinX() - TILE_RADIUS;
+        int minY = bounds.getMinY() - TILE_RADIUS;
+        int maxX = bounds.getMaxX() + TILE_RADIUS;
+        int maxY = bounds.getMaxY() + TILE_RADIUS;
     
         // Ajouter une marge aux dimensions calculées
         int margin = 50;
@@ -256,23 +499,24 @@ public class Board extends JPanel{
         double verticalZoom = (double) getHeight() / totalHeight;
     
         // Choisir le plus petit facteur de zoom pour s'assurer que tout est visible
-        zoomFactor = Math.min(horizontalZoom, verticalZoom);
+        double targetZoom = Math.min(horizontalZoom, verticalZoom);
     
         // Ajuster les offsets pour centrer les tuiles
         int centerX = minX + totalWidth / 2;
         int centerY = minY + totalHeight / 2;
     
-        offsetX = getWidth() / 2 - (int) (centerX * zoomFactor);
-        offsetY = getHeight() / 2 - (int) (centerY * zoomFactor);
+        int targetOffsetX = getWidth() / 2 - (int) (centerX * targetZoom);
+        int targetOffsetY = getHeight() / 2 - (int) (centerY * targetZoom);
     
-        // Redessiner le plateau avec les nouveaux paramètres
-        repaint();
+        // Animer le zoom et le déplacement jusqu'au cadrage
+        new TilePanningTransition(this, targetOffsetX, targetOffsetY, targetZoom, 20, Easing.EASE_IN_OUT_QUAD).start();
     }
 
 
     /**
-     * Gère les événements de clic de souris pour placer une tuile à la position disponible 
-     * la plus proche, si le jeu n'est pas en pause.
+     * Gère les événements de clic de souris pour placer une tuile sur la position disponible
+     * située sous le curseur, si le jeu n'est pas en pause. Un clic sur la mini-carte
+     * centre la vue sur le point cliqué.
      *
      * @param e l'événement MouseEvent déclenché par un clic de souris
      */
@@ -280,131 +524,132 @@ public class Board extends JPanel{
         if (Options.isPaused) {
             return;
         }
-    
-        Point clickedPoint = e.getPoint();
-        int adjustedX = (int)((clickedPoint.x - offsetX) / zoomFactor);
-        int adjustedY = (int)((clickedPoint.y - offsetY) / zoomFactor);
-    
-        Point nearestPosition = null;
-        double minDistance = Double.MAX_VALUE;
-    
-        for (Point position : availablePositions) {
-            double distance = new Point(adjustedX, adjustedY).distance(position);
-            if (distance < minDistance) {
-                minDistance = distance;
-                nearestPosition = position;
-            }
+
+        if (minimap.contains(e.getX(), e.getY())) {
+            int targetOffsetX = getWidth() / 2 - (int) (minimap.toWorldX(e.getX()) * zoomFactor);
+            int targetOffsetY = getHeight() / 2 - (int) (minimap.toWorldY(e.getY()) * zoomFactor);
+            new TilePanningTransition(this, targetOffsetX, targetOffsetY, 15, Easing.EASE_OUT_CUBIC).start();
+            return;
         }
     
-        if (nearestPosition != null && minDistance < 20) {
-            placeTileAtPosition(nearestPosition);
+        long cell = cellAt(e.getX(), e.getY());
+        int q = HexGrid.keyQ(cell);
+        int r = HexGrid.keyR(cell);
+        if (model.getFrontier().contains(q, r)) {
+            placeTileAtPosition(new Point(hexLayout.toPixelX(q, r), hexLayout.toPixelY(q, r)));
         }
     }
     
 
 
     /**
-     * Initialise la tuile centrale au centre de la fenêtre de jeu et calcule 
-     * les positions disponibles autour pour les placements futurs.
+     * Initialise la tuile centrale au centre de la fenêtre de jeu. Les positions
+     * disponibles autour sont ajoutées à la frontière lors de sa pose.
      */
     private void initializeCentralTile() {
         int centerX = gameFrame.getWidth() / 2;
         int centerY = gameFrame.getHeight() / 2;
 
-        this.centralTile = new Tile(this, centerX, centerY, 50);
-        addTile(centralTile);
-
-
-        // Calculer les positions disponibles autour de la tuile centrale
-        calculateAvailablePositions(centralTile);
+        this.hexLayout = new HexLayout(centerX, centerY, TILE_RADIUS);
+        this.centralTile = model.drawTile();
+        placeTile(centralTile, 0, 0);
         initializeNextTile();
     }
 
     /**
-     * Ajoute une tuile au jeu, met à jour le gestionnaire de score 
-     * et rafraîchit l'affichage du score.
+     * Ajoute une tuile au jeu sur la case qu'elle désigne : le plateau logique met à jour
+     * la frontière et le score, puis l'affichage du score est rafraîchi.
      *
      * @param tile l'objet Tile à ajouter au jeu
      */
     public void addTile(Tile tile) { 
-        tiles.add(tile);
-        scoreManager.addTile(tile);
-        currentScore = scoreManager.getCurrentScore();
+        placeTile(tile.getState(), tile.getQ(), tile.getR());
+    }
+
+    /**
+     * Pose une tuile logique sur une case du plateau et rafraîchit l'affichage du score.
+     *
+     * @param tile la tuile à poser
+     * @param q    la colonne de la case
+     * @param r    la ligne de la case
+     */
+    private void placeTile(TileState tile, int q, int r) {
+        model.placeTile(tile, q, r);
+        densityBitmap.set(q, r, HexagonDrawer.centerBiome(tile.getCode()).getPrimaryColor().getRGB());
+        bounds.include(q, r, hexLayout.toPixelX(q, r), hexLayout.toPixelY(q, r));
+        currentScore = model.getScore();
         scoreDisplay.setScore(currentScore);
     }
 
     /**
-     * Récupère la tuile située aux coordonnées spécifiées, si elle existe.
+     * Récupère la tuile située aux coordonnées spécifiées, si elle existe. Comme toutes les tuiles posées,
+     * elle est renvoyée sous forme de {@link TileState}, l'état conservé par le plateau logique.
      *
      * @param x la coordonnée x à vérifier
      * @param y la coordonnée y à vérifier
-     * @return l'objet Tile situé aux coordonnées spécifiées, ou {@code null} si aucune tuile n'est trouvée
+     * @return la tuile située aux coordonnées spécifiées, ou {@code null} si aucune tuile n'est trouvée
      */
-    public Tile getTileAt(int x, int y) {
-        for (Tile tile : tiles) {
-            if (Math.abs(tile.getXCoord() - x) < 5 && Math.abs(tile.getYCoord() - y) < 5) {
-                return tile;
-            }
+    public TileState getTileAt(int x, int y) {
+        int q = hexLayout.toAxialQ(x, y);
+        int r = hexLayout.toAxialR(x, y);
+        if (Math.abs(hexLayout.toPixelX(q, r) - x) < 5 && Math.abs(hexLayout.toPixelY(q, r) - y) < 5) {
+            return getTileAtAxial(q, r);
         }
         return null;
     }
 
     /**
-     * Récupère le random
-     * @return random
+     * Récupère la tuile posée sur une case de la grille hexagonale, si elle existe, sous forme de {@link TileState}.
+     *
+     * @param q la colonne (coordonnée axiale q) de la case
+     * @param r la ligne (coordonnée axiale r) de la case
+     * @return la tuile posée sur la case, ou {@code null} si la case est libre
      */
-    public Random getRandom() { return random; }
+    public TileState getTileAtAxial(int q, int r) {
+        return model.getTileAt(q, r);
+    }
 
     /**
-     * Récupère la game
-     * @return game
+     * Récupère le plateau logique affiché par cette vue.
+     *
+     * @return le plateau logique
      */
-    public Game getGame() { return game; }
+    public BoardModel getModel() { return model; }
 
     /**
-     * Calcule les positions disponibles autour de la tuile donnée.
-     * Les points rouges seront générés autour de cette tuile.
+     * Récupère la disposition à l'écran de la grille hexagonale.
      *
-     * @param tile La tuile pour laquelle on calcule les positions disponibles
+     * @return la disposition
      */
-    private void calculateAvailablePositions(Tile tile) {
-        int tileX = tile.getXCoord();
-        int tileY = tile.getYCoord();
-        int radius = (int) (tile.getRadius() * 1.72);  // Utiliser un rayon uniforme pour toutes les directions
+    public HexLayout getHexLayout() { return hexLayout; }
 
-        // Définir les directions possibles autour de la tuile (6 directions pour une tuile hexagonale)
-        Point[] directions = {
-            new Point(0, -radius),  // Nord 
-            new Point((int)(radius * Math.sqrt(3) / 2), -radius / 2),  // Nord-Est (ajuster horizontalement)
-            new Point((int)(radius * Math.sqrt(3) / 2), radius / 2),  // Sud-Est (ajuster horizontalement)
-            new Point(0, radius),  // Sud
-            new Point(-(int)(radius * Math.sqrt(3) / 2), radius / 2),  // Sud-Ouest (ajuster horizontalement)
-            new Point(-(int)(radius * Math.sqrt(3) / 2), -radius / 2)  // Nord-Ouest (ajuster horizontalement)
-        };
+    /**
+     * Récupère le cache des images de tuiles.
+     *
+     * @return le cache des images de tuiles
+     */
+    public TileSpriteCache getTileSprites() { return tileSprites; }
 
-        // Calculer les positions disponibles autour de la tuile
-        for (Point direction : directions) {
-            Point newPoint = new Point(tileX + direction.x, tileY + direction.y);
-            if (!isTileAtPosition(newPoint)) {
-                availablePositions.add(newPoint);  // Ajouter la position si une tuile n'est pas déjà là
-            }
-        }
-    }
+    /**
+     * Récupère le random
+     * @return random
+     */
+    public Random getRandom() { return random; }
 
+    /**
+     * Récupère la game
+     * @return game
+     */
+    public Game getGame() { return model.getGame(); }
 
     /**
-     * Vérifie si une tuile existe déjà à la position donnée.
+     * Vérifie si une tuile existe déjà sur la case donnée.
      *
-     * @param position La position à vérifier
-     * @return true si une tuile est présente à cette position, false sinon
+     * @param cell La clé de la case à vérifier
+     * @return true si une tuile est présente sur cette case, false sinon
      */
-    private boolean isTileAtPosition(Point position) {
-        for (Tile t : tiles) {
-            if (t.getXCoord() == position.x && t.getYCoord() == position.y) {
-                return true;
-            }
-        }
-        return false;
+    private boolean isTileAtCell(long cell) {
+        return model.getGrid().isOccupied(HexGrid.keyQ(cell), HexGrid.keyR(cell));
     }
 
     /**
@@ -413,16 +658,15 @@ public class Board extends JPanel{
      * @param position La position où ajouter la tuile
      */
     public void placeTileAtPosition(Point position) {
-        if (availablePositions.contains(position) && !isTileAtPosition(position)) {
-            if (tiles.size() < Options.MAX_TILE_NUMBER - 1) {
+        if (model.canPlace(hexLayout.toAxialQ(position.x, position.y), hexLayout.toAxialR(position.x, position.y))) {
+            if (model.getTileCount() < Options.MAX_TILE_NUMBER - 1) {
                 // Placer une nouvelle tuile normalement
                 if (nextTile != null) {
-                    remainingTilesIndicator.setRemainingTiles(Options.MAX_TILE_NUMBER - 1 - tiles.size());
+                    remainingTilesIndicator.setRemainingTiles(Options.MAX_TILE_NUMBER - 1 - model.getTileCount());
     
                     // Place la nextTile à la position choisie
-                    nextTile.setPosition(position.x, position.y);
-                    addTile(nextTile);  // Ajoute la nextTile au tableau des tuiles
-                    calculateAvailablePositions(nextTile);  // Calcule de nouvelles positions disponibles
+                    placeNextTileAt(position);
+                    addTile(nextTile);  // Ajoute la nextTile au tableau des tuiles et met à jour la frontière
                     repaint();  // Redessine le plateau
                     autoReFocus(nextTile);
     
@@ -433,9 +677,8 @@ public class Board extends JPanel{
                 // Pour la dernière tuile
                 if (nextTile != null) {
                     // Place la dernière tuile et mettre à jour le score
-                    nextTile.setPosition(position.x, position.y);
+                    placeNextTileAt(position);
                     addTile(nextTile);
-                    calculateAvailablePositions(nextTile);
                     repaint();
     
                     // Mise à jour de l'indicateur de tuiles restantes
@@ -443,6 +686,7 @@ public class Board extends JPanel{
                 }
     
                 // Fin de la partie
+                deck.shutdown();
                 try {
                     this.database = new Database();
                 } catch (Exception e) {
@@ -457,6 +701,18 @@ public class Board extends JPanel{
         }
     }
         
+    /**
+     * Positionne la prochaine tuile sur la case de la grille correspondant à la position donnée.
+     *
+     * @param position La position (en pixels) d'une case libre
+     */
+    private void placeNextTileAt(Point position) {
+        int q = hexLayout.toAxialQ(position.x, position.y);
+        int r = hexLayout.toAxialR(position.x, position.y);
+        nextTile.setAxialPosition(q, r);
+        nextTile.setPosition(hexLayout.toPixelX(q, r), hexLayout.toPixelY(q, r));
+    }
+
     /**
      * Recentre automatiquement la vue sur une tuile nouvellement placée si l'option
      * de mise au point automatique (AUTO_FOCUS) est activée.
@@ -518,19 +774,110 @@ public class Board extends JPanel{
     public void setOffsetY(int offsetY) { this.offsetY = offsetY; }
 
     /**
-     * Permet de zoomer sur le plateau de jeu.
+     * Permet de zoomer sur le plateau de jeu, autour du centre de l'écran.
      */
     public void zoomIn() {
-        zoomFactor *= 1.1; // Augmenter le facteur de zoom
-        repaint();
+        zoomAt(getWidth() / 2, getHeight() / 2, -1);
     }
 
     /**
-     * Permet de dézoomer sur le plateau de jeu.
+     * Permet de dézoomer sur le plateau de jeu, autour du centre de l'écran.
      */
     public void zoomOut() {
-        zoomFactor /= 1.1; // Diminuer le facteur de zoom
-        repaint();
+        zoomAt(getWidth() / 2, getHeight() / 2, 1);
+    }
+
+    /**
+     * Zoome ou dézoome autour d'un point de l'écran, qui reste fixe sous le curseur.
+     *
+     * Le zoom demandé s'ajoute à la cible du zoom en cours ; toutes les demandes reçues avant l'image
+     * suivante sont regroupées, et le zoom est animé jusqu'à la cible (voir {@link #updateZoom()}).
+     *
+     * @param x        l'abscisse du point fixe, en coordonnées du plateau à l'écran
+     * @param y        l'ordonnée du point fixe, en coordonnées du plateau à l'écran
+     * @param rotation la rotation de la molette : négative pour zoomer, positive pour dézoomer
+     */
+    public void zoomAt(int x, int y, double rotation) {
+        if (!isZooming() && !zoomRequested) {
+            zoomTarget = zoomFactor;
+        }
+        zoomTarget *= Math.pow(ZOOM_STEP, -rotation);
+        zoomAnchorX = x;
+        zoomAnchorY = y;
+        zoomRequested = true;
+        AnimationClock.getInstance().runOnNextTick(zoomUpdate);
+    }
+
+    /**
+     * Démarre, ou reprend depuis le zoom courant, l'animation vers la cible du zoom.
+     * Le point du plateau sous le curseur reste fixe à l'écran pendant toute l'animation.
+     */
+    private void updateZoom() {
+        zoomRequested = false;
+        if (zoomAnimation != null) {
+            zoomAnimation.cancel();
+        }
+        if (panAnimation != null) {
+            panAnimation.cancel();
+            panAnimation = null;
+        }
+
+        double startZoom = zoomFactor;
+        double targetZoom = zoomTarget;
+        int anchorX = zoomAnchorX;
+        int anchorY = zoomAnchorY;
+        double worldX = (anchorX - offsetX) / startZoom;
+        double worldY = (anchorY - offsetY) / startZoom;
+
+        zoomAnimation = new Tween(ZOOM_DURATION, Easing.EASE_OUT_CUBIC, progress -> {
+            zoomFactor = startZoom * Math.pow(targetZoom / startZoom, progress);
+            offsetX = (int) Math.round(anchorX - worldX * zoomFactor);
+            offsetY = (int) Math.round(anchorY - worldY * zoomFactor);
+        }).repaint(this).start();
+    }
+
+    /**
+     * Indique si un zoom animé est en cours : le calque est alors affiché mis à l'échelle
+     * plutôt que redessiné à chaque image.
+     *
+     * @return {@code true} si un zoom est en cours
+     */
+    private boolean isZooming() {
+        return zoomAnimation != null && zoomAnimation.isRunning();
+    }
+
+    /**
+     * Déclare l'animation de zoom en cours, pour les transitions qui modifient le zoom (voir {@link TilePanningTransition}).
+     * Le zoom à la molette qui suivrait partira de la cible de cette animation. Le zoom et le panoramique
+     * en cours sont annulés.
+     *
+     * @param zoomAnimation l'animation
+     * @param targetZoom    le facteur de zoom visé par l'animation
+     */
+    public void setZoomAnimation(Tween zoomAnimation, double targetZoom) {
+        setPanAnimation(null);
+        if (this.zoomAnimation != null && this.zoomAnimation != zoomAnimation) {
+            this.zoomAnimation.cancel();
+        }
+        this.zoomAnimation = zoomAnimation;
+        this.zoomTarget = targetZoom;
+    }
+
+    /**
+     * Déclare l'animation de panoramique sans zoom en cours (voir {@link TilePanningTransition}).
+     * Le zoom et le panoramique en cours sont annulés, et un zoom ultérieur annulera cette animation.
+     *
+     * @param panAnimation l'animation, ou {@code null} pour seulement annuler le panoramique en cours
+     */
+    public void setPanAnimation(Tween panAnimation) {
+        if (this.panAnimation != null && this.panAnimation != panAnimation) {
+            this.panAnimation.cancel();
+        }
+        if (panAnimation != null && zoomAnimation != null) {
+            zoomAnimation.cancel();
+            zoomAnimation = null;
+        }
+        this.panAnimation = panAnimation;
     }
 
     /**
@@ -546,46 +893,244 @@ public class Board extends JPanel{
 
 
     /**
-     * Afficher les points rouges pour indiquer les positions disponibles.
+     * Affiche le calque statique du plateau, après l'avoir redessiné si la pose d'une tuile,
+     * le zoom, le déplacement ou la taille du plateau ont changé depuis le dernier affichage.
+     * Pendant un zoom animé, le calque est seulement mis à l'échelle.
+     *
+     * @param g2d Le contexte graphique du plateau, sans zoom ni déplacement
+     */
+    private void paintBoardLayer(Graphics2D g2d) {
+        double deviceScale = Math.abs(g2d.getTransform().getScaleX());
+        int version = model.getTileCount();
+
+        // Pendant un zoom animé, le calque existant est mis à l'échelle ; il sera redessiné net à la fin du zoom
+        if (isZooming() && boardLayer.canResample(getWidth(), getHeight(), deviceScale, version)) {
+            boardLayer.drawResampled(g2d, zoomFactor, offsetX, offsetY);
+            return;
+        }
+
+        if (!boardLayer.isValid(zoomFactor, offsetX, offsetY, getWidth(), getHeight(), deviceScale, version)) {
+            Graphics2D layer = boardLayer.begin(g2d.getDeviceConfiguration(), zoomFactor, offsetX, offsetY,
+                                                getWidth(), getHeight(), deviceScale, version);
+            layer.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            layer.scale(zoomFactor, zoomFactor);
+            layer.translate(offsetX / zoomFactor, offsetY / zoomFactor);
+            paintVisibleCells(layer);
+            layer.dispose();
+        }
+
+        boardLayer.draw(g2d);
+    }
+
+    /**
+     * Dessine les points rouges des positions disponibles et les tuiles posées, en se limitant
+     * à la partie du plateau visible à l'écran.
+     *
+     * Lorsque les cases visibles sont moins nombreuses que les tuiles posées (vue rapprochée d'un
+     * grand plateau), seules ces cases sont consultées dans la grille ; sinon (vue éloignée), les tuiles
+     * et la frontière sont parcourues et celles hors de l'écran sont ignorées. Le coût d'une image
+     * dépend donc du nombre de tuiles affichées, et non de la taille du plateau.
+     *
+     * Lorsqu'une tuile ne fait plus qu'un ou deux pixels à l'écran ({@link TileDetail#PIXEL}), le plateau
+     * entier est affiché en une fois par l'image de densité, et les positions disponibles ne sont plus dessinées.
+     *
+     * Lorsque le cache d'images est désactivé ou inutilisable (zoom trop fort), les tuiles visibles
+     * sont dessinées en vectoriel, au même niveau de détail qu'avec le cache : quel que soit ce niveau,
+     * les tuiles sont regroupées par couleur en un seul lot ({@link HexagonBatch}).
+     *
+     * @param g2d Le contexte graphique, avec le zoom et le déplacement appliqués
+     */
+    private void paintVisibleCells(Graphics2D g2d) {
+        visibleTileCount = 0;
+        TileDetail detail = TileDetail.forRadius(TILE_RADIUS * zoomFactor);
+        if (detail == TileDetail.PIXEL) {
+            long start = frameProfiler.begin();
+            densityBitmap.draw(g2d, hexLayout);
+            frameProfiler.end(PaintPhase.TILES, start);
+            visibleTileCount = model.getTileCount();
+            return;
+        }
+
+        // Rectangle visible en coordonnées du plateau, élargi d'une tuile pour ne pas couper les bords
+        double minX = -offsetX / zoomFactor - TILE_RADIUS;
+        double minY = -offsetY / zoomFactor - TILE_RADIUS;
+        double maxX = (getWidth() - offsetX) / zoomFactor + TILE_RADIUS;
+        double maxY = (getHeight() - offsetY) / zoomFactor + TILE_RADIUS;
+
+        int minQ = hexLayout.minColumn(minX);
+        int maxQ = hexLayout.maxColumn(maxX);
+        long visibleCellCount = (long) (maxQ - minQ + 1) * ((long) ((maxY - minY) / hexLayout.getRowSpacing()) + 2);
+
+        HexGrid grid = model.getGrid();
+        Frontier frontier = model.getFrontier();
+        boolean batched = !Options.TILE_SPRITE_CACHE || !tileSprites.canCache(g2d, TILE_RADIUS);
+        g2d.setColor(Color.RED);
+
+        if (visibleCellCount < model.getTileCount() + frontier.size()) {
+            for (int q = minQ; q <= maxQ; q++) {
+                int maxR = hexLayout.maxRow(q, maxY);
+                for (int r = hexLayout.minRow(q, minY); r <= maxR; r++) {
+                    int index = grid.indexAt(q, r);
+                    if (index != LongIntMap.NO_VALUE) {
+                        paintTile(g2d, model.getTile(index), batched, detail);
+                    } else if (frontier.contains(q, r)) {
+                        paintFrontierDot(g2d, q, r);
+                    }
+                }
+            }
+            flushTileBatch(g2d, batched);
+            return;
+        }
+
+        for (int i = 0; i < frontier.size(); i++) {
+            long key = frontier.keyAt(i);
+            int positionX = hexLayout.toPixelX(HexGrid.keyQ(key), HexGrid.keyR(key));
+            int positionY = hexLayout.toPixelY(HexGrid.keyQ(key), HexGrid.keyR(key));
+            if (positionX >= minX && positionX <= maxX && positionY >= minY && positionY <= maxY) {
+                paintFrontierDot(g2d, HexGrid.keyQ(key), HexGrid.keyR(key));
+            }
+        }
+
+        for (int i = 0; i < model.getTileCount(); i++) {
+            TileState tile = model.getTile(i);
+            int tileX = hexLayout.toPixelX(tile.getQ(), tile.getR());
+            int tileY = hexLayout.toPixelY(tile.getQ(), tile.getR());
+            if (tileX >= minX && tileX <= maxX && tileY >= minY && tileY <= maxY) {
+                paintTile(g2d, tile, batched, detail);
+            }
+        }
+        flushTileBatch(g2d, batched);
+    }
+
+    /**
+     * Dessine les tuiles accumulées dans le lot de dessin, s'il est utilisé.
+     *
+     * @param g2d     Le contexte graphique
+     * @param batched {@code true} si les tuiles ont été ajoutées au lot
+     */
+    private void flushTileBatch(Graphics2D g2d, boolean batched) {
+        if (batched) {
+            long start = frameProfiler.begin();
+            g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+            tileBatch.fill(g2d);
+            frameProfiler.end(PaintPhase.TILES, start);
+        }
+    }
+
+    /**
+     * Dessine le point rouge d'une position disponible.
+     *
+     * @param g2d Le contexte graphique
+     * @param q   La colonne de la case
+     * @param r   La ligne de la case
+     */
+    private void paintFrontierDot(Graphics2D g2d, int q, int r) {
+        long start = frameProfiler.begin();
+        g2d.fillOval(hexLayout.toPixelX(q, r) - 5, hexLayout.toPixelY(q, r) - 5, 10, 10);
+        frameProfiler.end(PaintPhase.FRONTIER, start);
+    }
+
+    /**
+     * Dessine une tuile posée à partir du cache d'images ou, sans cache, en vectoriel au niveau de détail
+     * demandé, en l'ajoutant au lot de dessin.
+     *
+     * @param g2d     Le contexte graphique
+     * @param tile    La tuile à dessiner
+     * @param batched {@code true} pour dessiner la tuile sans le cache d'images
+     * @param detail  Le niveau de détail du dessin sans cache (le cache choisit le sien)
+     */
+    private void paintTile(Graphics2D g2d, TileState tile, boolean batched, TileDetail detail) {
+        long start = frameProfiler.begin();
+        int tileX = hexLayout.toPixelX(tile.getQ(), tile.getR());
+        int tileY = hexLayout.toPixelY(tile.getQ(), tile.getR());
+        if (batched) {
+            HexagonMesh mesh = HexagonMesh.of(TILE_RADIUS, TILE_RADIUS);
+            switch (detail) {
+                case FULL:
+                    tileBatch.add(mesh, tile.getCode(), tileX - TILE_RADIUS, tileY - TILE_RADIUS);
+                    break;
+                case WEDGES:
+                    tileBatch.addWedges(mesh, tile.getCode(), tileX, tileY);
+                    break;
+                default:
+                    tileBatch.addDominant(mesh, tile.getCode(), tileX, tileY);
+                    break;
+            }
+        } else {
+            tileSprites.draw(g2d, tile.getCode(), TILE_RADIUS, tileX - TILE_RADIUS, tileY - TILE_RADIUS);
+        }
+        visibleTileCount++;
+        frameProfiler.end(PaintPhase.TILES, start);
+    }
+
+    /**
+     * Dessine la mini-carte en bas à droite de l'écran, à gauche de la pile des tuiles restantes.
+     *
+     * @param g2d           Le contexte graphique
+     * @param baseTransform La transformation du contexte graphique sans zoom ni déplacement
+     */
+    private void paintMinimap(Graphics2D g2d, AffineTransform baseTransform) {
+        g2d.setTransform(baseTransform);
+        minimap.setPosition(getWidth() - 90 - Minimap.WIDTH, getHeight() - 20 - Minimap.HEIGHT);
+        minimap.draw(g2d, this, densityBitmap, hexLayout, bounds, 2 * TILE_RADIUS, model.getTileCount());
+    }
+
+    /**
+     * Affiche le plateau lorsqu'il est dessiné par Swing (voir {@link #renderFrame(Graphics2D, boolean)}).
+     * Avec la boucle d'affichage active, le plateau est dessiné dans le canvas de la boucle.
      *
      * @param g Le contexte graphique
      */
     @Override
     public void paintComponent(Graphics g) {
         super.paintComponent(g);
-        Graphics2D g2d = (Graphics2D) g;
+        if (renderLoop == null) {
+            renderFrame((Graphics2D) g, false);
+        }
+    }
+
+    /**
+     * Dessine une image du plateau : le calque statique des tuiles posées et des positions disponibles,
+     * puis, par-dessus, le score, la tuile transparente sous la souris, la prochaine tuile et la mini-carte.
+     * Lorsque les mesures de performance sont activées, chaque étape est chronométrée
+     * et les mesures sont affichées par-dessus l'image.
+     *
+     * @param g2d   Le contexte graphique
+     * @param clear {@code true} pour effacer d'abord le fond (tampon de la boucle d'affichage active)
+     */
+    public void renderFrame(Graphics2D g2d, boolean clear) {
+        frameProfiler.beginFrame();
+        AffineTransform baseTransform = g2d.getTransform();
+        if (clear) {
+            g2d.setColor(getBackground());
+            g2d.fillRect(0, 0, getWidth(), getHeight());
+        }
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+
+        // Calque statique (tuiles posées et positions disponibles), redessiné seulement s'il est périmé
+        long start = frameProfiler.begin();
+        paintBoardLayer(g2d);
+        frameProfiler.end(PaintPhase.LAYER, start);
 
         int scoreX = (getWidth() - 110) / 2;
         scoreDisplay.setPosition(scoreX, 40);
 
-        scoreDisplay.draw(g);
-
+        start = frameProfiler.begin();
+        scoreDisplay.draw(g2d);
+        frameProfiler.end(PaintPhase.HUD, start);
 
         // Appliquer l'échelle de zoom et le déplacement
         g2d.scale(zoomFactor, zoomFactor);  // Appliquer le zoom
         g2d.translate(offsetX / zoomFactor, offsetY / zoomFactor);  // Appliquer le déplacement (en tenant compte du zoom)
 
-        // Dessiner les points rouges pour les positions disponibles
-        for (Point position : availablePositions) {
-            g.setColor(Color.RED);
-            g.fillOval(position.x - 5, position.y - 5, 10, 10);  // Dessiner un point rouge
-        }
-
-        // Dessiner les tuiles existantes
-        for (Tile tile : tiles) {
-            int tileX = tile.getXCoord();
-            int tileY = tile.getYCoord();
-
-            tile.drawTileAt(g,tileX-50,tileY-50,1f);
-        }
-
         // Vérifier si la position de la souris est valide et ne pas dessiner si elle est occupée
-        if (mousePosition != null && nextTile != null && !isTileAtPosition(mousePosition)) {
-            int nextTileX = mousePosition.x;
-            int nextTileY = mousePosition.y;
+        start = frameProfiler.begin();
+        if (hoveredCell != NO_CELL && nextTile != null && !isTileAtCell(hoveredCell)) {
+            int nextTileX = hexLayout.toPixelX(HexGrid.keyQ(hoveredCell), HexGrid.keyR(hoveredCell));
+            int nextTileY = hexLayout.toPixelY(HexGrid.keyQ(hoveredCell), HexGrid.keyR(hoveredCell));
 
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 0.5f));  // Rendre la tuile transparente
-            nextTile.drawTileAt(g, nextTileX - 50, nextTileY - 50, 1f);
+            tileSprites.draw(g2d, nextTile.getState().getCode(), TILE_RADIUS, nextTileX - TILE_RADIUS, nextTileY - TILE_RADIUS);
             g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, 1f));  // Rétablir l'opacité
         }
 
@@ -599,17 +1144,34 @@ public class Board extends JPanel{
             g2d.translate(-offsetX, -offsetY);  // Inverser le décalage (revenir à l'espace global)
 
             // Dessiner la nextTile à sa position d'origine (0,0)
-            nextTile.drawTileAt(g, nextTileX, nextTileY, 1f);
+            tileSprites.draw(g2d, nextTile.getState().getCode(), TILE_RADIUS, nextTileX, nextTileY);
+
+            // Bandeau des tuiles à venir, à droite de la prochaine tuile
+            deck.draw(g2d, 2 * TILE_RADIUS + 10, TILE_RADIUS - PREVIEW_TILE_RADIUS);
+            frameProfiler.end(PaintPhase.GHOST, start);
 
             int indicatorX = getWidth() - 70; // Position x de l'indicateur
             int indicatorY = getHeight() - 670; // Positionner la pile près du bas
 
+            start = frameProfiler.begin();
             remainingTilesIndicator.draw(g2d, indicatorX, indicatorY);
+            frameProfiler.end(PaintPhase.HUD, start);
 
             // Rétablir les transformations pour les autres éléments (tuiles existantes, etc.)
             g2d.translate(offsetX / zoomFactor, offsetY / zoomFactor);  // Re-appliquer le décalage
             g2d.scale(zoomFactor, zoomFactor);  // Re-appliquer le zoom
 
+        } else {
+            frameProfiler.end(PaintPhase.GHOST, start);
+        }
+
+        start = frameProfiler.begin();
+        paintMinimap(g2d, baseTransform);
+        frameProfiler.end(PaintPhase.HUD, start);
+        frameProfiler.endFrame();
+
+        if (frameProfiler.isEnabled()) {
+            frameProfiler.draw(g2d, 10, TILE_RADIUS * 2 + 10, visibleTileCount, model.getTileCount(), tileSprites);
         }
     }
 }
@@ -0,0 +1,226 @@
+package fr.monkhanny.dorfromantik.game;
+
+import fr.monkhanny.dorfromantik.utils.LongIntMap;
+
+/**
+ * Étendue du plateau, tenue à jour à chaque pose de tuile.
+ *
+ * Le rectangle englobant les centres des tuiles posées (en pixels du plateau) est disponible
+ * immédiatement, sans parcourir les tuiles : cadrage du plateau entier, mini-carte, export d'image.
+ * Pour chaque colonne q et chaque ligne r occupées, les lignes (resp. colonnes) extrêmes des tuiles
+ * qu'elle contient sont également conservées.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see Board
+ */
+public class BoardBounds {
+
+    /**
+     * Abscisse minimale des centres des tuiles posées.
+     */
+    private int minX;
+
+    /**
+     * Ordonnée minimale des centres des tuiles posées.
+     */
+    private int minY;
+
+    /**
+     * Abscisse maximale des centres des tuiles posées.
+     */
+    private int maxX;
+
+    /**
+     * Ordonnée maximale des centres des tuiles posées.
+     */
+    private int maxY;
+
+    /**
+     * Indique si aucune tuile n'a encore été posée.
+     */
+    private boolean empty;
+
+    /**
+     * Plus petite ligne occupée de chaque colonne.
+     */
+    private final LongIntMap columnMinRow;
+
+    /**
+     * Plus grande ligne occupée de chaque colonne.
+     */
+    private final LongIntMap columnMaxRow;
+
+    /**
+     * Plus petite colonne occupée de chaque ligne.
+     */
+    private final LongIntMap rowMinColumn;
+
+    /**
+     * Plus grande colonne occupée de chaque ligne.
+     */
+    private final LongIntMap rowMaxColumn;
+
+    /**
+     * Constructeur d'une étendue vide.
+     */
+    public BoardBounds() {
+        this.empty = true;
+        this.columnMinRow = new LongIntMap();
+        this.columnMaxRow = new LongIntMap();
+        this.rowMinColumn = new LongIntMap();
+        this.rowMaxColumn = new LongIntMap();
+    }
+
+    /**
+     * Étend le plateau à une tuile nouvellement posée.
+     *
+     * @param q La colonne de la case
+     * @param r La ligne de la case
+     * @param x L'abscisse du centre de la case, en pixels du plateau
+     * @param y L'ordonnée du centre de la case, en pixels du plateau
+     */
+    public void include(int q, int r, int x, int y) {
+        if (empty) {
+            minX = maxX = x;
+            minY = maxY = y;
+            empty = false;
+        } else {
+            minX = Math.min(minX, x);
+            minY = Math.min(minY, y);
+            maxX = Math.max(maxX, x);
+            maxY = Math.max(maxY, y);
+        }
+
+        extend(columnMinRow, columnMaxRow, q, r);
+        extend(rowMinColumn, rowMaxColumn, r, q);
+    }
+
+    /**
+     * Étend les extrêmes d'une colonne ou d'une ligne à une nouvelle valeur.
+     *
+     * @param min   Les minimums
+     * @param max   Les maximums
+     * @param key   La colonne ou la ligne
+     * @param value La valeur à inclure
+     */
+    private static void extend(LongIntMap min, LongIntMap max, int key, int value) {
+        // NO_VALUE est une ligne valide (-1) : la présence est testée avec containsKey
+        if (!min.containsKey(key)) {
+            min.put(key, value);
+            max.put(key, value);
+            return;
+        }
+        if (value < min.get(key)) {
+            min.put(key, value);
+        }
+        if (value > max.get(key)) {
+            max.put(key, value);
+        }
+    }
+
+    /**
+     * Indique si aucune tuile n'a encore été posée.
+     *
+     * @return {@code true} si le plateau est vide
+     */
+    public boolean isEmpty() {
+        return empty;
+    }
+
+    /**
+     * Retourne l'abscisse minimale des centres des tuiles posées.
+     *
+     * @return L'abscisse, en pixels du plateau
+     */
+    public int getMinX() {
+        return minX;
+    }
+
+    /**
+     * Retourne l'ordonnée minimale des centres des tuiles posées.
+     *
+     * @return L'ordonnée, en pixels du plateau
+     */
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Retourne l'abscisse maximale des centres des tuiles posées.
+     *
+     * @return L'abscisse, en pixels du plateau
+     */
+    public int getMaxX() {
+        return maxX;
+    }
+
+    /**
+     * Retourne l'ordonnée maximale des centres des tuiles posées.
+     *
+     * @return L'ordonnée, en pixels du plateau
+     */
+    public int getMaxY() {
+        return maxY;
+    }
+
+    /**
+     * Indique si une colonne contient au moins une tuile.
+     *
+     * @param q La colonne
+     * @return {@code true} si la colonne est occupée
+     */
+    public boolean hasColumn(int q) {
+        return columnMinRow.containsKey(q);
+    }
+
+    /**
+     * Retourne la plus petite ligne occupée d'une colonne, qui doit être occupée (voir {@link #hasColumn(int)}).
+     *
+     * @param q La colonne
+     * @return La ligne
+     */
+    public int getColumnMinRow(int q) {
+        return columnMinRow.get(q);
+    }
+
+    /**
+     * Retourne la plus grande ligne occupée d'une colonne, qui doit être occupée (voir {@link #hasColumn(int)}).
+     *
+     * @param q La colonne
+     * @return La ligne
+     */
+    public int getColumnMaxRow(int q) {
+        return columnMaxRow.get(q);
+    }
+
+    /**
+     * Indique si une ligne contient au moins une tuile.
+     *
+     * @param r La ligne
+     * @return {@code true} si la ligne est occupée
+     */
+    public boolean hasRow(int r) {
+        return rowMinColumn.containsKey(r);
+    }
+
+    /**
+     * Retourne la plus petite colonne occupée d'une ligne, qui doit être occupée (voir {@link #hasRow(int)}).
+     *
+     * @param r La ligne
+     * @return La colonne
+     */
+    public int getRowMinColumn(int r) {
+        return rowMinColumn.get(r);
+    }
+
+    /**
+     * Retourne la plus grande colonne occupée d'une ligne, qui doit être occupée (voir {@link #hasRow(int)}).
+     *
+     * @param r La ligne
+     * @return La colonne
+     */
+    public int getRowMaxColumn(int r) {
+        return rowMaxColumn.get(r);
+    }
+}
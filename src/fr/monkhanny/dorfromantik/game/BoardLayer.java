@@ -0,0 +1,240 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * Calque statique du plateau : image des tuiles posées et des positions disponibles,
+ * conservée d'un rafraîchissement à l'autre.
+ *
+ * Le calque est redessiné uniquement lorsque ce qu'il représente change : pose d'une tuile,
+ * zoom, déplacement ou redimensionnement du plateau. Le reste du temps (survol de la souris,
+ * animation de l'interface), l'affichage du plateau se résume à copier cette image, et seuls
+ * la tuile fantôme et l'interface sont dessinés par-dessus.
+ *
+ * Pendant un zoom animé, le calque n'est pas redessiné à chaque image : il est affiché mis à l'échelle
+ * ({@link #drawResampled(Graphics2D, double, int, int)}), à partir d'une pyramide de copies de plus en plus
+ * réduites (chacune de moitié de la précédente) pour éviter le crénelage en dézoomant. Le calque net n'est
+ * redessiné qu'une fois le zoom terminé.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see Board
+ */
+public class BoardLayer {
+
+    /**
+     * Image du calque, à la résolution de l'écran.
+     */
+    private BufferedImage image;
+
+    /**
+     * Nombre maximal de niveaux de la pyramide (l'image du calque comprise).
+     */
+    private static final int MAX_LEVELS = 8;
+
+    /**
+     * Pyramide de copies réduites du calque : le niveau 0 est l'image du calque, chaque niveau est
+     * deux fois plus petit que le précédent. Les niveaux sont créés à la demande.
+     */
+    private final BufferedImage[] levels = new BufferedImage[MAX_LEVELS];
+
+    /**
+     * Facteur de zoom avec lequel le calque a été dessiné.
+     */
+    private double zoomFactor;
+
+    /**
+     * Décalage horizontal avec lequel le calque a été dessiné.
+     */
+    private int offsetX;
+
+    /**
+     * Décalage vertical avec lequel le calque a été dessiné.
+     */
+    private int offsetY;
+
+    /**
+     * Largeur du plateau, en pixels logiques, lorsque le calque a été dessiné.
+     */
+    private int width;
+
+    /**
+     * Hauteur du plateau, en pixels logiques, lorsque le calque a été dessiné.
+     */
+    private int height;
+
+    /**
+     * Échelle de l'écran lorsque le calque a été dessiné.
+     */
+    private double deviceScale;
+
+    /**
+     * Version du contenu (par exemple le nombre de tuiles posées) lorsque le calque a été dessiné.
+     */
+    private int version;
+
+    /**
+     * Indique si le calque est à jour.
+     */
+    private boolean valid;
+
+    /**
+     * Constructeur d'un calque vide, à dessiner avant le premier affichage.
+     */
+    public BoardLayer() {
+        this.valid = false;
+    }
+
+    /**
+     * Marque le calque comme périmé : il sera redessiné au prochain affichage.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Vérifie si le calque correspond encore à la vue et au contenu demandés.
+     *
+     * @param zoomFactor  Le facteur de zoom courant
+     * @param offsetX     Le décalage horizontal courant
+     * @param offsetY     Le décalage vertical courant
+     * @param width       La largeur courante du plateau
+     * @param height      La hauteur courante du plateau
+     * @param deviceScale L'échelle courante de l'écran
+     * @param version     La version courante du contenu
+     * @return {@code true} si le calque peut être affiché tel quel
+     */
+    public boolean isValid(double zoomFactor, int offsetX, int offsetY, int width, int height, double deviceScale, int version) {
+        return valid
+                && this.zoomFactor == zoomFactor
+                && this.offsetX == offsetX
+                && this.offsetY == offsetY
+                && this.width == width
+                && this.height == height
+                && this.deviceScale == deviceScale
+                && this.version == version;
+    }
+
+    /**
+     * Prépare le calque à être redessiné pour une vue et un contenu donnés. L'image est effacée
+     * (réallouée seulement si la taille a changé) et un contexte graphique à l'échelle de l'écran est retourné ;
+     * l'appelant doit le libérer avec {@link Graphics2D#dispose()}.
+     *
+     * @param configuration La configuration de l'écran
+     * @param zoomFactor    Le facteur de zoom
+     * @param offsetX       Le décalage horizontal
+     * @param offsetY       Le décalage vertical
+     * @param width         La largeur du plateau
+     * @param height        La hauteur du plateau
+     * @param deviceScale   L'échelle de l'écran
+     * @param version       La version du contenu
+     * @return Le contexte graphique du calque, en pixels logiques
+     */
+    public Graphics2D begin(GraphicsConfiguration configuration, double zoomFactor, int offsetX, int offsetY,
+                            int width, int height, double deviceScale, int version) {
+        int imageWidth = Math.max(1, (int) Math.ceil(width * deviceScale));
+        int imageHeight = Math.max(1, (int) Math.ceil(height * deviceScale));
+        if (image == null || image.getWidth() != imageWidth || image.getHeight() != imageHeight) {
+            image = configuration.createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT);
+        }
+
+        this.zoomFactor = zoomFactor;
+        this.offsetX = offsetX;
+        this.offsetY = offsetY;
+        this.width = width;
+        this.height = height;
+        this.deviceScale = deviceScale;
+        this.version = version;
+        this.valid = true;
+        Arrays.fill(levels, null);
+        levels[0] = image;
+
+        Graphics2D g2d = image.createGraphics();
+        g2d.setComposite(AlphaComposite.Clear);
+        g2d.fillRect(0, 0, imageWidth, imageHeight);
+        g2d.setComposite(AlphaComposite.SrcOver);
+        g2d.scale(deviceScale, deviceScale);
+        return g2d;
+    }
+
+    /**
+     * Vérifie si le calque peut être affiché mis à l'échelle pour un autre zoom ou un autre déplacement :
+     * seuls le zoom et le déplacement diffèrent de ceux avec lesquels il a été dessiné.
+     *
+     * @param width       La largeur courante du plateau
+     * @param height      La hauteur courante du plateau
+     * @param deviceScale L'échelle courante de l'écran
+     * @param version     La version courante du contenu
+     * @return {@code true} si le calque représente le contenu courant
+     */
+    public boolean canResample(int width, int height, double deviceScale, int version) {
+        return valid
+                && this.width == width
+                && this.height == height
+                && this.deviceScale == deviceScale
+                && this.version == version;
+    }
+
+    /**
+     * Affiche le calque pour un zoom et un déplacement différents de ceux avec lesquels il a été dessiné,
+     * en le mettant à l'échelle. Le niveau de la pyramide utilisé est le plus petit qui reste au moins
+     * aussi grand que l'image affichée.
+     *
+     * @param g2d        Le contexte graphique du plateau, sans zoom ni déplacement
+     * @param zoomFactor Le facteur de zoom à afficher
+     * @param offsetX    Le décalage horizontal à afficher
+     * @param offsetY    Le décalage vertical à afficher
+     */
+    public void drawResampled(Graphics2D g2d, double zoomFactor, int offsetX, int offsetY) {
+        // Un point du plateau dessiné en p dans le calque s'affiche en offset + (p - offset du calque) * scale
+        double scale = zoomFactor / this.zoomFactor;
+        double x = offsetX - this.offsetX * scale;
+        double y = offsetY - this.offsetY * scale;
+
+        int level = 0;
+        while (level + 1 < MAX_LEVELS && scale <= 0.5 / (1 << level)) {
+            level++;
+        }
+
+        g2d.drawImage(level(level), (int) Math.round(x), (int) Math.round(y),
+                      (int) Math.round(width * scale), (int) Math.round(height * scale), null);
+    }
+
+    /**
+     * Récupère un niveau de la pyramide, en le créant (ainsi que les niveaux intermédiaires) si nécessaire.
+     *
+     * @param level Le niveau
+     * @return L'image du niveau
+     */
+    private BufferedImage level(int level) {
+        if (levels[level] == null) {
+            BufferedImage source = level(level - 1);
+            int levelWidth = Math.max(1, source.getWidth() / 2);
+            int levelHeight = Math.max(1, source.getHeight() / 2);
+            BufferedImage reduced = new BufferedImage(levelWidth, levelHeight, BufferedImage.TYPE_INT_ARGB_PRE);
+            Graphics2D g2d = reduced.createGraphics();
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g2d.drawImage(source, 0, 0, levelWidth, levelHeight, null);
+            g2d.dispose();
+            levels[level] = reduced;
+        }
+        return levels[level];
+    }
+
+    /**
+     * Affiche le calque sur le plateau.
+     *
+     * @param g2d Le contexte graphique du plateau, sans zoom ni déplacement
+     */
+    public void draw(Graphics2D g2d) {
+        if (image != null) {
+            g2d.drawImage(image, 0, 0, width, height, null);
+        }
+    }
+}
@@ -0,0 +1,373 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import fr.monkhanny.dorfromantik.utils.LongIntMap;
+
+/**
+ * Plateau logique du jeu, indépendant de l'interface graphique.
+ *
+ * Le modèle contient les tuiles posées ({@link TileState}), la grille qui les indexe par
+ * coordonnées axiales, la frontière des cases libres et le gestionnaire de score. Il ne dépend
+ * ni de Swing ni d'AWT, ce qui permet de jouer des parties complètes sans fenêtre
+ * (par exemple avec {@code java.awt.headless=true}). {@link Board} n'en est qu'une vue.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see Board
+ */
+public class BoardModel {
+
+    /**
+     * Jeu de la partie.
+     */
+    private final Game game;
+
+    /**
+     * Suite des tuiles de la partie.
+     */
+    private final TileSequence sequence;
+
+    /**
+     * Nombre de tuiles déjà tirées de la suite, c'est-à-dire l'indice de la prochaine tuile.
+     */
+    private int drawn;
+
+    /**
+     * Tuiles posées, dans l'ordre de pose. L'indice d'une tuile est sa position dans cette liste.
+     */
+    private final List<TileState> tiles;
+
+    /**
+     * Index des tuiles posées par coordonnées axiales.
+     */
+    private final HexGrid grid;
+
+    /**
+     * Cases libres où une tuile peut être posée.
+     */
+    private final Frontier frontier;
+
+    /**
+     * Gestionnaire des poches de biomes et du score.
+     */
+    private final ScoreManager scoreManager;
+
+    /**
+     * Empreinte du plateau : le ou exclusif des empreintes de toutes les poses (voir {@link #placementHash}).
+     */
+    private long hash;
+
+    /**
+     * Nombre d'entiers mémorisés par pose dans {@link #undoLog}.
+     */
+    private static final int UNDO_RECORD = 4;
+
+    /**
+     * Journal des poses faites depuis {@link #enableUndo()} : pour chacune, la position de sa case dans la
+     * frontière, le nombre de cases ajoutées à la frontière, le repère des poches et le score d'avant la pose
+     * ({@code null} tant que l'annulation n'est pas activée).
+     */
+    private int[] undoLog;
+
+    /**
+     * Nombre d'entiers utilisés dans {@link #undoLog}.
+     */
+    private int undoSize;
+
+    /**
+     * Constructeur d'un plateau vide dont les tuiles sont générées à partir d'une graine.
+     *
+     * @param seed La graine du générateur aléatoire
+     */
+    public BoardModel(long seed) {
+        this(new Game(seed));
+    }
+
+    /**
+     * Constructeur d'un plateau vide dont les tuiles sont tirées du générateur d'un jeu existant,
+     * comme pour les séries existantes (voir {@link LegacyTileSequence}).
+     *
+     * @param game Le jeu fournissant le générateur aléatoire
+     */
+    public BoardModel(Game game) {
+        this(game, new LegacyTileSequence(game));
+    }
+
+    /**
+     * Constructeur d'un plateau vide dont les tuiles viennent d'une suite de tuiles.
+     *
+     * @param game     Le jeu de la partie
+     * @param sequence La suite des tuiles, dont la tuile d'indice 0 est la tuile centrale
+     */
+    public BoardModel(Game game, TileSequence sequence) {
+        this.game = game;
+        this.sequence = sequence;
+        this.tiles = new ArrayList<>();
+        this.grid = new HexGrid();
+        this.frontier = new Frontier();
+        this.scoreManager = new ScoreManager(this);
+    }
+
+    /**
+     * Tire la prochaine tuile de la suite.
+     *
+     * @return Une nouvelle tuile, non posée
+     */
+    public TileState drawTile() {
+        return sequence.tileAt(drawn++);
+    }
+
+    /**
+     * Consulte une tuile à venir sans la tirer : la suite étant à accès direct, les tirages
+     * suivants n'en sont pas modifiés.
+     *
+     * @param ahead Le rang de la tuile parmi les tuiles à venir, 0 pour la prochaine tuile tirée
+     * @return Une nouvelle tuile, non posée
+     */
+    public TileState peekTile(int ahead) {
+        return sequence.tileAt(drawn + ahead);
+    }
+
+    /**
+     * Vérifie si une tuile peut être posée sur une case : la première tuile peut l'être
+     * n'importe où, les suivantes uniquement sur la frontière.
+     *
+     * @param q La colonne
+     * @param r La ligne
+     * @return {@code true} si la case est disponible
+     */
+    public boolean canPlace(int q, int r) {
+        return tiles.isEmpty() || frontier.contains(q, r);
+    }
+
+    /**
+     * Pose une tuile sur une case, met à jour la frontière et le score.
+     *
+     * @param tile La tuile à poser
+     * @param q    La colonne
+     * @param r    La ligne
+     * @return La variation de score due à la pose
+     * @throws IllegalArgumentException Si la case n'est pas disponible
+     */
+    public int placeTile(TileState tile, int q, int r) {
+        if (!canPlace(q, r)) {
+            throw new IllegalArgumentException("Case non disponible : (" + q + ", " + r + ")");
+        }
+        if (undoLog != null) {
+            recordUndo(frontier.indexOf(HexGrid.key(q, r)), scoreManager.getUnionCount(), getScore());
+        }
+        tile.setPosition(q, r);
+        grid.put(q, r, tiles.size());
+        tiles.add(tile);
+        int added = frontier.onTilePlaced(q, r, grid);
+        if (undoLog != null) {
+            undoLog[undoSize - UNDO_RECORD + 1] = added;
+        }
+        hash ^= placementHash(q, r, tile.getCode());
+        return scoreManager.applyPlacement(tile);
+    }
+
+    /**
+     * Active l'annulation des poses suivantes ({@link #undoPlacement()}). Une recherche peut alors essayer
+     * des suites de coups sur un même plateau et revenir en arrière, sans le copier à chaque essai.
+     * Les poses antérieures à l'activation ne peuvent pas être annulées.
+     */
+    public void enableUndo() {
+        if (undoLog == null) {
+            undoLog = new int[UNDO_RECORD * 64];
+            scoreManager.enableUndo();
+        }
+    }
+
+    /**
+     * Mémorise dans le journal de quoi annuler une pose ; le nombre de cases ajoutées à la frontière
+     * est complété après la pose.
+     *
+     * @param frontierPosition La position de la case dans la frontière avant la pose
+     * @param unionCount       Le repère des poches avant la pose
+     * @param previousScore    Le score avant la pose
+     */
+    private void recordUndo(int frontierPosition, int unionCount, int previousScore) {
+        if (undoSize == undoLog.length) {
+            int[] grown = new int[undoSize * 2];
+            System.arraycopy(undoLog, 0, grown, 0, undoSize);
+            undoLog = grown;
+        }
+        undoLog[undoSize++] = frontierPosition;
+        undoLog[undoSize++] = 0;
+        undoLog[undoSize++] = unionCount;
+        undoLog[undoSize++] = previousScore;
+    }
+
+    /**
+     * Annule la dernière pose : la tuile est retirée et la frontière, les poches, le score et l'empreinte
+     * reviennent exactement à leur état d'avant la pose. Le nombre de tuiles tirées n'est pas modifié.
+     *
+     * @throws IllegalStateException Si aucune pose faite depuis {@link #enableUndo()} ne reste à annuler
+     */
+    public void undoPlacement() {
+        if (undoSize == 0) {
+            throw new IllegalStateException("Aucune pose à annuler");
+        }
+        undoSize -= UNDO_RECORD;
+        TileState tile = tiles.remove(tiles.size() - 1);
+        int q = tile.getQ();
+        int r = tile.getR();
+        scoreManager.undoPlacement(undoLog[undoSize + 2], undoLog[undoSize + 3]);
+        grid.remove(q, r);
+        frontier.undoTilePlaced(q, r, undoLog[undoSize], undoLog[undoSize + 1]);
+        hash ^= placementHash(q, r, tile.getCode());
+    }
+
+    /**
+     * Calcule la variation de score qu'apporterait une pose, sans modifier le plateau.
+     *
+     * @param tile La tuile à évaluer
+     * @param q    La colonne
+     * @param r    La ligne
+     * @return La variation de score que produirait la pose
+     */
+    public int evaluatePlacement(TileState tile, int q, int r) {
+        return scoreManager.evaluatePlacement(tile, q, r);
+    }
+
+    /**
+     * Copie le plateau en rejouant ses poses dans le même ordre : la copie a les mêmes tuiles,
+     * les mêmes indices, la même frontière et le même score, mais tire ses prochaines tuiles d'une
+     * autre suite, à partir de l'indice qui suit la dernière tuile posée.
+     * Le plateau d'origine n'est que lu ; plusieurs threads peuvent donc le copier en même temps.
+     *
+     * @param sequence La suite des tuiles de la copie
+     * @return La copie
+     */
+    public BoardModel copy(TileSequence sequence) {
+        BoardModel copy = new BoardModel(game, sequence);
+        for (TileState tile : tiles) {
+            copy.placeTile(new TileState(tile.getCode()), tile.getQ(), tile.getR());
+        }
+        copy.drawn = tiles.size();
+        return copy;
+    }
+
+    /**
+     * Récupère la tuile posée sur une case.
+     *
+     * @param q La colonne
+     * @param r La ligne
+     * @return La tuile, ou {@code null} si la case est libre
+     */
+    public TileState getTileAt(int q, int r) {
+        int index = grid.indexAt(q, r);
+        return (index == LongIntMap.NO_VALUE) ? null : tiles.get(index);
+    }
+
+    /**
+     * Récupère une tuile par son indice de pose.
+     *
+     * @param index L'indice de la tuile (0 pour la première tuile posée)
+     * @return La tuile
+     */
+    public TileState getTile(int index) {
+        return tiles.get(index);
+    }
+
+    /**
+     * Retourne le nombre de tuiles posées.
+     *
+     * @return Le nombre de tuiles
+     */
+    public int getTileCount() {
+        return tiles.size();
+    }
+
+    /**
+     * Retourne le score actuel.
+     *
+     * @return Le score
+     */
+    public int getScore() {
+        return scoreManager.getCurrentScore();
+    }
+
+    /**
+     * Retourne l'empreinte du plateau, à la manière d'un hachage de Zobrist : deux plateaux portant
+     * les mêmes tuiles aux mêmes endroits ont la même empreinte, quel que soit l'ordre des poses.
+     * Elle se met à jour en temps constant à chaque pose et sert à reconnaître les positions
+     * atteintes par des suites de coups différentes.
+     *
+     * @return L'empreinte
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Calcule l'empreinte d'une pose. Au lieu d'une table de nombres aléatoires, impossible à borner
+     * sur une grille infinie, la case et le code de la tuile sont mélangés par la fonction de
+     * finalisation de SplitMix64, dont les sorties se comportent comme des valeurs aléatoires.
+     *
+     * @param q    La colonne de la case
+     * @param r    La ligne de la case
+     * @param code Le code de la tuile posée
+     * @return L'empreinte de la pose
+     */
+    public static long placementHash(int q, int r, int code) {
+        return CounterTileSequence.mix64(HexGrid.key(q, r) * 0x9E3779B97F4A7C15L + code);
+    }
+
+    /**
+     * Récupère la suite des tuiles de la partie.
+     *
+     * @return La suite de tuiles
+     */
+    public TileSequence getTileSequence() {
+        return sequence;
+    }
+
+    /**
+     * Retourne le nombre de tuiles déjà tirées, c'est-à-dire l'indice de la prochaine tuile de la suite.
+     *
+     * @return Le nombre de tuiles tirées
+     */
+    public int getDrawnCount() {
+        return drawn;
+    }
+
+    /**
+     * Récupère le jeu de la partie.
+     *
+     * @return Le jeu
+     */
+    public Game getGame() {
+        return game;
+    }
+
+    /**
+     * Récupère la grille indexant les tuiles posées.
+     *
+     * @return La grille
+     */
+    public HexGrid getGrid() {
+        return grid;
+    }
+
+    /**
+     * Récupère la frontière des cases libres.
+     *
+     * @return La frontière
+     */
+    public Frontier getFrontier() {
+        return frontier;
+    }
+
+    /**
+     * Récupère le gestionnaire de score.
+     *
+     * @return Le gestionnaire de score
+     */
+    public ScoreManager getScoreManager() {
+        return scoreManager;
+    }
+}
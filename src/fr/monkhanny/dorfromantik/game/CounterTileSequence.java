@@ -0,0 +1,86 @@
+package fr.monkhanny.dorfromantik.game;
+
+/**
+ * Suite de tuiles à accès direct : la tuile d'indice k se calcule en temps constant, sans générer
+ * les précédentes.
+ *
+ * Les quatre tirages de la tuile k (voir {@link TileState#codeFromDraws}) sont les valeurs
+ * 4k + 1 à 4k + 4 d'un générateur SplitMix64 dont la graine est dérivée de celle de la partie.
+ * La n-ième valeur de SplitMix64 ne dépend que de n : elle se calcule directement, par un mélange
+ * de bits de {@code graine + n × γ}. Le calcul n'utilise que de l'arithmétique sur des {@code long},
+ * si bien que la suite est la même sur toutes les JVM, et la classe n'ayant pas d'état modifiable,
+ * elle peut être lue par plusieurs threads à la fois.
+ *
+ * Cette suite n'est pas celle des séries existantes, générée par {@link java.util.Random} (voir
+ * {@link LegacyTileSequence}) : elle ne doit être utilisée que pour de nouvelles graines.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see fr.monkhanny.dorfromantik.enums.TileSequenceMode#COUNTER
+ */
+public class CounterTileSequence implements TileSequence {
+
+    /**
+     * Incrément de SplitMix64 (partie fractionnaire du nombre d'or, sur 64 bits).
+     */
+    private static final long GAMMA = 0x9E3779B97F4A7C15L;
+
+    /**
+     * Nombre de tirages par tuile.
+     */
+    private static final int DRAWS_PER_TILE = 4;
+
+    /**
+     * Graine du générateur, dérivée de celle de la partie pour que des graines voisines
+     * ne donnent pas des suites décalées l'une de l'autre.
+     */
+    private final long base;
+
+    /**
+     * Constructeur de la suite d'une graine.
+     *
+     * @param seed La graine de la partie
+     */
+    public CounterTileSequence(long seed) {
+        this.base = mix64(seed);
+    }
+
+    @Override
+    public int codeAt(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Indice de tuile négatif : " + index);
+        }
+        long position = (long) index * DRAWS_PER_TILE;
+        return TileState.codeFromDraws(
+                draw(position + 1, TileState.FIRST_BIOME_BOUND),
+                draw(position + 2, TileState.SECOND_BIOME_BOUND),
+                draw(position + 3, TileState.SIDE_COUNT_BOUND),
+                draw(position + 4, TileState.SIDE_OFFSET_BOUND));
+    }
+
+    /**
+     * Calcule un tirage de la suite, entre 0 (inclus) et une borne (exclue).
+     * La réduction multiplie les 32 bits de poids fort par la borne, ce qui évite la division
+     * et ne biaise le tirage que d'au plus borne / 2^32.
+     *
+     * @param position La position du tirage dans la suite
+     * @param bound    La borne exclue
+     * @return Le tirage
+     */
+    private int draw(long position, int bound) {
+        return (int) (((mix64(base + position * GAMMA) >>> 32) * bound) >>> 32);
+    }
+
+    /**
+     * Fonction de mélange de SplitMix64 : une bijection sur 64 bits dont les sorties se comportent
+     * comme des valeurs aléatoires, même pour des entrées très proches.
+     *
+     * @param z La valeur à mélanger
+     * @return La valeur mélangée
+     */
+    public static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -21,7 +21,8 @@ public class CustomKeyAdapter extends KeyAdapter {
     }
     /**
      * Gère les événements de touche pressée.
-     * Si la touche 'T' est pressée, cette méthode bascule la visibilité du menu de contrôle.
+     * Si la touche 'T' est pressée, cette méthode bascule la visibilité du menu de contrôle ;
+     * la touche 'F3' bascule l'affichage des mesures de performance du plateau.
      *
      * @param e l'événement KeyEvent représentant la touche pressée
      */
@@ -29,6 +30,8 @@ public class CustomKeyAdapter extends KeyAdapter {
     public void keyPressed(KeyEvent e) {
         if (e.getKeyCode() == KeyEvent.VK_T) { // Touche 'T' pour cacher/montrer le menu
             board.getControlsMenu().toggleVisibility();
+        } else if (e.getKeyCode() == KeyEvent.VK_F3) { // Touche 'F3' pour afficher/masquer les mesures de performance
+            board.toggleDiagnostics();
         }
     }
 }
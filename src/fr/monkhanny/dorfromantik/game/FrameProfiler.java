@@ -0,0 +1,283 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.awt.Color;
+import java.awt.Font;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+
+import fr.monkhanny.dorfromantik.enums.PaintPhase;
+
+/**
+ * Mesure du temps de dessin des images du plateau, affichée par-dessus le plateau à la demande.
+ *
+ * Les durées des dernières images et de chacune de leurs étapes ({@link PaintPhase}) sont conservées
+ * dans des tampons circulaires de taille fixe, remplis avec {@link System#nanoTime()} : aucune allocation
+ * n'a lieu pendant la mesure. Lorsque l'affichage est désactivé, {@link #begin()} retourne 0 et toutes
+ * les méthodes de mesure se résument à un test, si bien que l'instrumentation peut rester en place.
+ *
+ * L'affichage donne le nombre d'images par seconde, les 50e, 95e et 99e centiles du temps d'image,
+ * le temps moyen de chaque étape, le nombre de tuiles visibles et posées, le taux de réussite du cache
+ * d'images des tuiles et le débit d'allocation mémoire du thread de dessin.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see Board#renderFrame(Graphics2D, boolean)
+ */
+public class FrameProfiler {
+
+    /**
+     * Nombre d'images conservées dans les tampons circulaires.
+     */
+    private static final int CAPACITY = 240;
+
+    /**
+     * Nombre d'étapes mesurées.
+     */
+    private static final int PHASE_COUNT = PaintPhase.values().length;
+
+    /**
+     * Police de l'affichage.
+     */
+    private static final Font FONT = new Font(Font.MONOSPACED, Font.PLAIN, 12);
+
+    /**
+     * Fond de l'affichage.
+     */
+    private static final Color BACKGROUND = new Color(0, 0, 0, 170);
+
+    /**
+     * Instant de début de chaque image, en nanosecondes.
+     */
+    private final long[] frameStarts;
+
+    /**
+     * Durée de chaque image, en nanosecondes.
+     */
+    private final long[] frameDurations;
+
+    /**
+     * Durée de chaque étape de chaque image, en nanosecondes, indexée par {@code image * PHASE_COUNT + étape}.
+     */
+    private final long[] phaseDurations;
+
+    /**
+     * Mémoire allouée par le thread de dessin depuis son démarrage, à la fin de chaque image, en octets.
+     */
+    private final long[] allocatedBytes;
+
+    /**
+     * Tampon de tri pour le calcul des centiles, réutilisé d'un affichage à l'autre.
+     */
+    private final long[] sorted;
+
+    /**
+     * Source de la mémoire allouée par thread, ou {@code null} si la machine virtuelle ne la fournit pas.
+     */
+    private final com.sun.management.ThreadMXBean allocationBean;
+
+    /**
+     * Indique si la mesure et l'affichage sont activés.
+     */
+    private boolean enabled;
+
+    /**
+     * Position de la prochaine image dans les tampons.
+     */
+    private int next;
+
+    /**
+     * Nombre d'images enregistrées (au plus {@link #CAPACITY}).
+     */
+    private int count;
+
+    /**
+     * Instant de début de l'image en cours, ou 0 si aucune image n'est en cours.
+     */
+    private long currentStart;
+
+    /**
+     * Constructeur d'une mesure désactivée.
+     */
+    public FrameProfiler() {
+        this.frameStarts = new long[CAPACITY];
+        this.frameDurations = new long[CAPACITY];
+        this.phaseDurations = new long[CAPACITY * PHASE_COUNT];
+        this.allocatedBytes = new long[CAPACITY];
+        this.sorted = new long[CAPACITY];
+
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        com.sun.management.ThreadMXBean allocation = null;
+        if (bean instanceof com.sun.management.ThreadMXBean && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            allocation = (com.sun.management.ThreadMXBean) bean;
+        }
+        this.allocationBean = allocation;
+    }
+
+    /**
+     * Indique si la mesure est activée.
+     *
+     * @return {@code true} si la mesure et l'affichage sont activés
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Active ou désactive la mesure et l'affichage. Les mesures précédentes sont oubliées.
+     * La mesure de la mémoire allouée par thread, qui a un coût pour tous les threads de la machine
+     * virtuelle, n'est activée qu'à la première activation de l'affichage.
+     */
+    public void toggle() {
+        enabled = !enabled;
+        if (enabled && allocationBean != null && !allocationBean.isThreadAllocatedMemoryEnabled()) {
+            allocationBean.setThreadAllocatedMemoryEnabled(true);
+        }
+        count = 0;
+        next = 0;
+        currentStart = 0;
+    }
+
+    /**
+     * Commence la mesure d'une image.
+     */
+    public void beginFrame() {
+        if (!enabled) {
+            return;
+        }
+        currentStart = System.nanoTime();
+        Arrays.fill(phaseDurations, next * PHASE_COUNT, (next + 1) * PHASE_COUNT, 0);
+    }
+
+    /**
+     * Termine la mesure de l'image en cours et l'enregistre dans les tampons.
+     */
+    public void endFrame() {
+        if (currentStart == 0) {
+            return;
+        }
+        frameStarts[next] = currentStart;
+        frameDurations[next] = System.nanoTime() - currentStart;
+        allocatedBytes[next] = currentThreadAllocatedBytes();
+        currentStart = 0;
+
+        next = (next + 1) % CAPACITY;
+        count = Math.min(count + 1, CAPACITY);
+    }
+
+    /**
+     * Commence la mesure d'une étape.
+     *
+     * @return L'instant de début, à passer à {@link #end(PaintPhase, long)}, ou 0 si la mesure est désactivée
+     */
+    public long begin() {
+        return (currentStart == 0) ? 0 : System.nanoTime();
+    }
+
+    /**
+     * Termine la mesure d'une étape et l'ajoute au temps de cette étape pour l'image en cours.
+     * Une étape peut être mesurée plusieurs fois par image.
+     *
+     * @param phase L'étape
+     * @param start L'instant retourné par {@link #begin()}
+     */
+    public void end(PaintPhase phase, long start) {
+        if (start != 0 && currentStart != 0) {
+            phaseDurations[next * PHASE_COUNT + phase.ordinal()] += System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Dessine l'affichage de diagnostic, s'il est activé.
+     *
+     * @param g2d          Le contexte graphique, sans zoom ni déplacement
+     * @param x            Abscisse du coin supérieur gauche de l'affichage
+     * @param y            Ordonnée du coin supérieur gauche de l'affichage
+     * @param visibleTiles Le nombre de tuiles visibles lors du dernier dessin du calque
+     * @param totalTiles   Le nombre de tuiles posées
+     * @param sprites      Le cache d'images des tuiles
+     */
+    public void draw(Graphics2D g2d, int x, int y, int visibleTiles, int totalTiles, TileSpriteCache sprites) {
+        if (!enabled || count == 0) {
+            return;
+        }
+
+        int newest = (next - 1 + CAPACITY) % CAPACITY;
+        int oldest = (next - count + CAPACITY) % CAPACITY;
+        double spanSeconds = (frameStarts[newest] - frameStarts[oldest]) / 1e9;
+
+        for (int i = 0; i < count; i++) {
+            sorted[i] = frameDurations[i];
+        }
+        Arrays.sort(sorted, 0, count);
+
+        long hits = sprites.getHitCount();
+        long misses = sprites.getMissCount();
+
+        String[] lines = new String[5 + PHASE_COUNT];
+        int line = 0;
+        lines[line++] = String.format("FPS %6.1f  (%d images)", (count > 1 && spanSeconds > 0) ? (count - 1) / spanSeconds : 0.0, count);
+        lines[line++] = String.format("p50 %6.2f  p95 %6.2f  p99 %6.2f ms",
+                percentile(0.50) / 1e6, percentile(0.95) / 1e6, percentile(0.99) / 1e6);
+        for (PaintPhase phase : PaintPhase.values()) {
+            lines[line++] = String.format("  %-10s %6.3f ms", phase.getLabel(), averagePhase(phase) / 1e6);
+        }
+        lines[line++] = String.format("Tuiles visibles %d / %d", visibleTiles, totalTiles);
+        lines[line++] = String.format("Cache %5.1f %%  (%d / %d)",
+                (hits + misses == 0) ? 0.0 : 100.0 * hits / (hits + misses), hits, hits + misses);
+        lines[line++] = (allocationBean == null || count < 2 || spanSeconds <= 0)
+                ? "Allocation  n/d"
+                : String.format("Allocation %7.1f Ko/s", (allocatedBytes[newest] - allocatedBytes[oldest]) / spanSeconds / 1024);
+
+        g2d.setFont(FONT);
+        FontMetrics metrics = g2d.getFontMetrics();
+        int width = 0;
+        for (String text : lines) {
+            width = Math.max(width, metrics.stringWidth(text));
+        }
+        int lineHeight = metrics.getHeight();
+
+        g2d.setColor(BACKGROUND);
+        g2d.fillRect(x, y, width + 16, lines.length * lineHeight + 12);
+        g2d.setColor(Color.WHITE);
+        for (int i = 0; i < lines.length; i++) {
+            g2d.drawString(lines[i], x + 8, y + 6 + metrics.getAscent() + i * lineHeight);
+        }
+    }
+
+    /**
+     * Calcule un centile du temps d'image, à partir du tampon trié.
+     *
+     * @param fraction Le centile, entre 0 et 1
+     * @return La durée correspondante, en nanosecondes
+     */
+    private long percentile(double fraction) {
+        int index = (int) Math.ceil(fraction * count) - 1;
+        return sorted[Math.max(0, Math.min(count - 1, index))];
+    }
+
+    /**
+     * Calcule le temps moyen d'une étape sur les images enregistrées.
+     *
+     * @param phase L'étape
+     * @return La durée moyenne, en nanosecondes
+     */
+    private double averagePhase(PaintPhase phase) {
+        long total = 0;
+        for (int i = 0; i < count; i++) {
+            total += phaseDurations[i * PHASE_COUNT + phase.ordinal()];
+        }
+        return (double) total / count;
+    }
+
+    /**
+     * Récupère la mémoire allouée par le thread courant depuis son démarrage.
+     *
+     * @return Le nombre d'octets alloués, ou 0 si la machine virtuelle ne le fournit pas
+     */
+    private long currentThreadAllocatedBytes() {
+        return (allocationBean == null) ? 0 : allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
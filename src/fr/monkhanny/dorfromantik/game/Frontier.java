@@ -0,0 +1,168 @@
+package fr.monkhanny.dorfromantik.game;
+
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+import fr.monkhanny.dorfromantik.utils.LongIntMap;
+
+/**
+ * Ensemble des cases libres où une tuile peut être posée (la « frontière » du plateau).
+ *
+ * Les cases sont stockées sans doublon dans un tableau compact, parcouru directement pour
+ * l'affichage et la détection de la souris, et indexées par leur clé axiale pour des tests
+ * d'appartenance en temps constant. L'ensemble est mis à jour à chaque pose : la case remplie
+ * est retirée et ses voisines libres sont ajoutées.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see HexGrid
+ */
+public class Frontier {
+
+    /**
+     * Clés des cases de la frontière, rangées de manière compacte entre 0 et {@link #size}.
+     */
+    private long[] cells;
+
+    /**
+     * Nombre de cases dans la frontière.
+     */
+    private int size;
+
+    /**
+     * Index associant la clé d'une case à sa position dans {@link #cells}.
+     */
+    private final LongIntMap positions;
+
+    /**
+     * Constructeur d'une frontière vide.
+     */
+    public Frontier() {
+        this.cells = new long[32];
+        this.size = 0;
+        this.positions = new LongIntMap(32);
+    }
+
+    /**
+     * Met à jour la frontière après la pose d'une tuile : la case occupée est retirée et
+     * ses cases voisines encore libres sont ajoutées.
+     *
+     * @param q    La colonne de la case occupée
+     * @param r    La ligne de la case occupée
+     * @param grid La grille, déjà à jour, utilisée pour savoir quelles cases sont libres
+     * @return Le nombre de cases ajoutées, à la fin de la frontière
+     */
+    public int onTilePlaced(int q, int r, HexGrid grid) {
+        remove(HexGrid.key(q, r));
+        int previousSize = size;
+        for (TileOrientation orientation : TileOrientation.values()) {
+            int neighborQ = q + orientation.getDeltaQ();
+            int neighborR = r + orientation.getDeltaR();
+            if (!grid.isOccupied(neighborQ, neighborR)) {
+                add(HexGrid.key(neighborQ, neighborR));
+            }
+        }
+        return size - previousSize;
+    }
+
+    /**
+     * Annule {@link #onTilePlaced(int, int, HexGrid)} : les cases ajoutées sont retirées et la case
+     * occupée retrouve sa place, si bien que l'ordre des cases est exactement celui d'avant la pose.
+     *
+     * @param q        La colonne de la case libérée
+     * @param r        La ligne de la case libérée
+     * @param position La position de la case dans la frontière avant la pose (voir {@link #indexOf(long)})
+     * @param added    Le nombre de cases ajoutées par la pose
+     */
+    public void undoTilePlaced(int q, int r, int position, int added) {
+        for (int i = 0; i < added; i++) {
+            positions.remove(cells[--size]);
+        }
+        if (position == LongIntMap.NO_VALUE) {
+            return;
+        }
+        if (position < size) {
+            // La case avait été remplacée par la dernière : celle-ci reprend sa place en fin de tableau
+            long moved = cells[position];
+            cells[size] = moved;
+            positions.put(moved, size);
+        }
+        long key = HexGrid.key(q, r);
+        cells[position] = key;
+        positions.put(key, position);
+        size++;
+    }
+
+    /**
+     * Ajoute une case à la frontière si elle n'y est pas déjà.
+     *
+     * @param key La clé de la case
+     */
+    public void add(long key) {
+        if (positions.containsKey(key)) {
+            return;
+        }
+        if (size == cells.length) {
+            long[] grown = new long[size * 2];
+            System.arraycopy(cells, 0, grown, 0, size);
+            cells = grown;
+        }
+        positions.put(key, size);
+        cells[size++] = key;
+    }
+
+    /**
+     * Retire une case de la frontière. La dernière case prend la place de la case retirée.
+     *
+     * @param key La clé de la case
+     */
+    public void remove(long key) {
+        int position = positions.remove(key);
+        if (position == LongIntMap.NO_VALUE) {
+            return;
+        }
+        long last = cells[--size];
+        if (position != size) {
+            cells[position] = last;
+            positions.put(last, position);
+        }
+    }
+
+    /**
+     * Retourne la position d'une case dans la frontière.
+     *
+     * @param key La clé de la case
+     * @return La position de la case, ou {@link LongIntMap#NO_VALUE} si elle n'appartient pas à la frontière
+     */
+    public int indexOf(long key) {
+        return positions.get(key);
+    }
+
+    /**
+     * Vérifie si une case appartient à la frontière.
+     *
+     * @param q La colonne
+     * @param r La ligne
+     * @return {@code true} si une tuile peut être posée sur cette case
+     */
+    public boolean contains(int q, int r) {
+        return positions.containsKey(HexGrid.key(q, r));
+    }
+
+    /**
+     * Retourne le nombre de cases de la frontière.
+     *
+     * @return Le nombre de cases libres
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne la clé de la i-ème case de la frontière (0 &lt;= i &lt; {@link #size()}).
+     *
+     * @param i L'indice de la case
+     * @return La clé de la case
+     */
+    public long keyAt(int i) {
+        return cells[i];
+    }
+}
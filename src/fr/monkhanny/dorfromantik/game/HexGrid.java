@@ -0,0 +1,134 @@
+package fr.monkhanny.dorfromantik.game;
+
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+import fr.monkhanny.dorfromantik.utils.LongIntMap;
+
+/**
+ * Grille hexagonale en coordonnées axiales (q, r).
+ *
+ * Chaque case est repérée par deux entiers : q désigne la colonne et r la ligne. La grille indexe
+ * les tuiles posées par une clé {@code long} construite à partir de (q, r), ce qui permet de
+ * retrouver une tuile ou l'un de ses voisins en temps constant, quelle que soit la taille du plateau.
+ * Les positions en pixels ne sont pas stockées : elles sont déduites au moment de l'affichage
+ * par un {@link HexLayout}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class HexGrid {
+
+    /**
+     * Index associant la clé d'une case à l'indice de la tuile qui l'occupe.
+     */
+    private final LongIntMap index;
+
+    /**
+     * Constructeur d'une grille vide.
+     */
+    public HexGrid() {
+        this.index = new LongIntMap(64);
+    }
+
+    /**
+     * Constructeur par copie.
+     *
+     * @param other La grille à copier
+     */
+    public HexGrid(HexGrid other) {
+        this.index = new LongIntMap(other.index);
+    }
+
+    /**
+     * Construit la clé unique d'une case à partir de ses coordonnées axiales.
+     *
+     * @param q La colonne
+     * @param r La ligne
+     * @return La clé de la case
+     */
+    public static long key(int q, int r) {
+        return ((long) q << 32) | (r & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Extrait la colonne d'une clé de case.
+     *
+     * @param key La clé de la case
+     * @return La colonne q
+     */
+    public static int keyQ(long key) {
+        return (int) (key >> 32);
+    }
+
+    /**
+     * Extrait la ligne d'une clé de case.
+     *
+     * @param key La clé de la case
+     * @return La ligne r
+     */
+    public static int keyR(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Calcule la clé de la case voisine dans une direction donnée.
+     *
+     * @param key         La clé de la case de départ
+     * @param orientation La direction du voisin
+     * @return La clé de la case voisine
+     */
+    public static long neighborKey(long key, TileOrientation orientation) {
+        return key(keyQ(key) + orientation.getDeltaQ(), keyR(key) + orientation.getDeltaR());
+    }
+
+    /**
+     * Enregistre l'indice de la tuile qui occupe une case.
+     *
+     * @param q         La colonne
+     * @param r         La ligne
+     * @param tileIndex L'indice de la tuile
+     */
+    public void put(int q, int r, int tileIndex) {
+        index.put(key(q, r), tileIndex);
+    }
+
+    /**
+     * Libère une case.
+     *
+     * @param q La colonne
+     * @param r La ligne
+     */
+    public void remove(int q, int r) {
+        index.remove(key(q, r));
+    }
+
+    /**
+     * Récupère l'indice de la tuile qui occupe une case.
+     *
+     * @param q La colonne
+     * @param r La ligne
+     * @return L'indice de la tuile, ou {@link LongIntMap#NO_VALUE} si la case est libre
+     */
+    public int indexAt(int q, int r) {
+        return index.get(key(q, r));
+    }
+
+    /**
+     * Vérifie si une case est occupée.
+     *
+     * @param q La colonne
+     * @param r La ligne
+     * @return {@code true} si une tuile occupe la case
+     */
+    public boolean isOccupied(int q, int r) {
+        return index.containsKey(key(q, r));
+    }
+
+    /**
+     * Retourne le nombre de cases occupées.
+     *
+     * @return Le nombre de tuiles indexées
+     */
+    public int size() {
+        return index.size();
+    }
+}
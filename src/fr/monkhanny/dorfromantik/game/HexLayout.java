@@ -0,0 +1,201 @@
+package fr.monkhanny.dorfromantik.game;
+
+/**
+ * Disposition à l'écran de la grille hexagonale : conversion entre coordonnées axiales (q, r)
+ * et positions en pixels.
+ *
+ * Les colonnes sont verticales : deux cases voisines d'une même colonne sont séparées de
+ * {@code rowSpacing} pixels, et chaque colonne est décalée d'une demi-case par rapport à la précédente.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see HexGrid
+ */
+public class HexLayout {
+
+    /**
+     * Abscisse, en pixels, du centre de la case (0, 0).
+     */
+    private final int originX;
+
+    /**
+     * Ordonnée, en pixels, du centre de la case (0, 0).
+     */
+    private final int originY;
+
+    /**
+     * Écart horizontal, en pixels, entre deux colonnes voisines.
+     */
+    private final int columnSpacing;
+
+    /**
+     * Écart vertical, en pixels, entre deux cases voisines d'une même colonne.
+     */
+    private final int rowSpacing;
+
+    /**
+     * Décalage vertical, en pixels, entre deux colonnes voisines (moitié de {@link #rowSpacing}).
+     */
+    private final int halfRowSpacing;
+
+    /**
+     * Constructeur de la disposition.
+     *
+     * @param originX    Abscisse du centre de la case (0, 0)
+     * @param originY    Ordonnée du centre de la case (0, 0)
+     * @param tileRadius Rayon des tuiles posées sur la grille
+     */
+    public HexLayout(int originX, int originY, int tileRadius) {
+        this.originX = originX;
+        this.originY = originY;
+        this.rowSpacing = (int) (tileRadius * 1.72);
+        this.columnSpacing = (int) (rowSpacing * Math.sqrt(3) / 2);
+        this.halfRowSpacing = rowSpacing / 2;
+    }
+
+    /**
+     * Convertit des coordonnées axiales en abscisse (centre de la case, en pixels).
+     *
+     * @param q La colonne
+     * @param r La ligne
+     * @return L'abscisse du centre de la case
+     */
+    public int toPixelX(int q, int r) {
+        return originX + q * columnSpacing;
+    }
+
+    /**
+     * Convertit des coordonnées axiales en ordonnée (centre de la case, en pixels).
+     *
+     * @param q La colonne
+     * @param r La ligne
+     * @return L'ordonnée du centre de la case
+     */
+    public int toPixelY(int q, int r) {
+        return originY + q * halfRowSpacing + r * rowSpacing;
+    }
+
+    /**
+     * Retrouve la colonne de la case la plus proche d'une position en pixels.
+     *
+     * @param x L'abscisse
+     * @param y L'ordonnée
+     * @return La colonne q la plus proche
+     */
+    public int toAxialQ(int x, int y) {
+        return Math.round((float) (x - originX) / columnSpacing);
+    }
+
+    /**
+     * Retrouve la ligne de la case la plus proche d'une position en pixels.
+     *
+     * @param x L'abscisse
+     * @param y L'ordonnée
+     * @return La ligne r la plus proche
+     */
+    public int toAxialR(int x, int y) {
+        int q = toAxialQ(x, y);
+        return Math.round((float) (y - originY - q * halfRowSpacing) / rowSpacing);
+    }
+
+    /**
+     * Retrouve la case contenant une position en pixels.
+     *
+     * La position est convertie en coordonnées axiales fractionnaires par l'inverse de
+     * {@link #toPixelX(int, int)} et {@link #toPixelY(int, int)}, puis arrondie en coordonnées cubiques
+     * (q, r, s = -q - r) : la coordonnée dont l'arrondi s'écarte le plus est recalculée à partir des deux autres,
+     * ce qui donne la case dont l'hexagone contient la position, et pas seulement la plus proche en q puis en r.
+     *
+     * @param x L'abscisse
+     * @param y L'ordonnée
+     * @return La clé de la case (voir {@link HexGrid#key(int, int)})
+     */
+    public long toCellKey(double x, double y) {
+        double q = (x - originX) / columnSpacing;
+        double r = (y - originY - q * halfRowSpacing) / rowSpacing;
+        double s = -q - r;
+
+        long roundedQ = Math.round(q);
+        long roundedR = Math.round(r);
+        long roundedS = Math.round(s);
+        double deltaQ = Math.abs(roundedQ - q);
+        double deltaR = Math.abs(roundedR - r);
+        double deltaS = Math.abs(roundedS - s);
+
+        if (deltaQ > deltaR && deltaQ > deltaS) {
+            roundedQ = -roundedR - roundedS;
+        } else if (deltaR > deltaS) {
+            roundedR = -roundedQ - roundedS;
+        }
+        return HexGrid.key((int) roundedQ, (int) roundedR);
+    }
+
+    /**
+     * Retourne la première colonne dont le centre peut se trouver à droite d'une abscisse donnée.
+     *
+     * @param x L'abscisse
+     * @return La plus petite colonne q telle que le centre de ses cases soit au-delà de {@code x}
+     */
+    public int minColumn(double x) {
+        return (int) Math.floor((x - originX) / columnSpacing);
+    }
+
+    /**
+     * Retourne la dernière colonne dont le centre peut se trouver à gauche d'une abscisse donnée.
+     *
+     * @param x L'abscisse
+     * @return La plus grande colonne q telle que le centre de ses cases soit en deçà de {@code x}
+     */
+    public int maxColumn(double x) {
+        return (int) Math.ceil((x - originX) / columnSpacing);
+    }
+
+    /**
+     * Retourne, dans une colonne, la première ligne dont le centre peut se trouver sous une ordonnée donnée.
+     *
+     * @param q La colonne
+     * @param y L'ordonnée
+     * @return La plus petite ligne r de la colonne dont le centre est au-delà de {@code y}
+     */
+    public int minRow(int q, double y) {
+        return (int) Math.floor((y - originY - q * halfRowSpacing) / rowSpacing);
+    }
+
+    /**
+     * Retourne, dans une colonne, la dernière ligne dont le centre peut se trouver au-dessus d'une ordonnée donnée.
+     *
+     * @param q La colonne
+     * @param y L'ordonnée
+     * @return La plus grande ligne r de la colonne dont le centre est en deçà de {@code y}
+     */
+    public int maxRow(int q, double y) {
+        return (int) Math.ceil((y - originY - q * halfRowSpacing) / rowSpacing);
+    }
+
+    /**
+     * Retourne l'écart horizontal entre deux colonnes voisines.
+     *
+     * @return L'écart en pixels
+     */
+    public int getColumnSpacing() {
+        return columnSpacing;
+    }
+
+    /**
+     * Retourne l'écart vertical entre deux cases voisines d'une même colonne.
+     *
+     * @return L'écart en pixels
+     */
+    public int getRowSpacing() {
+        return rowSpacing;
+    }
+
+    /**
+     * Retourne le décalage vertical entre deux colonnes voisines.
+     *
+     * @return Le décalage en pixels
+     */
+    public int getHalfRowSpacing() {
+        return halfRowSpacing;
+    }
+}
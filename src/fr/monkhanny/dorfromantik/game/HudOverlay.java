@@ -0,0 +1,115 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+
+/**
+ * Image d'un élément de l'interface affichée par-dessus le plateau (score, pile des tuiles restantes),
+ * conservée d'un rafraîchissement à l'autre.
+ *
+ * L'élément n'est redessiné que lorsque ce qu'il affiche change (sa version, par exemple le score)
+ * ou que l'échelle de l'écran change ; le reste du temps, son affichage se résume à copier l'image.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see BoardLayer
+ */
+public class HudOverlay {
+
+    /**
+     * Image de l'élément, à la résolution de l'écran.
+     */
+    private BufferedImage image;
+
+    /**
+     * Largeur de l'élément, en pixels logiques.
+     */
+    private int width;
+
+    /**
+     * Hauteur de l'élément, en pixels logiques.
+     */
+    private int height;
+
+    /**
+     * Échelle de l'écran lorsque l'élément a été dessiné.
+     */
+    private double deviceScale;
+
+    /**
+     * Version du contenu lorsque l'élément a été dessiné.
+     */
+    private int version;
+
+    /**
+     * Indique si l'image est à jour.
+     */
+    private boolean valid;
+
+    /**
+     * Marque l'image comme périmée : elle sera redessinée au prochain affichage.
+     */
+    public void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Vérifie si l'image correspond encore au contenu et à l'écran demandés.
+     *
+     * @param version     La version courante du contenu
+     * @param deviceScale L'échelle courante de l'écran
+     * @return {@code true} si l'image peut être affichée telle quelle
+     */
+    public boolean isValid(int version, double deviceScale) {
+        return valid && this.version == version && this.deviceScale == deviceScale;
+    }
+
+    /**
+     * Prépare l'image à être redessinée. Elle est effacée (réallouée seulement si sa taille a changé)
+     * et un contexte graphique à l'échelle de l'écran est retourné ; l'appelant doit le libérer
+     * avec {@link Graphics2D#dispose()}.
+     *
+     * @param configuration La configuration de l'écran
+     * @param width         La largeur de l'élément, en pixels logiques
+     * @param height        La hauteur de l'élément, en pixels logiques
+     * @param deviceScale   L'échelle de l'écran
+     * @param version       La version du contenu
+     * @return Le contexte graphique de l'image, en pixels logiques
+     */
+    public Graphics2D begin(GraphicsConfiguration configuration, int width, int height, double deviceScale, int version) {
+        int imageWidth = Math.max(1, (int) Math.ceil(width * deviceScale));
+        int imageHeight = Math.max(1, (int) Math.ceil(height * deviceScale));
+        if (image == null || image.getWidth() != imageWidth || image.getHeight() != imageHeight) {
+            image = configuration.createCompatibleImage(imageWidth, imageHeight, Transparency.TRANSLUCENT);
+        }
+
+        this.width = width;
+        this.height = height;
+        this.deviceScale = deviceScale;
+        this.version = version;
+        this.valid = true;
+
+        Graphics2D g2d = image.createGraphics();
+        g2d.setComposite(AlphaComposite.Clear);
+        g2d.fillRect(0, 0, imageWidth, imageHeight);
+        g2d.setComposite(AlphaComposite.SrcOver);
+        g2d.scale(deviceScale, deviceScale);
+        return g2d;
+    }
+
+    /**
+     * Affiche l'élément.
+     *
+     * @param g2d Le contexte graphique, en pixels logiques
+     * @param x   Abscisse du coin supérieur gauche de l'élément
+     * @param y   Ordonnée du coin supérieur gauche de l'élément
+     */
+    public void draw(Graphics2D g2d, int x, int y) {
+        if (image != null) {
+            g2d.drawImage(image, x, y, width, height, null);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.util.Arrays;
+
+/**
+ * Suite de tuiles compatible avec les séries existantes : les tuiles sont tirées les unes après les
+ * autres avec le {@link java.util.Random} d'un {@link Game}, exactement comme avant l'introduction
+ * des suites de tuiles, si bien qu'une graine donne toujours les mêmes tuiles.
+ *
+ * Un tel générateur ne peut pas sauter de valeurs : pour connaître la tuile k, les tuiles précédentes
+ * doivent être générées. Elles sont donc gardées en mémoire, et chaque tuile n'est générée qu'une fois.
+ * Le générateur appartient à la suite : aucun autre code ne doit tirer de valeurs du même {@link Game}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see fr.monkhanny.dorfromantik.enums.TileSequenceMode#LEGACY
+ */
+public class LegacyTileSequence implements TileSequence {
+
+    /**
+     * Jeu dont le générateur produit les tuiles.
+     */
+    private final Game game;
+
+    /**
+     * Codes des tuiles déjà générées.
+     */
+    private int[] codes;
+
+    /**
+     * Nombre de tuiles déjà générées.
+     */
+    private int size;
+
+    /**
+     * Constructeur de la suite d'une graine.
+     *
+     * @param seed La graine de la partie
+     */
+    public LegacyTileSequence(long seed) {
+        this(new Game(seed));
+    }
+
+    /**
+     * Constructeur de la suite des tuiles tirées d'un jeu, à partir de l'état actuel de son générateur.
+     *
+     * @param game Le jeu, dont le générateur n'est plus utilisé que par la suite
+     */
+    public LegacyTileSequence(Game game) {
+        this.game = game;
+        this.codes = new int[64];
+    }
+
+    @Override
+    public synchronized int codeAt(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Indice de tuile négatif : " + index);
+        }
+        if (index >= codes.length) {
+            codes = Arrays.copyOf(codes, Math.max(index + 1, codes.length * 2));
+        }
+        while (size <= index) {
+            codes[size++] = TileState.random(game).getCode();
+        }
+        return codes[index];
+    }
+}
@@ -0,0 +1,198 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.Shape;
+
+/**
+ * Mini-carte du plateau, affichée dans un coin de l'écran.
+ *
+ * La mini-carte montre le plateau entier, à raison d'un petit groupe de pixels par tuile (l'image de densité
+ * du plateau, voir {@link TileDensityBitmap}, mise à l'échelle), et un rectangle indiquant la partie
+ * affichée à l'écran. Un clic sur la mini-carte centre la vue sur le point cliqué.
+ *
+ * L'image de la mini-carte n'est recomposée que lorsqu'une tuile est posée ; le reste du temps, son
+ * affichage se résume à copier cette image et à tracer le rectangle de la vue.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see Board
+ */
+public class Minimap {
+
+    /**
+     * Largeur de la mini-carte, en pixels.
+     */
+    public static final int WIDTH = 200;
+
+    /**
+     * Hauteur de la mini-carte, en pixels.
+     */
+    public static final int HEIGHT = 140;
+
+    /**
+     * Marge intérieure entre le bord de la mini-carte et le plateau.
+     */
+    private static final int PADDING = 6;
+
+    /**
+     * Fond de la mini-carte.
+     */
+    private static final Color BACKGROUND = new Color(255, 255, 255, 190);
+
+    /**
+     * Couleur du cadre et du rectangle de la vue.
+     */
+    private static final Color FRAME = new Color(30, 60, 100);
+
+    /**
+     * Image de la mini-carte (fond, cadre et tuiles).
+     */
+    private final HudOverlay overlay;
+
+    /**
+     * Zone de la mini-carte à l'écran.
+     */
+    private final Rectangle area;
+
+    /**
+     * Abscisse du plateau affichée au bord gauche de la partie utile de la mini-carte.
+     */
+    private double worldMinX;
+
+    /**
+     * Ordonnée du plateau affichée au bord supérieur de la partie utile de la mini-carte.
+     */
+    private double worldMinY;
+
+    /**
+     * Nombre de pixels de la mini-carte par pixel du plateau, ou 0 si rien n'a encore été dessiné.
+     */
+    private double scale;
+
+    /**
+     * Constructeur d'une mini-carte.
+     */
+    public Minimap() {
+        this.overlay = new HudOverlay();
+        this.area = new Rectangle(0, 0, WIDTH, HEIGHT);
+    }
+
+    /**
+     * Place la mini-carte à l'écran.
+     *
+     * @param x Abscisse du coin supérieur gauche
+     * @param y Ordonnée du coin supérieur gauche
+     */
+    public void setPosition(int x, int y) {
+        area.setLocation(x, y);
+    }
+
+    /**
+     * Vérifie si un point de l'écran se trouve sur la mini-carte.
+     *
+     * @param x L'abscisse du point
+     * @param y L'ordonnée du point
+     * @return {@code true} si le point est sur la mini-carte
+     */
+    public boolean contains(int x, int y) {
+        return scale > 0 && area.contains(x, y);
+    }
+
+    /**
+     * Convertit l'abscisse d'un point de la mini-carte en abscisse du plateau.
+     *
+     * @param x L'abscisse, à l'écran
+     * @return L'abscisse, en pixels du plateau
+     */
+    public double toWorldX(int x) {
+        return worldMinX + (x - area.x - PADDING) / scale;
+    }
+
+    /**
+     * Convertit l'ordonnée d'un point de la mini-carte en ordonnée du plateau.
+     *
+     * @param y L'ordonnée, à l'écran
+     * @return L'ordonnée, en pixels du plateau
+     */
+    public double toWorldY(int y) {
+        return worldMinY + (y - area.y - PADDING) / scale;
+    }
+
+    /**
+     * Dessine la mini-carte, en recomposant son image si des tuiles ont été posées depuis le dernier dessin.
+     *
+     * @param g2d         Le contexte graphique, sans zoom ni déplacement
+     * @param board       Le plateau représenté
+     * @param density     L'image de densité du plateau
+     * @param layout      La disposition de la grille hexagonale
+     * @param bounds      L'étendue du plateau
+     * @param margin      La marge autour des centres des tuiles, en pixels du plateau
+     * @param version     La version du plateau (nombre de tuiles posées)
+     */
+    public void draw(Graphics2D g2d, Board board, TileDensityBitmap density, HexLayout layout,
+                     BoardBounds bounds, int margin, int version) {
+        if (bounds.isEmpty()) {
+            return;
+        }
+
+        double deviceScale = Math.abs(g2d.getTransform().getScaleX());
+        if (!overlay.isValid(version, deviceScale)) {
+            render(g2d, density, layout, bounds, margin, deviceScale, version);
+        }
+        overlay.draw(g2d, area.x, area.y);
+
+        // Rectangle de la partie du plateau affichée à l'écran
+        double zoom = board.getZoomFactor();
+        int viewX = area.x + PADDING + (int) Math.round((-board.getOffsetX() / zoom - worldMinX) * scale);
+        int viewY = area.y + PADDING + (int) Math.round((-board.getOffsetY() / zoom - worldMinY) * scale);
+        int viewWidth = (int) Math.round(board.getWidth() / zoom * scale);
+        int viewHeight = (int) Math.round(board.getHeight() / zoom * scale);
+
+        Shape clip = g2d.getClip();
+        g2d.clipRect(area.x, area.y, area.width, area.height);
+        g2d.setColor(FRAME);
+        g2d.drawRect(viewX, viewY, viewWidth, viewHeight);
+        g2d.setClip(clip);
+    }
+
+    /**
+     * Recompose l'image de la mini-carte : le plateau entier est mis à l'échelle pour tenir dans la mini-carte.
+     *
+     * @param g2d         Le contexte graphique du plateau
+     * @param density     L'image de densité du plateau
+     * @param layout      La disposition de la grille hexagonale
+     * @param bounds      L'étendue du plateau
+     * @param margin      La marge autour des centres des tuiles, en pixels du plateau
+     * @param deviceScale L'échelle de l'écran
+     * @param version     La version du plateau
+     */
+    private void render(Graphics2D g2d, TileDensityBitmap density, HexLayout layout, BoardBounds bounds,
+                        int margin, double deviceScale, int version) {
+        double worldWidth = bounds.getMaxX() - bounds.getMinX() + 2.0 * margin;
+        double worldHeight = bounds.getMaxY() - bounds.getMinY() + 2.0 * margin;
+        int innerWidth = WIDTH - 2 * PADDING;
+        int innerHeight = HEIGHT - 2 * PADDING;
+        scale = Math.min(innerWidth / worldWidth, innerHeight / worldHeight);
+
+        // Centrer le plateau dans la mini-carte
+        worldMinX = bounds.getMinX() - margin - (innerWidth / scale - worldWidth) / 2;
+        worldMinY = bounds.getMinY() - margin - (innerHeight / scale - worldHeight) / 2;
+
+        Graphics2D image = overlay.begin(g2d.getDeviceConfiguration(), WIDTH, HEIGHT, deviceScale, version);
+        image.setColor(BACKGROUND);
+        image.fillRect(0, 0, WIDTH, HEIGHT);
+        image.setColor(FRAME);
+        image.setStroke(new BasicStroke(2));
+        image.drawRect(1, 1, WIDTH - 2, HEIGHT - 2);
+
+        image.clipRect(PADDING, PADDING, innerWidth, innerHeight);
+        image.translate(PADDING, PADDING);
+        image.scale(scale, scale);
+        image.translate(-worldMinX, -worldMinY);
+        density.draw(image, layout);
+        image.dispose();
+    }
+}
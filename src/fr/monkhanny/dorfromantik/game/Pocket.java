@@ -13,7 +13,7 @@ import java.util.*;
 
 public class Pocket {
     private Biome biome;
-    private Set<Tile> tiles;
+    private Set<TileState> tiles;
 
     /**
      * Constructeur de la classe Pocket.
@@ -33,7 +33,7 @@ public class Pocket {
      * @param tile La tuile à ajouter.
      */
 
-    public void addTile(Tile tile) {
+    public void addTile(TileState tile) {
         tiles.add(tile);
     }
 
@@ -63,7 +63,7 @@ public class Pocket {
      * @return Un ensemble des tuiles de cette poche.
      */
 
-    public Set<Tile> getTiles() {
+    public Set<TileState> getTiles() {
         return tiles;
     }
 }
@@ -2,7 +2,8 @@ package fr.monkhanny.dorfromantik.game;
 
 import java.awt.BasicStroke;
 import java.awt.Color;
-import java.awt.Graphics;
+import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.RenderingHints;
@@ -12,14 +13,28 @@ import java.awt.RadialGradientPaint;
  * Classe RemainingTilesIndicator, utilisée pour représenter graphiquement l'indicateur
  * des tuiles restantes dans le jeu. Affiche une pile d'hexagones pour visualiser les tuiles
  * disponibles et leur décompte.
+ *
+ * Une seule assiette est dessinée (avec son dégradé) dans une image, puis la pile entière est
+ * composée à partir de cette image et conservée : elle n'est recomposée que lorsque le nombre de
+ * tuiles restantes change, et son affichage se résume sinon à copier une image.
  * 
  * @version 1.0
  * @author Moncef STITI, Khalid CHENOUNA
  */
 
 public class RemainingTilesIndicator {
+    private static final int TILE_WIDTH = 50; // Largeur de l'assiette
+    private static final int TILE_HEIGHT = 12; // Hauteur de l'assiette
+    private static final int GAP = 1; // Écart entre les tuiles
+    private static final int MARGIN = 12; // Marge autour de la pile (contour, texte plus large qu'une assiette)
+    private static final int TEXT_OFFSET = 10; // Écart entre le texte et le haut de la pile
+
     private int remainingTiles;
     private int maxTiles;
+    private final HudOverlay plate = new HudOverlay(); // Image d'une assiette
+    private final HudOverlay stack = new HudOverlay(); // Image de la pile et du décompte
+    private Font stackFont; // Police avec laquelle la pile a été composée
+    private int stackTop; // Distance entre le haut de l'image de la pile et la position de l'indicateur
 
     /**
      * Constructeur de la classe RemainingTilesIndicator.
@@ -46,50 +61,95 @@ public class RemainingTilesIndicator {
     /**
      * Dessine l'indicateur des tuiles restantes à une position donnée.
      * 
-     * @param g L'objet Graphics utilisé pour dessiner.
+     * @param g2d L'objet Graphics2D utilisé pour dessiner.
      * @param x La position X de l'indicateur.
      * @param y La position Y de l'indicateur.
      */
 
-    public void draw(Graphics g, int x, int y) {
-        Graphics2D g2d = (Graphics2D) g;
-        int tileWidth = 50; // Largeur de l'assiette
-        int tileHeight = 12; // Hauteur de l'assiette
-        int gap = 1; // Écart entre les tuiles
-    
-        g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setStroke(new BasicStroke(2));  // Appliquer un contour légèrement plus épais
-    
+    public void draw(Graphics2D g2d, int x, int y) {
+        double deviceScale = Math.abs(g2d.getTransform().getScaleX());
+        Font font = g2d.getFont().deriveFont(22f); // Taille de la police
+        if (!font.equals(stackFont)) {
+            stackFont = font;
+            stack.invalidate();
+        }
+
+        if (!stack.isValid(remainingTiles, deviceScale)) {
+            renderStack(g2d, font, deviceScale);
+        }
+        stack.draw(g2d, x - MARGIN, y - stackTop);
+    }
+
+    /**
+     * Compose l'image de la pile : une copie de l'image de l'assiette par tuile restante,
+     * et le nombre de tuiles restantes au-dessus.
+     *
+     * @param g2d         Le contexte graphique du plateau
+     * @param font        La police du décompte
+     * @param deviceScale L'échelle de l'écran
+     */
+
+    private void renderStack(Graphics2D g2d, Font font, double deviceScale) {
+        if (!plate.isValid(0, deviceScale)) {
+            renderPlate(g2d, deviceScale);
+        }
+
+        FontMetrics metrics = g2d.getFontMetrics(font);
+        stackTop = TEXT_OFFSET + metrics.getAscent(); // Le texte le plus haut est celui de la pile pleine
+        int width = TILE_WIDTH + 2 * MARGIN;
+        int height = stackTop + maxTiles * (TILE_HEIGHT + GAP) + TILE_HEIGHT / 2 + MARGIN;
+
+        Graphics2D image = stack.begin(g2d.getDeviceConfiguration(), width, height, deviceScale, remainingTiles);
+        image.translate(MARGIN, stackTop); // Position de l'indicateur dans l'image
+
         // Dessiner chaque hexagone, à partir du bas de la fenêtre
         for (int i = 0; i < remainingTiles; i++) {
-            int currentY = y + (maxTiles - remainingTiles + i) * (tileHeight + gap); // Positionnement fixe
-    
-            Polygon polygon = createHexagon(x, currentY, tileWidth, tileHeight); // Créer un hexagone
-    
-            // Appliquer un dégradé radial avec des couleurs bleu moyen et plus foncé
-            RadialGradientPaint gradient = new RadialGradientPaint(
-                    x + tileWidth / 2, currentY + tileHeight / 2, tileWidth / 2, 
-                    new float[]{0.0f, 1.0f}, new Color[]{new Color(70, 130, 180), new Color(30, 60, 100)} // Bleu moyen au bleu foncé
-            );
-            g2d.setPaint(gradient);
-            g2d.fillPolygon(polygon);  // Remplir avec le dégradé
-    
-            // Contour solide autour de l'hexagone, en bleu foncé
-            g2d.setColor(new Color(10, 30, 60)); // Contour bleu foncé
-            g2d.drawPolygon(polygon);  // Dessiner le contour
+            int currentY = (maxTiles - remainingTiles + i) * (TILE_HEIGHT + GAP); // Positionnement fixe
+            plate.draw(image, -MARGIN, currentY - MARGIN);
         }
-    
+
         // Affichage du nombre de tuiles restantes en haut de la pile
-        g2d.setColor(Color.BLACK); // Couleur du texte
-        g2d.setFont(g2d.getFont().deriveFont(22f)); // Taille de la police
+        image.setRenderingHints(g2d.getRenderingHints());
+        image.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        image.setColor(Color.BLACK); // Couleur du texte
+        image.setFont(font);
         String text = String.valueOf(remainingTiles); // Nombre de tuiles restantes
-        int textWidth = g2d.getFontMetrics().stringWidth(text); // Largeur du texte
-        int textX = x + (tileWidth - textWidth) / 2; // Centrer le texte horizontalement
-        int textY = y + (maxTiles - remainingTiles) * (tileHeight + gap) - 10; // Position juste au-dessus du premier hexagone
-    
-        g2d.drawString(text, textX, textY); // Dessiner le texte
-    
-        g2d.dispose();
+        int textWidth = metrics.stringWidth(text); // Largeur du texte
+        int textX = (TILE_WIDTH - textWidth) / 2; // Centrer le texte horizontalement
+        int textY = (maxTiles - remainingTiles) * (TILE_HEIGHT + GAP) - TEXT_OFFSET; // Position juste au-dessus du premier hexagone
+        image.drawString(text, textX, textY); // Dessiner le texte
+
+        image.dispose();
+    }
+
+    /**
+     * Dessine une assiette (hexagone à dégradé et contour) dans son image, avec une marge autour.
+     *
+     * @param g2d         Le contexte graphique du plateau
+     * @param deviceScale L'échelle de l'écran
+     */
+
+    private void renderPlate(Graphics2D g2d, double deviceScale) {
+        Graphics2D image = plate.begin(g2d.getDeviceConfiguration(), TILE_WIDTH + 2 * MARGIN,
+                                       TILE_HEIGHT * 2 + 2 * MARGIN, deviceScale, 0);
+        image.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        image.setStroke(new BasicStroke(2));  // Appliquer un contour légèrement plus épais
+
+        Polygon polygon = createHexagon(MARGIN, MARGIN, TILE_WIDTH, TILE_HEIGHT); // Créer un hexagone
+
+        // Appliquer un dégradé radial avec des couleurs bleu moyen et plus foncé
+        RadialGradientPaint gradient = new RadialGradientPaint(
+                MARGIN + TILE_WIDTH / 2, MARGIN + TILE_HEIGHT / 2, TILE_WIDTH / 2,
+                new float[]{0.0f, 1.0f}, new Color[]{new Color(70, 130, 180), new Color(30, 60, 100)} // Bleu moyen au bleu foncé
+        );
+        image.setPaint(gradient);
+        image.fillPolygon(polygon);  // Remplir avec le dégradé
+
+        // Contour solide autour de l'hexagone, en bleu foncé
+        image.setColor(new Color(10, 30, 60)); // Contour bleu foncé
+        image.drawPolygon(polygon);  // Dessiner le contour
+
+        image.dispose();
     }
 
     /**
@@ -99,9 +159,7 @@ public class RemainingTilesIndicator {
      */
 
     public int getTotalHeight() {
-        int tileHeight = 12; // Hauteur de l'assiette
-        int gap = 1; // Espace entre les tuiles
-        return remainingTiles * (tileHeight + gap);
+        return remainingTiles * (TILE_HEIGHT + GAP);
     }
 
     /**
@@ -2,10 +2,12 @@ package fr.monkhanny.dorfromantik.game;
 
 import java.awt.Color;
 import java.awt.Font;
-import java.awt.Graphics;
+import java.awt.FontMetrics;
+import java.awt.Graphics2D;
 
 /**
  * Classe ScoreDisplay, utilisée pour afficher le score du joueur à l'écran.
+ * Le texte est conservé dans une image, redessinée uniquement lorsque le score change.
  * 
  * @version 1.0
  * @author Lenny FOULOU
@@ -15,6 +17,8 @@ public class ScoreDisplay {
     private int score;
     private Font font;
     private int x, y; // Position du texte
+    private final HudOverlay overlay = new HudOverlay(); // Image du texte
+    private int ascent; // Hauteur du texte au-dessus de la ligne de base
 
     /**
      * Constructeur de la classe ScoreDisplay.
@@ -55,12 +59,25 @@ public class ScoreDisplay {
     /**
      * Dessine le score à l'écran.
      * 
-     * @param g L'objet Graphics utilisé pour dessiner.
+     * @param g2d L'objet Graphics2D utilisé pour dessiner.
      */
 
-    public void draw(Graphics g) {
-        g.setFont(font);
-        g.setColor(Color.BLACK);
-        g.drawString("Score: " + score, x, y);
+    public void draw(Graphics2D g2d) {
+        double deviceScale = Math.abs(g2d.getTransform().getScaleX());
+        if (!overlay.isValid(score, deviceScale)) {
+            String text = "Score: " + score;
+            FontMetrics metrics = g2d.getFontMetrics(font);
+            ascent = metrics.getAscent();
+
+            Graphics2D image = overlay.begin(g2d.getDeviceConfiguration(), metrics.stringWidth(text) + 1,
+                                             ascent + metrics.getDescent(), deviceScale, score);
+            image.setRenderingHints(g2d.getRenderingHints());  // Même rendu du texte que sur le plateau
+            image.setFont(font);
+            image.setColor(Color.BLACK);
+            image.drawString(text, 0, ascent);
+            image.dispose();
+        }
+        g2d.setFont(font);  // Police reprise par les éléments dessinés ensuite (décompte des tuiles)
+        overlay.draw(g2d, x, y - ascent);
     }
-}
\ No newline at end of file
+}
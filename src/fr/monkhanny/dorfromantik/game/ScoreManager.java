@@ -2,6 +2,8 @@ package fr.monkhanny.dorfromantik.game;
 
 import fr.monkhanny.dorfromantik.enums.Biome;
 import fr.monkhanny.dorfromantik.enums.TileOrientation;
+import fr.monkhanny.dorfromantik.utils.DisjointSet;
+import fr.monkhanny.dorfromantik.utils.LongIntMap;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -11,102 +13,269 @@ import java.util.Map;
 
 /**
  * Gère le score du jeu en suivant les poches de biomes et en calculant le score en fonction de la taille de ces poches.
- * 
+ *
+ * Les poches sont représentées par une structure union-find : chaque couple (tuile, biome) est un élément,
+ * et deux éléments sont réunis lorsque deux tuiles voisines se touchent par un côté du même biome.
+ * Une tuile qui relie deux poches du même biome les fusionne donc en une seule.
+ *
+ * Le score (somme des carrés des tailles des poches) est maintenu de manière incrémentale :
+ * lorsqu'une poche grandit ou que deux poches fusionnent, seuls les termes concernés sont mis à jour.
+ *
  * @version 1.0
  * @author Lenny FOULOU
  */
 public class ScoreManager {
-    private List<Pocket> pockets;
+
+    /**
+     * Nombre de biomes, c'est-à-dire d'éléments union-find réservés pour chaque tuile.
+     */
+    private static final int BIOME_COUNT = Biome.values().length;
+
+    /**
+     * Les six orientations, indexées par leur ordinal.
+     */
+    private static final TileOrientation[] SIDES = TileOrientation.values();
+
+    private BoardModel board;
+    private DisjointSet pockets;
     private int currentScore;
 
+    /**
+     * Racines des poches voisines déjà comptées lors de l'évaluation d'une pose, une table par thread
+     * pour que plusieurs threads puissent évaluer des poses sur le même plateau sans allouer.
+     */
+    private static final ThreadLocal<int[]> NEIGHBOR_ROOTS = ThreadLocal.withInitial(() -> new int[SIDES.length]);
+
     /**
      * Constructeur de la classe ScoreManager.
      * Initialise les poches et le score à 0.
+     *
+     * @param board Le plateau logique dont les tuiles sont suivies (sa grille sert à trouver les voisines).
      */
 
-    public ScoreManager() {
-        pockets = new ArrayList<>();
+    public ScoreManager(BoardModel board) {
+        this.board = board;
+        pockets = new DisjointSet(64 * BIOME_COUNT);
         currentScore = 0;
     }
 
     /**
-     * Ajoute une tuile à la poche appropriée ou crée une nouvelle poche si nécessaire.
-     * Le score est recalculé après l'ajout de la tuile.
+     * Ajoute une tuile aux poches de ses biomes, en fusionnant les poches de ses voisines
+     * qui la touchent par un côté du même biome, et met le score à jour.
      *
-     * @param tile La tuile à ajouter.
-     */
-    public void addTile(Tile tile) {
-        Map<Biome, Pocket> biomeToPocketMap = new HashMap<>();
-    
-        // Trouver les poches existantes auxquelles cette tuile peut être connectée, en vérifiant les voisins directs
-        for (TileOrientation orientation : TileOrientation.values()) {
-            Biome biome = tile.getBiome(orientation);
-            if (biome != null) {
-                // Trouver la tuile voisine dans la direction donnée
-                Tile neighborTile = tile.getNeighbor(orientation);
-                if (neighborTile != null && neighborTile.getBiome(orientation.oppositeOrientation()) == biome) {
-                    Pocket connectedPocket = findPocketForTile(neighborTile, biome);
-                    if (connectedPocket != null && !biomeToPocketMap.containsKey(biome)) {
-                        biomeToPocketMap.put(biome, connectedPocket);
-                    }
-                }
+     * @param tile La tuile à ajouter, déjà enregistrée dans le plateau.
+     */
+    public void addTile(TileState tile) {
+        applyPlacement(tile);
+    }
+
+    /**
+     * Pose une tuile et met le score à jour de manière incrémentale.
+     *
+     * Chaque biome de la tuile crée une poche de taille 1 (+1 point), puis chaque fusion de deux
+     * poches de tailles a et b remplace a² + b² par (a + b)². Le coût ne dépend donc pas du nombre de poches.
+     *
+     * Les tuiles doivent être ajoutées dans l'ordre de leur enregistrement dans le plateau.
+     *
+     * @param tile La tuile à ajouter, déjà enregistrée dans la grille du plateau.
+     * @return La variation de score due à la pose.
+     */
+    public int applyPlacement(TileState tile) {
+        int previousScore = currentScore;
+        int code = tile.getCode();
+        int tileIndex = board.getGrid().indexAt(tile.getQ(), tile.getR());
+
+        // Un élément par biome : de poids 1 si la tuile contient ce biome, 0 sinon
+        int biomeMask = TileCode.biomeMask(code);
+        for (int biome = 0; biome < BIOME_COUNT; biome++) {
+            boolean present = (biomeMask & (1 << biome)) != 0;
+            pockets.add(present ? 1 : 0);
+            if (present) {
+                currentScore += 1;
+            }
+        }
+
+        // Relier la tuile aux poches de ses voisines par les côtés de même biome
+        for (int side = 0; side < SIDES.length; side++) {
+            int neighborIndex = neighborIndex(tile.getQ(), tile.getR(), SIDES[side]);
+            if (neighborIndex != LongIntMap.NO_VALUE && TileCode.sidesMatch(code, side, board.getTile(neighborIndex).getCode())) {
+                int biome = TileCode.biomeIndex(code, side);
+                merge(element(tileIndex, biome), element(neighborIndex, biome));
             }
         }
-    
-        // Ajouter la tuile aux poches existantes ou créer une nouvelle poche si aucune n'est trouvée
-        for (TileOrientation orientation : TileOrientation.values()) {
-            Biome biome = tile.getBiome(orientation);
-            if (biome != null) {
-                if (biomeToPocketMap.containsKey(biome)) {
-                    // Ajouter la tuile à la poche existante pour ce biome
-                    biomeToPocketMap.get(biome).addTile(tile);
-                } else {
-                    // Créer une nouvelle poche pour ce biome
-                    Pocket newPocket = new Pocket(biome);
-                    newPocket.addTile(tile);
-                    pockets.add(newPocket);
-                    biomeToPocketMap.put(biome, newPocket);
+
+        return currentScore - previousScore;
+    }
+
+    /**
+     * Active l'annulation des poses suivantes (voir {@link #undoPlacement(int, int)}).
+     */
+    public void enableUndo() {
+        pockets.enableUndo();
+    }
+
+    /**
+     * Retourne le repère à fournir à {@link #undoPlacement(int, int)} pour annuler la prochaine pose.
+     *
+     * @return Le nombre d'unions annulables des poches
+     */
+    public int getUnionCount() {
+        return pockets.getUnionCount();
+    }
+
+    /**
+     * Annule la dernière pose : ses éléments sont retirés des poches et les fusions qu'elle a causées défaites.
+     * La tuile doit encore être enregistrée dans la grille du plateau.
+     *
+     * @param unionCount    Le repère obtenu par {@link #getUnionCount()} juste avant la pose
+     * @param previousScore Le score juste avant la pose
+     */
+    public void undoPlacement(int unionCount, int previousScore) {
+        pockets.rollback(pockets.count() - BIOME_COUNT, unionCount);
+        currentScore = previousScore;
+    }
+
+    /**
+     * Calcule la variation de score qu'apporterait la pose d'une tuile sur une case, sans modifier l'état.
+     * Cette méthode n'alloue rien et sert aux aperçus de score et aux évaluations de coups ; elle ne fait
+     * que lire les poches, et peut donc être appelée depuis plusieurs threads tant qu'aucune tuile n'est posée.
+     *
+     * @param tile La tuile à évaluer (seuls ses biomes sont utilisés).
+     * @param q    La colonne de la case visée.
+     * @param r    La ligne de la case visée.
+     * @return La variation de score que produirait la pose.
+     */
+    public int evaluatePlacement(TileState tile, int q, int r) {
+        return evaluatePlacement(tile.getCode(), q, r);
+    }
+
+    /**
+     * Calcule la variation de score qu'apporterait la pose d'une tuile codée sur une case, sans modifier l'état.
+     * Les racines des poches sont cherchées sans compression de chemin (voir {@link DisjointSet#root(int)}).
+     *
+     * @param code Le code de la tuile à évaluer (voir {@link TileCode}).
+     * @param q    La colonne de la case visée.
+     * @param r    La ligne de la case visée.
+     * @return La variation de score que produirait la pose.
+     */
+    public int evaluatePlacement(int code, int q, int r) {
+        int[] neighborRoots = NEIGHBOR_ROOTS.get();
+        int delta = 0;
+        int biomeMask = TileCode.biomeMask(code);
+        for (int biome = 0; biome < BIOME_COUNT; biome++) {
+            if ((biomeMask & (1 << biome)) == 0) {
+                continue;
+            }
+
+            int rootCount = 0;
+            int mergedSize = 1;
+            int removedSquares = 0;
+            for (int side = 0; side < SIDES.length; side++) {
+                if (TileCode.biomeIndex(code, side) != biome) {
+                    continue;
+                }
+                int neighborIndex = neighborIndex(q, r, SIDES[side]);
+                if (neighborIndex == LongIntMap.NO_VALUE || !TileCode.sidesMatch(code, side, board.getTile(neighborIndex).getCode())) {
+                    continue;
+                }
+                int root = pockets.root(element(neighborIndex, biome));
+                if (!containsRoot(neighborRoots, rootCount, root)) {
+                    neighborRoots[rootCount++] = root;
+                    int size = pockets.sizeOfRoot(root);
+                    mergedSize += size;
+                    removedSquares += size * size;
                 }
             }
+            delta += mergedSize * mergedSize - removedSquares;
         }
-    
-        // Recalculer le score après avoir ajouté la tuile
-        recalculateScore();
+        return delta;
     }
-    
+
     /**
-     * Trouve la poche associée à la tuile et au biome donnés.
+     * Vérifie si une racine figure parmi les premières racines enregistrées.
      *
-     * @param tile  La tuile à vérifier.
-     * @param biome Le biome à associer.
-     * @return La poche associée à la tuile et au biome, ou null si aucune poche n'est trouvée.
-     */
-    private Pocket findPocketForTile(Tile tile, Biome biome) {
-        for (Pocket pocket : pockets) {
-            if (pocket.getBiome() == biome && pocket.getTiles().contains(tile)) {
-                return pocket;
+     * @param neighborRoots Les racines enregistrées.
+     * @param rootCount     Nombre de racines déjà enregistrées.
+     * @param root          La racine recherchée.
+     * @return {@code true} si la racine est déjà enregistrée.
+     */
+    private static boolean containsRoot(int[] neighborRoots, int rootCount, int root) {
+        for (int i = 0; i < rootCount; i++) {
+            if (neighborRoots[i] == root) {
+                return true;
             }
         }
-        return null;
+        return false;
     }
 
     /**
-     * Recalcule le score en fonction des poches de biomes actuelles.
+     * Fusionne les poches de deux éléments en mettant à jour le score.
+     *
+     * @param a Un élément de la première poche.
+     * @param b Un élément de la seconde poche.
      */
-    private void recalculateScore() {
-        currentScore = 0;
-        for (Pocket pocket : pockets) {
-            currentScore += Math.pow(pocket.getSize(), 2);
+    private void merge(int a, int b) {
+        int rootA = pockets.find(a);
+        int rootB = pockets.find(b);
+        if (rootA == rootB) {
+            return;
         }
+        int sizeA = pockets.sizeOf(rootA);
+        int sizeB = pockets.sizeOf(rootB);
+        pockets.union(rootA, rootB);
+        currentScore += (sizeA + sizeB) * (sizeA + sizeB) - sizeA * sizeA - sizeB * sizeB;
+    }
+
+    /**
+     * Récupère l'indice de la tuile voisine d'une case dans une direction donnée.
+     *
+     * @param q           La colonne de la case.
+     * @param r           La ligne de la case.
+     * @param orientation La direction du voisin.
+     * @return L'indice de la tuile voisine, ou {@link LongIntMap#NO_VALUE} si la case voisine est libre.
+     */
+    private int neighborIndex(int q, int r, TileOrientation orientation) {
+        return board.getGrid().indexAt(q + orientation.getDeltaQ(), r + orientation.getDeltaR());
+    }
+
+    /**
+     * Calcule l'élément union-find associé à une tuile et à un biome.
+     *
+     * @param tileIndex L'indice de la tuile.
+     * @param biome     L'ordinal du biome.
+     * @return L'identifiant de l'élément.
+     */
+    private static int element(int tileIndex, int biome) {
+        return tileIndex * BIOME_COUNT + biome;
+    }
+
+    /**
+     * Construit la liste des poches actuelles à partir de la structure union-find.
+     * Cette méthode parcourt toutes les tuiles : elle est destinée aux statistiques, pas au calcul du score.
+     *
+     * @return La liste des poches non vides.
+     */
+    public List<Pocket> getPockets() {
+        Map<Integer, Pocket> pocketsByRoot = new HashMap<>();
+        for (int tileIndex = 0; tileIndex < board.getTileCount(); tileIndex++) {
+            TileState tile = board.getTile(tileIndex);
+            for (Biome biome : Biome.values()) {
+                if (tile.containsBiome(biome)) {
+                    int root = pockets.find(element(tileIndex, biome.ordinal()));
+                    pocketsByRoot.computeIfAbsent(root, r -> new Pocket(biome)).addTile(tile);
+                }
+            }
+        }
+        return new ArrayList<>(pocketsByRoot.values());
     }
 
     /**
      * Obtient le score actuel du jeu.
-     * 
+     *
      * @return Le score actuel du jeu.
      */
 
     public int getCurrentScore() {
         return currentScore;
     }
-}
\ No newline at end of file
+}
@@ -1,18 +1,15 @@
 package fr.monkhanny.dorfromantik.game;
 
-import java.awt.BasicStroke;
-import java.awt.Color;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
 import java.awt.Point;
 import java.awt.RenderingHints;
-import java.util.HashMap;
-import java.util.Arrays;
 
 import fr.monkhanny.dorfromantik.enums.Biome;
 import fr.monkhanny.dorfromantik.enums.TileOrientation;
-import fr.monkhanny.dorfromantik.utils.Hexagon;
+import fr.monkhanny.dorfromantik.utils.HexagonBatch;
 import fr.monkhanny.dorfromantik.utils.HexagonDrawer;
+import fr.monkhanny.dorfromantik.utils.HexagonMesh;
 
 /**
  * Représente une tuile hexagonale dans le jeu.
@@ -21,13 +18,20 @@ import fr.monkhanny.dorfromantik.utils.HexagonDrawer;
  * à chacun de ses côtés. Elle peut être dessinée graphiquement, pivotée, et possède des fonctionnalités
  * pour interagir avec ses tuiles voisines.
  * 
+ * Les biomes et la case occupée sont portés par un {@link TileState}, indépendant de Swing :
+ * cette classe n'en est que la représentation graphique. Une fois posée, seule la partie
+ * logique est conservée par le {@link BoardModel}.
+ * 
  * @version 1.0
  * @author Moncef STITI, Khalid CHENOUNA, Lenny FOULOU
  */
 public class Tile extends Cell {
 
-  /** Biomes associés aux côtés de la tuile. */
-  private HashMap<TileOrientation, Biome> sideBiomes = new HashMap<>();
+  /** Lot de dessin réutilisé par chaque thread qui dessine des tuiles. */
+  private static final ThreadLocal<HexagonBatch> BATCH = ThreadLocal.withInitial(HexagonBatch::new);
+
+  /** État logique de la tuile (biomes et case occupée). */
+  private TileState state;
 
     /**
     * Constructeur pour une tuile avec des biomes spécifiques.
@@ -40,10 +44,7 @@ public class Tile extends Cell {
     */
   public Tile(Board board, int x, int y, int radius, Biome... biomes) {
     super(board, x, y, radius);
-    TileOrientation[] sides = TileOrientation.values();
-    for (int i = 0; i < sides.length; i++) {
-      this.sideBiomes.put(sides[i], biomes[i]);
-    }
+    this.state = new TileState(biomes);
   }
 
      /**
@@ -56,7 +57,7 @@ public class Tile extends Cell {
     */
   public Tile(Board board, int x, int y, int radius) {
     super(board, x, y, radius);
-    this.assignRandomBiomes();
+    this.state = board.getModel().drawTile();
   }
 
     /**
@@ -82,43 +83,32 @@ public class Tile extends Cell {
     this(board, center.x, center.y, radius);
   }
 
+    /**
+     * Récupère l'état logique de la tuile.
+     * 
+     * @return L'état de la tuile.
+     */
+  public TileState getState() {
+    return state;
+  }
+
     /**
      * Définit les biomes associés aux côtés de la tuile.
      * 
      * @param biomes Liste des biomes à assigner.
      */
   public void setBiomes(Biome... biomes) {
-    TileOrientation[] sides = TileOrientation.values();
-    for (int i = 0; i < sides.length; i++) {
-      this.sideBiomes.put(sides[i], biomes[i]);
-    }
+    state.setBiomes(biomes);
   }
 
     /**
      * Assigne aléatoirement des biomes aux côtés de la tuile.
      * 
-     * Utilise le moteur de jeu pour générer des biomes aléatoires, tout en garantissant
+     * Reprend les biomes de la tuile suivante de la suite de tuiles du plateau, tout en garantissant
      * une répartition équilibrée entre deux biomes.
      */  
   public void assignRandomBiomes() {
-    Game game = this.getBoard().getGame();
-    Biome[] biomes = Biome.values();
-    TileOrientation[] sides = TileOrientation.values();
-    
-    this.sideBiomes.clear();
-
-    Biome firstBiome = biomes[game.getRandomInt(biomes.length)];
-    biomes = Arrays.stream(biomes).filter(b -> b != firstBiome).toArray(Biome[]::new);
-    Biome secondBiome = biomes[game.getRandomInt(biomes.length)];
-
-    int firstBiomeSideCount = game.getRandomInt(sides.length + 1);
-    int firstBiomeSideOffset = game.getRandomInt(sides.length);
-
-    for (int i = 0; i < sides.length; i++) {
-      TileOrientation side = sides[(i + firstBiomeSideOffset) % sides.length];
-      Biome assignedBiome = (i < firstBiomeSideCount) ? firstBiome : secondBiome;
-      this.sideBiomes.put(side, assignedBiome);
-    }
+    state.setBiomes(this.getBoard().getModel().drawTile().getBiomes());
   }
 
     /**
@@ -128,7 +118,7 @@ public class Tile extends Cell {
      * @return Le biome associé.
      */
   public Biome getBiome(TileOrientation side) {
-    return this.sideBiomes.get(side);
+    return state.getBiome(side);
   }
 
      /**
@@ -137,50 +127,21 @@ public class Tile extends Cell {
      * @return Le biome dominant ou {@code null} en cas d'égalité parfaite.
      */
   public Biome getDominantBiome() {
-    TileOrientation[] sides = TileOrientation.values();
-
-    int firstBiomeCount = 0;
-    int secondBiomeCount = 0;
-    Biome firstBiome = this.getBiome(sides[0]);
-    Biome secondBiome = null;
-
-    for (TileOrientation side : sides) {
-      Biome currentBiome = this.getBiome(side);
-      if (currentBiome.equals(firstBiome)) {
-        firstBiomeCount++;
-      } else {
-        secondBiome = currentBiome;
-        secondBiomeCount++;
-      }
-    }
-
-    if (firstBiomeCount > secondBiomeCount) {
-      return firstBiome;
-    } else if (firstBiomeCount < secondBiomeCount) {
-      return secondBiome;
-    }
-
-    return null;
+    return state.getDominantBiome();
   }
 
   /**
    * Retourne les biomes associés à chaque côté de la tuile.
    * 
-   * Cette méthode récupère les biomes pour tous les côtés de la tuile en respectant
-   * l'ordre des orientations définies par l'énumération {@link TileOrientation}.
    * Les biomes sont placés dans un tableau où l'index correspond à l'ordre ordinal
-   * de chaque orientation.
+   * de chaque orientation définie par l'énumération {@link TileOrientation}.
    * 
    * @return Un tableau de {@link Biome} représentant les biomes associés à chaque côté
    *         de la tuile. La longueur du tableau est égale au nombre de côtés dans 
    *         {@link TileOrientation}.
    */
   public Biome[] getBiomes() {
-    Biome[] biomes = new Biome[TileOrientation.values().length];
-    for (TileOrientation side : TileOrientation.values()) {
-      biomes[side.ordinal()] = this.getBiome(side);
-    }
-    return biomes;
+    return state.getBiomes();
   }
 
     /**
@@ -189,16 +150,7 @@ public class Tile extends Cell {
      * @param clockwise {@code true} pour tourner dans le sens horaire, {@code false} sinon.
      */
   public void rotate(boolean clockwise) {
-    TileOrientation[] sides = TileOrientation.values();
-    HashMap<TileOrientation, Biome> newBiomesMap = new HashMap<>();
-
-    for (int i = 0; i < sides.length; i++) {
-      TileOrientation side = sides[i];
-      TileOrientation newSide = clockwise ? sides[(i + 1) % sides.length] : sides[(i + sides.length - 1) % sides.length];
-      newBiomesMap.put(newSide, this.sideBiomes.get(side));
-    }
-
-    this.sideBiomes = newBiomesMap;
+    state.rotate(clockwise);
     this.repaint();
   }
 
@@ -209,89 +161,73 @@ public class Tile extends Cell {
      * @return {@code true} si la tuile contient le biome, sinon {@code false}.
      */
   public boolean containsBiome(Biome biome) {
-    for (TileOrientation side : TileOrientation.values()) {
-      if (this.getBiome(side) == biome) {
-        return true;
-      }
-    }
-    return false;
+    return state.containsBiome(biome);
+  }
+
+  /**
+   * Récupère la colonne (coordonnée axiale q) de la tuile.
+   *
+   * @return La colonne q
+   */
+  public int getQ() {
+    return state.getQ();
+  }
+
+  /**
+   * Récupère la ligne (coordonnée axiale r) de la tuile.
+   *
+   * @return La ligne r
+   */
+  public int getR() {
+    return state.getR();
+  }
+
+  /**
+   * Définit la case de la grille hexagonale occupée par la tuile.
+   *
+   * @param q La colonne
+   * @param r La ligne
+   */
+  public void setAxialPosition(int q, int r) {
+    state.setPosition(q, r);
   }
 
   /**
    * Vérifie si la tuile donnée est adjacente à la tuile actuelle.
    * 
-   * Cette méthode calcule la distance euclidienne entre les coordonnées des deux
-   * tuiles et détermine si la distance est suffisamment proche pour être considérée
-   * comme adjacente dans une grille hexagonale. La distance attendue entre deux tuiles
-   * adjacentes est calculée en fonction du rayon des tuiles et de la géométrie hexagonale.
+   * Deux tuiles sont adjacentes lorsque leurs cases sont voisines sur la grille hexagonale,
+   * c'est-à-dire lorsque leur distance en coordonnées axiales vaut 1.
    * 
    * @param otherTile La tuile à tester pour l'adjacence.
    * @return {@code true} si la tuile donnée est adjacente à la tuile actuelle, 
    *         sinon {@code false}.
    */
   public boolean isAdjacentTo(Tile otherTile) {
-    
-    int radius = this.getRadius(); // Utilisation du rayon pour la distance correcte
-
-    // Calculer les différences de position
-    int deltaX = otherTile.getXCoord() - this.getXCoord();
-    int deltaY = otherTile.getYCoord() - this.getYCoord();
-
-    // Calculer la distance euclidienne entre les deux tuiles
-    double distance = Math.sqrt(deltaX * deltaX + deltaY * deltaY);
-
-    // Distance attendue pour des tuiles adjacentes dans une grille hexagonale
-    double expectedDistance = (int) (1.5 * radius); // ou une autre valeur calculée correctement
-
-    // Définir une tolérance pour la précision
-    double epsilon = 15.0;
-
-    // Vérifier si la différence de distance est dans la tolérance
-    if (Math.abs(distance - expectedDistance) < epsilon) {
-        return true;
-    }
-    return false;
-}
+    int deltaQ = otherTile.getQ() - this.getQ();
+    int deltaR = otherTile.getR() - this.getR();
+    int distance = (Math.abs(deltaQ) + Math.abs(deltaR) + Math.abs(deltaQ + deltaR)) / 2;
+    return distance == 1;
+  }
 
   /**
-   * Récupère la tuile voisine dans une direction donnée.
+   * Récupère l'état de la tuile voisine dans une direction donnée.
+   * 
+   * La case voisine est obtenue en ajoutant le déplacement axial de l'orientation
+   * aux coordonnées de la tuile, puis la tuile est recherchée dans l'index de la grille
+   * du plateau, en temps constant.
    * 
-   * Cette méthode calcule les coordonnées de la tuile voisine en fonction de
-   * la direction spécifiée (orientation) et de la distance relative dans une
-   * grille hexagonale. Elle utilise le rayon de la tuile pour déterminer la
-   * distance correcte.
+   * Les tuiles posées ne sont conservées que par le plateau logique ({@link BoardModel}), sous forme de
+   * {@link TileState} : cette méthode renvoie donc l'état de la voisine (biomes et case), et non plus
+   * un composant {@code Tile}.
    * 
    * @param orientation La direction (orientation) du voisin souhaité par rapport à la tuile actuelle.
    *                    Les valeurs possibles sont définies dans {@link TileOrientation}.
-   * @return La tuile voisine dans la direction spécifiée, ou {@code null} si aucune tuile n'existe à cet endroit.
+   * @return L'état de la tuile voisine dans la direction spécifiée, ou {@code null} si aucune tuile n'existe à cet endroit.
    */
-public Tile getNeighbor(TileOrientation orientation) {
-  int radius = this.getRadius();
-  int neighborX = this.getXCoord();
-  int neighborY = this.getYCoord();
-
-  if (orientation == TileOrientation.NORTH) {
-      neighborY -= (int) (Math.sqrt(3) * radius);
-  } else if (orientation == TileOrientation.NORTH_EAST) {
-      neighborX += (int) (1.5 * radius);
-      neighborY -= (int) (Math.sqrt(3) / 2 * radius);
-  } else if (orientation == TileOrientation.SOUTH_EAST) {
-      neighborX += (int) (1.5 * radius);
-      neighborY += (int) (Math.sqrt(3) / 2 * radius);
-  } else if (orientation == TileOrientation.SOUTH) {
-      neighborY += (int) (Math.sqrt(3) * radius);
-  } else if (orientation == TileOrientation.SOUTH_WEST) {
-      neighborX -= (int) (1.5 * radius);
-      neighborY += (int) (Math.sqrt(3) / 2 * radius);
-  } else if (orientation == TileOrientation.NORTH_WEST) {
-      neighborX -= (int) (1.5 * radius);
-      neighborY -= (int) (Math.sqrt(3) / 2 * radius);
+  public TileState getNeighbor(TileOrientation orientation) {
+    return this.getBoard().getTileAtAxial(this.getQ() + orientation.getDeltaQ(), this.getR() + orientation.getDeltaR());
   }
 
-  // Rechercher la tuile à la position calculée
-  return this.getBoard().getTileAt(neighborX, neighborY);
-}
-
 
     /**
      * Détermine le côté de la tuile en fonction d'une position (x, y).
@@ -301,29 +237,7 @@ public Tile getNeighbor(TileOrientation orientation) {
      * @return Le côté correspondant.
      */
   public TileOrientation determineSide(int x, int y) {
-    int radius = this.getRadius();
-    TileOrientation[] sides = TileOrientation.values();
-    double angle = Cell.to360Degrees(Math.toDegrees(Math.atan2(y - radius, x - radius)) + 120);
-
-    int floorSide = (int) Math.floor(Cell.to360Degrees(angle - 2) / 60);
-    int ceilSide = (int) Math.floor(Cell.to360Degrees(angle + 2) / 60);
-
-    if (floorSide == ceilSide) {
-      return sides[floorSide];
-    }
-
-    Biome floorBiome = this.getBiome(sides[floorSide]);
-    Biome dominantBiome = this.getDominantBiome();
-
-    if (dominantBiome == null && y > radius) {
-      return TileOrientation.SOUTH;
-    }
-
-    if (dominantBiome == null && y < radius) {
-      return TileOrientation.NORTH;
-    }
-
-    return floorBiome.equals(dominantBiome) ? sides[ceilSide] : sides[floorSide];
+    return HexagonDrawer.determineSide(state, x, y, this.getRadius());
   }
 
     /**
@@ -335,6 +249,21 @@ public Tile getNeighbor(TileOrientation orientation) {
      * @param scale Échelle du dessin.
      */
   protected void drawTileAt(Graphics g, int x, int y, float scale) {
+      drawTileAt(g, state, this.getRadius(), x, y, scale);
+  }
+
+    /**
+     * Dessine une tuile logique à une position donnée avec une échelle spécifique.
+     * Utilisée pour afficher les tuiles posées, qui n'ont pas de composant Swing.
+     * 
+     * @param g      Contexte graphique.
+     * @param state  La tuile à dessiner.
+     * @param radius Rayon de la tuile.
+     * @param x      Coordonnée X où dessiner.
+     * @param y      Coordonnée Y où dessiner.
+     * @param scale  Échelle du dessin.
+     */
+  public static void drawTileAt(Graphics g, TileState state, int radius, int x, int y, float scale) {
       // Sauvegarde de l'état actuel du graphique
       Graphics2D g2d = (Graphics2D) g.create();
 
@@ -342,7 +271,7 @@ public Tile getNeighbor(TileOrientation orientation) {
       g2d.translate(x, y);
 
       // Appel de la méthode de dessin de la tuile à la nouvelle position
-      paintTile(g2d, scale);
+      paintTile(g2d, state, radius, scale);
       g2d.dispose();
   }
 
@@ -355,22 +284,27 @@ public Tile getNeighbor(TileOrientation orientation) {
    */
   protected void paintTile(Graphics g, float scale) {
         super.paintComponent(g);
+        paintTile(g, state, this.getRadius(), scale);
+  }
+
+  /**
+   * Dessine une tuile logique dans un contexte graphique déjà positionné.
+   * 
+   * @param g      Le contexte graphique
+   * @param state  La tuile à dessiner
+   * @param radius Le rayon de la tuile
+   * @param scale  L'échelle de la tuile
+   */
+  private static void paintTile(Graphics g, TileState state, int radius, float scale) {
         Graphics2D g2d = (Graphics2D) g.create();
-        int radius = this.getRadius();
-        Point center = new Point(radius, radius);
-        radius = (int) (radius * scale);
-        Hexagon hexagon = new Hexagon(center, radius);
+        // Géométrie précalculée pour ce rayon : les petits hexagones, déjà découpés par le contour, sont
+        // regroupés par couleur pour être remplis en quelques appels
+        HexagonMesh mesh = HexagonMesh.of((int) (radius * scale), radius);
+        HexagonBatch batch = BATCH.get();
 
         g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
-        g2d.setClip(hexagon);
-
-        HexagonDrawer hexDrawer = new HexagonDrawer(this);
-        hexDrawer.drawHexagon(g2d, radius, center);
-
-        g2d.setClip(null);
-        g2d.setStroke(new BasicStroke((int) radius / 15));
-        g2d.setColor(Color.BLACK);
-        g2d.drawPolygon(hexagon);
+        batch.add(mesh, state.getCode(), 0, 0);
+        batch.fill(g2d);
 
         g2d.dispose();
     }
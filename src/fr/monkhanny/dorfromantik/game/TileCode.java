@@ -0,0 +1,225 @@
+package fr.monkhanny.dorfromantik.game;
+
+import fr.monkhanny.dorfromantik.enums.Biome;
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+
+/**
+ * Représentation compacte d'une tuile dans un entier.
+ *
+ * Les six côtés sont codés sur 3 bits chacun (l'ordinal du {@link Biome}), le côté
+ * d'ordinal i occupant les bits 3i à 3i + 2 : une tuile tient donc sur 18 bits.
+ * La rotation devient un décalage circulaire, la comparaison de deux côtés un XOR masqué,
+ * et le biome dominant ainsi que les biomes présents sont lus dans une table précalculée.
+ *
+ * Toutes les méthodes sont statiques et n'allouent rien : elles sont partagées par le calcul
+ * du score, les simulations et l'affichage.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see TileState
+ */
+public class TileCode {
+
+    /**
+     * Nombre de côtés d'une tuile.
+     */
+    public static final int SIDE_COUNT = 6;
+
+    /**
+     * Nombre de bits utilisés pour coder le biome d'un côté.
+     */
+    public static final int SIDE_BITS = 3;
+
+    /**
+     * Masque isolant le biome d'un côté.
+     */
+    public static final int SIDE_MASK = (1 << SIDE_BITS) - 1;
+
+    /**
+     * Nombre de bits d'un code de tuile complet.
+     */
+    public static final int CODE_BITS = SIDE_COUNT * SIDE_BITS;
+
+    /**
+     * Masque isolant un code de tuile complet.
+     */
+    public static final int CODE_MASK = (1 << CODE_BITS) - 1;
+
+    /**
+     * Les biomes, indexés par leur ordinal.
+     */
+    private static final Biome[] BIOMES = Biome.values();
+
+    /**
+     * Table précalculée pour chaque code : les 5 bits de poids faible indiquent les biomes présents,
+     * les 3 bits de poids fort contiennent l'ordinal du biome dominant plus un (0 en cas d'égalité).
+     */
+    private static final byte[] SUMMARY = buildSummaryTable();
+
+    /**
+     * Constructeur par défaut pour la classe TileCode.
+     */
+    public TileCode() {
+        // Constructeur par défaut
+    }
+
+    /**
+     * Code une tuile à partir des biomes de ses côtés.
+     *
+     * @param biomes Les six biomes, dans l'ordre de {@link TileOrientation}
+     * @return Le code de la tuile
+     */
+    public static int pack(Biome... biomes) {
+        int code = 0;
+        for (int side = 0; side < SIDE_COUNT; side++) {
+            code |= biomes[side].ordinal() << (side * SIDE_BITS);
+        }
+        return code;
+    }
+
+    /**
+     * Retourne l'ordinal du biome d'un côté.
+     *
+     * @param code La tuile
+     * @param side L'ordinal du côté
+     * @return L'ordinal du biome
+     */
+    public static int biomeIndex(int code, int side) {
+        return (code >>> (side * SIDE_BITS)) & SIDE_MASK;
+    }
+
+    /**
+     * Retourne le biome d'un côté.
+     *
+     * @param code La tuile
+     * @param side Le côté
+     * @return Le biome du côté
+     */
+    public static Biome biome(int code, TileOrientation side) {
+        return BIOMES[biomeIndex(code, side.ordinal())];
+    }
+
+    /**
+     * Tourne une tuile d'un sixième de tour : le biome du côté i passe au côté i + 1
+     * (sens horaire) ou i - 1 (sens anti-horaire).
+     *
+     * @param code      La tuile
+     * @param clockwise {@code true} pour le sens horaire
+     * @return Le code de la tuile tournée
+     */
+    public static int rotate(int code, boolean clockwise) {
+        if (clockwise) {
+            return ((code << SIDE_BITS) | (code >>> (CODE_BITS - SIDE_BITS))) & CODE_MASK;
+        }
+        return (code >>> SIDE_BITS) | ((code & SIDE_MASK) << (CODE_BITS - SIDE_BITS));
+    }
+
+    /**
+     * Vérifie si un côté d'une tuile a le même biome que le côté opposé d'une tuile voisine.
+     *
+     * @param code         La tuile
+     * @param side         L'ordinal du côté de la tuile
+     * @param neighborCode La tuile voisine, située du côté {@code side}
+     * @return {@code true} si les deux côtés en contact ont le même biome
+     */
+    public static boolean sidesMatch(int code, int side, int neighborCode) {
+        int opposite = (side + SIDE_COUNT / 2) % SIDE_COUNT;
+        return (((code >>> (side * SIDE_BITS)) ^ (neighborCode >>> (opposite * SIDE_BITS))) & SIDE_MASK) == 0;
+    }
+
+    /**
+     * Retourne les biomes présents sur la tuile, sous forme de masque (bit i pour l'ordinal i).
+     *
+     * @param code La tuile
+     * @return Le masque des biomes présents
+     */
+    public static int biomeMask(int code) {
+        return SUMMARY[code] & 0x1F;
+    }
+
+    /**
+     * Vérifie si la tuile contient un biome donné.
+     *
+     * @param code  La tuile
+     * @param biome Le biome recherché
+     * @return {@code true} si au moins un côté a ce biome
+     */
+    public static boolean containsBiome(int code, Biome biome) {
+        return (biomeMask(code) & (1 << biome.ordinal())) != 0;
+    }
+
+    /**
+     * Retourne le biome dominant de la tuile.
+     *
+     * @param code La tuile
+     * @return Le biome dominant, ou {@code null} en cas d'égalité parfaite
+     */
+    public static Biome dominantBiome(int code) {
+        int dominant = (SUMMARY[code] >>> 5) & 0x7;
+        return dominant == 0 ? null : BIOMES[dominant - 1];
+    }
+
+    /**
+     * Retourne l'ordinal du biome dominant de la tuile.
+     *
+     * @param code La tuile
+     * @return L'ordinal du biome dominant, ou -1 en cas d'égalité parfaite
+     */
+    public static int dominantBiomeIndex(int code) {
+        return ((SUMMARY[code] >>> 5) & 0x7) - 1;
+    }
+
+    /**
+     * Retourne le biome correspondant à un ordinal.
+     *
+     * @param biomeIndex L'ordinal du biome
+     * @return Le biome
+     */
+    public static Biome biomeAt(int biomeIndex) {
+        return BIOMES[biomeIndex];
+    }
+
+    /**
+     * Construit la table des biomes présents et du biome dominant pour tous les codes possibles.
+     * Le biome dominant est calculé comme auparavant : on compare le nombre de côtés ayant le biome
+     * du premier côté au nombre de côtés ayant un autre biome.
+     *
+     * @return La table, indexée par code
+     */
+    private static byte[] buildSummaryTable() {
+        byte[] table = new byte[1 << CODE_BITS];
+        for (int code = 0; code < table.length; code++) {
+            int mask = 0;
+            boolean valid = true;
+            int firstBiome = biomeIndex(code, 0);
+            int secondBiome = -1;
+            int firstCount = 0;
+            int secondCount = 0;
+            for (int side = 0; side < SIDE_COUNT; side++) {
+                int biome = biomeIndex(code, side);
+                if (biome >= BIOMES.length) {
+                    valid = false;
+                    break;
+                }
+                mask |= 1 << biome;
+                if (biome == firstBiome) {
+                    firstCount++;
+                } else {
+                    secondBiome = biome;
+                    secondCount++;
+                }
+            }
+            if (!valid) {
+                continue;
+            }
+            int dominant = 0;
+            if (firstCount > secondCount) {
+                dominant = firstBiome + 1;
+            } else if (firstCount < secondCount) {
+                dominant = secondBiome + 1;
+            }
+            table[code] = (byte) (mask | (dominant << 5));
+        }
+        return table;
+    }
+}
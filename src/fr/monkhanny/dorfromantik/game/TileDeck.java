@@ -0,0 +1,250 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.awt.AlphaComposite;
+import java.awt.Composite;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Transparency;
+import java.awt.image.BufferedImage;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.swing.SwingUtilities;
+
+/**
+ * Pioche des tuiles à venir d'une partie, avec leur aperçu.
+ *
+ * La suite des tuiles étant à accès direct (voir {@link TileSequence}), les tuiles qui suivent la prochaine
+ * tuile peuvent être consultées à l'avance sans modifier les tirages de la partie : c'est ce que font
+ * {@link #peek(int)} et {@link BoardModel#peekTile(int)}. La pioche prépare en plus, sur un thread
+ * d'arrière-plan, les images des {@code lookahead} tuiles à venir : le bandeau d'aperçu se dessine alors
+ * en copiant ces images, sans dessiner aucune tuile sur le thread de Swing, et chaque pose ne coûte
+ * que le dessin d'une image de plus, hors de l'EDT.
+ *
+ * La prochaine tuile elle-même reste dessinée par le {@link TileSpriteCache} du plateau : le joueur
+ * peut la tourner, ce qui change son code et donc son image.
+ *
+ * Les méthodes publiques sont appelées sur l'EDT ; seules les images sont dessinées sur le thread
+ * de la pioche, qui prévient le plateau sur l'EDT lorsque l'une d'elles est prête.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see Board
+ */
+public class TileDeck {
+
+    /**
+     * Marge laissée autour d'une tuile pour que son contour ne soit pas coupé, en pixels avant mise à l'échelle.
+     */
+    private static final int PADDING = 2;
+
+    /**
+     * Écart entre deux tuiles du bandeau, en pixels.
+     */
+    private static final int SPACING = 6;
+
+    /**
+     * Baisse d'opacité d'une tuile du bandeau à la suivante : les tuiles lointaines s'estompent.
+     */
+    private static final float FADE_STEP = 0.2f;
+
+    /**
+     * Opacité minimale d'une tuile du bandeau.
+     */
+    private static final float MIN_ALPHA = 0.4f;
+
+    /**
+     * Plateau logique dont les tuiles sont tirées.
+     */
+    private final BoardModel model;
+
+    /**
+     * Nombre de tuiles de la partie, tuile centrale comprise.
+     */
+    private final int tileCount;
+
+    /**
+     * Nombre de tuiles à venir dont l'image est préparée.
+     */
+    private final int lookahead;
+
+    /**
+     * Rayon des tuiles du bandeau, en pixels.
+     */
+    private final int radius;
+
+    /**
+     * Action exécutée sur l'EDT lorsqu'une image est prête (une demande de rafraîchissement).
+     */
+    private final Runnable onReady;
+
+    /**
+     * Thread d'arrière-plan qui dessine les images.
+     */
+    private final ExecutorService renderer;
+
+    /**
+     * Images des tuiles à venir, indexées par leur rang dans la suite. Remplacée par une table vide
+     * lorsque l'échelle de l'écran change : les images en cours de dessin finissent alors dans l'ancienne.
+     */
+    private volatile Map<Integer, BufferedImage> previews;
+
+    /**
+     * Configuration de l'écran utilisée pour créer des images compatibles, connue au premier dessin.
+     */
+    private GraphicsConfiguration configuration;
+
+    /**
+     * Échelle de l'écran des images préparées.
+     */
+    private double deviceScale;
+
+    /**
+     * Rang suivant celui de la dernière tuile dont l'image a été demandée.
+     */
+    private int scheduledEnd;
+
+    /**
+     * Constructeur d'une pioche.
+     *
+     * @param model     Le plateau logique dont les tuiles sont tirées
+     * @param tileCount Le nombre de tuiles de la partie, tuile centrale comprise
+     * @param lookahead Le nombre de tuiles à venir dont l'image est préparée
+     * @param radius    Le rayon des tuiles du bandeau, en pixels
+     * @param onReady   L'action exécutée sur l'EDT lorsqu'une image est prête
+     */
+    public TileDeck(BoardModel model, int tileCount, int lookahead, int radius, Runnable onReady) {
+        this.model = model;
+        this.tileCount = tileCount;
+        this.lookahead = Math.max(0, lookahead);
+        this.radius = radius;
+        this.onReady = onReady;
+        this.previews = new ConcurrentHashMap<>();
+        this.renderer = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "Dorfromantik-Deck");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Retourne le nombre de tuiles du bandeau : les tuiles à venir après la prochaine tuile,
+     * dans la limite de la pioche et de la fin de la partie.
+     *
+     * @return Le nombre de tuiles affichées
+     */
+    public int getUpcomingCount() {
+        return Math.max(0, Math.min(lookahead, tileCount - model.getDrawnCount()));
+    }
+
+    /**
+     * Consulte une tuile à venir sans la tirer.
+     *
+     * @param ahead Le rang de la tuile parmi les tuiles à venir, 0 pour celle qui suit la prochaine tuile
+     * @return Une nouvelle tuile, non posée
+     * @throws IndexOutOfBoundsException Si la partie se termine avant cette tuile
+     */
+    public TileState peek(int ahead) {
+        if (ahead < 0 || ahead >= tileCount - model.getDrawnCount()) {
+            throw new IndexOutOfBoundsException("Aucune tuile à venir au rang " + ahead);
+        }
+        return model.peekTile(ahead);
+    }
+
+    /**
+     * Prend en compte le tirage d'une tuile : les images des tuiles tirées sont oubliées,
+     * et celles des nouvelles tuiles à venir sont demandées au thread de la pioche.
+     */
+    public void advance() {
+        int first = model.getDrawnCount();
+        previews.keySet().removeIf(index -> index < first);
+        schedule();
+    }
+
+    /**
+     * Demande au thread de la pioche les images des tuiles à venir qui ne l'ont pas encore été.
+     * Rien n'est demandé tant que la configuration de l'écran n'est pas connue, ni après l'arrêt de la pioche.
+     */
+    private void schedule() {
+        if (configuration == null || renderer.isShutdown()) {
+            return;
+        }
+
+        int end = Math.min(model.getDrawnCount() + lookahead, tileCount);
+        TileSequence sequence = model.getTileSequence();
+        GraphicsConfiguration target = configuration;
+        double scale = deviceScale;
+        Map<Integer, BufferedImage> images = previews;
+        for (int index = Math.max(scheduledEnd, model.getDrawnCount()); index < end; index++) {
+            int position = index;
+            renderer.execute(() -> render(sequence, position, target, scale, images));
+        }
+        scheduledEnd = Math.max(scheduledEnd, end);
+    }
+
+    /**
+     * Dessine l'image d'une tuile à venir, puis confie {@link #onReady} à l'EDT. Exécutée sur le thread de la pioche.
+     *
+     * @param sequence      La suite des tuiles de la partie
+     * @param index         Le rang de la tuile dans la suite
+     * @param configuration La configuration de l'écran, pour créer une image compatible
+     * @param scale         L'échelle de l'écran
+     * @param images        La table dans laquelle ranger l'image
+     */
+    private void render(TileSequence sequence, int index, GraphicsConfiguration configuration, double scale,
+                        Map<Integer, BufferedImage> images) {
+        int logicalSize = 2 * (radius + PADDING);
+        int size = (int) Math.ceil(logicalSize * scale);
+        BufferedImage image = configuration.createCompatibleImage(size, size, Transparency.TRANSLUCENT);
+        Graphics2D g2d = image.createGraphics();
+        g2d.scale(scale, scale);
+        Tile.drawTileAt(g2d, sequence.tileAt(index), radius, PADDING, PADDING, 1f);
+        g2d.dispose();
+
+        images.put(index, image);
+        SwingUtilities.invokeLater(onReady);
+    }
+
+    /**
+     * Dessine le bandeau des tuiles à venir, de gauche à droite, dans le repère de l'écran.
+     * Une tuile dont l'image n'est pas encore prête est simplement omise jusqu'à l'image suivante.
+     *
+     * @param g2d Le contexte graphique, sans zoom ni déplacement du plateau
+     * @param x   Abscisse du coin supérieur gauche de la première tuile
+     * @param y   Ordonnée du coin supérieur gauche de la première tuile
+     */
+    public void draw(Graphics2D g2d, int x, int y) {
+        double scale = Math.abs(g2d.getTransform().getScaleX());
+        configuration = g2d.getDeviceConfiguration();
+        if (scale != deviceScale) {
+            // Les images doivent être redessinées à la nouvelle échelle
+            deviceScale = scale;
+            previews = new ConcurrentHashMap<>();
+            scheduledEnd = 0;
+        }
+        schedule();
+
+        int first = model.getDrawnCount();
+        int logicalSize = 2 * (radius + PADDING);
+        Composite composite = g2d.getComposite();
+        for (int i = 0; i < getUpcomingCount(); i++) {
+            BufferedImage image = previews.get(first + i);
+            if (image == null) {
+                continue;
+            }
+            float alpha = Math.max(MIN_ALPHA, 1f - FADE_STEP * i);
+            g2d.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER, alpha));
+            g2d.drawImage(image, x + i * (2 * radius + SPACING) - PADDING, y - PADDING, logicalSize, logicalSize, null);
+        }
+        g2d.setComposite(composite);
+    }
+
+    /**
+     * Arrête le thread de la pioche ; les images demandées mais non dessinées sont abandonnées.
+     */
+    public void shutdown() {
+        renderer.shutdownNow();
+    }
+}
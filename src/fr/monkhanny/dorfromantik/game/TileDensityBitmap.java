@@ -0,0 +1,124 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+
+/**
+ * Image du plateau à raison d'un pixel par case, de la couleur de la tuile qui l'occupe.
+ *
+ * Le pixel (i, j) de l'image correspond à la case (minQ + i, minR + j). Une transformation affine
+ * envoie chaque pixel sur le centre de sa case : l'image entière se dessine donc en un seul appel,
+ * quel que soit le nombre de tuiles. C'est le niveau de détail utilisé lorsque le plateau est
+ * tellement dézoomé qu'une tuile ne fait plus qu'un ou deux pixels à l'écran.
+ *
+ * L'image est mise à jour à chaque pose et agrandie (en doublant sa taille) lorsqu'une tuile
+ * est posée en dehors.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see fr.monkhanny.dorfromantik.enums.TileDetail#PIXEL
+ */
+public class TileDensityBitmap {
+
+    /**
+     * Taille initiale de l'image, en cases.
+     */
+    private static final int INITIAL_SIZE = 16;
+
+    /**
+     * Image du plateau, un pixel par case.
+     */
+    private BufferedImage image;
+
+    /**
+     * Colonne de la case correspondant à la première colonne de pixels.
+     */
+    private int minQ;
+
+    /**
+     * Ligne de la case correspondant à la première ligne de pixels.
+     */
+    private int minR;
+
+    /**
+     * Constructeur d'une image vide, centrée sur la case (0, 0).
+     */
+    public TileDensityBitmap() {
+        this.image = new BufferedImage(INITIAL_SIZE, INITIAL_SIZE, BufferedImage.TYPE_INT_ARGB);
+        this.minQ = -INITIAL_SIZE / 2;
+        this.minR = -INITIAL_SIZE / 2;
+    }
+
+    /**
+     * Colore le pixel d'une case.
+     *
+     * @param q   La colonne de la case
+     * @param r   La ligne de la case
+     * @param rgb La couleur, au format ARGB
+     */
+    public void set(int q, int r, int rgb) {
+        ensureContains(q, r);
+        image.setRGB(q - minQ, r - minR, rgb);
+    }
+
+    /**
+     * Agrandit l'image, en doublant sa taille autant que nécessaire, pour qu'elle contienne une case.
+     *
+     * @param q La colonne de la case
+     * @param r La ligne de la case
+     */
+    private void ensureContains(int q, int r) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int newMinQ = minQ;
+        int newMinR = minR;
+        while (q < newMinQ || q >= newMinQ + width) {
+            newMinQ -= width / 2;
+            width *= 2;
+        }
+        while (r < newMinR || r >= newMinR + height) {
+            newMinR -= height / 2;
+            height *= 2;
+        }
+        if (width == image.getWidth() && height == image.getHeight()) {
+            return;
+        }
+
+        BufferedImage grown = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = grown.createGraphics();
+        g2d.drawImage(image, minQ - newMinQ, minR - newMinR, null);
+        g2d.dispose();
+
+        image = grown;
+        minQ = newMinQ;
+        minR = newMinR;
+    }
+
+    /**
+     * Dessine l'image en plaçant chaque pixel au centre de sa case.
+     *
+     * @param g2d    Le contexte graphique, dans le repère du plateau
+     * @param layout La disposition de la grille hexagonale
+     */
+    public void draw(Graphics2D g2d, HexLayout layout) {
+        double columnSpacing = layout.getColumnSpacing();
+        double rowSpacing = layout.getRowSpacing();
+        double halfRowSpacing = layout.getHalfRowSpacing();
+
+        // Le centre du pixel (0, 0), c'est-à-dire (0.5, 0.5), doit tomber sur le centre de la case (minQ, minR)
+        AffineTransform transform = new AffineTransform(
+                columnSpacing, halfRowSpacing,
+                0, rowSpacing,
+                layout.toPixelX(minQ, minR) - 0.5 * columnSpacing,
+                layout.toPixelY(minQ, minR) - 0.5 * (halfRowSpacing + rowSpacing));
+
+        Object interpolation = g2d.getRenderingHint(RenderingHints.KEY_INTERPOLATION);
+        g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+        g2d.drawImage(image, transform, null);
+        if (interpolation != null) {
+            g2d.setRenderingHint(RenderingHints.KEY_INTERPOLATION, interpolation);
+        }
+    }
+}
@@ -1,18 +1,32 @@
 package fr.monkhanny.dorfromantik.game;
 
-import fr.monkhanny.dorfromantik.listeners.TilePanningActionListener;
+import java.util.function.DoubleConsumer;
+
+import fr.monkhanny.dorfromantik.enums.Easing;
+import fr.monkhanny.dorfromantik.utils.Tween;
 
 /**
  * Représente une transition de panoramique pour déplacer la vue du plateau de jeu.
  * 
  * Cette classe permet de déplacer la vue du plateau de jeu avec une animation fluide en
  * ajustant les décalages cibles sur les axes X et Y, répartis sur un nombre défini d'étapes.
+ * La transition peut aussi animer le facteur de zoom : le point du plateau au centre de l'écran
+ * se déplace alors en ligne droite vers sa cible pendant que le zoom varie de façon géométrique,
+ * ce qui donne un mouvement régulier quel que soit l'écart de zoom.
+ * L'animation est avancée par l'horloge commune des animations ; un nouveau panoramique
+ * annule celui qui est en cours, ainsi que le zoom en cours, et un zoom ultérieur l'annule.
  * 
  * @version 1.0
  * @author Moncef STITI
  */
 public class TilePanningTransition {
 
+    /** Durée d'une étape de l'animation, en millisecondes (60 étapes par seconde). */
+    private static final int STEP_DURATION = 1000 / 60;
+
+    /** Animation du panoramique en cours, annulée lorsqu'un nouveau panoramique démarre. */
+    private static Tween currentTween;
+
     /** Le plateau de jeu sur lequel le panoramique est appliqué. */
     private Board board;
 
@@ -25,6 +39,12 @@ public class TilePanningTransition {
     /** Nombre d'étapes de l'animation pour atteindre la cible. */
     private int steps;
 
+    /** Courbe d'accélération de l'animation. */
+    private Easing easing;
+
+    /** Facteur de zoom cible, ou 0 si le zoom n'est pas modifié. */
+    private double targetZoom;
+
     /**
      * Initialise une transition de panoramique avec les paramètres spécifiés.
      * 
@@ -34,23 +54,104 @@ public class TilePanningTransition {
      * @param steps Nombre d'étapes de l'animation pour effectuer le panoramique.
      */
     public TilePanningTransition(Board board, int targetOffsetX, int targetOffsetY, int steps) {
+        this(board, targetOffsetX, targetOffsetY, steps, Easing.LINEAR);
+    }
+
+    /**
+     * Initialise une transition de panoramique avec une courbe d'accélération.
+     * 
+     * @param board Le plateau de jeu affecté par le panoramique.
+     * @param targetOffsetX Décalage cible à atteindre sur l'axe X.
+     * @param targetOffsetY Décalage cible à atteindre sur l'axe Y.
+     * @param steps Nombre d'étapes de l'animation pour effectuer le panoramique.
+     * @param easing Courbe d'accélération de l'animation.
+     */
+    public TilePanningTransition(Board board, int targetOffsetX, int targetOffsetY, int steps, Easing easing) {
         this.board = board;
         this.targetOffsetX = targetOffsetX;
         this.targetOffsetY = targetOffsetY;
         this.steps = steps;
+        this.easing = easing;
+    }
+
+    /**
+     * Initialise une transition de panoramique et de zoom.
+     * 
+     * @param board Le plateau de jeu affecté par le panoramique.
+     * @param targetOffsetX Décalage cible à atteindre sur l'axe X.
+     * @param targetOffsetY Décalage cible à atteindre sur l'axe Y.
+     * @param targetZoom Facteur de zoom cible.
+     * @param steps Nombre d'étapes de l'animation pour effectuer le panoramique.
+     * @param easing Courbe d'accélération de l'animation.
+     */
+    public TilePanningTransition(Board board, int targetOffsetX, int targetOffsetY, double targetZoom, int steps, Easing easing) {
+        this(board, targetOffsetX, targetOffsetY, steps, easing);
+        this.targetZoom = targetZoom;
     }
 
     /**
      * Démarre la transition de panoramique.
      * 
-     * Cette méthode crée un écouteur d'animation (`TilePanningActionListener`) configuré avec
-     * les cibles et les étapes définies, puis démarre l'animation si aucune n'est déjà en cours.
+     * Cette méthode annule le panoramique en cours s'il y en a un, puis anime les décalages
+     * du plateau depuis leur valeur actuelle jusqu'aux cibles.
+     *
+     * @return L'animation du panoramique, pour l'annuler ou lui enchaîner une autre animation
      */
-    public void start() {
-        // Créer un listener d'animation
-        TilePanningActionListener listener = new TilePanningActionListener(board, targetOffsetX, targetOffsetY, steps);
+    public Tween start() {
+        if (currentTween != null) {
+            currentTween.cancel();
+        }
+
+        int startOffsetX = board.getOffsetX();
+        int startOffsetY = board.getOffsetY();
+
+        if (targetZoom > 0) {
+            currentTween = new Tween(steps * STEP_DURATION, easing, zoomingStep(startOffsetX, startOffsetY));
+            board.setZoomAnimation(currentTween, targetZoom);  // Le calque est mis à l'échelle pendant le zoom
+        } else {
+            currentTween = new Tween(steps * STEP_DURATION, easing, progress -> {
+                board.setOffsetX(startOffsetX + (int) Math.round((targetOffsetX - startOffsetX) * progress));
+                board.setOffsetY(startOffsetY + (int) Math.round((targetOffsetY - startOffsetY) * progress));
+            });
+            board.setPanAnimation(currentTween);  // Le zoom à la molette annule le panoramique
+        }
+        currentTween.repaint(board).start();
+        return currentTween;
+    }
+
+    /**
+     * Construit l'étape d'une transition avec zoom : le point du plateau au centre de l'écran
+     * est interpolé linéairement, et le zoom géométriquement.
+     *
+     * @param startOffsetX Décalage de départ sur l'axe X.
+     * @param startOffsetY Décalage de départ sur l'axe Y.
+     * @return La fonction appliquant l'avancement de l'animation au plateau.
+     */
+    private DoubleConsumer zoomingStep(int startOffsetX, int startOffsetY) {
+        double startZoom = board.getZoomFactor();
+        double halfWidth = board.getWidth() / 2.0;
+        double halfHeight = board.getHeight() / 2.0;
+
+        // Points du plateau au centre de l'écran, au départ et à l'arrivée
+        double startCenterX = (halfWidth - startOffsetX) / startZoom;
+        double startCenterY = (halfHeight - startOffsetY) / startZoom;
+        double targetCenterX = (halfWidth - targetOffsetX) / targetZoom;
+        double targetCenterY = (halfHeight - targetOffsetY) / targetZoom;
 
-        // Démarrer l'animation si aucune n'est en cours
-        listener.startAnimation();
+        return progress -> {
+            if (progress >= 1) {
+                // Arriver exactement sur la cible, sans erreur d'arrondi
+                board.setZoomFactor(targetZoom);
+                board.setOffsetX(targetOffsetX);
+                board.setOffsetY(targetOffsetY);
+                return;
+            }
+            double zoom = startZoom * Math.pow(targetZoom / startZoom, progress);
+            double centerX = startCenterX + (targetCenterX - startCenterX) * progress;
+            double centerY = startCenterY + (targetCenterY - startCenterY) * progress;
+            board.setZoomFactor(zoom);
+            board.setOffsetX((int) Math.round(halfWidth - centerX * zoom));
+            board.setOffsetY((int) Math.round(halfHeight - centerY * zoom));
+        };
     }
 }
@@ -0,0 +1,31 @@
+package fr.monkhanny.dorfromantik.game;
+
+/**
+ * Suite déterminée des tuiles d'une partie : la tuile d'indice 0 est la tuile centrale, puis viennent
+ * les tuiles à poser dans l'ordre. Les implémentations sont utilisables depuis plusieurs threads.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see CounterTileSequence
+ * @see LegacyTileSequence
+ */
+public interface TileSequence {
+
+    /**
+     * Retourne le code de la tuile d'indice donné.
+     *
+     * @param index L'indice de la tuile, à partir de 0
+     * @return Le code de la tuile (voir {@link TileCode})
+     */
+    int codeAt(int index);
+
+    /**
+     * Crée une nouvelle tuile, non posée, identique à la tuile d'indice donné.
+     *
+     * @param index L'indice de la tuile, à partir de 0
+     * @return La tuile
+     */
+    default TileState tileAt(int index) {
+        return new TileState(codeAt(index));
+    }
+}
@@ -0,0 +1,254 @@
+package fr.monkhanny.dorfromantik.game;
+
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.RenderingHints;
+import java.awt.Transparency;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import fr.monkhanny.dorfromantik.enums.TileDetail;
+import fr.monkhanny.dorfromantik.utils.HexagonDrawer;
+
+/**
+ * Cache d'images pré-dessinées des tuiles.
+ *
+ * Dessiner une tuile demande de calculer et de remplir une cinquantaine de petits hexagones :
+ * le faire pour chaque tuile à chaque rafraîchissement coûte cher sur un grand plateau.
+ * Ce cache dessine chaque tuile une seule fois dans une image, puis l'affichage se résume
+ * à un {@code drawImage} par tuile.
+ *
+ * Une image est identifiée par le code de la tuile (biomes et rotation, voir {@link TileCode}),
+ * le rayon, un palier de zoom et l'échelle de l'écran. Les paliers de zoom sont espacés d'un quart
+ * d'octave : l'image est dessinée au palier immédiatement supérieur au zoom courant puis légèrement
+ * réduite à l'affichage, ce qui limite le nombre d'images tout en évitant de les agrandir.
+ * Les images les moins récemment utilisées sont supprimées au-delà de la capacité du cache.
+ *
+ * Le niveau de détail de l'image dépend du rayon de la tuile à l'écran (voir {@link TileDetail}) :
+ * texture complète, six triangles, ou un simple hexagone lorsque la tuile devient minuscule.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see Tile#drawTileAt(java.awt.Graphics, TileState, int, int, int, float)
+ */
+public class TileSpriteCache {
+
+    /**
+     * Nombre de paliers de zoom par doublement du zoom.
+     */
+    private static final int BUCKETS_PER_OCTAVE = 4;
+
+    /**
+     * Palier de zoom minimal (zoom de 1/32) : en dessous, les images sont réduites davantage à l'affichage.
+     */
+    private static final int MIN_BUCKET = -5 * BUCKETS_PER_OCTAVE;
+
+    /**
+     * Taille maximale, en pixels, d'une image du cache. Au-delà, la tuile est dessinée directement.
+     */
+    private static final int MAX_SPRITE_SIZE = 512;
+
+    /**
+     * Images des tuiles, de la moins récemment utilisée à la plus récente.
+     */
+    private final Map<Long, BufferedImage> sprites;
+
+    /**
+     * Nombre de tuiles dessinées à partir d'une image déjà présente dans le cache.
+     */
+    private long hitCount;
+
+    /**
+     * Nombre de tuiles dont l'image a dû être dessinée.
+     */
+    private long missCount;
+
+    /**
+     * Constructeur d'un cache vide.
+     *
+     * @param capacity Le nombre maximal d'images conservées
+     */
+    public TileSpriteCache(int capacity) {
+        this.sprites = new LinkedHashMap<Long, BufferedImage>(capacity * 4 / 3 + 1, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, BufferedImage> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Dessine une tuile dont le coin supérieur gauche est en (x, y) dans le repère courant du contexte graphique.
+     * À taille normale, le résultat est le même que {@link Tile#drawTileAt(java.awt.Graphics, TileState, int, int, int, float)}
+     * avec une échelle de 1 ; lorsque la tuile est petite à l'écran, un dessin simplifié est utilisé.
+     *
+     * @param g2d    Le contexte graphique, avec le zoom éventuellement appliqué
+     * @param code   Le code de la tuile
+     * @param radius Le rayon de la tuile
+     * @param x      Coordonnée X du coin supérieur gauche de la tuile
+     * @param y      Coordonnée Y du coin supérieur gauche de la tuile
+     */
+    public void draw(Graphics2D g2d, int code, int radius, int x, int y) {
+        GraphicsConfiguration configuration = g2d.getDeviceConfiguration();
+        double deviceScale = configuration.getDefaultTransform().getScaleX();
+        AffineTransform transform = g2d.getTransform();
+        double zoom = Math.abs(transform.getScaleX()) / deviceScale;
+
+        int zoomBucket = zoomBucket(zoom);
+        int deviceKey = (int) Math.round(deviceScale * 100);
+        int padding = padding(radius);
+        int logicalSize = 2 * (radius + padding);
+        int spriteSize = spriteSize(logicalSize, zoomBucket, deviceScale);
+
+        // Le niveau PIXEL est dessiné par le plateau lui-même : une tuile isolée utilise l'hexagone simple
+        TileDetail detail = TileDetail.forRadius(radius * zoom);
+        if (detail == TileDetail.PIXEL) {
+            detail = TileDetail.DOMINANT;
+        }
+
+        // Rotation, cisaillement ou zoom trop fort : l'image ne serait pas fidèle, on dessine directement
+        if (spriteSize > MAX_SPRITE_SIZE || transform.getShearX() != 0 || transform.getShearY() != 0) {
+            Tile.drawTileAt(g2d, new TileState(code), radius, x, y, 1f);
+            return;
+        }
+
+        long key = (code & (long) TileCode.CODE_MASK)
+                | ((long) (radius & 0xFFF) << 18)
+                | ((long) ((zoomBucket - MIN_BUCKET) & 0x7F) << 30)
+                | ((long) (deviceKey & 0x3FF) << 37)
+                | ((long) detail.ordinal() << 47);
+        BufferedImage sprite = sprites.get(key);
+        if (sprite == null) {
+            missCount++;
+            sprite = render(configuration, detail, code, radius, padding, spriteSize, logicalSize);
+            sprites.put(key, sprite);
+        } else {
+            hitCount++;
+        }
+
+        g2d.drawImage(sprite, x - padding, y - padding, logicalSize, logicalSize, null);
+    }
+
+    /**
+     * Vérifie si les tuiles peuvent être dessinées à partir d'images avec la transformation courante
+     * du contexte graphique : ce n'est pas le cas lorsque le zoom est trop fort ou la transformation cisaillée,
+     * et {@link #draw(Graphics2D, int, int, int, int)} dessine alors chaque tuile directement.
+     *
+     * @param g2d    Le contexte graphique, avec le zoom éventuellement appliqué
+     * @param radius Le rayon des tuiles
+     * @return {@code true} si le cache peut être utilisé
+     */
+    public boolean canCache(Graphics2D g2d, int radius) {
+        double deviceScale = g2d.getDeviceConfiguration().getDefaultTransform().getScaleX();
+        AffineTransform transform = g2d.getTransform();
+        double zoom = Math.abs(transform.getScaleX()) / deviceScale;
+        int logicalSize = 2 * (radius + padding(radius));
+        return spriteSize(logicalSize, zoomBucket(zoom), deviceScale) <= MAX_SPRITE_SIZE
+                && transform.getShearX() == 0 && transform.getShearY() == 0;
+    }
+
+    /**
+     * Calcule le palier d'un facteur de zoom : le plus petit palier dont le zoom est au moins égal.
+     *
+     * @param zoom Le facteur de zoom
+     * @return Le palier
+     */
+    private static int zoomBucket(double zoom) {
+        return Math.max(MIN_BUCKET, (int) Math.ceil(Math.log(zoom) / Math.log(2) * BUCKETS_PER_OCTAVE - 1e-9));
+    }
+
+    /**
+     * Calcule la taille, en pixels, de l'image d'une tuile.
+     *
+     * @param logicalSize La taille de la tuile et de sa marge avant zoom
+     * @param zoomBucket  Le palier de zoom
+     * @param deviceScale L'échelle de l'écran
+     * @return La taille de l'image
+     */
+    private static int spriteSize(int logicalSize, int zoomBucket, double deviceScale) {
+        double spriteScale = Math.pow(2, (double) zoomBucket / BUCKETS_PER_OCTAVE) * deviceScale;
+        return (int) Math.ceil(logicalSize * spriteScale);
+    }
+
+    /**
+     * Dessine l'image d'une tuile.
+     *
+     * @param configuration La configuration de l'écran, pour créer une image compatible (accélérée)
+     * @param detail        Le niveau de détail du dessin
+     * @param code          Le code de la tuile
+     * @param radius        Le rayon de la tuile
+     * @param padding       La marge laissée autour de la tuile pour son contour
+     * @param spriteSize    La taille de l'image en pixels
+     * @param logicalSize   La taille de la tuile et de sa marge avant zoom
+     * @return L'image de la tuile
+     */
+    private static BufferedImage render(GraphicsConfiguration configuration, TileDetail detail, int code, int radius, int padding, int spriteSize, int logicalSize) {
+        BufferedImage sprite = configuration.createCompatibleImage(spriteSize, spriteSize, Transparency.TRANSLUCENT);
+        Graphics2D g2d = sprite.createGraphics();
+        double scale = (double) spriteSize / logicalSize;
+        g2d.scale(scale, scale);
+        switch (detail) {
+            case FULL:
+                Tile.drawTileAt(g2d, new TileState(code), radius, padding, padding, 1f);
+                break;
+            case WEDGES:
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                HexagonDrawer.drawWedges(g2d, code, radius, padding + radius, padding + radius);
+                break;
+            default:
+                g2d.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+                HexagonDrawer.drawDominant(g2d, code, radius, padding + radius, padding + radius);
+                break;
+        }
+        g2d.dispose();
+        return sprite;
+    }
+
+    /**
+     * Calcule la marge à laisser autour d'une tuile pour que son contour ne soit pas coupé.
+     *
+     * @param radius Le rayon de la tuile
+     * @return La marge, en pixels avant zoom
+     */
+    private static int padding(int radius) {
+        return radius / 15 + 1;
+    }
+
+    /**
+     * Vide le cache.
+     */
+    public void clear() {
+        sprites.clear();
+    }
+
+    /**
+     * Retourne le nombre d'images actuellement conservées.
+     *
+     * @return Le nombre d'images
+     */
+    public int size() {
+        return sprites.size();
+    }
+
+    /**
+     * Retourne le nombre de tuiles dessinées à partir d'une image déjà présente.
+     *
+     * @return Le nombre de succès du cache
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Retourne le nombre de tuiles dont l'image a dû être dessinée.
+     *
+     * @return Le nombre d'échecs du cache
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+}
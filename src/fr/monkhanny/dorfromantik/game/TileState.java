@@ -0,0 +1,214 @@
+package fr.monkhanny.dorfromantik.game;
+
+import fr.monkhanny.dorfromantik.enums.Biome;
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+
+/**
+ * État logique d'une tuile : les biomes de ses six côtés et sa case sur la grille hexagonale.
+ *
+ * Contrairement à {@link Tile}, cette classe ne dépend pas de Swing : elle est utilisée par
+ * {@link BoardModel} et {@link ScoreManager} pour faire tourner la logique du jeu sans
+ * interface graphique, et ne contient que le strict nécessaire pour rester légère en mémoire :
+ * les biomes sont codés dans un seul entier (voir {@link TileCode}).
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see BoardModel
+ */
+public class TileState {
+
+    /**
+     * Les six orientations, dans l'ordre des côtés de la tuile.
+     */
+    private static final TileOrientation[] SIDES = TileOrientation.values();
+
+    /**
+     * Borne (exclue) du tirage du premier biome d'une tuile aléatoire.
+     */
+    public static final int FIRST_BIOME_BOUND = Biome.values().length;
+
+    /**
+     * Borne (exclue) du tirage du second biome, choisi parmi les biomes restants.
+     */
+    public static final int SECOND_BIOME_BOUND = FIRST_BIOME_BOUND - 1;
+
+    /**
+     * Borne (exclue) du tirage du nombre de côtés du premier biome (de 0 à 6).
+     */
+    public static final int SIDE_COUNT_BOUND = TileCode.SIDE_COUNT + 1;
+
+    /**
+     * Borne (exclue) du tirage du premier côté du premier biome.
+     */
+    public static final int SIDE_OFFSET_BOUND = TileCode.SIDE_COUNT;
+
+    /**
+     * Biomes associés aux côtés de la tuile, codés par {@link TileCode}.
+     */
+    private int code;
+
+    /**
+     * Colonne (coordonnée axiale q) de la case occupée par la tuile.
+     */
+    private int q;
+
+    /**
+     * Ligne (coordonnée axiale r) de la case occupée par la tuile.
+     */
+    private int r;
+
+    /**
+     * Constructeur d'une tuile avec des biomes spécifiques.
+     *
+     * @param biomes Liste des biomes affectés aux côtés de la tuile, dans l'ordre de {@link TileOrientation}.
+     */
+    public TileState(Biome... biomes) {
+        setBiomes(biomes);
+    }
+
+    /**
+     * Constructeur d'une tuile à partir de son code.
+     *
+     * @param code Le code des biomes de la tuile (voir {@link TileCode})
+     */
+    public TileState(int code) {
+        this.code = code;
+    }
+
+    /**
+     * Crée une tuile dont les biomes sont tirés aléatoirement avec le générateur du jeu.
+     *
+     * Deux biomes distincts sont tirés, puis un nombre de côtés consécutifs pour le premier
+     * biome et un décalage de départ : la répartition reste ainsi équilibrée entre deux biomes.
+     *
+     * @param game Le jeu fournissant le générateur aléatoire.
+     * @return La nouvelle tuile.
+     */
+    public static TileState random(Game game) {
+        int firstBiome = game.getRandomInt(FIRST_BIOME_BOUND);
+        int secondBiome = game.getRandomInt(SECOND_BIOME_BOUND);
+        int firstBiomeSideCount = game.getRandomInt(SIDE_COUNT_BOUND);
+        int firstBiomeSideOffset = game.getRandomInt(SIDE_OFFSET_BOUND);
+        return new TileState(codeFromDraws(firstBiome, secondBiome, firstBiomeSideCount, firstBiomeSideOffset));
+    }
+
+    /**
+     * Construit le code d'une tuile à partir des quatre tirages de {@link #random(Game)}, faits dans cet ordre
+     * et avec ces bornes : les générateurs de suites de tuiles donnent ainsi les mêmes tuiles pour les mêmes tirages.
+     *
+     * @param firstBiome           Le premier biome, entre 0 et {@link #FIRST_BIOME_BOUND} (exclu)
+     * @param secondBiome          Le second biome parmi les autres, entre 0 et {@link #SECOND_BIOME_BOUND} (exclu)
+     * @param firstBiomeSideCount  Le nombre de côtés du premier biome, entre 0 et {@link #SIDE_COUNT_BOUND} (exclu)
+     * @param firstBiomeSideOffset Le premier côté du premier biome, entre 0 et {@link #SIDE_OFFSET_BOUND} (exclu)
+     * @return Le code de la tuile
+     */
+    public static int codeFromDraws(int firstBiome, int secondBiome, int firstBiomeSideCount, int firstBiomeSideOffset) {
+        int second = (secondBiome >= firstBiome) ? secondBiome + 1 : secondBiome;
+
+        int code = 0;
+        for (int i = 0; i < SIDES.length; i++) {
+            int side = (i + firstBiomeSideOffset) % SIDES.length;
+            int assignedBiome = (i < firstBiomeSideCount) ? firstBiome : second;
+            code |= assignedBiome << (side * TileCode.SIDE_BITS);
+        }
+        return code;
+    }
+
+    /**
+     * Définit les biomes associés aux côtés de la tuile.
+     *
+     * @param biomes Liste des biomes à assigner, dans l'ordre de {@link TileOrientation}.
+     */
+    public void setBiomes(Biome... biomes) {
+        this.code = TileCode.pack(biomes);
+    }
+
+    /**
+     * Retourne le code des biomes de la tuile, utilisable avec {@link TileCode}.
+     *
+     * @return Le code de la tuile
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Obtient le biome associé à un côté spécifique de la tuile.
+     *
+     * @param side Le côté de la tuile.
+     * @return Le biome associé.
+     */
+    public Biome getBiome(TileOrientation side) {
+        return TileCode.biome(code, side);
+    }
+
+    /**
+     * Retourne les biomes associés à chaque côté, indexés par l'ordinal de l'orientation.
+     *
+     * @return Un tableau de six biomes.
+     */
+    public Biome[] getBiomes() {
+        Biome[] biomes = new Biome[SIDES.length];
+        for (TileOrientation side : SIDES) {
+            biomes[side.ordinal()] = TileCode.biome(code, side);
+        }
+        return biomes;
+    }
+
+    /**
+     * Obtient le biome dominant de la tuile.
+     *
+     * @return Le biome dominant ou {@code null} en cas d'égalité parfaite.
+     */
+    public Biome getDominantBiome() {
+        return TileCode.dominantBiome(code);
+    }
+
+    /**
+     * Vérifie si la tuile contient un biome donné.
+     *
+     * @param biome Le biome recherché.
+     * @return {@code true} si la tuile contient le biome, sinon {@code false}.
+     */
+    public boolean containsBiome(Biome biome) {
+        return TileCode.containsBiome(code, biome);
+    }
+
+    /**
+     * Tourne la tuile d'un sixième de tour, sans allocation.
+     *
+     * @param clockwise {@code true} pour tourner dans le sens horaire, {@code false} sinon.
+     */
+    public void rotate(boolean clockwise) {
+        code = TileCode.rotate(code, clockwise);
+    }
+
+    /**
+     * Récupère la colonne (coordonnée axiale q) de la tuile.
+     *
+     * @return La colonne q
+     */
+    public int getQ() {
+        return q;
+    }
+
+    /**
+     * Récupère la ligne (coordonnée axiale r) de la tuile.
+     *
+     * @return La ligne r
+     */
+    public int getR() {
+        return r;
+    }
+
+    /**
+     * Définit la case de la grille hexagonale occupée par la tuile.
+     *
+     * @param q La colonne
+     * @param r La ligne
+     */
+    public void setPosition(int q, int r) {
+        this.q = q;
+        this.r = r;
+    }
+}
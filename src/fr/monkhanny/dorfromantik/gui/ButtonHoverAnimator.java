@@ -1,7 +1,8 @@
 package fr.monkhanny.dorfromantik.gui;
 
 import fr.monkhanny.dorfromantik.Options;
-import fr.monkhanny.dorfromantik.controller.ButtonHoverAnimationListener;
+import fr.monkhanny.dorfromantik.enums.Easing;
+import fr.monkhanny.dorfromantik.utils.Tween;
 
 import javax.swing.*;
 import java.awt.*;
@@ -10,12 +11,16 @@ import java.awt.*;
  * Classe gérant les animations de survol pour les boutons (JButton).
  * Permet d'effectuer des transitions douces sur les propriétés du bouton, telles que
  * la couleur du texte et la taille de la police, lors du survol ou du départ de la souris.
+ * Les animations sont avancées par l'horloge commune des animations.
  * 
  * @version 1.0
  * @author Khalid CHENOUNA
  */
 public class ButtonHoverAnimator {
 
+    /** Durée de l'animation, en millisecondes. */
+    private static final int ANIMATION_DURATION = Options.ANIMATION_STEPS * Options.ANIMATION_DELAY;
+
     /** Le bouton pour lequel les animations sont appliquées. */
     private final JButton button;
 
@@ -25,8 +30,11 @@ public class ButtonHoverAnimator {
     /** La police d'origine du bouton, partagée pour toutes les instances. */
     private static Font originalFont;
 
-    /** Timer utilisé pour exécuter les animations avec une transition fluide. */
-    private Timer animationTimer;
+    /** Animation en cours, annulée lorsqu'une nouvelle animation démarre. */
+    private Tween animation;
+
+    /** Échelle actuelle de la police, point de départ de l'animation suivante. */
+    private float currentScale = 1.0f;
        
     /**
      * Constructeur de l'animateur de bouton.
@@ -50,13 +58,22 @@ public class ButtonHoverAnimator {
      *                 </ul>
      */
     public void startAnimation(boolean entering) {
-        if (animationTimer != null && animationTimer.isRunning()) {
-            animationTimer.stop();
+        if (animation != null) {
+            animation.cancel();
         }
-    
-        // Create a new ActionListener instance
-        animationTimer = new Timer(Options.ANIMATION_DELAY, new ButtonHoverAnimationListener(entering, button, originalColor, originalFont));
-        animationTimer.start();
+
+        float startScale = currentScale;
+        float targetScale = entering ? Options.HOVER_FONT_SCALE : 1.0f;
+        button.setForeground(entering ? Options.BUTTON_HOVER_COLOR : originalColor);
+
+        animation = new Tween(ANIMATION_DURATION, Easing.EASE_OUT_QUAD, progress -> {
+            currentScale = (float) (startScale + (targetScale - startScale) * progress);
+            button.setFont(originalFont.deriveFont(originalFont.getSize2D() * currentScale));
+        }).onComplete(() -> {
+            if (!entering) {
+                button.setFont(originalFont); // Restauration de la police originale si la souris quitte le bouton
+            }
+        }).start();
     }
     
     /**
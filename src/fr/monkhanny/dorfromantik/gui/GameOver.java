@@ -4,12 +4,15 @@ import fr.monkhanny.dorfromantik.utils.Database;
 import fr.monkhanny.dorfromantik.listeners.GameMainMenuButtonListener;
 import fr.monkhanny.dorfromantik.Options;
 import fr.monkhanny.dorfromantik.enums.Fonts;
+import fr.monkhanny.dorfromantik.simulation.ScoreCalibration;
 
 import javax.swing.*;
 import java.awt.*;
 import java.sql.SQLException;
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.ExecutionException;
 
 /**
  * La classe GameOver est un panneau graphique (JPanel) affiché à la fin d'une partie.
@@ -82,68 +85,43 @@ public class GameOver extends JPanel {
             long seriesId = Options.SEED; // Get the correct seriesId
             database.addScore(seriesId, finalScore);
             List<Integer> allScores = database.getScoresBySeriesId(seriesId);
-    
-            // Check if there are enough players to form groups
-            int totalPlayers = allScores.size();
-            if (totalPlayers >= 100) {
-                int groupSize = totalPlayers / 10;
-                int playerGroup = 0;
-    
-                // Group data for bar chart
-                List<Integer> groupAverages = new ArrayList<>();
-    
-                // Calculate which group the player's score falls into and the average score for each group
-                for (int i = 0; i < 10; i++) {
-                    int startIdx = i * groupSize;
-                    int endIdx = Math.min((i + 1) * groupSize, totalPlayers);
-                    if (startIdx < totalPlayers) {
-                        List<Integer> groupScores = allScores.subList(startIdx, endIdx);
-                        int groupSum = 0;
-                        for (int score : groupScores) {
-                            groupSum += score;
+
+            if (allScores.size() >= 100) {
+                mainPanel.add(createGroupPanel(allScores, finalScore, false));
+            } else {
+                // Trop peu de parties enregistrées : les groupes sont estimés en ajoutant des joueurs simulés,
+                // dont les parties ne sont jouées qu'ici, hors de l'EDT (voir ScoreCalibration)
+                JPanel groupSlot = new JPanel(new BorderLayout());
+                groupSlot.setOpaque(false);
+                groupSlot.setAlignmentX(Component.CENTER_ALIGNMENT);
+                groupSlot.add(createMessageLabel("Calcul de votre groupe..."), BorderLayout.CENTER);
+                mainPanel.add(groupSlot);
+
+                new SwingWorker<List<Integer>, Void>() {
+                    @Override
+                    protected List<Integer> doInBackground() {
+                        List<Integer> merged = new ArrayList<>(ScoreCalibration.referenceScores(seriesId));
+                        merged.addAll(allScores);
+                        if (!allScores.contains(finalScore)) {
+                            merged.add(finalScore);  // Le score n'a pas pu être enregistré
                         }
-                        groupAverages.add(groupSum / groupScores.size());
-                        if (scoreInGroup(allScores, finalScore, startIdx, endIdx)) {
-                            playerGroup = i + 1;
+                        merged.sort(Collections.reverseOrder());
+                        return merged;
+                    }
+
+                    @Override
+                    protected void done() {
+                        groupSlot.removeAll();
+                        try {
+                            groupSlot.add(createGroupPanel(get(), finalScore, true), BorderLayout.CENTER);
+                        } catch (InterruptedException | ExecutionException e) {
+                            e.printStackTrace();
+                            groupSlot.add(createMessageLabel("Pas mal !"), BorderLayout.CENTER);
                         }
+                        groupSlot.revalidate();
+                        groupSlot.repaint();
                     }
-                }
-    
-                // Group information panel
-                JPanel groupPanel = new JPanel();
-                groupPanel.setOpaque(false);
-                groupPanel.setLayout(new BoxLayout(groupPanel, BoxLayout.Y_AXIS));
-    
-                JLabel groupTitleLabel = new JLabel("Vous êtes dans le groupe " + playerGroup + "/10 !");
-                groupTitleLabel.setFont(Fonts.SCORE.getFont(24));
-                groupTitleLabel.setForeground(Color.WHITE);
-                groupTitleLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                groupPanel.add(groupTitleLabel);
-    
-                BarChartPanel barChartPanel = new BarChartPanel(groupAverages, playerGroup - 1);
-                barChartPanel.setPreferredSize(new Dimension(700, 400));
-                barChartPanel.setAlignmentX(Component.CENTER_ALIGNMENT); // Centrer horizontalement
-                groupPanel.add(barChartPanel);
-    
-                groupPanel.add(Box.createVerticalStrut(30));
-    
-                // Show a funny quote based on the group
-                String funnyQuote = getFunnyQuote(playerGroup);
-                JLabel quoteLabel = new JLabel(funnyQuote);
-                quoteLabel.setFont(Fonts.SCORE.getFont(24));
-                quoteLabel.setForeground(Color.WHITE);
-                quoteLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                groupPanel.add(quoteLabel);
-    
-                // Add group information panel
-                mainPanel.add(groupPanel);
-            } else {
-                // No groups, display a simple message instead
-                JLabel noGroupsLabel = new JLabel("Pas mal !");
-                noGroupsLabel.setFont(Fonts.SCORE.getFont(24));
-                noGroupsLabel.setForeground(Color.WHITE);
-                noGroupsLabel.setAlignmentX(Component.CENTER_ALIGNMENT);
-                mainPanel.add(noGroupsLabel);
+                }.execute();
             }
     
         } catch (SQLException e) {
@@ -169,6 +147,81 @@ public class GameOver extends JPanel {
         mainPanel.add(returnButton);
     }
     
+    /**
+     * Crée le panneau du groupe du joueur : son groupe parmi les dix, le graphique des moyennes des groupes
+     * et une citation humoristique. S'il y a moins de 100 scores, un simple message est affiché à la place.
+     *
+     * @param allScores  Les scores de la série, triés en ordre décroissant, dont celui du joueur.
+     * @param finalScore Le score final du joueur.
+     * @param estimated  true si les scores comprennent des joueurs simulés.
+     * @return Le panneau à afficher.
+     */
+    private JComponent createGroupPanel(List<Integer> allScores, int finalScore, boolean estimated) {
+        // Check if there are enough players to form groups
+        int totalPlayers = allScores.size();
+        if (totalPlayers < 100) {
+            // No groups, display a simple message instead
+            return createMessageLabel("Pas mal !");
+        }
+
+        int groupSize = totalPlayers / 10;
+        int playerGroup = 0;
+
+        // Group data for bar chart
+        List<Integer> groupAverages = new ArrayList<>();
+
+        // Calculate which group the player's score falls into and the average score for each group
+        for (int i = 0; i < 10; i++) {
+            int startIdx = i * groupSize;
+            int endIdx = Math.min((i + 1) * groupSize, totalPlayers);
+            if (startIdx < totalPlayers) {
+                List<Integer> groupScores = allScores.subList(startIdx, endIdx);
+                int groupSum = 0;
+                for (int score : groupScores) {
+                    groupSum += score;
+                }
+                groupAverages.add(groupSum / groupScores.size());
+                if (scoreInGroup(allScores, finalScore, startIdx, endIdx)) {
+                    playerGroup = i + 1;
+                }
+            }
+        }
+
+        // Group information panel
+        JPanel groupPanel = new JPanel();
+        groupPanel.setOpaque(false);
+        groupPanel.setLayout(new BoxLayout(groupPanel, BoxLayout.Y_AXIS));
+
+        JLabel groupTitleLabel = createMessageLabel((estimated ? "Vous seriez dans le groupe " : "Vous êtes dans le groupe ") + playerGroup + "/10 !");
+        groupPanel.add(groupTitleLabel);
+
+        BarChartPanel barChartPanel = new BarChartPanel(groupAverages, playerGroup - 1);
+        barChartPanel.setPreferredSize(new Dimension(700, 400));
+        barChartPanel.setAlignmentX(Component.CENTER_ALIGNMENT); // Centrer horizontalement
+        groupPanel.add(barChartPanel);
+
+        groupPanel.add(Box.createVerticalStrut(30));
+
+        // Show a funny quote based on the group
+        groupPanel.add(createMessageLabel(getFunnyQuote(playerGroup)));
+        return groupPanel;
+    }
+
+    /**
+     * Crée une ligne de texte centrée, dans le style des informations de groupe.
+     *
+     * @param text Le texte à afficher.
+     * @return L'étiquette.
+     */
+    private JLabel createMessageLabel(String text) {
+        JLabel label = new JLabel(text);
+        label.setFont(Fonts.SCORE.getFont(24));
+        label.setForeground(Color.WHITE);
+        label.setAlignmentX(Component.CENTER_ALIGNMENT);
+        label.setHorizontalAlignment(SwingConstants.CENTER);
+        return label;
+    }
+
     /**
      * Vérifie si le score du joueur se trouve dans le groupe spécifié par les indices de départ et de fin.
      *
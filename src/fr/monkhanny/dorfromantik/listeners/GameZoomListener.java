@@ -2,11 +2,14 @@ package fr.monkhanny.dorfromantik.listeners;
 
 import fr.monkhanny.dorfromantik.game.Board;
 
+import javax.swing.SwingUtilities;
+import java.awt.Point;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseWheelEvent;
 /**
  * Listener pour gérer le zoom dans le jeu à l'aide de la molette de la souris.
- * Le zoom s'effectue uniquement lorsque la touche Ctrl est enfoncée.
+ * Le zoom s'effectue uniquement lorsque la touche Ctrl est enfoncée, autour du curseur ;
+ * les crans reçus pendant une même image sont regroupés par le plateau.
  * 
  * @version 1.0
  * @author Lenny FOULOU
@@ -26,7 +29,8 @@ public class GameZoomListener extends MouseAdapter {
     }
  /**
      * Méthode appelée lorsqu'un événement de molette de souris est détecté.
-     * Si la touche Ctrl est enfoncée, effectue un zoom avant ou arrière en fonction de la rotation de la molette.
+     * Si la touche Ctrl est enfoncée, effectue un zoom avant ou arrière autour du curseur,
+     * proportionnel à la rotation de la molette (les molettes précises et pavés tactiles donnent des fractions de cran).
      *
      * @param e l'événement de molette de souris.
      */
@@ -34,12 +38,9 @@ public class GameZoomListener extends MouseAdapter {
     public void mouseWheelMoved(MouseWheelEvent e) {
         // Vérifier si la touche Ctrl est enfoncée et la direction de la molette
         if (e.isControlDown()) {
-            // Si la molette tourne vers le bas (zoom arrière)
-            if (e.getWheelRotation() < 0) {
-                board.zoomIn();  // Zoom avant
-            } else {
-                board.zoomOut();  // Zoom arrière
-            }
+            // Zoom autour du curseur : molette vers le haut pour zoomer, vers le bas pour dézoomer
+            Point cursor = SwingUtilities.convertPoint(e.getComponent(), e.getPoint(), board);
+            board.zoomAt(cursor.x, cursor.y, e.getPreciseWheelRotation());
         }
     }
 }
@@ -0,0 +1,220 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import fr.monkhanny.dorfromantik.Options;
+import fr.monkhanny.dorfromantik.enums.TileSequenceMode;
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.Game;
+import fr.monkhanny.dorfromantik.game.TileState;
+
+/**
+ * Joue des lots de parties sans interface graphique, en parallèle sur un {@link ForkJoinPool}.
+ *
+ * Chaque partie est jouée de bout en bout par un seul thread, sur son propre {@link BoardModel} et
+ * son propre {@link Game} : les tuiles d'une graine sont donc exactement celles qu'un joueur verrait,
+ * et aucun générateur n'est partagé entre threads. Les choix de la stratégie utilisent un second
+ * générateur, dérivé de la graine et du numéro de la partie, si bien qu'un lot donne les mêmes
+ * résultats quel que soit le nombre de threads (seul l'ordre d'arrivée des résultats change).
+ *
+ * Les résultats sont transmis au fur et à mesure, depuis les threads de calcul, à un consommateur
+ * qui doit accepter des appels concurrents (par exemple un {@link ResultWriter}).
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see PlacementStrategy
+ * @see SimulationRunner
+ */
+public class BatchSimulator {
+
+    /**
+     * Nombre de parties en dessous duquel une tâche n'est plus découpée.
+     */
+    private static final int GAMES_PER_TASK = 16;
+
+    /**
+     * Stratégie qui choisit les poses.
+     */
+    private final PlacementStrategy strategy;
+
+    /**
+     * Façon de générer la suite des tuiles de chaque graine.
+     */
+    private final TileSequenceMode mode;
+
+    /**
+     * Nombre de tuiles d'une partie, tuile centrale comprise.
+     */
+    private final int tileCount;
+
+    /**
+     * Nombre de threads de calcul.
+     */
+    private final int parallelism;
+
+    /**
+     * Constructeur d'un simulateur jouant des parties de longueur normale sur tous les cœurs.
+     *
+     * @param strategy La stratégie qui choisit les poses
+     */
+    public BatchSimulator(PlacementStrategy strategy) {
+        this(strategy, Options.TILE_SEQUENCE, Options.MAX_TILE_NUMBER, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructeur d'un simulateur.
+     *
+     * @param strategy    La stratégie qui choisit les poses
+     * @param mode        La façon de générer la suite des tuiles de chaque graine
+     * @param tileCount   Le nombre de tuiles d'une partie, tuile centrale comprise
+     * @param parallelism Le nombre de threads de calcul
+     * @throws IllegalArgumentException Si le nombre de tuiles ou de threads n'est pas strictement positif
+     */
+    public BatchSimulator(PlacementStrategy strategy, TileSequenceMode mode, int tileCount, int parallelism) {
+        if (tileCount < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("Nombre de tuiles et de threads strictement positifs attendus");
+        }
+        this.strategy = strategy;
+        this.mode = mode;
+        this.tileCount = tileCount;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Joue une partie complète sur le thread appelant.
+     *
+     * @param seed      La graine des tuiles
+     * @param gameIndex Le numéro de la partie, qui détermine le générateur de la stratégie
+     * @return Le résultat de la partie
+     */
+    public GameResult play(long seed, int gameIndex) {
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed ^ (0x9E3779B97F4A7C15L * (gameIndex + 1L))).split();
+        BoardModel board = new BoardModel(new Game(seed), mode.create(seed));
+
+        board.placeTile(board.drawTile(), 0, 0);
+        for (int placed = 1; placed < tileCount; placed++) {
+            TileState tile = board.drawTile();
+            Placement placement = strategy.choose(board, tile, tileCount - placed - 1, random);
+            for (int i = 0; i < placement.getRotation(); i++) {
+                tile.rotate(true);
+            }
+            board.placeTile(tile, placement.getQ(), placement.getR());
+        }
+
+        return GameResult.of(seed, gameIndex, strategy.getName(), board, System.nanoTime() - start);
+    }
+
+    /**
+     * Joue un lot de parties en parallèle et transmet chaque résultat dès que sa partie est terminée.
+     * La méthode rend la main lorsque toutes les parties sont jouées.
+     *
+     * @param seeds        Les graines à jouer
+     * @param gamesPerSeed Le nombre de parties à jouer sur chaque graine
+     * @param sink         Le consommateur des résultats, appelé depuis les threads de calcul
+     * @return Le bilan du lot
+     */
+    public SimulationSummary run(long[] seeds, int gamesPerSeed, Consumer<GameResult> sink) {
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            return run(pool, seeds, gamesPerSeed, sink);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Joue un lot de parties sur un pool existant, qui reste ouvert ensuite : un appelant qui enchaîne
+     * plusieurs lots évite ainsi de créer des threads pour chacun.
+     *
+     * @param pool         Le pool qui joue les parties
+     * @param seeds        Les graines à jouer
+     * @param gamesPerSeed Le nombre de parties à jouer sur chaque graine
+     * @param sink         Le consommateur des résultats, appelé depuis les threads du pool
+     * @return Le bilan du lot
+     */
+    public SimulationSummary run(ForkJoinPool pool, long[] seeds, int gamesPerSeed, Consumer<GameResult> sink) {
+        long games = (long) seeds.length * gamesPerSeed;
+        LongAdder totalScore = new LongAdder();
+        long start = System.nanoTime();
+        pool.invoke(new GameRange(seeds, gamesPerSeed, 0, games, sink, totalScore));
+        return new SimulationSummary(games, games * tileCount, totalScore.sum(), System.nanoTime() - start);
+    }
+
+    /**
+     * Tâche jouant une plage de parties, numérotées de 0 à {@code graines × parties par graine},
+     * découpée en deux tant qu'elle contient plus de {@link #GAMES_PER_TASK} parties.
+     */
+    private class GameRange extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Graines du lot.
+         */
+        private final long[] seeds;
+
+        /**
+         * Nombre de parties jouées sur chaque graine.
+         */
+        private final int gamesPerSeed;
+
+        /**
+         * Numéro de la première partie de la plage (inclus).
+         */
+        private final long from;
+
+        /**
+         * Numéro de la dernière partie de la plage (exclu).
+         */
+        private final long to;
+
+        /**
+         * Consommateur des résultats.
+         */
+        private final Consumer<GameResult> sink;
+
+        /**
+         * Somme des scores, partagée par toutes les tâches du lot.
+         */
+        private final LongAdder totalScore;
+
+        /**
+         * Constructeur d'une plage de parties.
+         *
+         * @param seeds        Les graines du lot
+         * @param gamesPerSeed Le nombre de parties par graine
+         * @param from         Le numéro de la première partie (inclus)
+         * @param to           Le numéro de la dernière partie (exclu)
+         * @param sink         Le consommateur des résultats
+         * @param totalScore   La somme des scores à alimenter
+         */
+        GameRange(long[] seeds, int gamesPerSeed, long from, long to, Consumer<GameResult> sink, LongAdder totalScore) {
+            this.seeds = seeds;
+            this.gamesPerSeed = gamesPerSeed;
+            this.from = from;
+            this.to = to;
+            this.sink = sink;
+            this.totalScore = totalScore;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= GAMES_PER_TASK) {
+                for (long game = from; game < to; game++) {
+                    GameResult result = play(seeds[(int) (game / gamesPerSeed)], (int) (game % gamesPerSeed));
+                    totalScore.add(result.getScore());
+                    sink.accept(result);
+                }
+                return;
+            }
+            long middle = (from + to) >>> 1;
+            invokeAll(new GameRange(seeds, gamesPerSeed, from, middle, sink, totalScore),
+                      new GameRange(seeds, gamesPerSeed, middle, to, sink, totalScore));
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.List;
+
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.Pocket;
+
+/**
+ * Résultat d'une partie simulée : la graine jouée, le score final, des statistiques sur les poches
+ * de biomes et la durée de la partie.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see BatchSimulator
+ */
+public final class GameResult {
+
+    /**
+     * Graine de la partie.
+     */
+    private final long seed;
+
+    /**
+     * Numéro de la partie parmi celles jouées sur la même graine.
+     */
+    private final int gameIndex;
+
+    /**
+     * Nom de la stratégie utilisée.
+     */
+    private final String strategy;
+
+    /**
+     * Score final.
+     */
+    private final int score;
+
+    /**
+     * Nombre de tuiles posées.
+     */
+    private final int tileCount;
+
+    /**
+     * Nombre de poches de biomes à la fin de la partie.
+     */
+    private final int pocketCount;
+
+    /**
+     * Taille de la plus grande poche, en tuiles.
+     */
+    private final int largestPocket;
+
+    /**
+     * Somme des tailles de toutes les poches, en tuiles.
+     */
+    private final int pocketTiles;
+
+    /**
+     * Durée de la partie, en nanosecondes.
+     */
+    private final long nanos;
+
+    /**
+     * Constructeur d'un résultat.
+     *
+     * @param seed          La graine de la partie
+     * @param gameIndex     Le numéro de la partie pour cette graine
+     * @param strategy      Le nom de la stratégie utilisée
+     * @param score         Le score final
+     * @param tileCount     Le nombre de tuiles posées
+     * @param pocketCount   Le nombre de poches
+     * @param largestPocket La taille de la plus grande poche
+     * @param pocketTiles   La somme des tailles des poches
+     * @param nanos         La durée de la partie, en nanosecondes
+     */
+    public GameResult(long seed, int gameIndex, String strategy, int score, int tileCount,
+                      int pocketCount, int largestPocket, int pocketTiles, long nanos) {
+        this.seed = seed;
+        this.gameIndex = gameIndex;
+        this.strategy = strategy;
+        this.score = score;
+        this.tileCount = tileCount;
+        this.pocketCount = pocketCount;
+        this.largestPocket = largestPocket;
+        this.pocketTiles = pocketTiles;
+        this.nanos = nanos;
+    }
+
+    /**
+     * Construit le résultat d'une partie terminée à partir de son plateau.
+     *
+     * @param seed      La graine de la partie
+     * @param gameIndex Le numéro de la partie pour cette graine
+     * @param strategy  Le nom de la stratégie utilisée
+     * @param board     Le plateau à la fin de la partie
+     * @param nanos     La durée de la partie, en nanosecondes
+     * @return Le résultat
+     */
+    public static GameResult of(long seed, int gameIndex, String strategy, BoardModel board, long nanos) {
+        List<Pocket> pockets = board.getScoreManager().getPockets();
+        int largest = 0;
+        int total = 0;
+        for (Pocket pocket : pockets) {
+            largest = Math.max(largest, pocket.getSize());
+            total += pocket.getSize();
+        }
+        return new GameResult(seed, gameIndex, strategy, board.getScore(), board.getTileCount(),
+                pockets.size(), largest, total, nanos);
+    }
+
+    /**
+     * Retourne la graine de la partie.
+     *
+     * @return La graine
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Retourne le numéro de la partie parmi celles jouées sur la même graine.
+     *
+     * @return Le numéro, à partir de 0
+     */
+    public int getGameIndex() {
+        return gameIndex;
+    }
+
+    /**
+     * Retourne le nom de la stratégie utilisée.
+     *
+     * @return Le nom de la stratégie
+     */
+    public String getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * Retourne le score final.
+     *
+     * @return Le score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Retourne le nombre de tuiles posées.
+     *
+     * @return Le nombre de tuiles
+     */
+    public int getTileCount() {
+        return tileCount;
+    }
+
+    /**
+     * Retourne le nombre de poches de biomes à la fin de la partie.
+     *
+     * @return Le nombre de poches
+     */
+    public int getPocketCount() {
+        return pocketCount;
+    }
+
+    /**
+     * Retourne la taille de la plus grande poche.
+     *
+     * @return La taille, en tuiles
+     */
+    public int getLargestPocket() {
+        return largestPocket;
+    }
+
+    /**
+     * Retourne la taille moyenne des poches. Une tuile bicolore comptant dans deux poches,
+     * la somme des tailles peut dépasser le nombre de tuiles.
+     *
+     * @return La taille moyenne, en tuiles
+     */
+    public double getMeanPocketSize() {
+        return pocketCount == 0 ? 0 : (double) pocketTiles / pocketCount;
+    }
+
+    /**
+     * Retourne la durée de la partie.
+     *
+     * @return La durée, en nanosecondes
+     */
+    public long getNanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,97 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.Frontier;
+import fr.monkhanny.dorfromantik.game.HexGrid;
+import fr.monkhanny.dorfromantik.game.ScoreManager;
+import fr.monkhanny.dorfromantik.game.TileCode;
+import fr.monkhanny.dorfromantik.game.TileState;
+
+/**
+ * Stratégie gloutonne : essaie chaque case de la frontière avec chaque rotation de la tuile et garde
+ * le coup qui rapporte le plus de points immédiatement, d'après {@link ScoreManager#evaluatePlacement(int, int, int)}.
+ * Les égalités sont départagées au hasard, pour ne pas favoriser les premières cases de la frontière.
+ *
+ * Avec un taux de coups aléatoires non nul, la stratégie joue parfois un coup au hasard à la place :
+ * c'est ainsi que sont simulés des joueurs de niveaux différents (voir {@link ScoreCalibration}).
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class GreedyStrategy implements PlacementStrategy {
+
+    /**
+     * Stratégie utilisée pour les coups joués au hasard.
+     */
+    private static final RandomStrategy RANDOM = new RandomStrategy();
+
+    /**
+     * Probabilité de jouer un coup au hasard plutôt que le meilleur coup.
+     */
+    private final double randomMoveRate;
+
+    /**
+     * Constructeur d'une stratégie qui joue toujours le meilleur coup immédiat.
+     */
+    public GreedyStrategy() {
+        this(0);
+    }
+
+    /**
+     * Constructeur d'une stratégie qui joue parfois au hasard.
+     *
+     * @param randomMoveRate La probabilité, entre 0 et 1, de jouer un coup au hasard
+     * @throws IllegalArgumentException Si la probabilité n'est pas comprise entre 0 et 1
+     */
+    public GreedyStrategy(double randomMoveRate) {
+        if (randomMoveRate < 0 || randomMoveRate > 1) {
+            throw new IllegalArgumentException("Taux de coups aléatoires hors de [0, 1] : " + randomMoveRate);
+        }
+        this.randomMoveRate = randomMoveRate;
+    }
+
+    @Override
+    public String getName() {
+        return randomMoveRate == 0 ? "greedy" : "greedy:" + randomMoveRate;
+    }
+
+    @Override
+    public Placement choose(BoardModel board, TileState tile, int remainingTiles, SplittableRandom random) {
+        if (randomMoveRate > 0 && random.nextDouble() < randomMoveRate) {
+            return RANDOM.choose(board, tile, remainingTiles, random);
+        }
+
+        Frontier frontier = board.getFrontier();
+        ScoreManager scoreManager = board.getScoreManager();
+        int[] codes = new int[TileCode.SIDE_COUNT];
+        int rotations = Placement.distinctRotations(tile.getCode(), codes);
+
+        long bestCell = frontier.keyAt(0);
+        int bestRotation = 0;
+        int bestDelta = Integer.MIN_VALUE;
+        int ties = 0;
+        for (int i = 0; i < frontier.size(); i++) {
+            long cell = frontier.keyAt(i);
+            int q = HexGrid.keyQ(cell);
+            int r = HexGrid.keyR(cell);
+            for (int rotation = 0; rotation < TileCode.SIDE_COUNT; rotation++) {
+                if ((rotations & (1 << rotation)) == 0) {
+                    continue;
+                }
+                int delta = scoreManager.evaluatePlacement(codes[rotation], q, r);
+                if (delta > bestDelta) {
+                    bestDelta = delta;
+                    ties = 1;
+                } else if (delta < bestDelta || random.nextInt(++ties) != 0) {
+                    continue;
+                }
+                // Nouveau meilleur coup, ou égalité retenue avec une chance sur le nombre d'ex æquo
+                bestCell = cell;
+                bestRotation = rotation;
+            }
+        }
+        return new Placement(HexGrid.keyQ(bestCell), HexGrid.keyR(bestCell), bestRotation);
+    }
+}
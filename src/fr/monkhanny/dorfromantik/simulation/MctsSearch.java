@@ -0,0 +1,797 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import fr.monkhanny.dorfromantik.enums.TileSequenceMode;
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.Frontier;
+import fr.monkhanny.dorfromantik.game.Game;
+import fr.monkhanny.dorfromantik.game.HexGrid;
+import fr.monkhanny.dorfromantik.game.TileCode;
+import fr.monkhanny.dorfromantik.game.TileSequence;
+import fr.monkhanny.dorfromantik.game.TileState;
+
+/**
+ * Recherche arborescente de Monte-Carlo (MCTS) sur la suite de tuiles connue d'une graine.
+ *
+ * Contrairement aux stratégies de pose, la recherche connaît toutes les tuiles à venir : le jeu devient
+ * un problème à un joueur sans hasard, dont elle cherche le meilleur score possible. À chaque itération,
+ * un chemin est choisi dans l'arbre selon UCT (moyenne des scores plus un bonus d'exploration), une
+ * nouvelle position y est ajoutée, puis la partie est terminée par la {@link RolloutPolicy} et son score
+ * final est remonté le long du chemin.
+ *
+ * Les threads de recherche sont ceux d'un {@link ForkJoinPool} créé avec la recherche et gardé pour toute
+ * la partie. Chacun a son propre plateau, copié une seule fois : une itération y pose les tuiles de son
+ * chemin et de sa simulation, puis les retire ({@link BoardModel#undoPlacement()}) pour revenir à la racine.
+ *
+ * Plusieurs threads parcourent le même arbre sans verrou : les compteurs sont mis à jour par des
+ * opérations atomiques, et un nœud n'est développé que par le thread qui a gagné le
+ * {@code compareAndSet} de ses enfants. Chaque passage incrémente les visites avant que le score ne
+ * soit connu (« perte virtuelle ») : les autres threads voient ce chemin momentanément moins bon et
+ * en explorent d'autres. Les positions sont identifiées par l'empreinte du plateau
+ * ({@link BoardModel#getHash()}) : deux suites de coups menant au même plateau partagent le même nœud.
+ *
+ * Après chaque coup joué, le sous-arbre du coup est gardé comme nouvelle racine, avec ses statistiques,
+ * et les nœuds devenus inaccessibles sont oubliés.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see MonteCarloStrategy
+ */
+public class MctsSearch {
+
+    /**
+     * Coefficient d'exploration d'UCT, appliqué à des scores ramenés entre 0 et 1.
+     */
+    private static final double DEFAULT_EXPLORATION = 0.25;
+
+    /**
+     * Nombre de coups étudiés dans chaque position, les meilleurs d'après le gain immédiat.
+     */
+    private static final int DEFAULT_MAX_CHILDREN = 24;
+
+    /**
+     * Nombre de nœuds au-delà duquel l'arbre n'est plus agrandi, pour borner la mémoire.
+     */
+    private static final int MAX_NODES = 2_000_000;
+
+    /**
+     * Marque d'un nœud en cours de développement par un autre thread.
+     */
+    private static final Edge[] EXPANDING = new Edge[0];
+
+    /**
+     * Ordre des coups, du plus grand gain immédiat au plus petit.
+     */
+    private static final Comparator<Edge> BY_DELTA = Comparator.comparingInt((Edge e) -> e.delta).reversed();
+
+    /**
+     * Graine de la partie.
+     */
+    private final long seed;
+
+    /**
+     * Codes des tuiles de la graine, dans l'ordre de pose ; la tuile 0 est la tuile centrale.
+     */
+    private final int[] sequence;
+
+    /**
+     * Nombre de threads de recherche.
+     */
+    private final int threads;
+
+    /**
+     * Coefficient d'exploration d'UCT.
+     */
+    private final double exploration;
+
+    /**
+     * Nombre de coups étudiés dans chaque position.
+     */
+    private final int maxChildren;
+
+    /**
+     * Plateau de la partie réellement jouée, dont la position est la racine de l'arbre.
+     */
+    private final BoardModel board;
+
+    /**
+     * Threads de recherche, réutilisés d'un coup à l'autre.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * État propre à chaque thread de recherche.
+     */
+    private final Worker[] workers;
+
+    /**
+     * Nœuds de l'arbre indexés par l'empreinte de leur plateau.
+     */
+    private final ConcurrentHashMap<Long, Node> transpositions;
+
+    /**
+     * Générateur dont chaque thread de recherche reçoit une branche.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * Meilleur score final obtenu par une simulation, qui sert aussi à ramener les scores entre 0 et 1.
+     */
+    private final AtomicInteger bestScore;
+
+    /**
+     * Nombre de nœuds créés depuis le début de la partie.
+     */
+    private final LongAdder createdNodes;
+
+    /**
+     * Nombre d'itérations effectuées depuis le début de la partie.
+     */
+    private final LongAdder iterations;
+
+    /**
+     * Partie complète de la simulation qui a obtenu le meilleur score.
+     */
+    private volatile BestLine bestLine;
+
+    /**
+     * Racine de l'arbre, correspondant à {@link #board}.
+     */
+    private Node root;
+
+    /**
+     * Temps total passé à chercher, en nanosecondes.
+     */
+    private long searchNanos;
+
+    /**
+     * Constructeur d'une recherche avec les réglages par défaut. La tuile centrale est déjà posée.
+     *
+     * @param seed       La graine de la partie
+     * @param mode       La façon de générer la suite des tuiles de la graine
+     * @param tileCount  Le nombre de tuiles de la partie, tuile centrale comprise
+     * @param threads    Le nombre de threads de recherche
+     * @param searchSeed La graine des tirages de la recherche
+     */
+    public MctsSearch(long seed, TileSequenceMode mode, int tileCount, int threads, long searchSeed) {
+        this(seed, mode, tileCount, threads, DEFAULT_EXPLORATION, DEFAULT_MAX_CHILDREN, searchSeed);
+    }
+
+    /**
+     * Constructeur d'une recherche. La tuile centrale est déjà posée.
+     *
+     * @param seed        La graine de la partie
+     * @param mode        La façon de générer la suite des tuiles de la graine
+     * @param tileCount   Le nombre de tuiles de la partie, tuile centrale comprise
+     * @param threads     Le nombre de threads de recherche
+     * @param exploration Le coefficient d'exploration d'UCT
+     * @param maxChildren Le nombre de coups étudiés dans chaque position
+     * @param searchSeed  La graine des tirages de la recherche
+     * @throws IllegalArgumentException Si le nombre de tuiles, de threads ou de coups n'est pas strictement positif
+     */
+    public MctsSearch(long seed, TileSequenceMode mode, int tileCount, int threads, double exploration, int maxChildren,
+                      long searchSeed) {
+        if (tileCount < 1 || threads < 1 || maxChildren < 1) {
+            throw new IllegalArgumentException("Nombre de tuiles, de threads et de coups strictement positifs attendus");
+        }
+        this.seed = seed;
+        this.threads = threads;
+        this.exploration = exploration;
+        this.maxChildren = maxChildren;
+        this.transpositions = new ConcurrentHashMap<>();
+        this.random = new SplittableRandom(searchSeed);
+        this.bestScore = new AtomicInteger(1);
+        this.createdNodes = new LongAdder();
+        this.iterations = new LongAdder();
+
+        TileSequence tiles = mode.create(seed);
+        this.sequence = new int[tileCount];
+        for (int i = 0; i < tileCount; i++) {
+            sequence[i] = tiles.codeAt(i);
+        }
+
+        this.board = new BoardModel(new Game(seed), tiles);
+        board.placeTile(new TileState(sequence[0]), 0, 0);
+        this.root = node(board.getHash(), board.getTileCount());
+
+        this.pool = new ForkJoinPool(threads);
+        this.workers = new Worker[threads];
+        for (int i = 0; i < threads; i++) {
+            // Les tuiles viennent de la suite connue : la copie n'a pas besoin de générateur
+            BoardModel state = board.copy(board.getTileSequence());
+            state.enableUndo();
+            workers[i] = new Worker(state);
+        }
+    }
+
+    /**
+     * Indique si toutes les tuiles ont été posées.
+     *
+     * @return {@code true} si la partie est terminée
+     */
+    public boolean isFinished() {
+        return board.getTileCount() >= sequence.length;
+    }
+
+    /**
+     * Cherche le meilleur coup pour la tuile suivante pendant le temps donné, sur tous les threads.
+     * Chaque thread fait au moins une itération.
+     *
+     * @param timeBudgetMillis Le temps de recherche, en millisecondes
+     * @return Le coup de la meilleure partie trouvée
+     * @throws IllegalStateException Si la partie est terminée, ou si un thread de recherche a échoué
+     */
+    public Placement search(long timeBudgetMillis) {
+        if (isFinished()) {
+            throw new IllegalStateException("La partie est terminée");
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + timeBudgetMillis * 1_000_000L;
+        List<Callable<Void>> tasks = new ArrayList<>(threads);
+        for (Worker worker : workers) {
+            worker.random = random.split();
+            tasks.add(() -> {
+                runWorker(deadline, worker);
+                return null;
+            });
+        }
+        try {
+            for (Future<Void> task : pool.invokeAll(tasks)) {
+                task.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Échec d'un thread de recherche", e.getCause());
+        }
+        searchNanos += System.nanoTime() - start;
+
+        // Jeu à un joueur sans hasard : la meilleure partie trouvée est suivie tant qu'elle prolonge la partie jouée
+        int next = board.getTileCount();
+        BestLine line = bestLine;
+        if (line != null && line.hashes[next - 1] == board.getHash()) {
+            int rotation = 0;
+            while (Placement.rotate(sequence[next], rotation) != line.codes[next]) {
+                rotation++;
+            }
+            return new Placement(line.qs[next], line.rs[next], rotation);
+        }
+
+        Edge[] children = root.children;
+        if (children == null || children == EXPANDING) {
+            // Arbre plein : la racine n'a pas pu être développée, le meilleur gain immédiat est joué
+            children = expand(board, sequence[board.getTileCount()]);
+            return new Placement(children[0].q, children[0].r, children[0].rotation);
+        }
+        Edge best = children[0];
+        for (Edge edge : children) {
+            if (edge.child != null && (best.child == null || edge.child.best > best.child.best
+                    || (edge.child.best == best.child.best && edge.child.visits > best.child.visits))) {
+                best = edge;
+            }
+        }
+        return new Placement(best.q, best.r, best.rotation);
+    }
+
+    /**
+     * Joue un coup et garde son sous-arbre comme nouvelle racine.
+     *
+     * @param placement Le coup à jouer pour la tuile suivante
+     * @throws IllegalArgumentException Si la case n'est pas disponible
+     */
+    public void advance(Placement placement) {
+        int code = Placement.rotate(sequence[board.getTileCount()], placement.getRotation());
+        board.placeTile(new TileState(code), placement.getQ(), placement.getR());
+        for (Worker worker : workers) {
+            worker.state.placeTile(new TileState(code), placement.getQ(), placement.getR());
+        }
+
+        Node next = null;
+        Edge[] children = root.children;
+        if (children != null) {
+            for (Edge edge : children) {
+                if (edge.q == placement.getQ() && edge.r == placement.getR() && edge.code == code) {
+                    next = edge.child;
+                }
+            }
+        }
+        root = (next != null) ? next : node(board.getHash(), board.getTileCount());
+        retainReachable();
+    }
+
+    /**
+     * Joue toute la partie, en cherchant pendant le temps donné avant chaque coup, puis arrête les threads
+     * de recherche.
+     *
+     * @param gameIndex     Le numéro de la partie, reporté dans le résultat
+     * @param millisPerMove Le temps de recherche de chaque coup, en millisecondes
+     * @return Le résultat de la partie
+     */
+    public GameResult playGame(int gameIndex, long millisPerMove) {
+        long start = System.nanoTime();
+        try {
+            while (!isFinished()) {
+                advance(search(millisPerMove));
+            }
+        } finally {
+            shutdown();
+        }
+        return GameResult.of(seed, gameIndex, "mcts:" + millisPerMove, board, System.nanoTime() - start);
+    }
+
+    /**
+     * Arrête les threads de recherche ; la recherche ne peut plus être utilisée ensuite.
+     */
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Boucle d'un thread de recherche : enchaîne les itérations jusqu'à l'échéance.
+     *
+     * @param deadline L'échéance, au sens de {@link System#nanoTime()}
+     * @param worker   L'état propre au thread
+     */
+    private void runWorker(long deadline, Worker worker) {
+        do {
+            iterate(worker);
+            iterations.increment();
+        } while (System.nanoTime() < deadline);
+    }
+
+    /**
+     * Effectue une itération : descente dans l'arbre, ajout d'une position, fin de partie simulée
+     * puis remontée du score. Le plateau du thread est ramené à la racine à la fin de l'itération.
+     *
+     * @param worker L'état propre au thread
+     */
+    private void iterate(Worker worker) {
+        BoardModel state = worker.state;
+        SplittableRandom random = worker.random;
+        List<Node> path = worker.path;
+        int rootDepth = state.getTileCount();
+        int depth = rootDepth;
+        Node node = root;
+        path.clear();
+        Node.VISITS.incrementAndGet(node);
+        path.add(node);
+
+        while (depth < sequence.length) {
+            Edge[] children = node.children;
+            if (children == null) {
+                if (transpositions.mappingCount() >= MAX_NODES || !Node.CHILDREN.compareAndSet(node, null, EXPANDING)) {
+                    break;
+                }
+                children = expand(state, sequence[depth]);
+                node.children = children;
+            } else if (children == EXPANDING) {
+                break;
+            }
+
+            Edge edge = select(node, children);
+            state.placeTile(new TileState(edge.code), edge.q, edge.r);
+            depth++;
+            if (edge.child == null) {
+                edge.child = node(state.getHash(), depth);
+            }
+            node = edge.child;
+            // Perte virtuelle : la visite est comptée avant que son score ne soit connu
+            boolean firstVisit = Node.VISITS.getAndIncrement(node) == 0;
+            path.add(node);
+            if (firstVisit) {
+                break;
+            }
+        }
+
+        for (; depth < sequence.length; depth++) {
+            RolloutPolicy.place(state, sequence[depth], random);
+        }
+
+        int score = state.getScore();
+        if (score > bestScore.get()) {
+            recordBestLine(state);
+        }
+        while (state.getTileCount() > rootDepth) {
+            state.undoPlacement();
+        }
+        for (Node visited : path) {
+            Node.TOTAL.addAndGet(visited, score);
+            int best;
+            while (score > (best = visited.best) && !Node.BEST.compareAndSet(visited, best, score)) {
+                // Un autre thread a remonté un score entre-temps : recommencer la comparaison
+            }
+        }
+    }
+
+    /**
+     * Enregistre une partie simulée si elle bat la meilleure partie connue.
+     *
+     * @param state Le plateau à la fin de la partie simulée
+     */
+    private synchronized void recordBestLine(BoardModel state) {
+        int score = state.getScore();
+        if (bestLine != null && score <= bestLine.score) {
+            return;
+        }
+        bestLine = new BestLine(state);
+        bestScore.accumulateAndGet(score, Math::max);
+    }
+
+    /**
+     * Choisit le coup à suivre selon UCT. Les coups jamais visités passent en premier, dans l'ordre
+     * de leur gain immédiat.
+     *
+     * @param node     Le nœud courant
+     * @param children Les coups du nœud
+     * @return Le coup choisi
+     */
+    private Edge select(Node node, Edge[] children) {
+        double logVisits = Math.log(Math.max(1, node.visits));
+        double scale = bestScore.get();
+        Edge best = children[0];
+        double bestValue = Double.NEGATIVE_INFINITY;
+        for (Edge edge : children) {
+            Node child = edge.child;
+            int visits = (child == null) ? 0 : child.visits;
+            if (visits == 0) {
+                return edge;
+            }
+            double value = child.total / (visits * scale) + exploration * Math.sqrt(logVisits / visits);
+            if (value > bestValue) {
+                bestValue = value;
+                best = edge;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Construit les coups d'une position : chaque case de la frontière avec chaque rotation distincte
+     * de la tuile, dont seuls les {@link #maxChildren} meilleurs d'après le gain immédiat sont gardés.
+     *
+     * @param state Le plateau de la position
+     * @param code  Le code de la tuile à poser
+     * @return Les coups, triés par gain immédiat décroissant
+     */
+    private Edge[] expand(BoardModel state, int code) {
+        Frontier frontier = state.getFrontier();
+        int[] codes = new int[TileCode.SIDE_COUNT];
+        int rotations = Placement.distinctRotations(code, codes);
+
+        List<Edge> edges = new ArrayList<>();
+        for (int i = 0; i < frontier.size(); i++) {
+            long cell = frontier.keyAt(i);
+            int q = HexGrid.keyQ(cell);
+            int r = HexGrid.keyR(cell);
+            for (int rotation = 0; rotation < TileCode.SIDE_COUNT; rotation++) {
+                if ((rotations & (1 << rotation)) != 0) {
+                    int delta = state.getScoreManager().evaluatePlacement(codes[rotation], q, r);
+                    edges.add(new Edge(q, r, rotation, codes[rotation], delta));
+                }
+            }
+        }
+        edges.sort(BY_DELTA);
+        return edges.subList(0, Math.min(maxChildren, edges.size())).toArray(new Edge[0]);
+    }
+
+    /**
+     * Récupère le nœud d'une position, en le créant s'il n'existe pas encore.
+     *
+     * @param hash  L'empreinte du plateau
+     * @param depth Le nombre de tuiles posées
+     * @return Le nœud
+     */
+    private Node node(long hash, int depth) {
+        Node node = transpositions.computeIfAbsent(hash, h -> {
+            createdNodes.increment();
+            return new Node(h, depth);
+        });
+        // Deux plateaux différents de même empreinte sont très improbables, mais pas impossibles
+        return (node.depth == depth) ? node : new Node(hash, depth);
+    }
+
+    /**
+     * Oublie les nœuds qui ne sont plus accessibles depuis la racine.
+     */
+    private void retainReachable() {
+        Map<Long, Node> reachable = new HashMap<>();
+        Deque<Node> pending = new ArrayDeque<>();
+        pending.push(root);
+        reachable.put(root.hash, root);
+        while (!pending.isEmpty()) {
+            Edge[] children = pending.pop().children;
+            if (children == null) {
+                continue;
+            }
+            for (Edge edge : children) {
+                Node child = edge.child;
+                if (child != null && reachable.putIfAbsent(child.hash, child) == null) {
+                    pending.push(child);
+                }
+            }
+        }
+        transpositions.keySet().retainAll(reachable.keySet());
+    }
+
+    /**
+     * Retourne le meilleur score final atteint par une simulation : un score que la graine permet
+     * d'obtenir, qui approche le score optimal à mesure que la recherche progresse.
+     *
+     * @return Le meilleur score trouvé
+     */
+    public int getBestScore() {
+        return bestScore.get();
+    }
+
+    /**
+     * Retourne le nombre de nœuds créés depuis le début de la partie.
+     *
+     * @return Le nombre de nœuds
+     */
+    public long getNodeCount() {
+        return createdNodes.sum();
+    }
+
+    /**
+     * Retourne le nombre de nœuds de l'arbre actuel.
+     *
+     * @return Le nombre de nœuds accessibles depuis la racine
+     */
+    public int getTreeSize() {
+        return transpositions.size();
+    }
+
+    /**
+     * Retourne le nombre de visites de la racine, dont celles héritées des recherches précédentes.
+     *
+     * @return Le nombre de visites
+     */
+    public int getRootVisits() {
+        return root.visits;
+    }
+
+    /**
+     * Retourne le débit de la recherche en nœuds créés.
+     *
+     * @return Le nombre de nœuds créés par seconde de recherche
+     */
+    public double getNodesPerSecond() {
+        return searchNanos == 0 ? 0 : createdNodes.sum() * 1e9 / searchNanos;
+    }
+
+    /**
+     * Retourne le débit de la recherche en itérations (une simulation jusqu'à la fin de la partie chacune).
+     *
+     * @return Le nombre d'itérations par seconde de recherche
+     */
+    public double getIterationsPerSecond() {
+        return searchNanos == 0 ? 0 : iterations.sum() * 1e9 / searchNanos;
+    }
+
+    /**
+     * Position de l'arbre et statistiques de ses visites. Les compteurs sont modifiés par plusieurs
+     * threads à la fois, au moyen d'opérations atomiques sur les champs.
+     */
+    private static final class Node {
+
+        /**
+         * Accès atomique au nombre de visites.
+         */
+        private static final AtomicIntegerFieldUpdater<Node> VISITS = AtomicIntegerFieldUpdater.newUpdater(Node.class, "visits");
+
+        /**
+         * Accès atomique à la somme des scores.
+         */
+        private static final AtomicLongFieldUpdater<Node> TOTAL = AtomicLongFieldUpdater.newUpdater(Node.class, "total");
+
+        /**
+         * Accès atomique au meilleur score.
+         */
+        private static final AtomicIntegerFieldUpdater<Node> BEST = AtomicIntegerFieldUpdater.newUpdater(Node.class, "best");
+
+        /**
+         * Accès atomique aux coups.
+         */
+        private static final AtomicReferenceFieldUpdater<Node, Edge[]> CHILDREN =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Edge[].class, "children");
+
+        /**
+         * Empreinte du plateau.
+         */
+        private final long hash;
+
+        /**
+         * Nombre de tuiles posées.
+         */
+        private final int depth;
+
+        /**
+         * Nombre de visites, pertes virtuelles comprises.
+         */
+        private volatile int visits;
+
+        /**
+         * Somme des scores finaux des simulations passées par ce nœud.
+         */
+        private volatile long total;
+
+        /**
+         * Meilleur score final d'une simulation passée par ce nœud.
+         */
+        private volatile int best;
+
+        /**
+         * Coups de la position, {@code null} tant que le nœud n'est pas développé.
+         */
+        private volatile Edge[] children;
+
+        /**
+         * Constructeur d'un nœud jamais visité.
+         *
+         * @param hash  L'empreinte du plateau
+         * @param depth Le nombre de tuiles posées
+         */
+        private Node(long hash, int depth) {
+            this.hash = hash;
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * État propre à un thread de recherche, gardé d'un coup à l'autre.
+     */
+    private static final class Worker {
+
+        /**
+         * Plateau du thread, à la position de la racine entre deux itérations.
+         */
+        private final BoardModel state;
+
+        /**
+         * Nœuds traversés par l'itération en cours.
+         */
+        private final List<Node> path;
+
+        /**
+         * Générateur du thread, renouvelé à chaque recherche.
+         */
+        private SplittableRandom random;
+
+        /**
+         * Constructeur de l'état d'un thread.
+         *
+         * @param state Le plateau du thread, dont les poses peuvent être annulées
+         */
+        private Worker(BoardModel state) {
+            this.state = state;
+            this.path = new ArrayList<>();
+        }
+    }
+
+    /**
+     * Partie complète enregistrée : la case et le code de chaque tuile, et l'empreinte du plateau
+     * après chaque pose pour vérifier qu'elle prolonge la partie jouée.
+     */
+    private static final class BestLine {
+
+        /**
+         * Score final de la partie.
+         */
+        private final int score;
+
+        /**
+         * Colonne de chaque tuile, dans l'ordre de pose.
+         */
+        private final int[] qs;
+
+        /**
+         * Ligne de chaque tuile, dans l'ordre de pose.
+         */
+        private final int[] rs;
+
+        /**
+         * Code de chaque tuile posée, rotation comprise.
+         */
+        private final int[] codes;
+
+        /**
+         * Empreinte du plateau après la pose de chaque tuile.
+         */
+        private final long[] hashes;
+
+        /**
+         * Constructeur d'une partie enregistrée à partir de son plateau final.
+         *
+         * @param board Le plateau à la fin de la partie
+         */
+        private BestLine(BoardModel board) {
+            int count = board.getTileCount();
+            this.score = board.getScore();
+            this.qs = new int[count];
+            this.rs = new int[count];
+            this.codes = new int[count];
+            this.hashes = new long[count];
+            long hash = 0;
+            for (int i = 0; i < count; i++) {
+                TileState tile = board.getTile(i);
+                qs[i] = tile.getQ();
+                rs[i] = tile.getR();
+                codes[i] = tile.getCode();
+                hash ^= BoardModel.placementHash(qs[i], rs[i], codes[i]);
+                hashes[i] = hash;
+            }
+        }
+    }
+
+    /**
+     * Coup possible depuis une position, et le nœud de la position obtenue, créé à la première visite.
+     */
+    private static final class Edge {
+
+        /**
+         * Colonne de la case visée.
+         */
+        private final int q;
+
+        /**
+         * Ligne de la case visée.
+         */
+        private final int r;
+
+        /**
+         * Rotation de la tuile.
+         */
+        private final int rotation;
+
+        /**
+         * Code de la tuile tournée.
+         */
+        private final int code;
+
+        /**
+         * Gain immédiat du coup.
+         */
+        private final int delta;
+
+        /**
+         * Nœud de la position obtenue ; plusieurs threads peuvent l'affecter, toujours au même nœud.
+         */
+        private volatile Node child;
+
+        /**
+         * Constructeur d'un coup.
+         *
+         * @param q        La colonne de la case visée
+         * @param r        La ligne de la case visée
+         * @param rotation La rotation de la tuile
+         * @param code     Le code de la tuile tournée
+         * @param delta    Le gain immédiat du coup
+         */
+        private Edge(int q, int r, int rotation, int code, int delta) {
+            this.q = q;
+            this.r = r;
+            this.rotation = rotation;
+            this.code = code;
+            this.delta = delta;
+        }
+    }
+}
@@ -0,0 +1,297 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.CounterTileSequence;
+import fr.monkhanny.dorfromantik.game.Frontier;
+import fr.monkhanny.dorfromantik.game.HexGrid;
+import fr.monkhanny.dorfromantik.game.TileCode;
+import fr.monkhanny.dorfromantik.game.TileState;
+
+/**
+ * Stratégie de Monte-Carlo : chaque coup candidat est joué puis la partie est terminée plusieurs fois
+ * avec des tuiles tirées au hasard (une « simulation »), et le coup dont le score final moyen est le
+ * plus élevé est retenu.
+ *
+ * Les tuiles des simulations ne sont pas celles de la graine : la stratégie ne connaît pas les tuiles
+ * à venir, comme un joueur. À chaque tour, tous les candidats sont simulés avec la même suite de tuiles,
+ * si bien que les écarts de score viennent des coups comparés et non de la chance des tirages. Les tuiles
+ * des simulations sont posées selon la {@link RolloutPolicy}. Pour limiter le nombre de simulations,
+ * seuls les meilleurs candidats d'après le gain immédiat sont étudiés.
+ *
+ * Les simulations sont faites par tours, une par candidat à chaque tour, réparties sur les threads d'un
+ * {@link ForkJoinPool} : celui du simulateur si la stratégie y est appelée, le pool commun sinon. Les tours
+ * s'arrêtent au bout du nombre de simulations demandé ou lorsque le temps alloué au coup est écoulé,
+ * chaque candidat ayant alors reçu le même nombre de simulations.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see GreedyStrategy
+ */
+public class MonteCarloStrategy implements PlacementStrategy {
+
+    /**
+     * Nombre de candidats en dessous duquel une tâche de simulation n'est plus découpée.
+     */
+    private static final int CANDIDATES_PER_TASK = 2;
+
+    /**
+     * Ordre des candidats, du plus grand gain immédiat au plus petit.
+     */
+    private static final Comparator<Candidate> BY_DELTA = Comparator.comparingInt((Candidate c) -> c.delta).reversed();
+
+    /**
+     * Nombre de simulations par candidat.
+     */
+    private final int rollouts;
+
+    /**
+     * Temps alloué à chaque coup, en nanosecondes.
+     */
+    private final long timeBudgetNanos;
+
+    /**
+     * Nombre maximal de candidats étudiés.
+     */
+    private final int maxCandidates;
+
+    /**
+     * Constructeur d'une stratégie de Monte-Carlo.
+     *
+     * @param rollouts         Le nombre de simulations par candidat
+     * @param timeBudgetMillis Le temps alloué à chaque coup, en millisecondes
+     * @param maxCandidates    Le nombre maximal de candidats étudiés, les meilleurs d'après le gain immédiat
+     * @throws IllegalArgumentException Si l'un des paramètres n'est pas strictement positif
+     */
+    public MonteCarloStrategy(int rollouts, long timeBudgetMillis, int maxCandidates) {
+        if (rollouts < 1 || timeBudgetMillis < 1 || maxCandidates < 1) {
+            throw new IllegalArgumentException("Paramètres strictement positifs attendus");
+        }
+        this.rollouts = rollouts;
+        this.timeBudgetNanos = timeBudgetMillis * 1_000_000L;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @Override
+    public String getName() {
+        return "montecarlo:" + rollouts + ":" + timeBudgetNanos / 1_000_000L;
+    }
+
+    @Override
+    public Placement choose(BoardModel board, TileState tile, int remainingTiles, SplittableRandom random) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        List<Candidate> candidates = candidates(board, tile, random);
+
+        if (remainingTiles > 0 && candidates.size() > 1) {
+            for (int round = 0; round < rollouts && System.nanoTime() < deadline; round++) {
+                RolloutRound task = new RolloutRound(board, candidates, remainingTiles, random.nextLong(), 0, candidates.size());
+                if (ForkJoinTask.inForkJoinPool()) {
+                    task.invoke();
+                } else {
+                    ForkJoinPool.commonPool().invoke(task);
+                }
+            }
+        }
+
+        // Sans simulation, les candidats sont à égalité et le premier est le meilleur coup glouton
+        Candidate best = candidates.get(0);
+        for (Candidate candidate : candidates) {
+            if (candidate.totalScore > best.totalScore) {
+                best = candidate;
+            }
+        }
+        return new Placement(best.q, best.r, best.rotation);
+    }
+
+    /**
+     * Construit les coups candidats : toutes les cases de la frontière avec chaque rotation distincte,
+     * triés par gain immédiat décroissant, dont seuls les {@link #maxCandidates} premiers sont gardés.
+     *
+     * @param board  Le plateau
+     * @param tile   La tuile à poser
+     * @param random Le générateur de la partie, dont chaque candidat reçoit une branche
+     * @return Les candidats retenus
+     */
+    private List<Candidate> candidates(BoardModel board, TileState tile, SplittableRandom random) {
+        Frontier frontier = board.getFrontier();
+        int[] codes = new int[TileCode.SIDE_COUNT];
+        int rotations = Placement.distinctRotations(tile.getCode(), codes);
+
+        List<Candidate> candidates = new ArrayList<>();
+        for (int i = 0; i < frontier.size(); i++) {
+            long cell = frontier.keyAt(i);
+            int q = HexGrid.keyQ(cell);
+            int r = HexGrid.keyR(cell);
+            for (int rotation = 0; rotation < TileCode.SIDE_COUNT; rotation++) {
+                if ((rotations & (1 << rotation)) != 0) {
+                    int delta = board.getScoreManager().evaluatePlacement(codes[rotation], q, r);
+                    candidates.add(new Candidate(q, r, rotation, codes[rotation], delta));
+                }
+            }
+        }
+
+        candidates.sort(BY_DELTA);
+        List<Candidate> kept = new ArrayList<>(candidates.subList(0, Math.min(maxCandidates, candidates.size())));
+        for (Candidate candidate : kept) {
+            candidate.random = random.split();
+        }
+        return kept;
+    }
+
+    /**
+     * Joue un candidat puis termine la partie avec des tuiles aléatoires, et ajoute le score final à celui du candidat.
+     *
+     * @param board          Le plateau, qui n'est pas modifié
+     * @param candidate      Le candidat à simuler
+     * @param remainingTiles Le nombre de tuiles à poser après le candidat
+     * @param tileSeed       La graine des tuiles de la simulation, commune à tous les candidats d'un tour
+     */
+    private static void rollout(BoardModel board, Candidate candidate, int remainingTiles, long tileSeed) {
+        SplittableRandom random = candidate.random;
+        BoardModel rollout = board.copy(new CounterTileSequence(tileSeed));
+        rollout.placeTile(new TileState(candidate.code), candidate.q, candidate.r);
+
+        for (int i = 0; i < remainingTiles; i++) {
+            RolloutPolicy.place(rollout, rollout.drawTile().getCode(), random);
+        }
+        candidate.totalScore += rollout.getScore();
+    }
+
+    /**
+     * Coup candidat et cumul des scores de ses simulations.
+     * Un candidat n'est simulé que par une tâche à la fois.
+     */
+    private static final class Candidate {
+
+        /**
+         * Colonne de la case visée.
+         */
+        private final int q;
+
+        /**
+         * Ligne de la case visée.
+         */
+        private final int r;
+
+        /**
+         * Rotation de la tuile.
+         */
+        private final int rotation;
+
+        /**
+         * Code de la tuile tournée.
+         */
+        private final int code;
+
+        /**
+         * Gain immédiat du coup.
+         */
+        private final int delta;
+
+        /**
+         * Générateur des simulations de ce candidat.
+         */
+        private SplittableRandom random;
+
+        /**
+         * Somme des scores finaux des simulations ; tous les candidats ayant le même nombre
+         * de simulations, la somme départage aussi bien que la moyenne.
+         */
+        private long totalScore;
+
+        /**
+         * Constructeur d'un candidat.
+         *
+         * @param q        La colonne de la case visée
+         * @param r        La ligne de la case visée
+         * @param rotation La rotation de la tuile
+         * @param code     Le code de la tuile tournée
+         * @param delta    Le gain immédiat du coup
+         */
+        private Candidate(int q, int r, int rotation, int code, int delta) {
+            this.q = q;
+            this.r = r;
+            this.rotation = rotation;
+            this.code = code;
+            this.delta = delta;
+        }
+    }
+
+    /**
+     * Tâche faisant une simulation pour chaque candidat d'une plage, découpée en deux tant qu'elle
+     * contient plus de {@link #CANDIDATES_PER_TASK} candidats.
+     */
+    private static final class RolloutRound extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * Plateau de départ des simulations.
+         */
+        private final BoardModel board;
+
+        /**
+         * Candidats du coup.
+         */
+        private final List<Candidate> candidates;
+
+        /**
+         * Nombre de tuiles à poser après le candidat.
+         */
+        private final int remainingTiles;
+
+        /**
+         * Graine des tuiles des simulations du tour.
+         */
+        private final long tileSeed;
+
+        /**
+         * Indice du premier candidat de la plage (inclus).
+         */
+        private final int from;
+
+        /**
+         * Indice du dernier candidat de la plage (exclu).
+         */
+        private final int to;
+
+        /**
+         * Constructeur d'une plage de candidats.
+         *
+         * @param board          Le plateau de départ
+         * @param candidates     Les candidats du coup
+         * @param remainingTiles Le nombre de tuiles à poser après le candidat
+         * @param tileSeed       La graine des tuiles des simulations du tour
+         * @param from           L'indice du premier candidat (inclus)
+         * @param to             L'indice du dernier candidat (exclu)
+         */
+        private RolloutRound(BoardModel board, List<Candidate> candidates, int remainingTiles, long tileSeed, int from, int to) {
+            this.board = board;
+            this.candidates = candidates;
+            this.remainingTiles = remainingTiles;
+            this.tileSeed = tileSeed;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= CANDIDATES_PER_TASK) {
+                for (int i = from; i < to; i++) {
+                    rollout(board, candidates.get(i), remainingTiles, tileSeed);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RolloutRound(board, candidates, remainingTiles, tileSeed, from, middle),
+                      new RolloutRound(board, candidates, remainingTiles, tileSeed, middle, to));
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import fr.monkhanny.dorfromantik.game.TileCode;
+
+/**
+ * Coup choisi par une stratégie : la case où poser la tuile et le nombre de sixièmes de tour
+ * (dans le sens horaire) à lui appliquer avant la pose.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see PlacementStrategy
+ */
+public final class Placement {
+
+    /**
+     * Colonne de la case visée.
+     */
+    private final int q;
+
+    /**
+     * Ligne de la case visée.
+     */
+    private final int r;
+
+    /**
+     * Nombre de sixièmes de tour dans le sens horaire, entre 0 et {@link TileCode#SIDE_COUNT} - 1.
+     */
+    private final int rotation;
+
+    /**
+     * Constructeur d'un coup.
+     *
+     * @param q        La colonne de la case visée
+     * @param r        La ligne de la case visée
+     * @param rotation Le nombre de sixièmes de tour dans le sens horaire
+     */
+    public Placement(int q, int r, int rotation) {
+        this.q = q;
+        this.r = r;
+        this.rotation = Math.floorMod(rotation, TileCode.SIDE_COUNT);
+    }
+
+    /**
+     * Applique une rotation à un code de tuile.
+     *
+     * @param code     Le code de la tuile
+     * @param rotation Le nombre de sixièmes de tour dans le sens horaire
+     * @return Le code de la tuile tournée
+     */
+    public static int rotate(int code, int rotation) {
+        for (int i = 0; i < rotation; i++) {
+            code = TileCode.rotate(code, true);
+        }
+        return code;
+    }
+
+    /**
+     * Calcule les six rotations d'une tuile et indique celles qui donnent une tuile différente
+     * des rotations précédentes : une tuile symétrique n'a pas besoin d'être évaluée six fois.
+     *
+     * @param code  Le code de la tuile
+     * @param codes Tableau d'au moins {@link TileCode#SIDE_COUNT} cases, rempli avec le code de chaque rotation
+     * @return Un masque dont le bit {@code i} vaut 1 si la rotation {@code i} est distincte des précédentes
+     */
+    public static int distinctRotations(int code, int[] codes) {
+        int mask = 0;
+        for (int rotation = 0; rotation < TileCode.SIDE_COUNT; rotation++) {
+            codes[rotation] = code;
+            boolean distinct = true;
+            for (int previous = 0; previous < rotation && distinct; previous++) {
+                distinct = codes[previous] != code;
+            }
+            if (distinct) {
+                mask |= 1 << rotation;
+            }
+            code = TileCode.rotate(code, true);
+        }
+        return mask;
+    }
+
+    /**
+     * Retourne la colonne de la case visée.
+     *
+     * @return La colonne q
+     */
+    public int getQ() {
+        return q;
+    }
+
+    /**
+     * Retourne la ligne de la case visée.
+     *
+     * @return La ligne r
+     */
+    public int getR() {
+        return r;
+    }
+
+    /**
+     * Retourne la rotation à appliquer à la tuile.
+     *
+     * @return Le nombre de sixièmes de tour dans le sens horaire
+     */
+    public int getRotation() {
+        return rotation;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + q + ", " + r + ") +" + rotation;
+    }
+}
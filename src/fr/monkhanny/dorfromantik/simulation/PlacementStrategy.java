@@ -0,0 +1,39 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.TileState;
+
+/**
+ * Stratégie de pose utilisée par le simulateur pour jouer une partie sans joueur.
+ *
+ * Une même instance est partagée par toutes les parties simulées en parallèle : une stratégie ne doit
+ * donc pas garder d'état modifiable entre deux appels. Le hasard dont elle a besoin lui est fourni par
+ * le générateur de la partie, propre à chaque thread, ce qui rend les parties reproductibles quel que
+ * soit le nombre de threads.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see BatchSimulator
+ */
+public interface PlacementStrategy {
+
+    /**
+     * Retourne le nom de la stratégie, tel qu'il apparaît dans les résultats.
+     *
+     * @return Le nom de la stratégie
+     */
+    String getName();
+
+    /**
+     * Choisit où poser une tuile. Le plateau ne doit pas être modifié.
+     *
+     * @param board          Le plateau, contenant au moins une tuile
+     * @param tile           La tuile à poser, non posée
+     * @param remainingTiles Le nombre de tuiles qui resteront à poser après celle-ci
+     * @param random         Le générateur aléatoire de la partie
+     * @return Le coup choisi, sur une case de la frontière
+     */
+    Placement choose(BoardModel board, TileState tile, int remainingTiles, SplittableRandom random);
+}
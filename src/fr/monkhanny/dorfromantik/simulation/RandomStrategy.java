@@ -0,0 +1,31 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.Frontier;
+import fr.monkhanny.dorfromantik.game.HexGrid;
+import fr.monkhanny.dorfromantik.game.TileCode;
+import fr.monkhanny.dorfromantik.game.TileState;
+
+/**
+ * Stratégie de référence : pose chaque tuile sur une case de la frontière choisie au hasard,
+ * avec une rotation aléatoire. Elle donne le score d'un joueur qui ne réfléchit pas.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class RandomStrategy implements PlacementStrategy {
+
+    @Override
+    public String getName() {
+        return "random";
+    }
+
+    @Override
+    public Placement choose(BoardModel board, TileState tile, int remainingTiles, SplittableRandom random) {
+        Frontier frontier = board.getFrontier();
+        long cell = frontier.keyAt(random.nextInt(frontier.size()));
+        return new Placement(HexGrid.keyQ(cell), HexGrid.keyR(cell), random.nextInt(TileCode.SIDE_COUNT));
+    }
+}
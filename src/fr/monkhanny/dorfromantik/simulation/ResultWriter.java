@@ -0,0 +1,143 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.function.Consumer;
+
+import fr.monkhanny.dorfromantik.enums.ResultFormat;
+
+/**
+ * Écrit les résultats des parties au fur et à mesure qu'elles se terminent, en CSV ou en JSON.
+ *
+ * Les résultats arrivent de plusieurs threads à la fois : l'écriture est synchronisée, et chaque
+ * partie produit une ligne complète. Rien n'est gardé en mémoire, si bien qu'un lot de plusieurs
+ * millions de parties s'écrit sans limite de taille, et qu'un fichier interrompu reste lisible
+ * jusqu'à la dernière ligne écrite (sauf la fermeture du tableau JSON).
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see BatchSimulator
+ */
+public class ResultWriter implements Consumer<GameResult>, Closeable {
+
+    /**
+     * En-tête du format CSV, dans l'ordre des colonnes écrites.
+     */
+    private static final String CSV_HEADER =
+            "seed,game,strategy,score,tiles,pockets,largest_pocket,mean_pocket_size,nanos";
+
+    /**
+     * Flux de sortie.
+     */
+    private final Writer out;
+
+    /**
+     * Format d'écriture.
+     */
+    private final ResultFormat format;
+
+    /**
+     * Indique si le flux de sortie est fermé avec l'écrivain (il est seulement vidé sinon).
+     */
+    private final boolean closeOutput;
+
+    /**
+     * Nombre de résultats déjà écrits.
+     */
+    private long written;
+
+    /**
+     * Constructeur d'un écrivain qui ferme son flux de sortie avec lui, et écrit immédiatement l'en-tête du format.
+     *
+     * @param out    Le flux de sortie, de préférence tamponné
+     * @param format Le format d'écriture
+     * @throws IOException Si l'en-tête ne peut pas être écrit
+     */
+    public ResultWriter(Writer out, ResultFormat format) throws IOException {
+        this(out, format, true);
+    }
+
+    /**
+     * Constructeur d'un écrivain, qui écrit immédiatement l'en-tête du format.
+     *
+     * @param out         Le flux de sortie, de préférence tamponné
+     * @param format      Le format d'écriture
+     * @param closeOutput {@code false} pour seulement vider le flux à la fermeture (la sortie standard, par exemple)
+     * @throws IOException Si l'en-tête ne peut pas être écrit
+     */
+    public ResultWriter(Writer out, ResultFormat format, boolean closeOutput) throws IOException {
+        this.out = out;
+        this.format = format;
+        this.closeOutput = closeOutput;
+        out.write(format == ResultFormat.CSV ? CSV_HEADER + "\n" : "[\n");
+    }
+
+    /**
+     * Écrit le résultat d'une partie. Peut être appelée depuis n'importe quel thread.
+     *
+     * @param result Le résultat
+     * @throws UncheckedIOException Si l'écriture échoue
+     */
+    @Override
+    public synchronized void accept(GameResult result) {
+        try {
+            if (format == ResultFormat.CSV) {
+                out.write(toCsv(result));
+            } else {
+                out.write((written == 0 ? "  " : ",\n  ") + toJson(result));
+            }
+            written++;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Formate un résultat en une ligne CSV.
+     *
+     * @param result Le résultat
+     * @return La ligne, terminée par un saut de ligne
+     */
+    private static String toCsv(GameResult result) {
+        return String.format(Locale.ROOT, "%d,%d,%s,%d,%d,%d,%d,%.3f,%d%n",
+                result.getSeed(), result.getGameIndex(), result.getStrategy(), result.getScore(),
+                result.getTileCount(), result.getPocketCount(), result.getLargestPocket(),
+                result.getMeanPocketSize(), result.getNanos());
+    }
+
+    /**
+     * Formate un résultat en un objet JSON sur une ligne.
+     *
+     * @param result Le résultat
+     * @return L'objet JSON, sans saut de ligne
+     */
+    private static String toJson(GameResult result) {
+        return String.format(Locale.ROOT,
+                "{\"seed\": %d, \"game\": %d, \"strategy\": \"%s\", \"score\": %d, \"tiles\": %d, "
+                        + "\"pockets\": %d, \"largestPocket\": %d, \"meanPocketSize\": %.3f, \"nanos\": %d}",
+                result.getSeed(), result.getGameIndex(), result.getStrategy(), result.getScore(),
+                result.getTileCount(), result.getPocketCount(), result.getLargestPocket(),
+                result.getMeanPocketSize(), result.getNanos());
+    }
+
+    /**
+     * Termine le format (fermeture du tableau JSON) puis ferme le flux de sortie, ou le vide seulement
+     * s'il ne doit pas être fermé.
+     *
+     * @throws IOException Si l'écriture ou la fermeture échoue
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (format == ResultFormat.JSON) {
+            out.write(written == 0 ? "]\n" : "\n]\n");
+        }
+        if (closeOutput) {
+            out.close();
+        } else {
+            out.flush();
+        }
+    }
+}
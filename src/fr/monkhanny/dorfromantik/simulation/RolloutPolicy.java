@@ -0,0 +1,66 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.Frontier;
+import fr.monkhanny.dorfromantik.game.HexGrid;
+import fr.monkhanny.dorfromantik.game.TileCode;
+import fr.monkhanny.dorfromantik.game.TileState;
+
+/**
+ * Règle de pose rapide utilisée pour terminer les parties simulées par les stratégies de recherche.
+ *
+ * Chaque tuile est posée au mieux parmi quelques cases de la frontière tirées au hasard, dans chacune
+ * de leurs rotations. Une pose entièrement aléatoire rend les scores finaux trop bruités pour départager
+ * les coups étudiés, et une pose gloutonne sur toute la frontière coûte trop cher pour des milliers de
+ * simulations par coup.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see MonteCarloStrategy
+ * @see MctsSearch
+ */
+final class RolloutPolicy {
+
+    /**
+     * Nombre de cases tirées au hasard parmi lesquelles chaque tuile est posée au mieux.
+     */
+    private static final int CELL_SAMPLES = 16;
+
+    /**
+     * Constructeur privé : la classe ne contient que des méthodes statiques.
+     */
+    private RolloutPolicy() {
+    }
+
+    /**
+     * Pose une tuile sur le plateau selon la règle de simulation.
+     *
+     * @param board  Le plateau, contenant au moins une tuile
+     * @param code   Le code de la tuile à poser
+     * @param random Le générateur des tirages de cases
+     */
+    static void place(BoardModel board, int code, SplittableRandom random) {
+        Frontier frontier = board.getFrontier();
+        long bestCell = 0;
+        int bestCode = code;
+        int bestDelta = Integer.MIN_VALUE;
+        for (int sample = 0; sample < CELL_SAMPLES; sample++) {
+            long cell = frontier.keyAt(random.nextInt(frontier.size()));
+            int q = HexGrid.keyQ(cell);
+            int r = HexGrid.keyR(cell);
+            int rotated = code;
+            for (int rotation = 0; rotation < TileCode.SIDE_COUNT; rotation++) {
+                int delta = board.getScoreManager().evaluatePlacement(rotated, q, r);
+                if (delta > bestDelta) {
+                    bestDelta = delta;
+                    bestCell = cell;
+                    bestCode = rotated;
+                }
+                rotated = TileCode.rotate(rotated, true);
+            }
+        }
+        board.placeTile(new TileState(bestCode), HexGrid.keyQ(bestCell), HexGrid.keyR(bestCell));
+    }
+}
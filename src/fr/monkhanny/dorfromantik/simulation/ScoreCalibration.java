@@ -0,0 +1,120 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import fr.monkhanny.dorfromantik.Options;
+
+/**
+ * Scores de référence d'une graine, obtenus en simulant des joueurs de différents niveaux.
+ *
+ * L'écran de fin de partie classe le joueur dans un des dix groupes (déciles) des scores de la série ;
+ * tant qu'une série compte trop peu de parties enregistrées pour former ces groupes, les scores simulés
+ * s'y ajoutent. Chaque niveau est une {@link GreedyStrategy} dont le taux de coups aléatoires va de 0
+ * (joueur qui maximise toujours son gain immédiat) à 1 (joueur qui pose au hasard), par pas réguliers.
+ *
+ * Les deux cents parties d'une graine ne sont simulées que si l'écran de fin en a besoin, une seule fois par graine,
+ * et le résultat est conservé. Elles sont jouées hors de l'EDT sur un unique pool de threads de faible priorité,
+ * qui laisse un cœur libre pour l'interface.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see fr.monkhanny.dorfromantik.gui.GameOver
+ */
+public final class ScoreCalibration {
+
+    /**
+     * Nombre de niveaux de joueurs simulés, un par groupe.
+     */
+    public static final int SKILL_LEVELS = 10;
+
+    /**
+     * Nombre de parties simulées pour chaque niveau.
+     */
+    private static final int GAMES_PER_LEVEL = 20;
+
+    /**
+     * Scores de référence de chaque graine déjà demandée, calculés ou en cours de calcul.
+     */
+    private static final Map<Long, CompletableFuture<List<Integer>>> CACHE = new ConcurrentHashMap<>();
+
+    /**
+     * Threads de simulation, partagés par toutes les graines et tous les niveaux ; créés à la première demande.
+     */
+    private static ForkJoinPool pool;
+
+    /**
+     * Constructeur privé : la classe ne contient que des méthodes statiques.
+     */
+    private ScoreCalibration() {
+    }
+
+    /**
+     * Lance en arrière-plan la simulation des parties de référence d'une graine, si elle n'a pas déjà été faite.
+     * L'appel rend la main aussitôt.
+     *
+     * @param seed La graine de la série
+     * @return Le calcul des scores de référence
+     */
+    public static CompletableFuture<List<Integer>> prefetch(long seed) {
+        return CACHE.computeIfAbsent(seed,
+                key -> CompletableFuture.supplyAsync(() -> simulateReferenceScores(key), pool()));
+    }
+
+    /**
+     * Retourne le pool des simulations, en le créant au premier appel : au plus un thread de moins que
+     * de cœurs, de priorité minimale et sans empêcher l'arrêt du programme.
+     *
+     * @return Le pool
+     */
+    private static synchronized ForkJoinPool pool() {
+        if (pool == null) {
+            int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+            pool = new ForkJoinPool(parallelism, factory -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(factory);
+                thread.setName("Dorfromantik-Calibration-" + thread.getPoolIndex());
+                thread.setPriority(Thread.MIN_PRIORITY);
+                thread.setDaemon(true);
+                return thread;
+            }, null, false);
+        }
+        return pool;
+    }
+
+    /**
+     * Récupère les scores de référence d'une graine, en attendant la fin de leur simulation si nécessaire.
+     * Ne doit pas être appelée sur l'EDT tant que la simulation n'est pas terminée.
+     *
+     * @param seed La graine de la série
+     * @return Les scores simulés, non modifiables, triés en ordre décroissant comme ceux de la base de données
+     */
+    public static List<Integer> referenceScores(long seed) {
+        return prefetch(seed).join();
+    }
+
+    /**
+     * Simule les parties de référence d'une graine sur le pool des simulations, un niveau après l'autre.
+     *
+     * @param seed La graine de la série
+     * @return Les scores simulés, non modifiables, triés en ordre décroissant
+     */
+    private static List<Integer> simulateReferenceScores(long seed) {
+        List<Integer> scores = Collections.synchronizedList(new ArrayList<>(SKILL_LEVELS * GAMES_PER_LEVEL));
+        for (int level = 0; level < SKILL_LEVELS; level++) {
+            GreedyStrategy strategy = new GreedyStrategy((double) level / (SKILL_LEVELS - 1));
+            BatchSimulator simulator = new BatchSimulator(strategy, Options.TILE_SEQUENCE, Options.MAX_TILE_NUMBER,
+                    pool().getParallelism());
+            simulator.run(pool(), new long[] { seed }, GAMES_PER_LEVEL, result -> scores.add(result.getScore()));
+        }
+
+        List<Integer> sorted = new ArrayList<>(scores);
+        sorted.sort(Collections.reverseOrder());
+        return Collections.unmodifiableList(sorted);
+    }
+}
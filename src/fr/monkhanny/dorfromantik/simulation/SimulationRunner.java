@@ -0,0 +1,290 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+
+import fr.monkhanny.dorfromantik.Options;
+import fr.monkhanny.dorfromantik.enums.ResultFormat;
+import fr.monkhanny.dorfromantik.enums.TileSequenceMode;
+
+/**
+ * Point d'entrée en ligne de commande du simulateur.
+ *
+ * Exemple : {@code java fr.monkhanny.dorfromantik.simulation.SimulationRunner --series 1,2,3 --games 10000 --format csv --output scores.csv}
+ *
+ * Les résultats sont écrits sur la sortie standard (ou dans le fichier donné par {@code --output}),
+ * et le bilan du lot sur la sortie d'erreur. Le seed d'une série étant son identifiant
+ * (voir {@link fr.monkhanny.dorfromantik.utils.Database#getSeedBySeriesId(long)}), les options
+ * {@code --seeds} et {@code --series} s'utilisent de la même façon, sans connexion à la base.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see BatchSimulator
+ */
+public class SimulationRunner {
+
+    /**
+     * Message d'aide affiché en cas d'argument invalide.
+     */
+    private static final String USAGE = String.join("\n",
+            "Usage : SimulationRunner (--seeds S1,S2,... | --series ID1,ID2,...) [options]",
+            "  --games N        parties jouées par graine (défaut : 100)",
+            "  --strategy NOM   stratégie de pose : random (défaut), greedy, greedy:TAUX_ALEATOIRE,",
+            "                   montecarlo, montecarlo:SIMULATIONS:MILLISECONDES_PAR_COUP,",
+            "                   mcts ou mcts:MILLISECONDES_PAR_COUP (recherche sur les tuiles connues de la graine)",
+            "  --threads N      threads de calcul (défaut : nombre de cœurs)",
+            "  --tiles N        tuiles par partie, tuile centrale comprise (défaut : " + Options.MAX_TILE_NUMBER + ")",
+            "  --sequence S     suite des tuiles : legacy (celle du jeu) ou counter (défaut : "
+                    + Options.TILE_SEQUENCE.name().toLowerCase() + ")",
+            "  --format F       csv (défaut) ou json",
+            "  --output FICHIER fichier de résultats (défaut : sortie standard)");
+
+    /**
+     * Constructeur privé : la classe ne sert que de point d'entrée.
+     */
+    private SimulationRunner() {
+    }
+
+    /**
+     * Nombre de simulations par candidat de la stratégie de Monte-Carlo, par défaut.
+     */
+    private static final int DEFAULT_ROLLOUTS = 16;
+
+    /**
+     * Temps alloué à chaque coup de la stratégie de Monte-Carlo, par défaut, en millisecondes.
+     */
+    private static final int DEFAULT_MOVE_MILLIS = 200;
+
+    /**
+     * Nombre de candidats étudiés par la stratégie de Monte-Carlo.
+     */
+    private static final int MONTE_CARLO_CANDIDATES = 24;
+
+    /**
+     * Temps de recherche de chaque coup de {@link MctsSearch}, par défaut, en millisecondes.
+     */
+    private static final int DEFAULT_MCTS_MILLIS = 1000;
+
+    /**
+     * Crée une stratégie de pose à partir de son nom, éventuellement suivi de ses paramètres
+     * séparés par des deux-points (par exemple {@code greedy:0.3} ou {@code montecarlo:64:200}).
+     *
+     * @param name Le nom de la stratégie
+     * @return La stratégie
+     * @throws IllegalArgumentException Si le nom ne correspond à aucune stratégie ou si un paramètre est invalide
+     */
+    public static PlacementStrategy createStrategy(String name) {
+        String[] parts = name.toLowerCase().split(":");
+        switch (parts[0]) {
+            case "random":
+                checkParameterCount(name, parts, 0);
+                return new RandomStrategy();
+            case "greedy":
+                checkParameterCount(name, parts, 1);
+                return new GreedyStrategy(parts.length > 1 ? parse(parts[1], name, Double::parseDouble) : 0);
+            case "montecarlo":
+                checkParameterCount(name, parts, 2);
+                return new MonteCarloStrategy(
+                        parts.length > 1 ? parse(parts[1], name, Integer::parseInt) : DEFAULT_ROLLOUTS,
+                        parts.length > 2 ? parse(parts[2], name, Long::parseLong) : DEFAULT_MOVE_MILLIS,
+                        MONTE_CARLO_CANDIDATES);
+            default:
+                throw new IllegalArgumentException("Stratégie inconnue : " + name);
+        }
+    }
+
+    /**
+     * Indique si un nom de stratégie désigne la recherche {@link MctsSearch} : {@code mcts} ou {@code mcts:MILLISECONDES}.
+     *
+     * @param name Le nom de la stratégie
+     * @return {@code true} pour la recherche arborescente
+     */
+    private static boolean isMcts(String name) {
+        String lower = name.toLowerCase();
+        return lower.equals("mcts") || lower.startsWith("mcts:");
+    }
+
+    /**
+     * Lit le temps de recherche de chaque coup d'un nom de stratégie {@code mcts[:MILLISECONDES]}.
+     *
+     * @param name Le nom de la stratégie
+     * @return Le temps de recherche de chaque coup, en millisecondes
+     * @throws IllegalArgumentException Si le paramètre est invalide
+     */
+    private static long parseMctsMillis(String name) {
+        String[] parts = name.split(":");
+        checkParameterCount(name, parts, 1);
+        return parts.length > 1 ? parse(parts[1], name, Long::parseLong) : DEFAULT_MCTS_MILLIS;
+    }
+
+    /**
+     * Vérifie qu'un nom de stratégie n'a pas plus de paramètres que la stratégie n'en accepte.
+     *
+     * @param name          Le nom de la stratégie
+     * @param parts         Le nom découpé aux deux-points
+     * @param maxParameters Le nombre maximal de paramètres
+     * @throws IllegalArgumentException Si le nom a trop de paramètres
+     */
+    private static void checkParameterCount(String name, String[] parts, int maxParameters) {
+        if (parts.length - 1 > maxParameters) {
+            throw new IllegalArgumentException("Trop de paramètres pour la stratégie : " + name);
+        }
+    }
+
+    /**
+     * Lit un nombre d'un argument, en signalant une valeur invalide comme une erreur d'utilisation.
+     *
+     * @param <T>    Le type du nombre
+     * @param value  La valeur à lire
+     * @param option L'option ou la stratégie concernée, pour le message d'erreur
+     * @param parser La fonction de lecture
+     * @return Le nombre lu
+     * @throws IllegalArgumentException Si la valeur n'est pas un nombre valide
+     */
+    private static <T> T parse(String value, String option, Function<String, T> parser) {
+        try {
+            return parser.apply(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valeur invalide pour " + option + " : " + value);
+        }
+    }
+
+    /**
+     * Lit un nombre entier strictement positif d'un argument (nombre de parties, de threads ou de tuiles).
+     *
+     * @param value  La valeur à lire
+     * @param option L'option concernée, pour le message d'erreur
+     * @return Le nombre lu
+     * @throws IllegalArgumentException Si la valeur n'est pas un entier supérieur ou égal à 1
+     */
+    private static int parsePositive(String value, String option) {
+        int number = parse(value, option, Integer::parseInt);
+        if (number < 1) {
+            throw new IllegalArgumentException("Valeur strictement positive attendue pour " + option + " : " + value);
+        }
+        return number;
+    }
+
+    /**
+     * Lance une simulation selon les arguments de la ligne de commande.
+     *
+     * @param args Les arguments, décrits par {@link #USAGE}
+     */
+    public static void main(String[] args) {
+        List<Long> seeds = new ArrayList<>();
+        int games = 100;
+        String strategyName = "random";
+        int threads = Runtime.getRuntime().availableProcessors();
+        int tiles = Options.MAX_TILE_NUMBER;
+        TileSequenceMode mode = Options.TILE_SEQUENCE;
+        ResultFormat format = ResultFormat.CSV;
+        String output = null;
+
+        PlacementStrategy strategy;
+        long mctsMillis = DEFAULT_MCTS_MILLIS;
+        try {
+            for (int i = 0; i < args.length; i++) {
+                String option = args[i];
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException("Valeur manquante pour " + option);
+                }
+                String value = args[++i];
+                switch (option) {
+                    case "--seeds":
+                    case "--series":
+                        for (String seed : value.split(",")) {
+                            seeds.add(parse(seed, option, Long::parseLong));
+                        }
+                        break;
+                    case "--games":
+                        games = parsePositive(value, option);
+                        break;
+                    case "--strategy":
+                        strategyName = value;
+                        break;
+                    case "--threads":
+                        threads = parsePositive(value, option);
+                        break;
+                    case "--tiles":
+                        tiles = parsePositive(value, option);
+                        break;
+                    case "--sequence":
+                        mode = TileSequenceMode.fromName(value);
+                        break;
+                    case "--format":
+                        format = ResultFormat.fromName(value);
+                        break;
+                    case "--output":
+                        output = value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Option inconnue : " + option);
+                }
+            }
+            if (seeds.isEmpty()) {
+                throw new IllegalArgumentException("Aucune graine à simuler");
+            }
+            if (isMcts(strategyName)) {
+                strategy = null;
+                mctsMillis = parseMctsMillis(strategyName);
+            } else {
+                strategy = createStrategy(strategyName);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(USAGE);
+            System.exit(1);
+            return;
+        }
+
+        long[] seedArray = seeds.stream().mapToLong(Long::longValue).toArray();
+
+        // La sortie standard n'appartient pas au simulateur : elle est seulement vidée à la fin
+        try (ResultWriter writer = new ResultWriter(new BufferedWriter(new OutputStreamWriter(
+                    output == null ? System.out : new FileOutputStream(output), StandardCharsets.UTF_8), 1 << 16),
+                    format, output != null)) {
+            if (strategy == null) {
+                searchSeeds(seedArray, games, mode, tiles, threads, mctsMillis, writer);
+            } else {
+                SimulationSummary summary = new BatchSimulator(strategy, mode, tiles, threads).run(seedArray, games, writer);
+                System.err.println(strategy.getName() + " : " + summary);
+            }
+        } catch (IOException e) {
+            System.err.println("Erreur lors de l'écriture des résultats : " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Joue les parties de chaque graine avec {@link MctsSearch}, l'une après l'autre, chaque recherche
+     * utilisant tous les threads. Le débit de chaque recherche est affiché sur la sortie d'erreur.
+     *
+     * @param seeds         Les graines à jouer
+     * @param games         Le nombre de parties par graine, chacune avec des tirages différents
+     * @param mode          La façon de générer la suite des tuiles de chaque graine
+     * @param tiles         Le nombre de tuiles par partie
+     * @param threads       Le nombre de threads de recherche
+     * @param millisPerMove Le temps de recherche de chaque coup, en millisecondes
+     * @param writer        L'écrivain des résultats
+     */
+    private static void searchSeeds(long[] seeds, int games, TileSequenceMode mode, int tiles, int threads,
+                                    long millisPerMove, ResultWriter writer) {
+        for (long seed : seeds) {
+            for (int game = 0; game < games; game++) {
+                MctsSearch search = new MctsSearch(seed, mode, tiles, threads, seed ^ game);
+                GameResult result = search.playGame(game, millisPerMove);
+                writer.accept(result);
+                System.err.printf(Locale.ROOT, "graine %d, partie %d : score %d (meilleur trouvé %d), %.0f nœuds/s, %.0f itérations/s%n",
+                        seed, game, result.getScore(), search.getBestScore(),
+                        search.getNodesPerSecond(), search.getIterationsPerSecond());
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import java.util.Locale;
+
+/**
+ * Bilan d'un lot de parties simulées : nombre de parties et de poses, durée totale et score moyen.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see BatchSimulator#run(long[], int, java.util.function.Consumer)
+ */
+public final class SimulationSummary {
+
+    /**
+     * Nombre de parties jouées.
+     */
+    private final long games;
+
+    /**
+     * Nombre total de tuiles posées.
+     */
+    private final long placements;
+
+    /**
+     * Somme des scores de toutes les parties.
+     */
+    private final long totalScore;
+
+    /**
+     * Durée du lot, en nanosecondes.
+     */
+    private final long elapsedNanos;
+
+    /**
+     * Constructeur d'un bilan.
+     *
+     * @param games        Le nombre de parties jouées
+     * @param placements   Le nombre total de tuiles posées
+     * @param totalScore   La somme des scores
+     * @param elapsedNanos La durée du lot, en nanosecondes
+     */
+    public SimulationSummary(long games, long placements, long totalScore, long elapsedNanos) {
+        this.games = games;
+        this.placements = placements;
+        this.totalScore = totalScore;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * Retourne le nombre de parties jouées.
+     *
+     * @return Le nombre de parties
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Retourne le nombre total de tuiles posées.
+     *
+     * @return Le nombre de poses
+     */
+    public long getPlacements() {
+        return placements;
+    }
+
+    /**
+     * Retourne le score moyen d'une partie.
+     *
+     * @return Le score moyen
+     */
+    public double getMeanScore() {
+        return games == 0 ? 0 : (double) totalScore / games;
+    }
+
+    /**
+     * Retourne la durée du lot.
+     *
+     * @return La durée, en nanosecondes
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Retourne le débit de la simulation.
+     *
+     * @return Le nombre de tuiles posées par seconde
+     */
+    public double getPlacementsPerSecond() {
+        return elapsedNanos == 0 ? 0 : placements * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.ROOT, "%d parties, %d poses en %.2f s (%.0f poses/s), score moyen %.1f",
+                games, placements, elapsedNanos / 1e9, getPlacementsPerSecond(), getMeanScore());
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Ce package contient le simulateur de parties sans interface graphique.
+ * Les classes de ce package jouent des parties complètes sur le plateau logique, en parallèle sur tous
+ * les cœurs, à l'aide de stratégies de pose automatiques, et enregistrent leurs résultats pour étudier
+ * la distribution des scores de chaque graine ou série.
+ *
+ * @since 1.0
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see fr.monkhanny.dorfromantik.simulation.BatchSimulator
+ * @see fr.monkhanny.dorfromantik.simulation.SimulationRunner
+ * @see fr.monkhanny.dorfromantik.game.BoardModel
+ */
+package fr.monkhanny.dorfromantik.simulation;
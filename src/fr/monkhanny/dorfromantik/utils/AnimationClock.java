@@ -0,0 +1,222 @@
+package fr.monkhanny.dorfromantik.utils;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import javax.swing.Timer;
+
+import fr.monkhanny.dorfromantik.Options;
+import fr.monkhanny.dorfromantik.game.ActiveRenderLoop;
+
+/**
+ * Horloge unique de toutes les animations de l'application.
+ *
+ * Plutôt qu'un {@link Timer} Swing par effet, une seule horloge avance toutes les animations
+ * en cours ({@link Tween}) à chaque image, puis demande une seule fois le rafraîchissement de chaque
+ * composant concerné. Son timer ne tourne que tant qu'une animation est en cours.
+ *
+ * L'horloge exécute aussi des tâches ponctuelles au début de l'image suivante ({@link #runOnNextTick(Runnable)}) :
+ * une rafale d'événements (déplacements de la souris, par exemple) n'est ainsi traitée qu'une fois par image.
+ *
+ * Lorsque la boucle d'affichage active du plateau est utilisée, c'est elle qui avance l'horloge à
+ * chacun de ses pas de temps fixes (voir {@link #setDriver(ActiveRenderLoop)}) : les animations
+ * restent ainsi synchronisées avec les images affichées. L'horloge ne reste attachée à la boucle
+ * que tant qu'une animation ou une tâche est en attente, pour que la boucle puisse se reposer.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see Tween
+ */
+public class AnimationClock implements ActiveRenderLoop.FixedUpdate {
+
+    /**
+     * Instance unique de l'horloge.
+     */
+    private static final AnimationClock INSTANCE = new AnimationClock();
+
+    /**
+     * Animations en cours.
+     */
+    private final List<Tween> tweens;
+
+    /**
+     * Animations démarrées pendant une image (par enchaînement), ajoutées à la fin de l'image.
+     */
+    private final List<Tween> started;
+
+    /**
+     * Tâches à exécuter au début de l'image suivante.
+     */
+    private final List<Runnable> tasks;
+
+    /**
+     * Composants à redessiner à la fin de l'image.
+     */
+    private final Set<Component> repaintTargets;
+
+    /**
+     * Timer cadençant l'horloge lorsqu'elle n'est pas avancée par la boucle d'affichage active.
+     */
+    private final Timer timer;
+
+    /**
+     * Instant de la dernière image, en nanosecondes.
+     */
+    private long lastTick;
+
+    /**
+     * Boucle d'affichage active qui avance l'horloge, ou {@code null} si l'horloge est cadencée par son timer.
+     */
+    private ActiveRenderLoop driver;
+
+    /**
+     * Indique si une image est en cours de calcul.
+     */
+    private boolean ticking;
+
+    /**
+     * Constructeur privé de l'horloge unique.
+     */
+    private AnimationClock() {
+        this.tweens = new ArrayList<>();
+        this.started = new ArrayList<>();
+        this.tasks = new ArrayList<>();
+        this.repaintTargets = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.timer = new Timer(1000 / Options.UPDATE_RATE, e -> tick());
+        this.timer.setCoalesce(true);
+    }
+
+    /**
+     * Récupère l'horloge unique.
+     *
+     * @return L'horloge
+     */
+    public static AnimationClock getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Ajoute une animation à l'horloge et démarre le timer si nécessaire.
+     *
+     * @param tween L'animation
+     */
+    void schedule(Tween tween) {
+        if (ticking) {
+            started.add(tween);
+            return;
+        }
+        tweens.add(tween);
+        startTimer();
+    }
+
+    /**
+     * Exécute une tâche au début de l'image suivante. Une tâche déjà en attente n'est pas ajoutée
+     * une seconde fois : les demandes répétées avant l'image suivante n'en produisent qu'une exécution.
+     *
+     * @param task La tâche
+     */
+    public void runOnNextTick(Runnable task) {
+        if (!tasks.contains(task)) {
+            tasks.add(task);
+            startTimer();
+        }
+    }
+
+    /**
+     * Démarre l'horloge : l'attache à la boucle d'affichage active si elle l'avance, démarre sinon
+     * le timer s'il n'est pas déjà en marche.
+     */
+    private void startTimer() {
+        if (driver != null) {
+            driver.addUpdate(this);
+        } else if (!timer.isRunning()) {
+            lastTick = System.nanoTime();
+            timer.start();
+        }
+    }
+
+    /**
+     * Confie l'avancement de l'horloge à une boucle d'affichage active, ou le rend à son timer.
+     * Avec une boucle, le timer est arrêté et l'horloge s'attache à la boucle dès qu'elle a du travail.
+     *
+     * @param driver La boucle d'affichage qui avance l'horloge, ou {@code null} pour utiliser le timer
+     */
+    public void setDriver(ActiveRenderLoop driver) {
+        this.driver = driver;
+        if (driver != null) {
+            timer.stop();
+        }
+        if (!tweens.isEmpty() || !tasks.isEmpty()) {
+            startTimer();
+        }
+    }
+
+    /**
+     * Avance l'horloge d'un pas de la boucle d'affichage active.
+     *
+     * @param stepSeconds La durée du pas, en secondes
+     * @return {@code true} tant qu'une animation ou une tâche est en attente ; sinon l'horloge se détache
+     *         de la boucle, et s'y rattache à la prochaine animation
+     */
+    @Override
+    public boolean update(double stepSeconds) {
+        advance((long) (stepSeconds * 1e9));
+        return !tweens.isEmpty() || !tasks.isEmpty();
+    }
+
+    /**
+     * Image cadencée par le timer : avance les animations du temps réellement écoulé.
+     */
+    private void tick() {
+        long now = System.nanoTime();
+        advance(now - lastTick);
+        lastTick = now;
+        if (tweens.isEmpty() && tasks.isEmpty()) {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Exécute les tâches en attente, avance toutes les animations en cours, démarre celles
+     * qui leur succèdent, puis redessine une fois chaque composant concerné.
+     *
+     * @param elapsedNanos Le temps écoulé depuis l'image précédente, en nanosecondes
+     */
+    public void advance(long elapsedNanos) {
+        // Les tâches ajoutées pendant leur exécution attendent l'image suivante
+        int taskCount = tasks.size();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.get(i).run();
+        }
+        tasks.subList(0, taskCount).clear();
+
+        ticking = true;
+        int kept = 0;
+        for (int i = 0; i < tweens.size(); i++) {
+            Tween tween = tweens.get(i);
+            boolean running = tween.advance(elapsedNanos);
+            if (tween.getRepaintTarget() != null) {
+                repaintTargets.add(tween.getRepaintTarget());
+            }
+            if (running) {
+                tweens.set(kept++, tween);
+            } else if (tween.getNext() != null) {
+                started.add(tween.getNext());
+            }
+        }
+        tweens.subList(kept, tweens.size()).clear();
+        ticking = false;
+
+        tweens.addAll(started);
+        started.clear();
+
+        for (Component component : repaintTargets) {
+            component.repaint();
+        }
+        repaintTargets.clear();
+    }
+}
@@ -0,0 +1,230 @@
+package fr.monkhanny.dorfromantik.utils;
+
+/**
+ * Structure d'ensembles disjoints (union-find) sur des éléments numérotés de 0 à n - 1.
+ *
+ * Chaque ensemble est représenté par une racine. La recherche de la racine compresse
+ * le chemin parcouru et l'union rattache le plus petit ensemble au plus grand, ce qui
+ * rend les deux opérations quasi constantes en coût amorti.
+ *
+ * Chaque élément est créé avec un poids (0 ou 1 en général) : la taille d'un ensemble est
+ * la somme des poids de ses éléments.
+ *
+ * Les ajouts et les unions peuvent être annulés, dans l'ordre inverse, une fois l'annulation activée
+ * ({@link #enableUndo()}) : chaque union mémorise alors la racine rattachée, et les chemins ne sont
+ * plus compressés pour que ce rattachement reste le seul lien à défaire. L'union par taille garde
+ * des arbres de hauteur logarithmique.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class DisjointSet {
+
+    /**
+     * Parent de chaque élément (un élément racine est son propre parent).
+     */
+    private int[] parent;
+
+    /**
+     * Taille de l'ensemble, valable uniquement pour les racines.
+     */
+    private int[] size;
+
+    /**
+     * Nombre d'éléments créés.
+     */
+    private int count;
+
+    /**
+     * Racines rattachées par les unions depuis l'activation de l'annulation, dans l'ordre ({@code null} sans annulation).
+     */
+    private int[] history;
+
+    /**
+     * Nombre d'unions mémorisées dans {@link #history}.
+     */
+    private int historySize;
+
+    /**
+     * Constructeur d'une structure vide.
+     *
+     * @param initialCapacity Nombre d'éléments prévus
+     */
+    public DisjointSet(int initialCapacity) {
+        this.parent = new int[Math.max(1, initialCapacity)];
+        this.size = new int[Math.max(1, initialCapacity)];
+        this.count = 0;
+    }
+
+    /**
+     * Constructeur par copie.
+     *
+     * @param other La structure à copier
+     */
+    public DisjointSet(DisjointSet other) {
+        this.parent = other.parent.clone();
+        this.size = other.size.clone();
+        this.count = other.count;
+        this.history = (other.history == null) ? null : other.history.clone();
+        this.historySize = other.historySize;
+    }
+
+    /**
+     * Ajoute un nouvel élément formant à lui seul un ensemble.
+     *
+     * @param weight Poids de l'élément (taille initiale de son ensemble)
+     * @return L'identifiant du nouvel élément
+     */
+    public int add(int weight) {
+        if (count == parent.length) {
+            int capacity = parent.length * 2;
+            int[] grownParent = new int[capacity];
+            int[] grownSize = new int[capacity];
+            System.arraycopy(parent, 0, grownParent, 0, count);
+            System.arraycopy(size, 0, grownSize, 0, count);
+            parent = grownParent;
+            size = grownSize;
+        }
+        parent[count] = count;
+        size[count] = weight;
+        return count++;
+    }
+
+    /**
+     * Trouve la racine de l'ensemble contenant un élément, en compressant le chemin parcouru
+     * (sauf si l'annulation est activée).
+     *
+     * @param element L'élément
+     * @return La racine de son ensemble
+     */
+    public int find(int element) {
+        if (history != null) {
+            return root(element);
+        }
+        int root = element;
+        while (parent[root] != root) {
+            root = parent[root];
+        }
+        while (parent[element] != root) {
+            int next = parent[element];
+            parent[element] = root;
+            element = next;
+        }
+        return root;
+    }
+
+    /**
+     * Trouve la racine de l'ensemble contenant un élément sans modifier la structure : contrairement à
+     * {@link #find(int)}, le chemin n'est pas compressé, ce qui permet des lectures depuis plusieurs
+     * threads tant qu'aucun ne modifie la structure.
+     *
+     * @param element L'élément
+     * @return La racine de son ensemble
+     */
+    public int root(int element) {
+        while (parent[element] != element) {
+            element = parent[element];
+        }
+        return element;
+    }
+
+    /**
+     * Retourne la taille d'un ensemble à partir de sa racine, sans modifier la structure.
+     *
+     * @param root La racine de l'ensemble
+     * @return La taille de l'ensemble
+     */
+    public int sizeOfRoot(int root) {
+        return size[root];
+    }
+
+    /**
+     * Réunit les ensembles contenant deux éléments.
+     *
+     * @param a Un élément du premier ensemble
+     * @param b Un élément du second ensemble
+     * @return La racine de l'ensemble obtenu
+     */
+    public int union(int a, int b) {
+        int rootA = find(a);
+        int rootB = find(b);
+        if (rootA == rootB) {
+            return rootA;
+        }
+        if (size[rootA] < size[rootB]) {
+            int swap = rootA;
+            rootA = rootB;
+            rootB = swap;
+        }
+        parent[rootB] = rootA;
+        size[rootA] += size[rootB];
+        if (history != null) {
+            if (historySize == history.length) {
+                int[] grown = new int[historySize * 2];
+                System.arraycopy(history, 0, grown, 0, historySize);
+                history = grown;
+            }
+            history[historySize++] = rootB;
+        }
+        return rootA;
+    }
+
+    /**
+     * Active l'annulation des ajouts et des unions suivants (voir {@link #rollback(int, int)}).
+     * Les chemins ne sont plus compressés à partir de cet appel.
+     */
+    public void enableUndo() {
+        if (history == null) {
+            history = new int[64];
+        }
+    }
+
+    /**
+     * Retourne le nombre d'unions mémorisées depuis l'activation de l'annulation, qui sert de repère à {@link #rollback(int, int)}.
+     *
+     * @return Le nombre d'unions annulables
+     */
+    public int getUnionCount() {
+        return historySize;
+    }
+
+    /**
+     * Revient à un état antérieur : défait les unions faites après le repère, de la plus récente à la plus
+     * ancienne, puis oublie les éléments créés après.
+     *
+     * @param elementCount Le nombre d'éléments à l'époque du repère
+     * @param unionCount   Le nombre d'unions mémorisées à l'époque du repère (voir {@link #getUnionCount()})
+     * @throws IllegalStateException Si l'annulation n'est pas activée
+     */
+    public void rollback(int elementCount, int unionCount) {
+        if (history == null) {
+            throw new IllegalStateException("Annulation non activée");
+        }
+        while (historySize > unionCount) {
+            int rootB = history[--historySize];
+            int rootA = parent[rootB];
+            size[rootA] -= size[rootB];
+            parent[rootB] = rootB;
+        }
+        count = elementCount;
+    }
+
+    /**
+     * Retourne la taille de l'ensemble contenant un élément.
+     *
+     * @param element L'élément
+     * @return La taille de son ensemble
+     */
+    public int sizeOf(int element) {
+        return size[find(element)];
+    }
+
+    /**
+     * Retourne le nombre d'éléments créés.
+     *
+     * @return Le nombre d'éléments
+     */
+    public int count() {
+        return count;
+    }
+}
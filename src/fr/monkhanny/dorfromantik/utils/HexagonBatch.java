@@ -0,0 +1,180 @@
+package fr.monkhanny.dorfromantik.utils;
+
+import java.awt.BasicStroke;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.Polygon;
+import java.awt.geom.Path2D;
+
+import fr.monkhanny.dorfromantik.enums.Biome;
+import fr.monkhanny.dorfromantik.game.TileCode;
+
+/**
+ * Regroupe le dessin de plusieurs tuiles en un petit nombre d'appels graphiques.
+ *
+ * Au lieu de remplir chaque petit hexagone séparément (46 {@code fillPolygon} et autant de
+ * {@code setColor} par tuile), les petits hexagones de toutes les tuiles ajoutées sont accumulés
+ * dans un chemin par couleur, puis chaque chemin est rempli une seule fois ; les contours des tuiles
+ * sont de même tracés en un seul appel. Le nombre d'appels ne dépend donc plus du nombre de tuiles,
+ * mais seulement du nombre de couleurs (au plus 15).
+ *
+ * Les tuiles simplifiées ({@link #addWedges} et {@link #addDominant}) sont accumulées de la même façon,
+ * dans le chemin de la couleur principale de chaque biome.
+ *
+ * Les petits hexagones sont déjà découpés par le contour de leur tuile (voir {@link HexagonMesh}) :
+ * aucune zone de découpage n'est nécessaire, et les tuiles voisines ne débordent pas l'une sur l'autre.
+ * Les chemins sont réutilisés d'un dessin à l'autre ; une instance ne doit être utilisée que par un seul thread.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see HexagonMesh
+ */
+public class HexagonBatch {
+
+    /**
+     * Nombre de couleurs possibles : chaque nuance de chaque biome.
+     */
+    private static final int COLOR_COUNT = Biome.values().length * Biome.SHADE_COUNT;
+
+    /**
+     * Chemin des petits hexagones de chaque couleur, indexé par {@code biome * SHADE_COUNT + nuance}.
+     */
+    private final Path2D.Float[] fills;
+
+    /**
+     * Indique si le chemin de chaque couleur contient au moins un petit hexagone.
+     */
+    private final boolean[] used;
+
+    /**
+     * Chemin des contours des tuiles.
+     */
+    private final Path2D.Float outlines;
+
+    /**
+     * Trait des contours, celui de la dernière tuile ajoutée.
+     */
+    private BasicStroke outlineStroke;
+
+    /**
+     * Constructeur d'un lot vide.
+     */
+    public HexagonBatch() {
+        this.fills = new Path2D.Float[COLOR_COUNT];
+        for (int i = 0; i < COLOR_COUNT; i++) {
+            fills[i] = new Path2D.Float(Path2D.WIND_NON_ZERO, 256);
+        }
+        this.used = new boolean[COLOR_COUNT];
+        this.outlines = new Path2D.Float(Path2D.WIND_NON_ZERO, 64);
+    }
+
+    /**
+     * Ajoute une tuile au lot.
+     *
+     * @param mesh La géométrie de la tuile
+     * @param code Le code de la tuile
+     * @param x    Abscisse du coin supérieur gauche de la tuile
+     * @param y    Ordonnée du coin supérieur gauche de la tuile
+     */
+    public void add(HexagonMesh mesh, int code, float x, float y) {
+        for (int i = 0; i < HexagonMesh.SUB_HEX_COUNT; i++) {
+            float[] points = mesh.getClippedPoints(i);
+            if (points.length == 0) {
+                continue;
+            }
+
+            int color = mesh.resolveBiome(i, code) * Biome.SHADE_COUNT + mesh.getShade(i);
+            Path2D.Float path = fills[color];
+            path.moveTo(x + points[0], y + points[1]);
+            for (int j = 2; j < points.length; j += 2) {
+                path.lineTo(x + points[j], y + points[j + 1]);
+            }
+            path.closePath();
+            used[color] = true;
+        }
+
+        Polygon outline = mesh.getOutline();
+        outlines.moveTo(x + outline.xpoints[0], y + outline.ypoints[0]);
+        for (int j = 1; j < outline.npoints; j++) {
+            outlines.lineTo(x + outline.xpoints[j], y + outline.ypoints[j]);
+        }
+        outlines.closePath();
+        outlineStroke = mesh.getOutlineStroke();
+    }
+
+    /**
+     * Ajoute au lot une tuile simplifiée en six triangles, un par côté, de la couleur principale
+     * du biome de ce côté, entourée du même contour que la tuile complète.
+     *
+     * @param mesh    La géométrie de la tuile
+     * @param code    Le code de la tuile
+     * @param centerX Abscisse du centre de la tuile
+     * @param centerY Ordonnée du centre de la tuile
+     * @see HexagonDrawer#drawWedges
+     */
+    public void addWedges(HexagonMesh mesh, int code, float centerX, float centerY) {
+        for (int side = 0; side < TileCode.SIDE_COUNT; side++) {
+            int color = TileCode.biomeIndex(code, side) * Biome.SHADE_COUNT;
+            appendPolygon(fills[color], mesh.getWedgeXPoints(side), mesh.getWedgeYPoints(side), centerX, centerY);
+            used[color] = true;
+        }
+        appendPolygon(outlines, mesh.getVertexXOffsets(), mesh.getVertexYOffsets(), centerX, centerY);
+        outlineStroke = mesh.getOutlineStroke();
+    }
+
+    /**
+     * Ajoute au lot une tuile réduite à un hexagone plein de la couleur de son biome dominant, sans contour.
+     *
+     * @param mesh    La géométrie de la tuile
+     * @param code    Le code de la tuile
+     * @param centerX Abscisse du centre de la tuile
+     * @param centerY Ordonnée du centre de la tuile
+     * @see HexagonDrawer#drawDominant
+     */
+    public void addDominant(HexagonMesh mesh, int code, float centerX, float centerY) {
+        int color = HexagonDrawer.centerBiome(code).ordinal() * Biome.SHADE_COUNT;
+        appendPolygon(fills[color], mesh.getVertexXOffsets(), mesh.getVertexYOffsets(), centerX, centerY);
+        used[color] = true;
+    }
+
+    /**
+     * Ajoute un polygone fermé à un chemin, décalé d'une position.
+     *
+     * @param path Le chemin
+     * @param xs   Les abscisses des sommets, relatives à la position
+     * @param ys   Les ordonnées des sommets, relatives à la position
+     * @param x    Abscisse de la position
+     * @param y    Ordonnée de la position
+     */
+    private static void appendPolygon(Path2D.Float path, int[] xs, int[] ys, float x, float y) {
+        path.moveTo(x + xs[0], y + ys[0]);
+        for (int j = 1; j < xs.length; j++) {
+            path.lineTo(x + xs[j], y + ys[j]);
+        }
+        path.closePath();
+    }
+
+    /**
+     * Dessine toutes les tuiles ajoutées, puis vide le lot.
+     *
+     * @param g2d Le contexte graphique
+     */
+    public void fill(Graphics2D g2d) {
+        for (int color = 0; color < COLOR_COUNT; color++) {
+            if (used[color]) {
+                g2d.setColor(TileCode.biomeAt(color / Biome.SHADE_COUNT).getColor(color % Biome.SHADE_COUNT));
+                g2d.fill(fills[color]);
+                fills[color].reset();
+                used[color] = false;
+            }
+        }
+
+        if (outlineStroke != null) {
+            g2d.setStroke(outlineStroke);
+            g2d.setColor(Color.BLACK);
+            g2d.draw(outlines);
+            outlines.reset();
+            outlineStroke = null;
+        }
+    }
+}
@@ -5,7 +5,9 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 
 import fr.monkhanny.dorfromantik.enums.Biome;
-import fr.monkhanny.dorfromantik.game.Tile;
+import fr.monkhanny.dorfromantik.game.Cell;
+import fr.monkhanny.dorfromantik.game.TileCode;
+import fr.monkhanny.dorfromantik.game.TileState;
 import fr.monkhanny.dorfromantik.enums.TileOrientation;
 
 /**
@@ -22,64 +24,142 @@ public class HexagonDrawer {
     /**
      * Tuile à dessiner.
      */
-    private Tile tile;
+    private TileState tile;
+
+    /**
+     * Rayon de la tuile à dessiner (avant mise à l'échelle).
+     */
+    private int tileRadius;
 
     /**
      * Constructeur pour initialiser la tuile à dessiner.
      *
-     * @param tile Tuile à dessiner
+     * @param tile       Tuile à dessiner
+     * @param tileRadius Rayon de la tuile
      */
-    public HexagonDrawer(Tile tile) {
+    public HexagonDrawer(TileState tile, int tileRadius) {
         this.tile = tile;
+        this.tileRadius = tileRadius;
+    }
+
+    /**
+     * Détermine le côté d'une tuile en fonction d'une position (x, y) relative au coin de la tuile.
+     * Près de la limite entre deux côtés, le biome dominant l'emporte.
+     * 
+     * @param tile   La tuile
+     * @param x      Coordonnée X relative.
+     * @param y      Coordonnée Y relative.
+     * @param radius Rayon de la tuile.
+     * @return Le côté correspondant.
+     */
+    public static TileOrientation determineSide(TileState tile, int x, int y, int radius) {
+        TileOrientation[] sides = TileOrientation.values();
+        double angle = Cell.to360Degrees(Math.toDegrees(Math.atan2(y - radius, x - radius)) + 120);
+
+        int floorSide = (int) Math.floor(Cell.to360Degrees(angle - 2) / 60);
+        int ceilSide = (int) Math.floor(Cell.to360Degrees(angle + 2) / 60);
+
+        if (floorSide == ceilSide) {
+            return sides[floorSide];
+        }
+
+        Biome floorBiome = tile.getBiome(sides[floorSide]);
+        Biome dominantBiome = tile.getDominantBiome();
+
+        if (dominantBiome == null && y > radius) {
+            return TileOrientation.SOUTH;
+        }
+
+        if (dominantBiome == null && y < radius) {
+            return TileOrientation.NORTH;
+        }
+
+        return floorBiome.equals(dominantBiome) ? sides[ceilSide] : sides[floorSide];
     }
 
     /**
      * Dessine un hexagone à partir du centre et du rayon spécifiés.
+     * La géométrie est précalculée par {@link HexagonMesh} : le dessin n'alloue rien et ne fait aucun calcul trigonométrique.
      * 
      * @param g2d    Contexte graphique pour dessiner l'hexagone
      * @param radius Rayon de l'hexagone
      * @param center Centre de l'hexagone
      */
     public void drawHexagon(Graphics2D g2d, double radius, Point center) {
-        double hexRadius = radius / Math.sqrt(3) / 3;
-        double paddingX = center.x - radius;
-        double paddingY = center.y - radius;
-
-        drawHexagonRow(g2d, paddingX + radius * 0.5, paddingY + radius - radius * Math.sqrt(3) / 2, hexRadius, 4);
-        drawHexagonRow(g2d, paddingX, paddingY + radius - radius * Math.sqrt(3) / 3, hexRadius, 6);
-        drawHexagonRow(g2d, paddingX - radius * 0.5, paddingY + radius - radius * Math.sqrt(3) / 6, hexRadius, 8);
-        drawHexagonRow(g2d, paddingX - radius, paddingY + radius, hexRadius, 10);
-        drawHexagonRow(g2d, paddingX - radius * 0.5, paddingY + radius + radius * Math.sqrt(3) / 6, hexRadius, 8);
-        drawHexagonRow(g2d, paddingX, paddingY + radius + radius * Math.sqrt(3) / 3, hexRadius, 6);
-        drawHexagonRow(g2d, paddingX + radius * 0.5, paddingY + radius + radius * Math.sqrt(3) / 2, hexRadius, 4);
+        int dx = center.x - tileRadius;
+        int dy = center.y - tileRadius;
+
+        g2d.translate(dx, dy);
+        drawMesh(g2d, HexagonMesh.of(radius, tileRadius), tile.getCode());
+        g2d.translate(-dx, -dy);
     }
 
     /**
-     * Dessine une rangée d'hexagones à partir du centre et du rayon spécifiés.
-     * 
-     * @param g2d       Contexte graphique pour dessiner l'hexagone
-     * @param rowX      Position X de la rangée
-     * @param rowY      Position Y de la rangée
-     * @param radius    Rayon de l'hexagone
-     * @param rowLength Longueur de la rangée
+     * Remplit les petits hexagones d'une géométrie précalculée avec les couleurs des biomes d'une tuile.
+     *
+     * @param g2d  Contexte graphique, avec le centre de la tuile en ({@code tileRadius}, {@code tileRadius})
+     * @param mesh La géométrie de la tuile
+     * @param code Le code de la tuile
+     */
+    public static void drawMesh(Graphics2D g2d, HexagonMesh mesh, int code) {
+        for (int i = 0; i < HexagonMesh.SUB_HEX_COUNT; i++) {
+            int biome = mesh.resolveBiome(i, code);
+            g2d.setColor(TileCode.biomeAt(biome).getColor(mesh.getShade(i)));
+            g2d.fillPolygon(mesh.getXPoints(i), mesh.getYPoints(i), 6);
+        }
+    }
+
+    /**
+     * Retourne le biome du centre d'une tuile : son biome dominant, ou celui du côté sud en cas d'égalité.
+     *
+     * @param code Le code de la tuile
+     * @return Le biome du centre
+     */
+    public static Biome centerBiome(int code) {
+        Biome dominantBiome = TileCode.dominantBiome(code);
+        return (dominantBiome != null) ? dominantBiome : TileCode.biome(code, TileOrientation.SOUTH);
+    }
+
+    /**
+     * Dessine une tuile simplifiée en six triangles, chacun de la couleur du biome de son côté,
+     * entourée du même contour que la tuile complète. Utilisé lorsque la tuile est petite à l'écran.
+     * Les sommets et le trait viennent de {@link HexagonMesh} : le dessin n'alloue rien.
+     *
+     * @param g2d     Contexte graphique
+     * @param code    Le code de la tuile
+     * @param radius  Rayon de la tuile
+     * @param centerX Abscisse du centre de la tuile
+     * @param centerY Ordonnée du centre de la tuile
      */
-    private void drawHexagonRow(Graphics2D g2d, double rowX, double rowY, double radius, int rowLength) {
-        int gRadius = tile.getRadius();
-
-        for (int i = 0; i < rowLength; i++) {
-            Color[] colors;
-            int x = (int) Math.round(rowX + radius * Math.sqrt(3) * i);
-            int y = (int) Math.round(rowY);
-
-            if (x == Math.round(gRadius) && y == Math.round(gRadius)) {
-                Biome dominantBiome = tile.getDominantBiome();
-                colors = (dominantBiome != null) ? dominantBiome.getBiomeColors() : tile.getBiome(TileOrientation.SOUTH).getBiomeColors();
-            } else {
-                colors = tile.getBiome(tile.determineSide(x, y)).getBiomeColors();
-            }
-
-            g2d.setColor(colors[i % colors.length]);
-            g2d.fillPolygon(new Hexagon(x, y, (int) Math.ceil(radius), 90));
+    public static void drawWedges(Graphics2D g2d, int code, int radius, int centerX, int centerY) {
+        HexagonMesh mesh = HexagonMesh.of(radius, radius);
+        g2d.translate(centerX, centerY);
+        for (int side = 0; side < TileCode.SIDE_COUNT; side++) {
+            g2d.setColor(TileCode.biomeAt(TileCode.biomeIndex(code, side)).getPrimaryColor());
+            g2d.fillPolygon(mesh.getWedgeXPoints(side), mesh.getWedgeYPoints(side), 3);
         }
+
+        g2d.setStroke(mesh.getOutlineStroke());
+        g2d.setColor(Color.BLACK);
+        g2d.drawPolygon(mesh.getVertexXOffsets(), mesh.getVertexYOffsets(), TileCode.SIDE_COUNT);
+        g2d.translate(-centerX, -centerY);
+    }
+
+    /**
+     * Dessine une tuile réduite à un hexagone de la couleur de son biome central.
+     * Utilisé lorsque la tuile ne fait plus que quelques pixels à l'écran. Le dessin n'alloue rien.
+     *
+     * @param g2d     Contexte graphique
+     * @param code    Le code de la tuile
+     * @param radius  Rayon de la tuile
+     * @param centerX Abscisse du centre de la tuile
+     * @param centerY Ordonnée du centre de la tuile
+     */
+    public static void drawDominant(Graphics2D g2d, int code, int radius, int centerX, int centerY) {
+        HexagonMesh mesh = HexagonMesh.of(radius, radius);
+        g2d.translate(centerX, centerY);
+        g2d.setColor(centerBiome(code).getPrimaryColor());
+        g2d.fillPolygon(mesh.getVertexXOffsets(), mesh.getVertexYOffsets(), TileCode.SIDE_COUNT);
+        g2d.translate(-centerX, -centerY);
     }
 }
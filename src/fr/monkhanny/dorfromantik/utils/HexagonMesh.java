@@ -0,0 +1,437 @@
+package fr.monkhanny.dorfromantik.utils;
+
+import java.awt.BasicStroke;
+import java.awt.Polygon;
+import java.awt.geom.Area;
+import java.awt.geom.PathIterator;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import fr.monkhanny.dorfromantik.enums.Biome;
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+import fr.monkhanny.dorfromantik.game.Cell;
+import fr.monkhanny.dorfromantik.game.TileCode;
+
+/**
+ * Géométrie précalculée de la texture d'une tuile : les 46 petits hexagones qui la composent,
+ * leurs sommets et le côté de la tuile auquel chacun appartient, ainsi que le contour et les six
+ * triangles des tuiles simplifiées.
+ *
+ * Pour un rayon donné, cette géométrie ne dépend pas de la tuile dessinée : elle est donc calculée
+ * une seule fois (racines carrées, arrondis, {@code atan2}) puis partagée. Seul le choix du côté des
+ * petits hexagones situés à la limite de deux côtés dépend des biomes de la tuile ; ces cas sont
+ * repérés à l'avance et résolus sans calcul au moment du dessin (voir {@link #resolveSide(int, int, int)}).
+ *
+ * La géométrie suppose que le centre de la tuile est en ({@code tileRadius}, {@code tileRadius}),
+ * comme dans {@link fr.monkhanny.dorfromantik.game.Tile}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see HexagonDrawer
+ */
+public class HexagonMesh {
+
+    /**
+     * Nombre de petits hexagones de chaque rangée, de haut en bas.
+     */
+    private static final int[] ROW_LENGTHS = { 4, 6, 8, 10, 8, 6, 4 };
+
+    /**
+     * Abscisse de départ de chaque rangée, en rayons, par rapport au bord gauche de la tuile.
+     */
+    private static final double[] ROW_X = { 0.5, 0, -0.5, -1, -0.5, 0, 0.5 };
+
+    /**
+     * Ordonnée de chaque rangée par rapport au centre de la tuile : {@code radius * sqrt(3) / d} pour chaque
+     * diviseur d, négatif au-dessus du centre (0 pour la rangée centrale).
+     */
+    private static final int[] ROW_Y_DIVISORS = { -2, -3, -6, 0, 6, 3, 2 };
+
+    /**
+     * Nombre total de petits hexagones.
+     */
+    public static final int SUB_HEX_COUNT = 46;
+
+    /**
+     * Valeur de {@link #tieSide} pour le petit hexagone central, qui prend la couleur du biome central.
+     */
+    public static final int CENTER = -1;
+
+    /**
+     * Géométries déjà calculées, par rayon de dessin et rayon de tuile.
+     */
+    private static final Map<Long, HexagonMesh> MESHES = new ConcurrentHashMap<>();
+
+    /**
+     * Dernière géométrie demandée, pour éviter toute allocation (clé de la table) lors des appels répétés.
+     */
+    private static volatile HexagonMesh lastMesh;
+
+    /**
+     * Rayon de dessin de la tuile.
+     */
+    private final double radius;
+
+    /**
+     * Rayon de la tuile, qui fixe la position de son centre.
+     */
+    private final int tileRadius;
+
+    /**
+     * Abscisses des sommets de chaque petit hexagone.
+     */
+    private final int[][] xPoints;
+
+    /**
+     * Ordonnées des sommets de chaque petit hexagone.
+     */
+    private final int[][] yPoints;
+
+    /**
+     * Sommets de chaque petit hexagone découpé par le contour de la tuile (x0, y0, x1, y1, ...),
+     * vide si le petit hexagone est entièrement hors de la tuile.
+     */
+    private final float[][] clippedPoints;
+
+    /**
+     * Nuance de couleur de chaque petit hexagone.
+     */
+    private final int[] shades;
+
+    /**
+     * Côté obtenu en arrondissant l'angle du petit hexagone vers le bas.
+     */
+    private final int[] floorSides;
+
+    /**
+     * Côté obtenu en arrondissant l'angle du petit hexagone vers le haut (égal à {@link #floorSides}
+     * sauf à la limite de deux côtés).
+     */
+    private final int[] ceilSides;
+
+    /**
+     * Côté retenu à la limite de deux côtés lorsque la tuile n'a pas de biome dominant,
+     * ou {@link #CENTER} pour le petit hexagone central.
+     */
+    private final int[] tieSide;
+
+    /**
+     * Contour de la tuile.
+     */
+    private final Polygon outline;
+
+    /**
+     * Trait du contour de la tuile.
+     */
+    private final BasicStroke outlineStroke;
+
+    /**
+     * Abscisses des sommets du contour, par rapport au centre de la tuile.
+     */
+    private final int[] vertexXOffsets;
+
+    /**
+     * Ordonnées des sommets du contour, par rapport au centre de la tuile.
+     */
+    private final int[] vertexYOffsets;
+
+    /**
+     * Abscisses des trois sommets du triangle de chaque côté de la tuile simplifiée (le centre puis les deux
+     * sommets du côté), par rapport au centre de la tuile, indexées par l'ordinal du côté.
+     */
+    private final int[][] wedgeXPoints;
+
+    /**
+     * Ordonnées des trois sommets du triangle de chaque côté de la tuile simplifiée, par rapport au centre de la tuile.
+     */
+    private final int[][] wedgeYPoints;
+
+    /**
+     * Calcule la géométrie pour un rayon donné.
+     *
+     * @param radius     Le rayon de dessin de la tuile
+     * @param tileRadius Le rayon de la tuile, qui fixe la position de son centre
+     */
+    private HexagonMesh(double radius, int tileRadius) {
+        this.radius = radius;
+        this.tileRadius = tileRadius;
+        xPoints = new int[SUB_HEX_COUNT][];
+        yPoints = new int[SUB_HEX_COUNT][];
+        shades = new int[SUB_HEX_COUNT];
+        floorSides = new int[SUB_HEX_COUNT];
+        ceilSides = new int[SUB_HEX_COUNT];
+        tieSide = new int[SUB_HEX_COUNT];
+        clippedPoints = new float[SUB_HEX_COUNT][];
+
+        outline = new Hexagon(tileRadius, tileRadius, (int) radius);
+        outlineStroke = new BasicStroke((int) radius / 15);
+        Area outlineArea = new Area(outline);
+
+        vertexXOffsets = new int[outline.npoints];
+        vertexYOffsets = new int[outline.npoints];
+        for (int i = 0; i < outline.npoints; i++) {
+            vertexXOffsets[i] = outline.xpoints[i] - tileRadius;
+            vertexYOffsets[i] = outline.ypoints[i] - tileRadius;
+        }
+        // Le côté i est compris entre les sommets i + 4 et i + 5 du contour (angles 60i - 120 et 60i - 60)
+        wedgeXPoints = new int[TileCode.SIDE_COUNT][];
+        wedgeYPoints = new int[TileCode.SIDE_COUNT][];
+        for (int side = 0; side < TileCode.SIDE_COUNT; side++) {
+            int first = (side + 4) % TileCode.SIDE_COUNT;
+            int second = (side + 5) % TileCode.SIDE_COUNT;
+            wedgeXPoints[side] = new int[] { 0, vertexXOffsets[first], vertexXOffsets[second] };
+            wedgeYPoints[side] = new int[] { 0, vertexYOffsets[first], vertexYOffsets[second] };
+        }
+
+        double hexRadius = radius / Math.sqrt(3) / 3;
+        double paddingX = tileRadius - radius;
+        double paddingY = tileRadius - radius;
+
+        int index = 0;
+        for (int row = 0; row < ROW_LENGTHS.length; row++) {
+            double rowX = paddingX + radius * ROW_X[row];
+            int divisor = ROW_Y_DIVISORS[row];
+            double rowY = paddingY + radius;
+            if (divisor < 0) {
+                rowY -= radius * Math.sqrt(3) / -divisor;
+            } else if (divisor > 0) {
+                rowY += radius * Math.sqrt(3) / divisor;
+            }
+            for (int i = 0; i < ROW_LENGTHS[row]; i++) {
+                int x = (int) Math.round(rowX + hexRadius * Math.sqrt(3) * i);
+                int y = (int) Math.round(rowY);
+
+                Hexagon hexagon = new Hexagon(x, y, (int) Math.ceil(hexRadius), 90);
+                xPoints[index] = hexagon.xpoints.clone();
+                yPoints[index] = hexagon.ypoints.clone();
+                clippedPoints[index] = clip(hexagon, outlineArea);
+                shades[index] = i % Biome.SHADE_COUNT;
+                computeSides(index, x, y, tileRadius);
+                index++;
+            }
+        }
+    }
+
+    /**
+     * Découpe un petit hexagone par le contour de la tuile. L'intersection de deux polygones
+     * convexes est un polygone convexe : ses sommets suffisent à la décrire.
+     *
+     * @param hexagon     Le petit hexagone
+     * @param outlineArea Le contour de la tuile
+     * @return Les sommets de l'intersection (x0, y0, x1, y1, ...)
+     */
+    private static float[] clip(Polygon hexagon, Area outlineArea) {
+        Area area = new Area(hexagon);
+        area.intersect(outlineArea);
+
+        float[] points = new float[2 * 16];
+        int count = 0;
+        float[] segment = new float[6];
+        for (PathIterator iterator = area.getPathIterator(null); !iterator.isDone(); iterator.next()) {
+            int type = iterator.currentSegment(segment);
+            if (type == PathIterator.SEG_MOVETO || type == PathIterator.SEG_LINETO) {
+                if (count == points.length) {
+                    points = Arrays.copyOf(points, 2 * count);
+                }
+                points[count++] = segment[0];
+                points[count++] = segment[1];
+            }
+        }
+        return Arrays.copyOf(points, count);
+    }
+
+    /**
+     * Calcule les côtés possibles d'un petit hexagone, avec la même règle que
+     * {@link HexagonDrawer#determineSide(fr.monkhanny.dorfromantik.game.TileState, int, int, int)}.
+     *
+     * @param index      L'indice du petit hexagone
+     * @param x          L'abscisse de son centre
+     * @param y          L'ordonnée de son centre
+     * @param tileRadius Le rayon de la tuile
+     */
+    private void computeSides(int index, int x, int y, int tileRadius) {
+        if (x == tileRadius && y == tileRadius) {
+            tieSide[index] = CENTER;
+            return;
+        }
+
+        double angle = Cell.to360Degrees(Math.toDegrees(Math.atan2(y - tileRadius, x - tileRadius)) + 120);
+        floorSides[index] = (int) Math.floor(Cell.to360Degrees(angle - 2) / 60);
+        ceilSides[index] = (int) Math.floor(Cell.to360Degrees(angle + 2) / 60);
+
+        if (y > tileRadius) {
+            tieSide[index] = TileOrientation.SOUTH.ordinal();
+        } else if (y < tileRadius) {
+            tieSide[index] = TileOrientation.NORTH.ordinal();
+        } else {
+            tieSide[index] = floorSides[index];
+        }
+    }
+
+    /**
+     * Retourne la géométrie d'une tuile, en la calculant lors du premier appel pour ce rayon.
+     *
+     * @param radius     Le rayon de dessin de la tuile
+     * @param tileRadius Le rayon de la tuile, qui fixe la position de son centre
+     * @return La géométrie partagée
+     */
+    public static HexagonMesh of(double radius, int tileRadius) {
+        HexagonMesh last = lastMesh;
+        if (last != null && last.radius == radius && last.tileRadius == tileRadius) {
+            return last;
+        }
+
+        long key = (Math.round(radius * 1024) << 24) | (tileRadius & 0xFFFFFFL);
+        HexagonMesh mesh = MESHES.get(key);
+        if (mesh == null) {
+            mesh = MESHES.computeIfAbsent(key, k -> new HexagonMesh(radius, tileRadius));
+        }
+        lastMesh = mesh;
+        return mesh;
+    }
+
+    /**
+     * Détermine le côté de la tuile auquel appartient un petit hexagone. Près de la limite
+     * entre deux côtés, le biome dominant l'emporte.
+     *
+     * @param index         L'indice du petit hexagone
+     * @param floorBiome    L'ordinal du biome du côté {@link #getFloorSide(int)}
+     * @param dominantBiome L'ordinal du biome dominant de la tuile, ou -1 en cas d'égalité
+     * @return L'ordinal du côté, ou {@link #CENTER} pour le petit hexagone central
+     */
+    public int resolveSide(int index, int floorBiome, int dominantBiome) {
+        if (tieSide[index] == CENTER) {
+            return CENTER;
+        }
+        if (floorSides[index] == ceilSides[index]) {
+            return floorSides[index];
+        }
+        if (dominantBiome < 0) {
+            return tieSide[index];
+        }
+        return floorBiome == dominantBiome ? ceilSides[index] : floorSides[index];
+    }
+
+    /**
+     * Détermine le biome d'un petit hexagone pour une tuile donnée.
+     *
+     * @param index L'indice du petit hexagone
+     * @param code  Le code de la tuile
+     * @return L'ordinal du biome
+     */
+    public int resolveBiome(int index, int code) {
+        int dominantBiome = TileCode.dominantBiomeIndex(code);
+        int side = resolveSide(index, TileCode.biomeIndex(code, floorSides[index]), dominantBiome);
+        if (side != CENTER) {
+            return TileCode.biomeIndex(code, side);
+        }
+        return (dominantBiome >= 0) ? dominantBiome : TileCode.biomeIndex(code, TileOrientation.SOUTH.ordinal());
+    }
+
+    /**
+     * Retourne les sommets d'un petit hexagone découpé par le contour de la tuile (à ne pas modifier).
+     *
+     * @param index L'indice du petit hexagone
+     * @return Les sommets (x0, y0, x1, y1, ...), vide si le petit hexagone est hors de la tuile
+     */
+    public float[] getClippedPoints(int index) {
+        return clippedPoints[index];
+    }
+
+    /**
+     * Retourne le côté obtenu en arrondissant l'angle d'un petit hexagone vers le bas.
+     *
+     * @param index L'indice du petit hexagone
+     * @return L'ordinal du côté
+     */
+    public int getFloorSide(int index) {
+        return floorSides[index];
+    }
+
+    /**
+     * Retourne les abscisses des sommets d'un petit hexagone (à ne pas modifier).
+     *
+     * @param index L'indice du petit hexagone
+     * @return Les six abscisses
+     */
+    public int[] getXPoints(int index) {
+        return xPoints[index];
+    }
+
+    /**
+     * Retourne les ordonnées des sommets d'un petit hexagone (à ne pas modifier).
+     *
+     * @param index L'indice du petit hexagone
+     * @return Les six ordonnées
+     */
+    public int[] getYPoints(int index) {
+        return yPoints[index];
+    }
+
+    /**
+     * Retourne la nuance de couleur d'un petit hexagone.
+     *
+     * @param index L'indice du petit hexagone
+     * @return L'indice de la nuance
+     */
+    public int getShade(int index) {
+        return shades[index];
+    }
+
+    /**
+     * Retourne le contour de la tuile (à ne pas modifier).
+     *
+     * @return Le contour
+     */
+    public Polygon getOutline() {
+        return outline;
+    }
+
+    /**
+     * Retourne le trait du contour de la tuile.
+     *
+     * @return Le trait
+     */
+    public BasicStroke getOutlineStroke() {
+        return outlineStroke;
+    }
+
+    /**
+     * Retourne les abscisses des sommets du contour, par rapport au centre de la tuile (à ne pas modifier).
+     *
+     * @return Les six abscisses
+     */
+    public int[] getVertexXOffsets() {
+        return vertexXOffsets;
+    }
+
+    /**
+     * Retourne les ordonnées des sommets du contour, par rapport au centre de la tuile (à ne pas modifier).
+     *
+     * @return Les six ordonnées
+     */
+    public int[] getVertexYOffsets() {
+        return vertexYOffsets;
+    }
+
+    /**
+     * Retourne les abscisses du triangle d'un côté de la tuile simplifiée, par rapport à son centre (à ne pas modifier).
+     *
+     * @param side L'ordinal du côté
+     * @return Les trois abscisses
+     */
+    public int[] getWedgeXPoints(int side) {
+        return wedgeXPoints[side];
+    }
+
+    /**
+     * Retourne les ordonnées du triangle d'un côté de la tuile simplifiée, par rapport à son centre (à ne pas modifier).
+     *
+     * @param side L'ordinal du côté
+     * @return Les trois ordonnées
+     */
+    public int[] getWedgeYPoints(int side) {
+        return wedgeYPoints[side];
+    }
+}
@@ -0,0 +1,286 @@
+package fr.monkhanny.dorfromantik.utils;
+
+import java.util.Arrays;
+
+/**
+ * Table de hachage associant des clés {@code long} à des valeurs {@code int}.
+ *
+ * Contrairement à une {@code HashMap<Long, Integer>}, cette table ne crée aucun objet
+ * lors des lectures ou des écritures : les clés et les valeurs sont stockées dans des
+ * tableaux primitifs, avec un adressage ouvert et un sondage linéaire.
+ *
+ * Les cases peuvent être parcourues directement avec {@link #capacity()}, {@link #isFilled(int)},
+ * {@link #keyAt(int)} et {@link #valueAt(int)}, ce qui évite toute allocation d'itérateur.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class LongIntMap {
+
+    /**
+     * Valeur renvoyée lorsqu'une clé est absente de la table.
+     */
+    public static final int NO_VALUE = -1;
+
+    /**
+     * Taux de remplissage maximal avant agrandissement de la table.
+     */
+    private static final float LOAD_FACTOR = 0.5f;
+
+    /**
+     * Clés stockées dans chaque case.
+     */
+    private long[] keys;
+
+    /**
+     * Valeurs stockées dans chaque case.
+     */
+    private int[] values;
+
+    /**
+     * Indique pour chaque case si elle est occupée.
+     */
+    private boolean[] filled;
+
+    /**
+     * Nombre d'entrées présentes dans la table.
+     */
+    private int size;
+
+    /**
+     * Masque utilisé pour ramener un hash dans les bornes de la table (capacité - 1).
+     */
+    private int mask;
+
+    /**
+     * Nombre d'entrées au-delà duquel la table est agrandie.
+     */
+    private int threshold;
+
+    /**
+     * Constructeur par défaut, pour une petite table.
+     */
+    public LongIntMap() {
+        this(16);
+    }
+
+    /**
+     * Constructeur d'une table dimensionnée pour un nombre d'entrées attendu.
+     *
+     * @param expectedSize Nombre d'entrées attendu
+     */
+    public LongIntMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    /**
+     * Constructeur par copie.
+     *
+     * @param other La table à copier
+     */
+    public LongIntMap(LongIntMap other) {
+        this.keys = other.keys.clone();
+        this.values = other.values.clone();
+        this.filled = other.filled.clone();
+        this.size = other.size;
+        this.mask = other.mask;
+        this.threshold = other.threshold;
+    }
+
+    /**
+     * Récupère la valeur associée à une clé.
+     *
+     * @param key La clé recherchée
+     * @return La valeur associée, ou {@link #NO_VALUE} si la clé est absente
+     */
+    public int get(long key) {
+        int slot = indexOf(key);
+        while (filled[slot]) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Vérifie si une clé est présente dans la table.
+     *
+     * @param key La clé recherchée
+     * @return {@code true} si la clé est présente, {@code false} sinon
+     */
+    public boolean containsKey(long key) {
+        int slot = indexOf(key);
+        while (filled[slot]) {
+            if (keys[slot] == key) {
+                return true;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Associe une valeur à une clé, en remplaçant l'ancienne valeur si la clé existe déjà.
+     *
+     * @param key   La clé
+     * @param value La valeur à associer
+     */
+    public void put(long key, int value) {
+        if (size >= threshold) {
+            allocate(keys.length << 1);
+        }
+
+        int slot = indexOf(key);
+        while (filled[slot]) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        filled[slot] = true;
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    /**
+     * Supprime une clé de la table.
+     *
+     * @param key La clé à supprimer
+     * @return La valeur qui était associée à la clé, ou {@link #NO_VALUE} si elle était absente
+     */
+    public int remove(long key) {
+        int slot = indexOf(key);
+        while (filled[slot]) {
+            if (keys[slot] == key) {
+                int oldValue = values[slot];
+                closeGap(slot);
+                size--;
+                return oldValue;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+
+    /**
+     * Vide la table sans réduire sa capacité.
+     */
+    public void clear() {
+        Arrays.fill(filled, false);
+        size = 0;
+    }
+
+    /**
+     * Retourne le nombre d'entrées présentes dans la table.
+     *
+     * @return Le nombre d'entrées
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Retourne le nombre de cases de la table, pour un parcours avec {@link #isFilled(int)}.
+     *
+     * @return Le nombre de cases
+     */
+    public int capacity() {
+        return keys.length;
+    }
+
+    /**
+     * Indique si une case est occupée.
+     *
+     * @param slot L'indice de la case
+     * @return {@code true} si la case contient une entrée
+     */
+    public boolean isFilled(int slot) {
+        return filled[slot];
+    }
+
+    /**
+     * Retourne la clé stockée dans une case occupée.
+     *
+     * @param slot L'indice de la case
+     * @return La clé de la case
+     */
+    public long keyAt(int slot) {
+        return keys[slot];
+    }
+
+    /**
+     * Retourne la valeur stockée dans une case occupée.
+     *
+     * @param slot L'indice de la case
+     * @return La valeur de la case
+     */
+    public int valueAt(int slot) {
+        return values[slot];
+    }
+
+    /**
+     * Calcule la case de départ d'une clé (hachage de Fibonacci).
+     *
+     * @param key La clé
+     * @return L'indice de la case de départ
+     */
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * Rebouche le trou laissé par une suppression en décalant les entrées suivantes,
+     * afin que les recherches par sondage linéaire restent correctes.
+     *
+     * @param gap L'indice de la case libérée
+     */
+    private void closeGap(int gap) {
+        int slot = gap;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (!filled[slot]) {
+                break;
+            }
+            int home = indexOf(keys[slot]);
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+        }
+        filled[gap] = false;
+    }
+
+    /**
+     * (Ré)alloue les tableaux avec une nouvelle capacité et réinsère les entrées existantes.
+     *
+     * @param capacity La nouvelle capacité (puissance de deux)
+     */
+    private void allocate(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldFilled = filled;
+
+        keys = new long[capacity];
+        values = new int[capacity];
+        filled = new boolean[capacity];
+        mask = capacity - 1;
+        threshold = (int) (capacity * LOAD_FACTOR);
+        size = 0;
+
+        if (oldKeys != null) {
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldFilled[i]) {
+                    put(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package fr.monkhanny.dorfromantik.utils;
+
+import java.awt.Component;
+import java.util.function.DoubleConsumer;
+
+import fr.monkhanny.dorfromantik.enums.Easing;
+
+/**
+ * Animation d'une valeur sur une durée donnée, avancée par l'{@link AnimationClock}.
+ *
+ * À chaque image, la fonction de mise à jour reçoit l'avancement de l'animation (de 0 à 1) après
+ * application de la courbe d'accélération. Une animation peut être annulée, déclencher une action
+ * à sa fin et être suivie d'une autre animation :
+ *
+ * <pre>
+ * new Tween(150, Easing.EASE_OUT_QUAD, p -&gt; ...).repaint(panel).then(new Tween(...)).start();
+ * </pre>
+ *
+ * Les animations sont manipulées uniquement sur le thread de Swing (EDT).
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ * @see AnimationClock
+ */
+public class Tween {
+
+    /**
+     * Durée de l'animation, en nanosecondes.
+     */
+    private final long durationNanos;
+
+    /**
+     * Courbe d'accélération.
+     */
+    private final Easing easing;
+
+    /**
+     * Fonction appelée à chaque image avec l'avancement de l'animation.
+     */
+    private final DoubleConsumer onUpdate;
+
+    /**
+     * Action exécutée lorsque l'animation arrive à son terme (pas si elle est annulée).
+     */
+    private Runnable onComplete;
+
+    /**
+     * Animation démarrée lorsque celle-ci arrive à son terme.
+     */
+    private Tween next;
+
+    /**
+     * Composant à redessiner après chaque image de l'animation.
+     */
+    private Component repaintTarget;
+
+    /**
+     * Temps écoulé depuis le démarrage, en nanosecondes.
+     */
+    private long elapsedNanos;
+
+    /**
+     * Première animation de la chaîne, celle qui est démarrée par {@link #start()}.
+     */
+    private Tween first;
+
+    /**
+     * Indique si l'animation a été annulée.
+     */
+    private boolean cancelled;
+
+    /**
+     * Indique si l'animation est terminée (arrivée à son terme ou annulée).
+     */
+    private boolean finished;
+
+    /**
+     * Constructeur d'une animation.
+     *
+     * @param durationMillis La durée de l'animation, en millisecondes
+     * @param easing         La courbe d'accélération
+     * @param onUpdate       La fonction appelée à chaque image avec l'avancement (de 0 à 1)
+     */
+    public Tween(int durationMillis, Easing easing, DoubleConsumer onUpdate) {
+        this.durationNanos = Math.max(0, durationMillis) * 1_000_000L;
+        this.easing = easing;
+        this.onUpdate = onUpdate;
+        this.first = this;
+    }
+
+    /**
+     * Définit l'action exécutée lorsque l'animation arrive à son terme.
+     *
+     * @param onComplete L'action
+     * @return Cette animation
+     */
+    public Tween onComplete(Runnable onComplete) {
+        this.onComplete = onComplete;
+        return this;
+    }
+
+    /**
+     * Définit le composant à redessiner après chaque image de l'animation. Les demandes de toutes
+     * les animations d'une même image sont regroupées : chaque composant n'est redessiné qu'une fois.
+     *
+     * @param component Le composant
+     * @return Cette animation
+     */
+    public Tween repaint(Component component) {
+        this.repaintTarget = component;
+        return this;
+    }
+
+    /**
+     * Enchaîne une animation, démarrée lorsque celle-ci arrive à son terme.
+     *
+     * @param next L'animation suivante
+     * @return L'animation suivante, pour continuer la chaîne
+     */
+    public Tween then(Tween next) {
+        this.next = next;
+        next.first = this.first;
+        return next;
+    }
+
+    /**
+     * Démarre la chaîne d'animations à laquelle appartient cette animation.
+     *
+     * @return Cette animation
+     */
+    public Tween start() {
+        AnimationClock.getInstance().schedule(first);
+        return this;
+    }
+
+    /**
+     * Annule l'animation et celles qui la suivent. L'action de fin n'est pas exécutée.
+     */
+    public void cancel() {
+        for (Tween tween = first; tween != null; tween = tween.next) {
+            tween.cancelled = true;
+            tween.finished = true;
+        }
+    }
+
+    /**
+     * Indique si la chaîne d'animations est encore en cours.
+     *
+     * @return {@code true} si une animation de la chaîne n'est pas terminée
+     */
+    public boolean isRunning() {
+        for (Tween tween = first; tween != null; tween = tween.next) {
+            if (!tween.finished) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Avance l'animation.
+     *
+     * @param nanos Le temps écoulé depuis l'image précédente, en nanosecondes
+     * @return {@code true} si l'animation doit encore être avancée
+     */
+    boolean advance(long nanos) {
+        if (cancelled) {
+            return false;
+        }
+
+        elapsedNanos += nanos;
+        double t = (durationNanos == 0) ? 1 : Math.min(1, (double) elapsedNanos / durationNanos);
+        onUpdate.accept(easing.apply(t));
+        if (t < 1) {
+            return true;
+        }
+
+        finished = true;
+        if (onComplete != null) {
+            onComplete.run();
+        }
+        return false;
+    }
+
+    /**
+     * Retourne l'animation à démarrer à la fin de celle-ci.
+     *
+     * @return L'animation suivante, ou {@code null} s'il n'y en a pas ou si l'animation a été annulée
+     */
+    Tween getNext() {
+        return cancelled ? null : next;
+    }
+
+    /**
+     * Retourne le composant à redessiner après chaque image.
+     *
+     * @return Le composant, ou {@code null}
+     */
+    Component getRepaintTarget() {
+        return repaintTarget;
+    }
+}
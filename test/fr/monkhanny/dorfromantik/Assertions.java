@@ -0,0 +1,96 @@
+package fr.monkhanny.dorfromantik;
+
+/**
+ * Vérifications utilisées par les tests ({@code make test}).
+ *
+ * Chaque classe de test est un programme dont la méthode {@code main} enchaîne ses cas : la première
+ * vérification qui échoue lève une {@link AssertionError}, et le programme se termine en erreur.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public final class Assertions {
+
+    /**
+     * Constructeur privé : la classe ne contient que des méthodes statiques.
+     */
+    private Assertions() {
+    }
+
+    /**
+     * Vérifie qu'une condition est vraie.
+     *
+     * @param condition La condition
+     * @param message   La description de la vérification
+     */
+    public static void assertTrue(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    /**
+     * Vérifie qu'une condition est fausse.
+     *
+     * @param condition La condition
+     * @param message   La description de la vérification
+     */
+    public static void assertFalse(boolean condition, String message) {
+        assertTrue(!condition, message);
+    }
+
+    /**
+     * Vérifie que deux entiers sont égaux.
+     *
+     * @param expected La valeur attendue
+     * @param actual   La valeur obtenue
+     * @param message  La description de la vérification
+     */
+    public static void assertEquals(long expected, long actual, String message) {
+        if (expected != actual) {
+            throw new AssertionError(message + " : attendu " + expected + ", obtenu " + actual);
+        }
+    }
+
+    /**
+     * Vérifie que deux objets sont égaux au sens de {@link Object#equals(Object)}.
+     *
+     * @param expected La valeur attendue
+     * @param actual   La valeur obtenue
+     * @param message  La description de la vérification
+     */
+    public static void assertEquals(Object expected, Object actual, String message) {
+        if (expected == null ? actual != null : !expected.equals(actual)) {
+            throw new AssertionError(message + " : attendu " + expected + ", obtenu " + actual);
+        }
+    }
+
+    /**
+     * Vérifie qu'une action lève une exception d'un type donné.
+     *
+     * @param type    Le type d'exception attendu
+     * @param action  L'action
+     * @param message La description de la vérification
+     */
+    public static void assertThrows(Class<? extends Throwable> type, Runnable action, String message) {
+        try {
+            action.run();
+        } catch (Throwable e) {
+            if (type.isInstance(e)) {
+                return;
+            }
+            throw new AssertionError(message + " : " + type.getSimpleName() + " attendue, " + e + " obtenue", e);
+        }
+        throw new AssertionError(message + " : " + type.getSimpleName() + " attendue, aucune exception levée");
+    }
+
+    /**
+     * Affiche le succès d'une classe de test.
+     *
+     * @param test  La classe de test
+     * @param count Le nombre de cas exécutés
+     */
+    public static void passed(Class<?> test, int count) {
+        System.out.println(test.getSimpleName() + " : " + count + " cas réussis");
+    }
+}
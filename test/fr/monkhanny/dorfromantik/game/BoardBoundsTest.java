@@ -0,0 +1,104 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.Assertions;
+
+/**
+ * Tests de {@link BoardBounds}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class BoardBoundsTest {
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        emptyBounds();
+        extentsMatchIncludedCells();
+        Assertions.passed(BoardBoundsTest.class, 2);
+    }
+
+    /**
+     * Des bornes vides ne connaissent aucune ligne ni colonne.
+     */
+    private static void emptyBounds() {
+        BoardBounds bounds = new BoardBounds();
+        assertTrue(bounds.isEmpty(), "bornes vides");
+        assertFalse(bounds.hasColumn(0), "aucune colonne");
+        assertFalse(bounds.hasRow(-1), "aucune ligne");
+
+        bounds.include(0, -1, 40, -20);
+        assertFalse(bounds.isEmpty(), "une case");
+        assertTrue(bounds.hasRow(-1), "ligne -1, la valeur absente des tables");
+        assertEquals(-1, bounds.getColumnMinRow(0), "première ligne de la colonne 0");
+        assertEquals(-1, bounds.getColumnMaxRow(0), "dernière ligne de la colonne 0");
+        assertEquals(40, bounds.getMinX(), "abscisse minimale");
+        assertEquals(40, bounds.getMaxX(), "abscisse maximale");
+        assertEquals(-20, bounds.getMinY(), "ordonnée minimale");
+        assertEquals(-20, bounds.getMaxY(), "ordonnée maximale");
+    }
+
+    /**
+     * Les étendues de chaque ligne et de chaque colonne, et le rectangle en pixels, sont ceux des cases ajoutées.
+     */
+    private static void extentsMatchIncludedCells() {
+        SplittableRandom random = new SplittableRandom(9);
+        HexLayout layout = new HexLayout(0, 0, 50);
+        BoardBounds bounds = new BoardBounds();
+        int size = 41;
+        boolean[][] included = new boolean[size][size];
+        for (int i = 0; i < 300; i++) {
+            int q = random.nextInt(size) - size / 2;
+            int r = random.nextInt(size) - size / 2;
+            included[q + size / 2][r + size / 2] = true;
+            bounds.include(q, r, layout.toPixelX(q, r), layout.toPixelY(q, r));
+        }
+
+        int minX = Integer.MAX_VALUE;
+        int maxY = Integer.MIN_VALUE;
+        for (int q = -size / 2; q <= size / 2; q++) {
+            int minRow = Integer.MAX_VALUE;
+            int maxRow = Integer.MIN_VALUE;
+            for (int r = -size / 2; r <= size / 2; r++) {
+                if (included[q + size / 2][r + size / 2]) {
+                    minRow = Math.min(minRow, r);
+                    maxRow = Math.max(maxRow, r);
+                    minX = Math.min(minX, layout.toPixelX(q, r));
+                    maxY = Math.max(maxY, layout.toPixelY(q, r));
+                }
+            }
+            assertEquals(minRow != Integer.MAX_VALUE, bounds.hasColumn(q), "présence de la colonne " + q);
+            if (bounds.hasColumn(q)) {
+                assertEquals(minRow, bounds.getColumnMinRow(q), "première ligne de la colonne " + q);
+                assertEquals(maxRow, bounds.getColumnMaxRow(q), "dernière ligne de la colonne " + q);
+            }
+        }
+        for (int r = -size / 2; r <= size / 2; r++) {
+            int minColumn = Integer.MAX_VALUE;
+            int maxColumn = Integer.MIN_VALUE;
+            for (int q = -size / 2; q <= size / 2; q++) {
+                if (included[q + size / 2][r + size / 2]) {
+                    minColumn = Math.min(minColumn, q);
+                    maxColumn = Math.max(maxColumn, q);
+                }
+            }
+            assertEquals(minColumn != Integer.MAX_VALUE, bounds.hasRow(r), "présence de la ligne " + r);
+            if (bounds.hasRow(r)) {
+                assertEquals(minColumn, bounds.getRowMinColumn(r), "première colonne de la ligne " + r);
+                assertEquals(maxColumn, bounds.getRowMaxColumn(r), "dernière colonne de la ligne " + r);
+            }
+        }
+        assertEquals(minX, bounds.getMinX(), "abscisse minimale");
+        assertEquals(maxY, bounds.getMaxY(), "ordonnée maximale");
+        assertFalse(bounds.hasColumn(size), "colonne hors du plateau");
+    }
+}
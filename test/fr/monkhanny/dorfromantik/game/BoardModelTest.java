@@ -0,0 +1,187 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertThrows;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.Biome;
+
+/**
+ * Tests de {@link BoardModel}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class BoardModelTest {
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        placementRules();
+        peekDoesNotChangeDraws();
+        copyReplaysTheBoard();
+        hashIgnoresPlacementOrder();
+        undoRestoresEarlierBoard();
+        Assertions.passed(BoardModelTest.class, 5);
+    }
+
+    /**
+     * La première tuile se pose n'importe où, les suivantes seulement sur la frontière.
+     */
+    private static void placementRules() {
+        BoardModel board = new BoardModel(1);
+        assertTrue(board.canPlace(7, -3), "plateau vide");
+        board.placeTile(board.drawTile(), 0, 0);
+        assertFalse(board.canPlace(0, 0), "case occupée");
+        assertFalse(board.canPlace(2, 0), "case éloignée");
+        assertThrows(IllegalArgumentException.class, () -> board.placeTile(board.drawTile(), 2, 0), "pose hors frontière");
+        assertTrue(board.canPlace(1, 0), "case voisine");
+
+        TileState tile = board.drawTile();
+        board.placeTile(tile, 1, 0);
+        assertEquals(1, tile.getQ(), "colonne enregistrée");
+        assertEquals(0, tile.getR(), "ligne enregistrée");
+        assertTrue(board.getTileAt(1, 0) == tile, "tuile retrouvée par sa case");
+        assertTrue(board.getTileAt(3, 3) == null, "case libre");
+        assertEquals(2, board.getTileCount(), "tuiles posées");
+    }
+
+    /**
+     * Consulter les tuiles à venir ne modifie pas les tirages suivants.
+     */
+    private static void peekDoesNotChangeDraws() {
+        BoardModel peeked = new BoardModel(2);
+        BoardModel drawn = new BoardModel(2);
+        for (int i = 0; i < 20; i++) {
+            int next = peeked.peekTile(0).getCode();
+            int ahead = peeked.peekTile(3).getCode();
+            int code = peeked.drawTile().getCode();
+            assertEquals(next, code, "tuile consultée puis tirée " + i);
+            assertEquals(drawn.drawTile().getCode(), code, "tirage inchangé " + i);
+            assertEquals(ahead, peeked.peekTile(2).getCode(), "tuile à venir stable " + i);
+        }
+        assertEquals(20, peeked.getDrawnCount(), "tuiles tirées");
+    }
+
+    /**
+     * La copie a les mêmes tuiles, la même frontière, le même score et la même empreinte,
+     * et ses poses ne modifient pas l'original.
+     */
+    private static void copyReplaysTheBoard() {
+        BoardModel board = new BoardModel(3);
+        SplittableRandom random = new SplittableRandom(3);
+        board.placeTile(board.drawTile(), 0, 0);
+        while (board.getTileCount() < 40) {
+            ScoreManagerTest.placeRandomly(board, random);
+        }
+
+        BoardModel copy = board.copy(board.getTileSequence());
+        assertEquals(board.getScore(), copy.getScore(), "score");
+        assertEquals(board.getHash(), copy.getHash(), "empreinte");
+        assertEquals(board.getDrawnCount(), copy.getDrawnCount(), "tuiles tirées");
+        assertEquals(board.getFrontier().size(), copy.getFrontier().size(), "frontière");
+        for (int i = 0; i < board.getFrontier().size(); i++) {
+            assertEquals(board.getFrontier().keyAt(i), copy.getFrontier().keyAt(i), "case " + i + " de la frontière");
+        }
+        for (int i = 0; i < board.getTileCount(); i++) {
+            TileState tile = board.getTile(i);
+            assertEquals(tile.getCode(), copy.getTileAt(tile.getQ(), tile.getR()).getCode(), "tuile " + i);
+        }
+
+        int score = board.getScore();
+        long hash = board.getHash();
+        ScoreManagerTest.placeRandomly(copy, random);
+        assertEquals(40, board.getTileCount(), "l'original garde ses tuiles");
+        assertEquals(score, board.getScore(), "l'original garde son score");
+        assertEquals(hash, board.getHash(), "l'original garde son empreinte");
+    }
+
+    /**
+     * Les mêmes poses faites dans un autre ordre donnent la même empreinte.
+     */
+    private static void hashIgnoresPlacementOrder() {
+        int center = TileCode.pack(Biome.SEA, Biome.SEA, Biome.FOREST, Biome.FOREST, Biome.FIELD, Biome.FIELD);
+        BoardModel first = new BoardModel(4);
+        BoardModel second = new BoardModel(4);
+        first.placeTile(new TileState(center), 0, 0);
+        second.placeTile(new TileState(center), 0, 0);
+        first.placeTile(new TileState(1), 1, 0);
+        first.placeTile(new TileState(2), -1, 0);
+        second.placeTile(new TileState(2), -1, 0);
+        second.placeTile(new TileState(1), 1, 0);
+        assertEquals(first.getHash(), second.getHash(), "empreinte");
+        assertTrue(first.getHash() != new BoardModel(4).getHash(), "empreinte d'un plateau vide");
+    }
+
+    /**
+     * Annuler des poses ramène exactement le plateau d'avant : tuiles, frontière dans le même ordre,
+     * score et empreinte. Les poses suivantes donnent alors les mêmes résultats que sur un plateau
+     * qui n'a jamais connu ces poses.
+     */
+    private static void undoRestoresEarlierBoard() {
+        for (long seed = 1; seed <= 5; seed++) {
+            BoardModel board = new BoardModel(seed);
+            SplittableRandom random = new SplittableRandom(seed);
+            board.enableUndo();
+            String empty = describe(board);
+            board.placeTile(board.peekTile(0), 0, 0);
+            board.undoPlacement();
+            assertEquals(empty, describe(board), "annulation de la tuile centrale, graine " + seed);
+            board.placeTile(board.drawTile(), 0, 0);
+
+            while (board.getTileCount() < 50) {
+                String before = describe(board);
+                int drawn = board.getDrawnCount();
+                BoardModel trial = board.copy(board.getTileSequence());
+                int placements = 1 + random.nextInt(8);
+                for (int i = 0; i < placements; i++) {
+                    ScoreManagerTest.placeRandomly(board, random);
+                }
+                assertEquals(ScoreManagerTest.recount(board), board.getScore(), "score avant annulation, graine " + seed);
+                for (int i = 0; i < placements; i++) {
+                    board.undoPlacement();
+                }
+                assertEquals(before, describe(board), "plateau après annulation, graine " + seed);
+                assertEquals(drawn + placements, board.getDrawnCount(), "les tirages ne sont pas annulés");
+
+                // La suite de la partie ne garde aucune trace des poses annulées
+                TileState tile = board.drawTile();
+                Frontier frontier = board.getFrontier();
+                long cell = frontier.keyAt(random.nextInt(frontier.size()));
+                int delta = board.placeTile(tile, HexGrid.keyQ(cell), HexGrid.keyR(cell));
+                assertEquals(trial.placeTile(new TileState(tile.getCode()), HexGrid.keyQ(cell), HexGrid.keyR(cell)), delta,
+                        "variation après annulation, graine " + seed);
+                assertEquals(describe(trial), describe(board), "plateau après une nouvelle pose, graine " + seed);
+            }
+        }
+        assertThrows(IllegalStateException.class, () -> new BoardModel(1).undoPlacement(), "annulation non activée");
+    }
+
+    /**
+     * Décrit un plateau : score, empreinte, tuiles et cases de la frontière dans leur ordre.
+     *
+     * @param board Le plateau
+     * @return La description
+     */
+    private static String describe(BoardModel board) {
+        StringBuilder description = new StringBuilder();
+        description.append(board.getScore()).append(' ').append(board.getHash()).append(" |");
+        for (int i = 0; i < board.getTileCount(); i++) {
+            TileState tile = board.getTile(i);
+            description.append(' ').append(tile.getQ()).append(',').append(tile.getR()).append('=').append(tile.getCode());
+        }
+        description.append(" |");
+        Frontier frontier = board.getFrontier();
+        for (int i = 0; i < frontier.size(); i++) {
+            description.append(' ').append(frontier.keyAt(i));
+        }
+        return description.toString();
+    }
+}
@@ -0,0 +1,122 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+
+/**
+ * Tests de {@link Frontier}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class FrontierTest {
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        addIgnoresDuplicates();
+        removeKeepsCellsCompact();
+        firstTileOpensSixCells();
+        matchesFreeNeighborsWhileGrowing();
+        Assertions.passed(FrontierTest.class, 4);
+    }
+
+    /**
+     * Une case ajoutée deux fois n'apparaît qu'une fois.
+     */
+    private static void addIgnoresDuplicates() {
+        Frontier frontier = new Frontier();
+        frontier.add(HexGrid.key(1, 2));
+        frontier.add(HexGrid.key(1, 2));
+        assertEquals(1, frontier.size(), "taille");
+        assertTrue(frontier.contains(1, 2), "case ajoutée");
+        assertEquals(0, frontier.indexOf(HexGrid.key(1, 2)), "position");
+    }
+
+    /**
+     * Une case retirée est remplacée par la dernière, et toutes les positions restent exactes.
+     */
+    private static void removeKeepsCellsCompact() {
+        Frontier frontier = new Frontier();
+        for (int q = 0; q < 100; q++) {
+            frontier.add(HexGrid.key(q, -q));
+        }
+        for (int q = 0; q < 100; q += 2) {
+            frontier.remove(HexGrid.key(q, -q));
+        }
+        frontier.remove(HexGrid.key(500, 500));
+        assertEquals(50, frontier.size(), "taille après suppressions");
+        for (int i = 0; i < frontier.size(); i++) {
+            long key = frontier.keyAt(i);
+            assertEquals(1, Math.abs(HexGrid.keyQ(key)) % 2, "case restante " + HexGrid.keyQ(key));
+            assertEquals(i, frontier.indexOf(key), "position de la case " + i);
+        }
+        assertFalse(frontier.contains(0, 0), "case retirée");
+    }
+
+    /**
+     * La première tuile posée ouvre ses six cases voisines.
+     */
+    private static void firstTileOpensSixCells() {
+        HexGrid grid = new HexGrid();
+        Frontier frontier = new Frontier();
+        grid.put(0, 0, 0);
+        assertEquals(6, frontier.onTilePlaced(0, 0, grid), "cases ajoutées");
+        for (TileOrientation side : TileOrientation.values()) {
+            assertTrue(frontier.contains(side.getDeltaQ(), side.getDeltaR()), "voisine " + side);
+        }
+        assertFalse(frontier.contains(0, 0), "case occupée");
+    }
+
+    /**
+     * Au fil de poses aléatoires, la frontière reste exactement l'ensemble des cases libres voisines
+     * d'une tuile, et chaque pose annonce le bon nombre de cases ajoutées.
+     */
+    private static void matchesFreeNeighborsWhileGrowing() {
+        SplittableRandom random = new SplittableRandom(2);
+        HexGrid grid = new HexGrid();
+        Frontier frontier = new Frontier();
+        Set<Long> occupied = new HashSet<>();
+        grid.put(0, 0, 0);
+        occupied.add(HexGrid.key(0, 0));
+        frontier.onTilePlaced(0, 0, grid);
+
+        for (int tile = 1; tile < 300; tile++) {
+            long cell = frontier.keyAt(random.nextInt(frontier.size()));
+            int q = HexGrid.keyQ(cell);
+            int r = HexGrid.keyR(cell);
+            int before = frontier.size();
+            grid.put(q, r, tile);
+            occupied.add(cell);
+            int added = frontier.onTilePlaced(q, r, grid);
+            assertEquals(before - 1 + added, frontier.size(), "cases ajoutées par la pose " + tile);
+
+            Set<Long> expected = new HashSet<>();
+            for (long key : occupied) {
+                for (TileOrientation side : TileOrientation.values()) {
+                    long neighbor = HexGrid.neighborKey(key, side);
+                    if (!occupied.contains(neighbor)) {
+                        expected.add(neighbor);
+                    }
+                }
+            }
+            Set<Long> actual = new HashSet<>();
+            for (int i = 0; i < frontier.size(); i++) {
+                actual.add(frontier.keyAt(i));
+            }
+            assertEquals(expected.size(), frontier.size(), "pas de doublon après la pose " + tile);
+            assertEquals(expected, actual, "frontière après la pose " + tile);
+        }
+    }
+}
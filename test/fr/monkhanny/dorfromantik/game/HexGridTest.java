@@ -0,0 +1,75 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+import fr.monkhanny.dorfromantik.utils.LongIntMap;
+
+/**
+ * Tests de {@link HexGrid}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class HexGridTest {
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        keysRoundTrip();
+        neighborKeysFollowOrientations();
+        putIndexAndRemove();
+        Assertions.passed(HexGridTest.class, 3);
+    }
+
+    /**
+     * Les coordonnées se retrouvent à partir de leur clé, jusqu'aux bornes des entiers.
+     */
+    private static void keysRoundTrip() {
+        int[] values = {0, 1, -1, 1000, -1000, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int q : values) {
+            for (int r : values) {
+                long key = HexGrid.key(q, r);
+                assertEquals(q, HexGrid.keyQ(key), "colonne de (" + q + ", " + r + ")");
+                assertEquals(r, HexGrid.keyR(key), "ligne de (" + q + ", " + r + ")");
+            }
+        }
+        assertTrue(HexGrid.key(1, -1) != HexGrid.key(-1, 1), "clés distinctes");
+    }
+
+    /**
+     * La clé voisine suit le décalage de chaque orientation, et l'orientation opposée ramène à la case.
+     */
+    private static void neighborKeysFollowOrientations() {
+        for (TileOrientation side : TileOrientation.values()) {
+            long neighbor = HexGrid.neighborKey(HexGrid.key(3, -2), side);
+            assertEquals(HexGrid.key(3 + side.getDeltaQ(), -2 + side.getDeltaR()), neighbor, "voisin " + side);
+            assertEquals(HexGrid.key(3, -2), HexGrid.neighborKey(neighbor, side.oppositeOrientation()), "retour depuis " + side);
+        }
+    }
+
+    /**
+     * Les indices enregistrés se retrouvent et une case libérée redevient libre.
+     */
+    private static void putIndexAndRemove() {
+        HexGrid grid = new HexGrid();
+        grid.put(0, 0, 0);
+        grid.put(-2, 5, 1);
+        assertEquals(0, grid.indexAt(0, 0), "case centrale");
+        assertEquals(1, grid.indexAt(-2, 5), "case négative");
+        assertEquals(LongIntMap.NO_VALUE, grid.indexAt(5, -2), "case libre");
+        assertEquals(2, grid.size(), "taille");
+
+        HexGrid copy = new HexGrid(grid);
+        grid.remove(0, 0);
+        assertFalse(grid.isOccupied(0, 0), "case libérée");
+        assertEquals(1, grid.size(), "taille après libération");
+        assertTrue(copy.isOccupied(0, 0), "la copie est indépendante");
+    }
+}
@@ -0,0 +1,134 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+
+/**
+ * Tests de {@link HexLayout}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class HexLayoutTest {
+
+    /**
+     * Dispositions testées : rayons pairs et impairs, origine quelconque.
+     */
+    private static final HexLayout[] LAYOUTS = {
+        new HexLayout(0, 0, 50),
+        new HexLayout(400, 300, 37),
+        new HexLayout(-123, 77, 21),
+    };
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        centersRoundTrip();
+        pointsNearACenterStayInItsCell();
+        cellKeyPicksTheNearestCenter();
+        boundsContainVisibleCenters();
+        Assertions.passed(HexLayoutTest.class, 4);
+    }
+
+    /**
+     * Le centre d'une case, converti en pixels puis en case, redonne la case.
+     */
+    private static void centersRoundTrip() {
+        for (HexLayout layout : LAYOUTS) {
+            for (int q = -30; q <= 30; q++) {
+                for (int r = -30; r <= 30; r++) {
+                    int x = layout.toPixelX(q, r);
+                    int y = layout.toPixelY(q, r);
+                    assertEquals(HexGrid.key(q, r), layout.toCellKey(x, y), "centre de (" + q + ", " + r + ")");
+                    assertEquals(q, layout.toAxialQ(x, y), "colonne de (" + q + ", " + r + ")");
+                    assertEquals(r, layout.toAxialR(x, y), "ligne de (" + q + ", " + r + ")");
+                }
+            }
+        }
+    }
+
+    /**
+     * Un point proche du centre d'une case, dans n'importe quelle direction, appartient à cette case.
+     */
+    private static void pointsNearACenterStayInItsCell() {
+        SplittableRandom random = new SplittableRandom(17);
+        for (HexLayout layout : LAYOUTS) {
+            // Le cercle inscrit d'une case a pour rayon la moitié de l'écart entre deux cases voisines
+            double inner = 0.45 * layout.getRowSpacing();
+            for (int i = 0; i < 10_000; i++) {
+                int q = random.nextInt(-40, 41);
+                int r = random.nextInt(-40, 41);
+                double angle = random.nextDouble(2 * Math.PI);
+                double distance = random.nextDouble(inner);
+                double x = layout.toPixelX(q, r) + distance * Math.cos(angle);
+                double y = layout.toPixelY(q, r) + distance * Math.sin(angle);
+                assertEquals(HexGrid.key(q, r), layout.toCellKey(x, y), "point près de (" + q + ", " + r + ")");
+            }
+        }
+    }
+
+    /**
+     * La case trouvée pour un point quelconque a le centre le plus proche, à l'arrondi des écarts près.
+     */
+    private static void cellKeyPicksTheNearestCenter() {
+        SplittableRandom random = new SplittableRandom(18);
+        for (HexLayout layout : LAYOUTS) {
+            for (int i = 0; i < 10_000; i++) {
+                double x = random.nextDouble(-2000, 2000);
+                double y = random.nextDouble(-2000, 2000);
+                long cell = layout.toCellKey(x, y);
+                double distance = distance(layout, cell, x, y);
+                for (TileOrientation side : TileOrientation.values()) {
+                    double neighborDistance = distance(layout, HexGrid.neighborKey(cell, side), x, y);
+                    assertTrue(distance <= neighborDistance + 1.0, "(" + x + ", " + y + ") plus proche du voisin " + side);
+                }
+            }
+        }
+    }
+
+    /**
+     * Les bornes de colonnes et de lignes d'une zone contiennent toutes les cases dont le centre est dans la zone.
+     */
+    private static void boundsContainVisibleCenters() {
+        for (HexLayout layout : LAYOUTS) {
+            double left = -317.5;
+            double right = 641.25;
+            double top = -203.75;
+            double bottom = 455.5;
+            for (int q = -40; q <= 40; q++) {
+                for (int r = -40; r <= 40; r++) {
+                    int x = layout.toPixelX(q, r);
+                    int y = layout.toPixelY(q, r);
+                    if (x < left || x > right || y < top || y > bottom) {
+                        continue;
+                    }
+                    assertTrue(layout.minColumn(left) <= q && q <= layout.maxColumn(right), "colonne " + q);
+                    assertTrue(layout.minRow(q, top) <= r && r <= layout.maxRow(q, bottom), "ligne " + r + " de la colonne " + q);
+                }
+            }
+        }
+    }
+
+    /**
+     * Calcule la distance entre un point et le centre d'une case.
+     *
+     * @param layout La disposition
+     * @param cell   La clé de la case
+     * @param x      L'abscisse du point
+     * @param y      L'ordonnée du point
+     * @return La distance en pixels
+     */
+    private static double distance(HexLayout layout, long cell, double x, double y) {
+        int q = HexGrid.keyQ(cell);
+        int r = HexGrid.keyR(cell);
+        return Math.hypot(layout.toPixelX(q, r) - x, layout.toPixelY(q, r) - y);
+    }
+}
@@ -0,0 +1,159 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.Biome;
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+import fr.monkhanny.dorfromantik.utils.LongIntMap;
+
+/**
+ * Tests de {@link ScoreManager}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class ScoreManagerTest {
+
+    /**
+     * Nombre de tuiles des parties jouées par les tests.
+     */
+    private static final int TILE_COUNT = 60;
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        incrementalScoreMatchesFullRecount();
+        evaluationMatchesPlacementDelta();
+        pocketsAddUpToScore();
+        Assertions.passed(ScoreManagerTest.class, 3);
+    }
+
+    /**
+     * Après chaque pose, le score tenu à jour est celui d'un recalcul complet des poches.
+     */
+    private static void incrementalScoreMatchesFullRecount() {
+        for (long seed = 1; seed <= 10; seed++) {
+            BoardModel board = new BoardModel(seed);
+            SplittableRandom random = new SplittableRandom(seed);
+            board.placeTile(board.drawTile(), 0, 0);
+            assertEquals(recount(board), board.getScore(), "score de la tuile centrale, graine " + seed);
+            while (board.getTileCount() < TILE_COUNT) {
+                int before = board.getScore();
+                int delta = placeRandomly(board, random);
+                assertEquals(before + delta, board.getScore(), "variation renvoyée, graine " + seed);
+                assertEquals(recount(board), board.getScore(), "score après " + board.getTileCount() + " tuiles, graine " + seed);
+            }
+        }
+    }
+
+    /**
+     * L'évaluation d'une pose annonce exactement la variation de score de cette pose, sans modifier le plateau.
+     */
+    private static void evaluationMatchesPlacementDelta() {
+        BoardModel board = new BoardModel(4);
+        SplittableRandom random = new SplittableRandom(4);
+        board.placeTile(board.drawTile(), 0, 0);
+        while (board.getTileCount() < TILE_COUNT) {
+            TileState tile = board.peekTile(0);
+            Frontier frontier = board.getFrontier();
+            for (int i = 0; i < frontier.size(); i += 3) {
+                long cell = frontier.keyAt(i);
+                int q = HexGrid.keyQ(cell);
+                int r = HexGrid.keyR(cell);
+                int code = tile.getCode();
+                for (int rotation = 0; rotation < TileCode.SIDE_COUNT; rotation++) {
+                    int score = board.getScore();
+                    int evaluated = board.getScoreManager().evaluatePlacement(code, q, r);
+                    assertEquals(score, board.getScore(), "l'évaluation ne modifie pas le score");
+
+                    BoardModel copy = board.copy(board.getTileSequence());
+                    assertEquals(evaluated, copy.placeTile(new TileState(code), q, r), "variation de (" + q + ", " + r + ")");
+                    code = TileCode.rotate(code, true);
+                }
+            }
+            placeRandomly(board, random);
+        }
+    }
+
+    /**
+     * La somme des carrés des tailles des poches est le score.
+     */
+    private static void pocketsAddUpToScore() {
+        BoardModel board = new BoardModel(5);
+        SplittableRandom random = new SplittableRandom(5);
+        board.placeTile(board.drawTile(), 0, 0);
+        while (board.getTileCount() < TILE_COUNT) {
+            placeRandomly(board, random);
+        }
+        int total = 0;
+        for (Pocket pocket : board.getScoreManager().getPockets()) {
+            total += pocket.getSize() * pocket.getSize();
+        }
+        assertEquals(board.getScore(), total, "somme des poches");
+    }
+
+    /**
+     * Tire la tuile suivante et la pose, tournée au hasard, sur une case de la frontière choisie au hasard.
+     *
+     * @param board  Le plateau
+     * @param random Le générateur
+     * @return La variation de score due à la pose
+     */
+    static int placeRandomly(BoardModel board, SplittableRandom random) {
+        TileState tile = board.drawTile();
+        for (int rotation = random.nextInt(TileCode.SIDE_COUNT); rotation > 0; rotation--) {
+            tile.rotate(true);
+        }
+        Frontier frontier = board.getFrontier();
+        long cell = frontier.keyAt(random.nextInt(frontier.size()));
+        return board.placeTile(tile, HexGrid.keyQ(cell), HexGrid.keyR(cell));
+    }
+
+    /**
+     * Recalcule le score sans la structure union-find : chaque poche est parcourue en largeur à travers
+     * les côtés de son biome qui touchent une tuile voisine par un côté du même biome, et compte le carré
+     * de son nombre de tuiles.
+     *
+     * @param board Le plateau
+     * @return Le score du plateau
+     */
+    static int recount(BoardModel board) {
+        int score = 0;
+        TileOrientation[] sides = TileOrientation.values();
+        for (Biome biome : Biome.values()) {
+            boolean[] visited = new boolean[board.getTileCount()];
+            for (int start = 0; start < board.getTileCount(); start++) {
+                if (visited[start] || !board.getTile(start).containsBiome(biome)) {
+                    continue;
+                }
+                int size = 0;
+                Deque<Integer> queue = new ArrayDeque<>();
+                queue.add(start);
+                visited[start] = true;
+                while (!queue.isEmpty()) {
+                    TileState tile = board.getTile(queue.poll());
+                    size++;
+                    for (TileOrientation side : sides) {
+                        int neighbor = board.getGrid().indexAt(tile.getQ() + side.getDeltaQ(), tile.getR() + side.getDeltaR());
+                        if (neighbor == LongIntMap.NO_VALUE || visited[neighbor] || tile.getBiome(side) != biome
+                                || board.getTile(neighbor).getBiome(side.oppositeOrientation()) != biome) {
+                            continue;
+                        }
+                        visited[neighbor] = true;
+                        queue.add(neighbor);
+                    }
+                }
+                score += size * size;
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,147 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.Biome;
+import fr.monkhanny.dorfromantik.enums.TileOrientation;
+
+/**
+ * Tests de {@link TileCode}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class TileCodeTest {
+
+    /**
+     * Les biomes, indexés par leur ordinal.
+     */
+    private static final Biome[] BIOMES = Biome.values();
+
+    /**
+     * Les six côtés, indexés par leur ordinal.
+     */
+    private static final TileOrientation[] SIDES = TileOrientation.values();
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        packRoundTrip();
+        rotateShiftsSides();
+        sidesMatchComparesFacingSides();
+        summaryMatchesSides();
+        Assertions.passed(TileCodeTest.class, 4);
+    }
+
+    /**
+     * Les biomes codés se relisent côté par côté.
+     */
+    private static void packRoundTrip() {
+        SplittableRandom random = new SplittableRandom(6);
+        for (int i = 0; i < 1000; i++) {
+            Biome[] biomes = randomBiomes(random);
+            int code = TileCode.pack(biomes);
+            assertTrue((code & ~TileCode.CODE_MASK) == 0, "code sur " + TileCode.CODE_BITS + " bits");
+            for (TileOrientation side : SIDES) {
+                assertEquals(biomes[side.ordinal()], TileCode.biome(code, side), "côté " + side);
+            }
+            assertEquals(code, new TileState(biomes).getCode(), "code d'une tuile");
+        }
+    }
+
+    /**
+     * Un sixième de tour horaire fait passer le biome du côté i au côté i + 1, le sens anti-horaire
+     * le ramène, et six sixièmes de tour rendent la tuile d'origine.
+     */
+    private static void rotateShiftsSides() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (int i = 0; i < 1000; i++) {
+            int code = TileCode.pack(randomBiomes(random));
+            int clockwise = TileCode.rotate(code, true);
+            int counterClockwise = TileCode.rotate(code, false);
+            for (int side = 0; side < TileCode.SIDE_COUNT; side++) {
+                int next = (side + 1) % TileCode.SIDE_COUNT;
+                assertEquals(TileCode.biomeIndex(code, side), TileCode.biomeIndex(clockwise, next), "sens horaire, côté " + side);
+                assertEquals(TileCode.biomeIndex(code, next), TileCode.biomeIndex(counterClockwise, side), "sens anti-horaire, côté " + side);
+            }
+            assertEquals(code, TileCode.rotate(clockwise, false), "aller-retour");
+
+            int turned = code;
+            for (int step = 0; step < TileCode.SIDE_COUNT; step++) {
+                turned = TileCode.rotate(turned, true);
+            }
+            assertEquals(code, turned, "tour complet");
+
+            TileState tile = new TileState(code);
+            tile.rotate(true);
+            assertEquals(clockwise, tile.getCode(), "rotation d'une tuile");
+        }
+    }
+
+    /**
+     * Deux tuiles voisines s'accordent sur un côté lorsque ce côté et le côté opposé de la voisine ont le même biome.
+     */
+    private static void sidesMatchComparesFacingSides() {
+        SplittableRandom random = new SplittableRandom(8);
+        for (int i = 0; i < 1000; i++) {
+            int code = TileCode.pack(randomBiomes(random));
+            int neighbor = TileCode.pack(randomBiomes(random));
+            for (TileOrientation side : SIDES) {
+                boolean expected = TileCode.biome(code, side) == TileCode.biome(neighbor, side.oppositeOrientation());
+                assertEquals(expected, TileCode.sidesMatch(code, side.ordinal(), neighbor), "côté " + side);
+            }
+        }
+
+        int sea = TileCode.pack(Biome.SEA, Biome.SEA, Biome.SEA, Biome.SEA, Biome.SEA, Biome.SEA);
+        int mixed = TileCode.pack(Biome.SEA, Biome.FOREST, Biome.FOREST, Biome.FOREST, Biome.FOREST, Biome.FOREST);
+        assertTrue(TileCode.sidesMatch(sea, TileOrientation.SOUTH.ordinal(), mixed), "mer face à la mer");
+        assertFalse(TileCode.sidesMatch(sea, TileOrientation.NORTH.ordinal(), mixed), "mer face à la forêt");
+    }
+
+    /**
+     * Les biomes présents et le biome dominant correspondent aux côtés de la tuile.
+     */
+    private static void summaryMatchesSides() {
+        SplittableRandom random = new SplittableRandom(9);
+        for (int i = 0; i < 1000; i++) {
+            Biome[] biomes = randomBiomes(random);
+            int code = TileCode.pack(biomes);
+            for (Biome biome : BIOMES) {
+                boolean present = false;
+                for (Biome side : biomes) {
+                    present |= side == biome;
+                }
+                assertEquals(present, TileCode.containsBiome(code, biome), "présence de " + biome);
+            }
+        }
+
+        int mostlyForest = TileCode.pack(Biome.FOREST, Biome.FOREST, Biome.FOREST, Biome.FOREST, Biome.SEA, Biome.SEA);
+        assertEquals(Biome.FOREST, TileCode.dominantBiome(mostlyForest), "biome majoritaire");
+        assertEquals(Biome.FOREST.ordinal(), TileCode.dominantBiomeIndex(mostlyForest), "ordinal du biome majoritaire");
+        int half = TileCode.pack(Biome.FIELD, Biome.FIELD, Biome.FIELD, Biome.SEA, Biome.SEA, Biome.SEA);
+        assertEquals(null, TileCode.dominantBiome(half), "égalité parfaite");
+        assertEquals(-1, TileCode.dominantBiomeIndex(half), "ordinal en cas d'égalité");
+    }
+
+    /**
+     * Tire six biomes au hasard.
+     *
+     * @param random Le générateur
+     * @return Les biomes, un par côté
+     */
+    private static Biome[] randomBiomes(SplittableRandom random) {
+        Biome[] biomes = new Biome[TileCode.SIDE_COUNT];
+        for (int side = 0; side < biomes.length; side++) {
+            biomes[side] = BIOMES[random.nextInt(BIOMES.length)];
+        }
+        return biomes;
+    }
+}
@@ -0,0 +1,141 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertThrows;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import javax.swing.SwingUtilities;
+
+import fr.monkhanny.dorfromantik.Assertions;
+
+/**
+ * Tests de {@link TileDeck}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class TileDeckTest {
+
+    /**
+     * Rayon des tuiles du bandeau dans les tests, en pixels.
+     */
+    private static final int RADIUS = 20;
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     * @throws InterruptedException Si l'attente des images est interrompue
+     */
+    public static void main(String[] args) throws InterruptedException {
+        peekedTilesMatchLaterDraws();
+        previewsRenderOffThreadForEveryAdvance();
+        shutdownStopsRendering();
+        Assertions.passed(TileDeckTest.class, 3);
+    }
+
+    /**
+     * Les tuiles consultées sont celles tirées ensuite, et le bandeau se vide à la fin de la partie.
+     */
+    private static void peekedTilesMatchLaterDraws() {
+        int tileCount = 12;
+        BoardModel model = new BoardModel(5);
+        BoardModel replay = new BoardModel(5);
+        TileDeck deck = new TileDeck(model, tileCount, 3, RADIUS, () -> { });
+        int[] peeked = new int[tileCount];
+        while (model.getDrawnCount() < tileCount) {
+            int drawn = model.getDrawnCount();
+            assertEquals(Math.min(3, tileCount - drawn), deck.getUpcomingCount(), "tuiles du bandeau après " + drawn + " tirages");
+            for (int i = 0; i < deck.getUpcomingCount(); i++) {
+                peeked[drawn + i] = deck.peek(i).getCode();
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> deck.peek(tileCount - drawn), "tuile après la fin de la partie");
+            assertEquals(peeked[drawn], model.drawTile().getCode(), "tuile consultée puis tirée " + drawn);
+            deck.advance();
+        }
+        for (int i = 0; i < tileCount; i++) {
+            assertEquals(replay.drawTile().getCode(), peeked[i], "tirage inchangé " + i);
+        }
+        assertEquals(0, deck.getUpcomingCount(), "bandeau vide en fin de partie");
+        deck.shutdown();
+    }
+
+    /**
+     * Les images sont dessinées par le thread de la pioche, qui prévient sur l'EDT : une image par tuile
+     * du bandeau au premier dessin, puis une de plus à chaque tirage.
+     *
+     * @throws InterruptedException Si l'attente des images est interrompue
+     */
+    private static void previewsRenderOffThreadForEveryAdvance() throws InterruptedException {
+        BoardModel model = new BoardModel(6);
+        Semaphore ready = new Semaphore(0);
+        AtomicBoolean offEdt = new AtomicBoolean();
+        TileDeck deck = new TileDeck(model, 20, 3, RADIUS, () -> {
+            offEdt.compareAndSet(false, !SwingUtilities.isEventDispatchThread());
+            ready.release();
+        });
+
+        countOpaquePixels(deck);  // Le premier dessin fait connaître l'écran et demande les images
+        assertTrue(ready.tryAcquire(3, 10, TimeUnit.SECONDS), "images du premier dessin");
+        assertTrue(Thread.getAllStackTraces().keySet().stream().anyMatch(thread -> thread.getName().equals("Dorfromantik-Deck")),
+                "thread de la pioche");
+        assertTrue(countOpaquePixels(deck) > 0, "bandeau dessiné");
+
+        for (int i = 0; i < 5; i++) {
+            model.drawTile();
+            deck.advance();
+            assertTrue(ready.tryAcquire(1, 10, TimeUnit.SECONDS), "image de la nouvelle tuile après le tirage " + i);
+            assertFalse(ready.tryAcquire(1, 100, TimeUnit.MILLISECONDS), "une seule image par tirage " + i);
+        }
+        assertFalse(offEdt.get(), "action exécutée sur l'EDT");
+        deck.shutdown();
+    }
+
+    /**
+     * Après l'arrêt de la pioche, les tirages ne demandent plus d'images.
+     *
+     * @throws InterruptedException Si l'attente des images est interrompue
+     */
+    private static void shutdownStopsRendering() throws InterruptedException {
+        BoardModel model = new BoardModel(7);
+        Semaphore ready = new Semaphore(0);
+        TileDeck deck = new TileDeck(model, 20, 2, RADIUS, ready::release);
+        countOpaquePixels(deck);
+        assertTrue(ready.tryAcquire(2, 10, TimeUnit.SECONDS), "images du premier dessin");
+
+        deck.shutdown();
+        model.drawTile();
+        deck.advance();
+        assertFalse(ready.tryAcquire(1, 200, TimeUnit.MILLISECONDS), "aucune image après l'arrêt");
+    }
+
+    /**
+     * Dessine le bandeau dans une image transparente et compte ses pixels non transparents.
+     *
+     * @param deck La pioche
+     * @return Le nombre de pixels dessinés
+     */
+    private static int countOpaquePixels(TileDeck deck) {
+        BufferedImage image = new BufferedImage(4 * (2 * RADIUS + 10), 2 * RADIUS + 10, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        deck.draw(g2d, 5, 5);
+        g2d.dispose();
+
+        int count = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if ((image.getRGB(x, y) >>> 24) != 0) {
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,99 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import fr.monkhanny.dorfromantik.Assertions;
+
+/**
+ * Tests de {@link TileDensityBitmap}, dessinée dans une image en mémoire.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class TileDensityBitmapTest {
+
+    /**
+     * Disposition de la grille des tests, à petites cases pour garder une image de taille raisonnable.
+     */
+    private static final HexLayout LAYOUT = new HexLayout(0, 0, 6);
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        growthKeepsEarlierPixels();
+        pixelsCanBeRecoloured();
+        Assertions.passed(TileDensityBitmapTest.class, 2);
+    }
+
+    /**
+     * Les cases colorées avant chaque agrandissement de l'image, dans toutes les directions, gardent leur couleur.
+     */
+    private static void growthKeepsEarlierPixels() {
+        TileDensityBitmap bitmap = new TileDensityBitmap();
+        int[][] cells = { { 0, 0 }, { 7, -8 }, { -8, 7 }, { 15, 3 }, { -3, -17 }, { -40, 20 }, { 33, -45 }, { 0, 60 } };
+        for (int i = 0; i < cells.length; i++) {
+            bitmap.set(cells[i][0], cells[i][1], color(i));
+        }
+
+        BufferedImage image = draw(bitmap);
+        for (int i = 0; i < cells.length; i++) {
+            assertEquals(color(i), pixelAt(image, cells[i][0], cells[i][1]), "case (" + cells[i][0] + ", " + cells[i][1] + ")");
+        }
+        assertEquals(0, pixelAt(image, 1, 1), "case vide");
+        assertEquals(0, pixelAt(image, -39, 20), "voisine d'une case colorée");
+    }
+
+    /**
+     * Colorer de nouveau une case remplace sa couleur, même après un agrandissement.
+     */
+    private static void pixelsCanBeRecoloured() {
+        TileDensityBitmap bitmap = new TileDensityBitmap();
+        bitmap.set(2, 2, color(0));
+        bitmap.set(-50, 50, color(1));
+        bitmap.set(2, 2, color(2));
+        assertEquals(color(2), pixelAt(draw(bitmap), 2, 2), "nouvelle couleur");
+    }
+
+    /**
+     * Retourne une couleur opaque différente pour chaque numéro.
+     *
+     * @param i Le numéro
+     * @return La couleur, au format ARGB
+     */
+    private static int color(int i) {
+        return 0xFF000000 | (i * 0x2F1B37 + 0x102030) & 0xFFFFFF;
+    }
+
+    /**
+     * Dessine l'image de densité dans une image transparente dont le centre est l'origine du plateau.
+     *
+     * @param bitmap L'image de densité
+     * @return L'image dessinée
+     */
+    private static BufferedImage draw(TileDensityBitmap bitmap) {
+        BufferedImage image = new BufferedImage(1400, 1600, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2d = image.createGraphics();
+        g2d.translate(image.getWidth() / 2, image.getHeight() / 2);
+        bitmap.draw(g2d, LAYOUT);
+        g2d.dispose();
+        return image;
+    }
+
+    /**
+     * Lit la couleur dessinée au centre d'une case.
+     *
+     * @param image L'image dessinée par {@link #draw(TileDensityBitmap)}
+     * @param q     La colonne de la case
+     * @param r     La ligne de la case
+     * @return La couleur, au format ARGB, ou 0 si le pixel est transparent
+     */
+    private static int pixelAt(BufferedImage image, int q, int r) {
+        return image.getRGB(image.getWidth() / 2 + LAYOUT.toPixelX(q, r), image.getHeight() / 2 + LAYOUT.toPixelY(q, r));
+    }
+}
@@ -0,0 +1,178 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertThrows;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.Biome;
+import fr.monkhanny.dorfromantik.enums.TileSequenceMode;
+
+/**
+ * Tests de {@link LegacyTileSequence} et de {@link CounterTileSequence}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class TileSequenceTest {
+
+    /**
+     * Nombre de tuiles comparées par suite.
+     */
+    private static final int LENGTH = 500;
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     * @throws Exception Si une lecture parallèle échoue
+     */
+    public static void main(String[] args) throws Exception {
+        legacyReplaysTheGameGenerator();
+        sequencesIgnoreAccessOrder();
+        counterIsDeterministicPerSeed();
+        counterTilesAreValid();
+        legacySequenceIsThreadSafe();
+        modesAreFoundByName();
+        Assertions.passed(TileSequenceTest.class, 6);
+    }
+
+    /**
+     * La suite historique donne les tuiles tirées une à une du générateur d'un jeu de même graine,
+     * ce qui garde les séries existantes.
+     */
+    private static void legacyReplaysTheGameGenerator() {
+        for (long seed = 1; seed <= 5; seed++) {
+            Game game = new Game(seed);
+            TileSequence sequence = new LegacyTileSequence(seed);
+            for (int i = 0; i < LENGTH; i++) {
+                assertEquals(TileState.random(game).getCode(), sequence.codeAt(i), "tuile " + i + " de la graine " + seed);
+            }
+        }
+    }
+
+    /**
+     * Lire les tuiles dans le désordre, ou plusieurs fois, donne les mêmes tuiles que dans l'ordre.
+     */
+    private static void sequencesIgnoreAccessOrder() {
+        for (TileSequenceMode mode : TileSequenceMode.values()) {
+            TileSequence ordered = mode.create(42);
+            TileSequence shuffled = mode.create(42);
+            int[] expected = new int[LENGTH];
+            for (int i = 0; i < LENGTH; i++) {
+                expected[i] = ordered.codeAt(i);
+            }
+            for (int i = LENGTH - 1; i >= 0; i -= 7) {
+                assertEquals(expected[i], shuffled.codeAt(i), mode + " : tuile " + i + " lue en premier");
+            }
+            for (int i = 0; i < LENGTH; i++) {
+                assertEquals(expected[i], shuffled.codeAt(i), mode + " : tuile " + i);
+                assertEquals(expected[i], shuffled.tileAt(i).getCode(), mode + " : tuile créée " + i);
+            }
+            assertThrows(IndexOutOfBoundsException.class, () -> ordered.codeAt(-1), mode + " : indice négatif");
+        }
+    }
+
+    /**
+     * La suite à compteur ne dépend que de la graine, et des graines voisines donnent des suites différentes.
+     */
+    private static void counterIsDeterministicPerSeed() {
+        for (long seed = -3; seed <= 3; seed++) {
+            TileSequence first = new CounterTileSequence(seed);
+            TileSequence second = new CounterTileSequence(seed);
+            TileSequence next = new CounterTileSequence(seed + 1);
+            int differences = 0;
+            for (int i = 0; i < LENGTH; i++) {
+                assertEquals(first.codeAt(i), second.codeAt(i), "tuile " + i + " de la graine " + seed);
+                if (first.codeAt(i) != next.codeAt(i)) {
+                    differences++;
+                }
+                if (i > 0 && first.codeAt(i) != next.codeAt(i - 1)) {
+                    differences++;
+                }
+            }
+            assertTrue(differences > LENGTH, "graines " + seed + " et " + (seed + 1) + " indépendantes");
+        }
+    }
+
+    /**
+     * Les tuiles de la suite à compteur ont au plus deux biomes, chacun sur des côtés consécutifs,
+     * et tous les biomes et tous les nombres de côtés apparaissent.
+     */
+    private static void counterTilesAreValid() {
+        TileSequence sequence = new CounterTileSequence(7);
+        int biomesSeen = 0;
+        boolean[] sideCountsSeen = new boolean[TileCode.SIDE_COUNT + 1];
+        for (int i = 0; i < 5000; i++) {
+            int code = sequence.codeAt(i);
+            int mask = TileCode.biomeMask(code);
+            assertTrue(mask != 0 && Integer.bitCount(mask) <= 2, "biomes de la tuile " + i);
+            int changes = 0;
+            int firstCount = 0;
+            for (int side = 0; side < TileCode.SIDE_COUNT; side++) {
+                int biome = TileCode.biomeIndex(code, side);
+                assertTrue(biome < Biome.values().length, "biome du côté " + side + " de la tuile " + i);
+                if (biome != TileCode.biomeIndex(code, (side + 1) % TileCode.SIDE_COUNT)) {
+                    changes++;
+                }
+                if (biome == TileCode.biomeIndex(code, 0)) {
+                    firstCount++;
+                }
+            }
+            assertTrue(changes == 0 || changes == 2, "côtés consécutifs de la tuile " + i);
+            biomesSeen |= mask;
+            sideCountsSeen[firstCount] = true;
+            sideCountsSeen[TileCode.SIDE_COUNT - firstCount] = true;
+        }
+        assertEquals((1 << Biome.values().length) - 1, biomesSeen, "biomes tirés");
+        for (int count = 0; count <= TileCode.SIDE_COUNT; count++) {
+            assertTrue(sideCountsSeen[count], "tuiles à " + count + " côtés d'un même biome");
+        }
+    }
+
+    /**
+     * Plusieurs threads peuvent lire la suite historique en même temps : chacun obtient les tuiles de la graine.
+     *
+     * @throws Exception Si une lecture parallèle échoue
+     */
+    private static void legacySequenceIsThreadSafe() throws Exception {
+        TileSequence expected = new LegacyTileSequence(9);
+        TileSequence shared = new LegacyTileSequence(9);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<Void>> readers = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int offset = thread;
+                readers.add(() -> {
+                    for (int i = offset; i < 4 * LENGTH; i += 3) {
+                        assertEquals(expected.codeAt(i), shared.codeAt(i), "tuile " + i + " lue en parallèle");
+                    }
+                    return null;
+                });
+            }
+            for (Future<Void> reader : executor.invokeAll(readers)) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Les modes se retrouvent par leur nom, sans tenir compte de la casse.
+     */
+    private static void modesAreFoundByName() {
+        assertEquals(TileSequenceMode.LEGACY, TileSequenceMode.fromName("legacy"), "mode historique");
+        assertEquals(TileSequenceMode.COUNTER, TileSequenceMode.fromName("Counter"), "mode à compteur");
+        assertTrue(TileSequenceMode.LEGACY.create(1) instanceof LegacyTileSequence, "suite historique");
+        assertTrue(TileSequenceMode.COUNTER.create(1) instanceof CounterTileSequence, "suite à compteur");
+        assertThrows(IllegalArgumentException.class, () -> TileSequenceMode.fromName("mersenne"), "mode inconnu");
+    }
+}
@@ -0,0 +1,132 @@
+package fr.monkhanny.dorfromantik.game;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.Biome;
+
+/**
+ * Tests de {@link TileSpriteCache}, dessinant dans des images en mémoire.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class TileSpriteCacheTest {
+
+    /**
+     * Rayon des tuiles dans les tests, en pixels.
+     */
+    private static final int RADIUS = 50;
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        hitsAndMisses();
+        leastRecentlyUsedIsEvicted();
+        canCacheLimits();
+        Assertions.passed(TileSpriteCacheTest.class, 3);
+    }
+
+    /**
+     * Une tuile déjà dessinée au même palier de zoom est un succès ; un autre palier est une autre image.
+     */
+    private static void hitsAndMisses() {
+        TileSpriteCache cache = new TileSpriteCache(8);
+        Graphics2D g2d = graphics(1);
+        cache.draw(g2d, code(0), RADIUS, 10, 10);
+        cache.draw(g2d, code(0), RADIUS, 200, 10);
+        assertEquals(1, cache.getMissCount(), "premier dessin");
+        assertEquals(1, cache.getHitCount(), "même tuile ailleurs");
+
+        cache.draw(graphics(0.5), code(0), RADIUS, 10, 10);
+        cache.draw(graphics(0.06), code(0), RADIUS, 10, 10);
+        assertEquals(3, cache.getMissCount(), "autres paliers de zoom");
+        cache.draw(graphics(0.45), code(0), RADIUS, 10, 10);
+        assertEquals(2, cache.getHitCount(), "zoom proche, même palier");
+        assertEquals(3, cache.size(), "images conservées");
+
+        cache.clear();
+        assertEquals(0, cache.size(), "cache vidé");
+        g2d.dispose();
+    }
+
+    /**
+     * À pleine capacité, l'image la moins récemment utilisée est retirée.
+     */
+    private static void leastRecentlyUsedIsEvicted() {
+        TileSpriteCache cache = new TileSpriteCache(3);
+        Graphics2D g2d = graphics(1);
+        for (int i = 0; i < 3; i++) {
+            cache.draw(g2d, code(i), RADIUS, 0, 0);
+        }
+        cache.draw(g2d, code(0), RADIUS, 0, 0);  // La tuile 0 devient la plus récente
+        cache.draw(g2d, code(3), RADIUS, 0, 0);  // La tuile 1 est retirée
+        assertEquals(3, cache.size(), "capacité respectée");
+        assertEquals(4, cache.getMissCount(), "quatre tuiles dessinées");
+
+        cache.draw(g2d, code(0), RADIUS, 0, 0);
+        cache.draw(g2d, code(2), RADIUS, 0, 0);
+        cache.draw(g2d, code(3), RADIUS, 0, 0);
+        assertEquals(4, cache.getHitCount(), "tuiles gardées");
+        cache.draw(g2d, code(1), RADIUS, 0, 0);
+        assertEquals(5, cache.getMissCount(), "tuile retirée redessinée");
+        assertEquals(3, cache.size(), "capacité toujours respectée");
+        g2d.dispose();
+    }
+
+    /**
+     * Le cache refuse un zoom qui donnerait des images trop grandes et une transformation cisaillée ;
+     * une tuile dessinée sans le cache ne compte ni comme succès ni comme échec.
+     */
+    private static void canCacheLimits() {
+        TileSpriteCache cache = new TileSpriteCache(8);
+        assertTrue(cache.canCache(graphics(1), RADIUS), "zoom normal");
+        assertTrue(cache.canCache(graphics(4), RADIUS), "zoom de 4");
+        assertFalse(cache.canCache(graphics(8), RADIUS), "zoom de 8");
+        assertTrue(cache.canCache(graphics(8), 20), "zoom de 8 sur une petite tuile");
+
+        Graphics2D sheared = graphics(1);
+        sheared.shear(0.3, 0);
+        assertFalse(cache.canCache(sheared, RADIUS), "cisaillement");
+
+        Graphics2D zoomed = graphics(8);
+        cache.draw(zoomed, code(0), RADIUS, 0, 0);
+        cache.draw(sheared, code(0), RADIUS, 0, 0);
+        assertEquals(0, cache.size(), "aucune image conservée");
+        assertEquals(0, cache.getHitCount() + cache.getMissCount(), "dessins directs non comptés");
+        sheared.dispose();
+        zoomed.dispose();
+    }
+
+    /**
+     * Crée un contexte graphique sur une image en mémoire, avec un zoom.
+     *
+     * @param zoom Le facteur de zoom
+     * @return Le contexte graphique
+     */
+    private static Graphics2D graphics(double zoom) {
+        Graphics2D g2d = new BufferedImage(400, 400, BufferedImage.TYPE_INT_ARGB).createGraphics();
+        g2d.scale(zoom, zoom);
+        return g2d;
+    }
+
+    /**
+     * Retourne le code d'une tuile de test, différent pour chaque numéro.
+     *
+     * @param i Le numéro de la tuile, entre 0 et 4
+     * @return Le code
+     */
+    private static int code(int i) {
+        Biome[] biomes = Biome.values();
+        return TileCode.pack(biomes[i], biomes[(i + 1) % 5], biomes[(i + 2) % 5],
+                biomes[i], biomes[i], biomes[(i + 3) % 5]);
+    }
+}
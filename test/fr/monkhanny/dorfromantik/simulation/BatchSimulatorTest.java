@@ -0,0 +1,143 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertThrows;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.ResultFormat;
+import fr.monkhanny.dorfromantik.enums.TileSequenceMode;
+
+/**
+ * Tests de {@link BatchSimulator}, de {@link ResultWriter} et de la lecture des stratégies par {@link SimulationRunner}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class BatchSimulatorTest {
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     * @throws IOException Si l'écriture des résultats échoue
+     */
+    public static void main(String[] args) throws IOException {
+        sameResultsForAnyThreadCount();
+        csvFraming();
+        jsonFraming();
+        strategyParsing();
+        Assertions.passed(BatchSimulatorTest.class, 4);
+    }
+
+    /**
+     * Un lot donne les mêmes parties quel que soit le nombre de threads, et chacune est celle jouée seule.
+     */
+    private static void sameResultsForAnyThreadCount() {
+        long[] seeds = { 1, 2, 3 };
+        for (String name : new String[] { "random", "greedy", "greedy:0.3" }) {
+            PlacementStrategy strategy = SimulationRunner.createStrategy(name);
+            List<String> expected = new ArrayList<>();
+            BatchSimulator single = new BatchSimulator(strategy, TileSequenceMode.COUNTER, 30, 1);
+            for (long seed : seeds) {
+                for (int game = 0; game < 20; game++) {
+                    expected.add(describe(single.play(seed, game)));
+                }
+            }
+            Collections.sort(expected);
+
+            for (int threads = 1; threads <= 4; threads++) {
+                List<String> results = Collections.synchronizedList(new ArrayList<>());
+                SimulationSummary summary = new BatchSimulator(strategy, TileSequenceMode.COUNTER, 30, threads)
+                        .run(seeds, 20, result -> results.add(describe(result)));
+                Collections.sort(results);
+                assertEquals(expected, results, name + " sur " + threads + " threads");
+                assertEquals(60, summary.getGames(), "parties du bilan, " + name);
+                assertEquals(60 * 30, summary.getPlacements(), "poses du bilan, " + name);
+            }
+        }
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSimulator(new RandomStrategy(), TileSequenceMode.COUNTER, 30, 0), "aucun thread");
+        assertThrows(IllegalArgumentException.class,
+                () -> new BatchSimulator(new RandomStrategy(), TileSequenceMode.COUNTER, 0, 1), "aucune tuile");
+    }
+
+    /**
+     * Le CSV a un en-tête, puis une ligne par résultat, même pour un lot vide.
+     *
+     * @throws IOException Si l'écriture échoue
+     */
+    private static void csvFraming() throws IOException {
+        String header = "seed,game,strategy,score,tiles,pockets,largest_pocket,mean_pocket_size,nanos\n";
+        assertEquals(header, write(ResultFormat.CSV, 0), "lot vide");
+        String csv = write(ResultFormat.CSV, 2);
+        assertEquals(header + "7,0,greedy,10,30,2,3,2.500,99" + System.lineSeparator()
+                + "7,1,greedy,11,30,2,3,2.500,99" + System.lineSeparator(), csv, "deux résultats");
+    }
+
+    /**
+     * Le JSON est un tableau valide : vide pour un lot vide, sans virgule avant le premier objet ni après le dernier.
+     *
+     * @throws IOException Si l'écriture échoue
+     */
+    private static void jsonFraming() throws IOException {
+        assertEquals("[\n]\n", write(ResultFormat.JSON, 0), "lot vide");
+        String object = "{\"seed\": 7, \"game\": %d, \"strategy\": \"greedy\", \"score\": %d, \"tiles\": 30, "
+                + "\"pockets\": 2, \"largestPocket\": 3, \"meanPocketSize\": 2.500, \"nanos\": 99}";
+        assertEquals("[\n  " + String.format(object, 0, 10) + "\n]\n", write(ResultFormat.JSON, 1), "un résultat");
+        assertEquals("[\n  " + String.format(object, 0, 10) + ",\n  " + String.format(object, 1, 11) + ",\n  "
+                + String.format(object, 2, 12) + "\n]\n", write(ResultFormat.JSON, 3), "trois résultats");
+    }
+
+    /**
+     * Les noms de stratégie sont lus avec leurs paramètres, et les noms invalides sont refusés.
+     */
+    private static void strategyParsing() {
+        assertTrue(SimulationRunner.createStrategy("random") instanceof RandomStrategy, "aléatoire");
+        assertEquals("greedy", SimulationRunner.createStrategy("greedy").getName(), "glouton");
+        assertEquals("greedy:0.25", SimulationRunner.createStrategy("GREEDY:0.25").getName(), "glouton bruité, en majuscules");
+        assertEquals("montecarlo:16:200", SimulationRunner.createStrategy("montecarlo").getName(), "Monte-Carlo par défaut");
+        assertEquals("montecarlo:64:50", SimulationRunner.createStrategy("montecarlo:64:50").getName(), "Monte-Carlo paramétré");
+        assertEquals("montecarlo:8:200", SimulationRunner.createStrategy("montecarlo:8").getName(), "Monte-Carlo sans temps");
+
+        for (String name : new String[] { "minimax", "random:1", "greedy:0.1:2", "greedy:x", "greedy:1.5",
+                                          "montecarlo:0", "montecarlo:4:5:6", "montecarlo:a:5", "" }) {
+            assertThrows(IllegalArgumentException.class, () -> SimulationRunner.createStrategy(name), "nom refusé : " + name);
+        }
+    }
+
+    /**
+     * Écrit des résultats fictifs de la graine 7 et retourne le texte produit.
+     *
+     * @param format Le format d'écriture
+     * @param count  Le nombre de résultats
+     * @return Le texte écrit, fermeture comprise
+     * @throws IOException Si l'écriture échoue
+     */
+    private static String write(ResultFormat format, int count) throws IOException {
+        StringWriter out = new StringWriter();
+        try (ResultWriter writer = new ResultWriter(out, format)) {
+            for (int game = 0; game < count; game++) {
+                writer.accept(new GameResult(7, game, "greedy", 10 + game, 30, 2, 3, 5, 99));
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Décrit le résultat d'une partie, sans sa durée.
+     *
+     * @param result Le résultat
+     * @return La description
+     */
+    private static String describe(GameResult result) {
+        return result.getSeed() + " " + result.getGameIndex() + " " + result.getStrategy() + " " + result.getScore()
+                + " " + result.getTileCount() + " " + result.getPocketCount() + " " + result.getLargestPocket();
+    }
+}
@@ -0,0 +1,88 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertThrows;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.TileSequenceMode;
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.Game;
+import fr.monkhanny.dorfromantik.game.TileCode;
+import fr.monkhanny.dorfromantik.game.TileState;
+
+/**
+ * Tests de {@link MctsSearch}, avec de petits temps de recherche.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class MctsSearchTest {
+
+    /**
+     * Nombre de tuiles des parties de test, tuile centrale comprise.
+     */
+    private static final int TILE_COUNT = 25;
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        searchedMovesAreLegal();
+        playGameStaysBelowBestScore();
+        Assertions.passed(MctsSearchTest.class, 2);
+    }
+
+    /**
+     * Les coups cherchés sont des poses valides sur un plateau rejoué à côté, l'arbre est gardé d'un coup
+     * à l'autre, et le score final ne dépasse pas la meilleure partie trouvée.
+     */
+    private static void searchedMovesAreLegal() {
+        long seed = 21;
+        MctsSearch search = new MctsSearch(seed, TileSequenceMode.COUNTER, TILE_COUNT, 2, seed);
+        BoardModel replay = new BoardModel(new Game(seed), TileSequenceMode.COUNTER.create(seed));
+        replay.placeTile(replay.drawTile(), 0, 0);
+        int kept = 0;
+        try {
+            while (!search.isFinished()) {
+                Placement placement = search.search(10);
+                TileState tile = replay.drawTile();
+                assertTrue(replay.canPlace(placement.getQ(), placement.getR()), "case de la frontière " + placement);
+                assertTrue(placement.getRotation() >= 0 && placement.getRotation() < TileCode.SIDE_COUNT, "rotation " + placement);
+
+                search.advance(placement);
+                replay.placeTile(new TileState(Placement.rotate(tile.getCode(), placement.getRotation())),
+                        placement.getQ(), placement.getR());
+                if (search.getRootVisits() > 0) {
+                    kept++;
+                }
+            }
+            // Un coup tiré de la meilleure partie peut ne pas avoir encore de nœud : seule la reprise d'un sous-arbre
+            // au cours de la partie est vérifiée
+            assertTrue(kept > 0, "sous-arbre gardé");
+            assertEquals(TILE_COUNT, replay.getTileCount(), "tuiles posées");
+            assertTrue(replay.getScore() <= search.getBestScore(), "score final " + replay.getScore()
+                    + " au plus égal à la meilleure partie " + search.getBestScore());
+            assertTrue(search.getNodeCount() > 0, "nœuds créés");
+            assertThrows(IllegalStateException.class, () -> search.search(1), "recherche après la fin de la partie");
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    /**
+     * Une partie jouée d'un bloc pose toutes les tuiles et ne dépasse pas la meilleure partie trouvée.
+     */
+    private static void playGameStaysBelowBestScore() {
+        MctsSearch search = new MctsSearch(22, TileSequenceMode.LEGACY, TILE_COUNT, 1, 5);
+        GameResult result = search.playGame(3, 5);
+        assertTrue(search.isFinished(), "partie terminée");
+        assertEquals(TILE_COUNT, result.getTileCount(), "tuiles posées");
+        assertEquals(3, result.getGameIndex(), "numéro de partie");
+        assertTrue(result.getScore() <= search.getBestScore(), "score au plus égal à la meilleure partie");
+        assertFalse(search.getIterationsPerSecond() <= 0, "itérations comptées");
+    }
+}
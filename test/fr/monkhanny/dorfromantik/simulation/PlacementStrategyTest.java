@@ -0,0 +1,139 @@
+package fr.monkhanny.dorfromantik.simulation;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.game.BoardModel;
+import fr.monkhanny.dorfromantik.game.Frontier;
+import fr.monkhanny.dorfromantik.game.HexGrid;
+import fr.monkhanny.dorfromantik.game.TileCode;
+import fr.monkhanny.dorfromantik.game.TileState;
+
+/**
+ * Tests des stratégies de pose : {@link RandomStrategy}, {@link GreedyStrategy} et {@link MonteCarloStrategy}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class PlacementStrategyTest {
+
+    /**
+     * Nombre de tuiles des parties de test, tuile centrale comprise.
+     */
+    private static final int TILE_COUNT = 40;
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        placementsAreLegal();
+        greedyTakesBestDelta();
+        greedyWithOnlyRandomMovesIsRandom();
+        monteCarloWithoutRolloutsIsGreedy();
+        Assertions.passed(PlacementStrategyTest.class, 4);
+    }
+
+    /**
+     * Chaque stratégie choisit une case de la frontière et une rotation entre 0 et 5.
+     */
+    private static void placementsAreLegal() {
+        for (String name : new String[] { "random", "greedy", "greedy:0.5", "montecarlo:2:20" }) {
+            PlacementStrategy strategy = SimulationRunner.createStrategy(name);
+            BoardModel board = new BoardModel(11);
+            SplittableRandom random = new SplittableRandom(11);
+            board.placeTile(board.drawTile(), 0, 0);
+            for (int placed = 1; placed < TILE_COUNT; placed++) {
+                TileState tile = board.drawTile();
+                Placement placement = strategy.choose(board, tile, TILE_COUNT - placed - 1, random);
+                assertTrue(board.getFrontier().contains(placement.getQ(), placement.getR()), name + " : case " + placement);
+                assertTrue(placement.getRotation() >= 0 && placement.getRotation() < TileCode.SIDE_COUNT, name + " : rotation " + placement);
+                board.placeTile(new TileState(Placement.rotate(tile.getCode(), placement.getRotation())), placement.getQ(), placement.getR());
+            }
+            assertEquals(TILE_COUNT, board.getTileCount(), name + " : tuiles posées");
+        }
+    }
+
+    /**
+     * La stratégie gloutonne joue un coup qui rapporte autant que le meilleur coup immédiat.
+     */
+    private static void greedyTakesBestDelta() {
+        GreedyStrategy strategy = new GreedyStrategy();
+        for (long seed = 1; seed <= 3; seed++) {
+            BoardModel board = new BoardModel(seed);
+            SplittableRandom random = new SplittableRandom(seed);
+            board.placeTile(board.drawTile(), 0, 0);
+            for (int placed = 1; placed < TILE_COUNT; placed++) {
+                TileState tile = board.drawTile();
+                int best = bestDelta(board, tile.getCode());
+                Placement placement = strategy.choose(board, tile, TILE_COUNT - placed - 1, random);
+                int delta = board.placeTile(new TileState(Placement.rotate(tile.getCode(), placement.getRotation())),
+                        placement.getQ(), placement.getR());
+                assertEquals(best, delta, "gain du coup " + placed + ", graine " + seed);
+            }
+        }
+    }
+
+    /**
+     * Avec un taux de coups aléatoires de 1, la stratégie gloutonne joue les coups de la stratégie aléatoire,
+     * après avoir tiré le nombre qui décide de jouer au hasard.
+     */
+    private static void greedyWithOnlyRandomMovesIsRandom() {
+        PlacementStrategy greedy = SimulationRunner.createStrategy("greedy:1");
+        RandomStrategy reference = new RandomStrategy();
+        BoardModel board = new BoardModel(12);
+        SplittableRandom greedyRandom = new SplittableRandom(12);
+        SplittableRandom referenceRandom = new SplittableRandom(12);
+        board.placeTile(board.drawTile(), 0, 0);
+        for (int placed = 1; placed < TILE_COUNT; placed++) {
+            TileState tile = board.drawTile();
+            Placement placement = greedy.choose(board, tile, TILE_COUNT - placed - 1, greedyRandom);
+            referenceRandom.nextDouble();
+            Placement expected = reference.choose(board, tile, TILE_COUNT - placed - 1, referenceRandom);
+            assertEquals(expected.toString(), placement.toString(), "coup " + placed);
+            board.placeTile(new TileState(Placement.rotate(tile.getCode(), placement.getRotation())), placement.getQ(), placement.getR());
+        }
+    }
+
+    /**
+     * Pour la dernière tuile, sans simulation possible, la stratégie de Monte-Carlo joue le meilleur coup immédiat.
+     */
+    private static void monteCarloWithoutRolloutsIsGreedy() {
+        MonteCarloStrategy strategy = new MonteCarloStrategy(4, 50, 8);
+        BoardModel board = new BoardModel(13);
+        SplittableRandom random = new SplittableRandom(13);
+        board.placeTile(board.drawTile(), 0, 0);
+        for (int placed = 1; placed < TILE_COUNT; placed++) {
+            TileState tile = board.drawTile();
+            int best = bestDelta(board, tile.getCode());
+            Placement placement = strategy.choose(board, tile, 0, random);
+            int delta = board.placeTile(new TileState(Placement.rotate(tile.getCode(), placement.getRotation())),
+                    placement.getQ(), placement.getR());
+            assertEquals(best, delta, "gain du coup " + placed);
+        }
+    }
+
+    /**
+     * Calcule le meilleur gain immédiat d'une tuile, sur toutes les cases de la frontière et toutes les rotations.
+     *
+     * @param board Le plateau
+     * @param code  Le code de la tuile
+     * @return Le meilleur gain
+     */
+    private static int bestDelta(BoardModel board, int code) {
+        Frontier frontier = board.getFrontier();
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < frontier.size(); i++) {
+            long cell = frontier.keyAt(i);
+            for (int rotation = 0; rotation < TileCode.SIDE_COUNT; rotation++) {
+                int delta = board.getScoreManager().evaluatePlacement(Placement.rotate(code, rotation), HexGrid.keyQ(cell), HexGrid.keyR(cell));
+                best = Math.max(best, delta);
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,160 @@
+package fr.monkhanny.dorfromantik.utils;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertThrows;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.Assertions;
+
+/**
+ * Tests de {@link DisjointSet}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class DisjointSetTest {
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        sizesAreWeightSums();
+        unionOfSameSetChangesNothing();
+        matchesNaiveLabelsUnderRandomUnions();
+        copyIsIndependent();
+        rollbackRestoresEarlierState();
+        Assertions.passed(DisjointSetTest.class, 5);
+    }
+
+    /**
+     * La taille d'un ensemble est la somme des poids de ses éléments.
+     */
+    private static void sizesAreWeightSums() {
+        DisjointSet set = new DisjointSet(2);
+        int a = set.add(1);
+        int b = set.add(0);
+        int c = set.add(1);
+        assertEquals(3, set.count(), "éléments créés au-delà de la capacité initiale");
+        assertEquals(0, set.sizeOf(b), "poids nul");
+        set.union(a, b);
+        int root = set.union(b, c);
+        assertEquals(2, set.sizeOf(a), "taille après unions");
+        assertEquals(root, set.find(c), "racine renvoyée par l'union");
+        assertEquals(2, set.sizeOfRoot(set.root(b)), "taille lue sans compression");
+    }
+
+    /**
+     * Réunir deux éléments déjà dans le même ensemble ne change pas sa taille.
+     */
+    private static void unionOfSameSetChangesNothing() {
+        DisjointSet set = new DisjointSet(4);
+        int a = set.add(1);
+        int b = set.add(1);
+        int root = set.union(a, b);
+        assertEquals(root, set.union(b, a), "même racine");
+        assertEquals(2, set.sizeOf(a), "taille inchangée");
+    }
+
+    /**
+     * Après des unions aléatoires, les ensembles et leurs tailles sont ceux d'un étiquetage naïf.
+     */
+    private static void matchesNaiveLabelsUnderRandomUnions() {
+        SplittableRandom random = new SplittableRandom(3);
+        int count = 500;
+        DisjointSet set = new DisjointSet(16);
+        int[] label = new int[count];
+        int[] weight = new int[count];
+        for (int i = 0; i < count; i++) {
+            weight[i] = random.nextInt(2);
+            assertEquals(i, set.add(weight[i]), "identifiant de l'élément " + i);
+            label[i] = i;
+        }
+
+        for (int step = 0; step < 400; step++) {
+            int a = random.nextInt(count);
+            int b = random.nextInt(count);
+            set.union(a, b);
+            int from = label[b];
+            for (int i = 0; i < count; i++) {
+                if (label[i] == from) {
+                    label[i] = label[a];
+                }
+            }
+
+            int x = random.nextInt(count);
+            int y = random.nextInt(count);
+            assertEquals(label[x] == label[y] ? 1 : 0, set.find(x) == set.find(y) ? 1 : 0, "même ensemble " + x + ", " + y);
+            int expectedSize = 0;
+            for (int i = 0; i < count; i++) {
+                if (label[i] == label[x]) {
+                    expectedSize += weight[i];
+                }
+            }
+            assertEquals(expectedSize, set.sizeOf(x), "taille de l'ensemble de " + x);
+        }
+    }
+
+    /**
+     * Les unions faites sur une copie ne modifient pas l'original.
+     */
+    private static void copyIsIndependent() {
+        DisjointSet set = new DisjointSet(4);
+        int a = set.add(1);
+        int b = set.add(1);
+        DisjointSet copy = new DisjointSet(set);
+        copy.union(a, b);
+        assertTrue(set.find(a) != set.find(b), "original non modifié");
+        assertEquals(2, copy.sizeOf(a), "copie réunie");
+    }
+
+    /**
+     * Revenir à un repère défait les unions et oublie les éléments créés après lui, quel que soit
+     * l'ordre des unions.
+     */
+    private static void rollbackRestoresEarlierState() {
+        SplittableRandom random = new SplittableRandom(4);
+        DisjointSet set = new DisjointSet(8);
+        set.enableUndo();
+        for (int i = 0; i < 50; i++) {
+            set.add(random.nextInt(2));
+        }
+        for (int step = 0; step < 30; step++) {
+            set.union(random.nextInt(50), random.nextInt(50));
+        }
+
+        for (int round = 0; round < 100; round++) {
+            int elementCount = set.count();
+            int unionCount = set.getUnionCount();
+            int[] roots = new int[elementCount];
+            int[] sizes = new int[elementCount];
+            for (int i = 0; i < elementCount; i++) {
+                roots[i] = set.find(i);
+                sizes[i] = set.sizeOf(i);
+            }
+
+            for (int i = 0; i < 10; i++) {
+                set.add(random.nextInt(2));
+            }
+            for (int step = 0; step < 20; step++) {
+                set.union(random.nextInt(set.count()), random.nextInt(set.count()));
+            }
+            set.rollback(elementCount, unionCount);
+
+            assertEquals(elementCount, set.count(), "éléments après retour au repère " + round);
+            assertEquals(unionCount, set.getUnionCount(), "unions après retour au repère " + round);
+            for (int i = 0; i < elementCount; i++) {
+                assertEquals(roots[i], set.find(i), "racine de " + i + " au repère " + round);
+                assertEquals(sizes[i], set.sizeOf(i), "taille de " + i + " au repère " + round);
+            }
+
+            // Avancer un peu pour que le repère suivant soit différent
+            set.union(random.nextInt(elementCount), random.nextInt(elementCount));
+        }
+
+        assertThrows(IllegalStateException.class, () -> new DisjointSet(1).rollback(0, 0), "annulation non activée");
+    }
+}
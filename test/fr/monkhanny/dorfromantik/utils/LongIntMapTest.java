@@ -0,0 +1,129 @@
+package fr.monkhanny.dorfromantik.utils;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import fr.monkhanny.dorfromantik.Assertions;
+
+/**
+ * Tests de {@link LongIntMap}.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class LongIntMapTest {
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     */
+    public static void main(String[] args) {
+        putGetAndOverwrite();
+        removeReturnsOldValue();
+        removeKeepsProbeChains();
+        matchesHashMapUnderRandomOperations();
+        copyIsIndependent();
+        Assertions.passed(LongIntMapTest.class, 5);
+    }
+
+    /**
+     * Une clé lue retrouve sa dernière valeur, y compris une clé négative.
+     */
+    private static void putGetAndOverwrite() {
+        LongIntMap map = new LongIntMap();
+        assertEquals(LongIntMap.NO_VALUE, map.get(42L), "clé absente");
+        map.put(42L, 7);
+        map.put(-42L, 8);
+        assertEquals(7, map.get(42L), "valeur lue");
+        assertEquals(8, map.get(-42L), "clé négative");
+        map.put(42L, 9);
+        assertEquals(9, map.get(42L), "valeur remplacée");
+        assertEquals(2, map.size(), "un remplacement n'ajoute pas d'entrée");
+    }
+
+    /**
+     * La suppression renvoie l'ancienne valeur, puis la clé est absente.
+     */
+    private static void removeReturnsOldValue() {
+        LongIntMap map = new LongIntMap();
+        map.put(5L, 50);
+        assertEquals(50, map.remove(5L), "valeur supprimée");
+        assertEquals(LongIntMap.NO_VALUE, map.remove(5L), "deuxième suppression");
+        assertFalse(map.containsKey(5L), "clé supprimée");
+        assertEquals(0, map.size(), "table vide");
+    }
+
+    /**
+     * Les suppressions au milieu d'une suite de cases occupées gardent les autres clés accessibles.
+     */
+    private static void removeKeepsProbeChains() {
+        // Des clés consécutives remplissent des cases voisines : supprimer le début d'une suite de cases
+        // occupées ne doit pas rendre les suivantes introuvables (décalage arrière des entrées)
+        LongIntMap map = new LongIntMap(16);
+        for (long key = 0; key < 200; key++) {
+            map.put(key * 31, (int) key);
+        }
+        for (long key = 0; key < 200; key += 3) {
+            assertEquals(key, map.remove(key * 31), "suppression de " + key * 31);
+        }
+        for (long key = 0; key < 200; key++) {
+            int expected = (key % 3 == 0) ? LongIntMap.NO_VALUE : (int) key;
+            assertEquals(expected, map.get(key * 31), "lecture de " + key * 31 + " après suppressions");
+        }
+    }
+
+    /**
+     * Une longue suite d'opérations aléatoires donne les mêmes résultats qu'une HashMap.
+     */
+    private static void matchesHashMapUnderRandomOperations() {
+        SplittableRandom random = new SplittableRandom(1);
+        LongIntMap map = new LongIntMap();
+        Map<Long, Integer> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            // Peu de clés distinctes, pour multiplier les collisions et les suppressions au milieu des chaînes
+            long key = random.nextInt(-300, 300);
+            switch (random.nextInt(3)) {
+                case 0:
+                    map.put(key, i);
+                    expected.put(key, i);
+                    break;
+                case 1:
+                    Integer old = expected.remove(key);
+                    assertEquals(old == null ? LongIntMap.NO_VALUE : old, map.remove(key), "suppression de " + key);
+                    break;
+                default:
+                    Integer value = expected.get(key);
+                    assertEquals(value == null ? LongIntMap.NO_VALUE : value, map.get(key), "lecture de " + key);
+            }
+            assertEquals(expected.size(), map.size(), "taille");
+        }
+
+        int filled = 0;
+        for (int slot = 0; slot < map.capacity(); slot++) {
+            if (map.isFilled(slot)) {
+                filled++;
+                assertEquals((int) expected.get(map.keyAt(slot)), map.valueAt(slot), "case " + slot);
+            }
+        }
+        assertEquals(expected.size(), filled, "cases occupées");
+    }
+
+    /**
+     * La copie d'une table n'est pas liée à l'original.
+     */
+    private static void copyIsIndependent() {
+        LongIntMap map = new LongIntMap();
+        map.put(1L, 1);
+        LongIntMap copy = new LongIntMap(map);
+        copy.put(2L, 2);
+        copy.remove(1L);
+        assertTrue(map.containsKey(1L), "l'original garde sa clé");
+        assertFalse(map.containsKey(2L), "l'original ne voit pas les ajouts de la copie");
+    }
+}
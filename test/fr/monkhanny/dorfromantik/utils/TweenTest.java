@@ -0,0 +1,134 @@
+package fr.monkhanny.dorfromantik.utils;
+
+import static fr.monkhanny.dorfromantik.Assertions.assertEquals;
+import static fr.monkhanny.dorfromantik.Assertions.assertFalse;
+import static fr.monkhanny.dorfromantik.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.swing.SwingUtilities;
+
+import fr.monkhanny.dorfromantik.Assertions;
+import fr.monkhanny.dorfromantik.enums.Easing;
+
+/**
+ * Tests de {@link Tween} et de {@link AnimationClock}, avancée à la main.
+ *
+ * Chaque cas s'exécute d'un bloc sur l'EDT, comme les animations du jeu : le timer de l'horloge,
+ * démarré par les animations, ne peut donc pas l'avancer pendant un cas. Chaque cas termine ou annule
+ * ses animations, pour que le suivant parte d'une horloge vide.
+ *
+ * @version 1.0
+ * @author Lenny FOULOU
+ */
+public class TweenTest {
+
+    /**
+     * Une milliseconde, en nanosecondes.
+     */
+    private static final long MILLIS = 1_000_000L;
+
+    /**
+     * Exécute les cas de test.
+     *
+     * @param args Arguments ignorés
+     * @throws InterruptedException      Si l'attente de l'EDT est interrompue
+     * @throws InvocationTargetException Si un cas échoue
+     */
+    public static void main(String[] args) throws InterruptedException, InvocationTargetException {
+        SwingUtilities.invokeAndWait(TweenTest::progressAndCompletion);
+        SwingUtilities.invokeAndWait(TweenTest::chainedTweensRunInOrder);
+        SwingUtilities.invokeAndWait(TweenTest::cancelStopsTheWholeChain);
+        SwingUtilities.invokeAndWait(TweenTest::tasksRunOnceOnNextTick);
+        Assertions.passed(TweenTest.class, 4);
+    }
+
+    /**
+     * L'avancement suit le temps écoulé, s'arrête exactement à 1 et déclenche une seule fois l'action de fin.
+     */
+    private static void progressAndCompletion() {
+        AnimationClock clock = AnimationClock.getInstance();
+        List<Double> progress = new ArrayList<>();
+        int[] completed = new int[1];
+        Tween tween = new Tween(100, Easing.LINEAR, progress::add).onComplete(() -> completed[0]++).start();
+
+        clock.advance(50 * MILLIS);
+        assertEquals(0.5, progress.get(0), "avancement à mi-parcours");
+        assertTrue(tween.isRunning(), "animation en cours");
+        clock.advance(80 * MILLIS);
+        assertEquals(1.0, progress.get(1), "avancement final");
+        assertFalse(tween.isRunning(), "animation terminée");
+        clock.advance(50 * MILLIS);
+        assertEquals(2, progress.size(), "plus d'avancement après la fin");
+        assertEquals(1, completed[0], "action de fin exécutée une fois");
+
+        List<Double> instant = new ArrayList<>();
+        new Tween(0, Easing.EASE_OUT_CUBIC, instant::add).start();
+        clock.advance(0);
+        assertEquals(List.of(1.0), instant, "animation de durée nulle");
+    }
+
+    /**
+     * Une animation enchaînée démarre à l'image qui suit la fin de la précédente.
+     */
+    private static void chainedTweensRunInOrder() {
+        AnimationClock clock = AnimationClock.getInstance();
+        List<String> events = new ArrayList<>();
+        Tween first = new Tween(100, Easing.LINEAR, p -> events.add("a" + p)).onComplete(() -> events.add("fin a"));
+        Tween second = first.then(new Tween(100, Easing.LINEAR, p -> events.add("b" + p))).onComplete(() -> events.add("fin b"));
+        second.start();
+        assertTrue(second.isRunning() && first.isRunning(), "chaîne en cours");
+
+        clock.advance(100 * MILLIS);
+        assertEquals(List.of("a1.0", "fin a"), events, "première animation");
+        assertTrue(second.isRunning(), "chaîne encore en cours");
+        clock.advance(50 * MILLIS);
+        clock.advance(50 * MILLIS);
+        assertEquals(List.of("a1.0", "fin a", "b0.5", "b1.0", "fin b"), events, "seconde animation");
+        assertFalse(first.isRunning(), "chaîne terminée");
+    }
+
+    /**
+     * Annuler une animation de la chaîne annule toute la chaîne, sans exécuter les actions de fin.
+     */
+    private static void cancelStopsTheWholeChain() {
+        AnimationClock clock = AnimationClock.getInstance();
+        List<String> events = new ArrayList<>();
+        Tween first = new Tween(100, Easing.LINEAR, p -> events.add("a" + p)).onComplete(() -> events.add("fin a"));
+        Tween second = first.then(new Tween(100, Easing.LINEAR, p -> events.add("b" + p))).onComplete(() -> events.add("fin b"));
+        first.start();
+
+        clock.advance(50 * MILLIS);
+        second.cancel();
+        assertFalse(first.isRunning(), "chaîne annulée");
+        clock.advance(100 * MILLIS);
+        clock.advance(100 * MILLIS);
+        assertEquals(List.of("a0.5"), events, "rien après l'annulation");
+    }
+
+    /**
+     * Une tâche demandée plusieurs fois avant l'image suivante ne s'exécute qu'une fois, et une tâche
+     * demandée pendant une image attend l'image d'après.
+     */
+    private static void tasksRunOnceOnNextTick() {
+        AnimationClock clock = AnimationClock.getInstance();
+        int[] runs = new int[2];
+        Runnable task = () -> runs[0]++;
+        clock.runOnNextTick(task);
+        clock.runOnNextTick(task);
+        assertEquals(0, runs[0], "tâche en attente");
+        clock.advance(MILLIS);
+        assertEquals(1, runs[0], "tâche exécutée une fois");
+        clock.advance(MILLIS);
+        assertEquals(1, runs[0], "tâche non répétée");
+
+        Runnable later = () -> runs[1]++;
+        clock.runOnNextTick(() -> clock.runOnNextTick(later));
+        clock.advance(MILLIS);
+        assertEquals(0, runs[1], "tâche demandée pendant l'image");
+        clock.advance(MILLIS);
+        assertEquals(1, runs[1], "tâche exécutée à l'image suivante");
+    }
+}